@@ -614,6 +614,7 @@ public class DomainDriver {
                                     |   [ 3 ] Importar diccionario       - Importa un diccionario desde un archivo.|
                                     |   [ 4 ] Modificar diccionario      - Añade o elimina palabras de un dicc.    |
                                     |   [ 5 ] Mostrar diccionarios       - Muestra los diccionarios disponibles.   |
+                                    |   [ 6 ] Estadísticas               - Memoria y forma de cada diccionario.    |
                                     |                                                                              |
                                     |   [ 0 ] Volver                     - Vuelve al Menú Principal.               | 
                                     |                                                                              |
@@ -1154,6 +1155,9 @@ public class DomainDriver {
                 case "5":
                     mostrarDiccionariosCargados();
                     break;
+                case "6":
+                    mostrarEstadisticasDiccionarios();
+                    break;
                 default:
                     System.out.println("¡Introduce alguno de los comandos disponibles!");
                     break;
@@ -2197,6 +2201,37 @@ public class DomainDriver {
         }
     }
 
+    /**
+     * Muestra las estadísticas de memoria y forma del DAWG de cada diccionario cargado.
+     */
+    private static void mostrarEstadisticasDiccionarios() {
+        List<String> diccionarios = controladorDomain.getDiccionariosDisponibles();
+        Collections.sort(diccionarios);
+        List<String> mensajes = new ArrayList<>();
+
+        for (String nombre : diccionarios) {
+            Map<String, Number> estadisticas = controladorDomain.getEstadisticasDiccionario(nombre);
+            if (estadisticas.isEmpty()) {
+                mensajes.add(nombre + ": sin cargar (sus palabras se cargan al usarlo)");
+                continue;
+            }
+            mensajes.add(nombre + ":");
+            mensajes.add(String.format("  %,d palabras, %,d nodos, %,d arcos, %,d finales",
+                    estadisticas.get("palabras").intValue(), estadisticas.get("nodos").intValue(),
+                    estadisticas.get("arcos").intValue(), estadisticas.get("finales").intValue()));
+            mensajes.add(String.format("  %,d bytes de heap, %,d proyectados, %.1f bytes/palabra",
+                    estadisticas.get("bytesHeap").longValue(), estadisticas.get("bytesProyectados").longValue(),
+                    estadisticas.get("bytesPorPalabra").doubleValue()));
+            mensajes.add(String.format("  construcción %.1f ms, carga %.1f ms",
+                    estadisticas.get("msConstruccion").doubleValue(), estadisticas.get("msCarga").doubleValue()));
+        }
+
+        if (mensajes.isEmpty()) {
+            mensajes.add("No hay diccionarios cargados en el sistema.");
+        }
+        showNotification("GESTIÓN DE DICCIONARIOS > ESTADÍSTICAS", mensajes.toArray(new String[0]));
+    }
+
     /**
      * Muestra los diccionarios actualmente cargados en el sistema.
      */
@@ -5,9 +5,11 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 
 import scrabble.domain.controllers.subcontrollers.ControladorConfiguracion;
@@ -31,6 +33,7 @@ import scrabble.excepciones.ExceptionUserInGame;
 import scrabble.excepciones.ExceptionUserNotExist;
 import scrabble.helpers.Dificultad;
 import scrabble.helpers.Direction;
+import scrabble.helpers.Jugada;
 import scrabble.helpers.Triple;
 import scrabble.helpers.Tuple;
 
@@ -340,6 +343,22 @@ public class ControladorDomain {
         return (move.x == "P" || move.x == "CF")? null: controladorJuego.realizarTurno(move, nombreJugador, rack, esIA, dificultad);
     }
 
+    /**
+    * Realiza el turno de un jugador con una jugada en su representación compacta. La jugada se
+    * coloca tal cual, con sus comodines, también si el jugador es una IA; para que la IA elija su
+    * jugada se usa la versión con tripleta.
+    *
+    * @pre La jugada y nombreJugador no deben ser null.
+    * @param jugada jugada a realizar
+    * @param nombreJugador nombre del jugador que realiza el turno
+    * @return una tupla que contiene el rack actualizado del jugador y el puntaje obtenido
+    * @post Si la jugada es válida, se actualiza el estado del juego y se devuelve el resultado.
+    */
+    public Tuple<Map<String, Integer>, Integer> realizarTurno(Jugada jugada, String nombreJugador) {
+        Map<String, Integer> rack = controladorJugador.getRack(nombreJugador);
+        return controladorJuego.realizarTurno(jugada, rack);
+    }
+
     /**
      * Gestiona el inicio de una partida completa, incluyendo la inicialización del juego y los jugadores.
      * 
@@ -1249,6 +1268,92 @@ public class ControladorDomain {
         return controladorDiccionario.getListaPalabras(dic);
     }
 
+    /**
+     * Obtiene una página de palabras de un diccionario, para las tablas paginadas de la interfaz.
+     * 
+     * @pre El diccionario debe estar cargado.
+     * @param dic Nombre de diccionario
+     * @param desde Posición de la primera palabra
+     * @param tamano Número máximo de palabras
+     * @return Lista con como mucho tamano palabras a partir de la posición desde
+     * @post Se devuelven los resultados sin modificar el estado del diccionario.
+     */
+    public List<String> getPaginaPalabras(String dic, int desde, int tamano) {
+        return controladorDiccionario.getPaginaPalabras(dic, desde, tamano);
+    }
+
+    /**
+     * Obtiene el número de palabras de un diccionario sin cargar la lista completa.
+     * 
+     * @pre El diccionario debe estar cargado.
+     * @param dic Nombre de diccionario
+     * @return Número de palabras del diccionario
+     * @post Se devuelve el número sin modificar el estado del diccionario.
+     */
+    public int getNumPalabras(String dic) {
+        return controladorDiccionario.getNumPalabras(dic);
+    }
+
+    /**
+     * Obtiene las estadísticas de forma y memoria de un diccionario: palabras, nodos, arcos y nodos
+     * finales del DAWG, bytes estimados (heap, proyectados y por palabra) y tiempos de construcción
+     * y de carga en milisegundos.
+     *
+     * @pre El diccionario debe tener sus palabras cargadas (no se cargan para consultarlas).
+     * @param dic Nombre de diccionario
+     * @return Mapa ordenado de nombre de estadística a valor, vacío si el diccionario no está cargado
+     * @post Se devuelven las estadísticas sin modificar las palabras del diccionario.
+     */
+    public Map<String, Number> getEstadisticasDiccionario(String dic) {
+        return Optional.ofNullable(controladorDiccionario.getEstadisticas(dic))
+                .map(estadisticas -> estadisticas.toMap())
+                .orElse(Collections.emptyMap());
+    }
+
+    /**
+     * Configura cuántos diccionarios pueden tener sus palabras cargadas a la vez y cuánta memoria
+     * estimada pueden ocupar. Los diccionarios se cargan la primera vez que se usan y, al superar
+     * los límites, se desaloja el usado hace más tiempo.
+     *
+     * @pre maxDiccionarios debe ser positivo y maxBytes no negativo.
+     * @param maxDiccionarios Número máximo de diccionarios cargados
+     * @param maxBytes Máximo de bytes estimados de los diccionarios cargados
+     * @throws IllegalArgumentException Si algún límite no es válido
+     * @post Los diccionarios que sobren se desalojan de memoria.
+     */
+    public void configurarCacheDiccionarios(int maxDiccionarios, long maxBytes) {
+        controladorDiccionario.configurarCache(maxDiccionarios, maxBytes);
+    }
+
+    /**
+     * Busca las palabras de un diccionario que encajan con un patrón, para los buscadores de la interfaz.
+     * 
+     * @pre El diccionario debe estar cargado y el patrón no debe ser null ni vacío.
+     * @param dic Nombre de diccionario
+     * @param patron Patrón con {@code ?} (un símbolo) y {@code *} (cualquier secuencia de símbolos)
+     * @param limite Número máximo de palabras a devolver
+     * @return Lista con como mucho limite palabras que encajan con el patrón
+     * @post Se devuelven los resultados sin modificar el estado del diccionario.
+     */
+    public List<String> buscarPalabras(String dic, String patron, int limite) {
+        return controladorDiccionario.buscarPatron(dic, patron, limite);
+    }
+
+    /**
+     * Sugiere las palabras que un jugador puede formar con las fichas de su atril en el diccionario
+     * de la partida actual, de mayor a menor puntuación (sin contar las casillas del tablero).
+     * 
+     * @pre El jugador debe existir y la partida debe tener un diccionario cargado.
+     * @param nombreJugador Nombre del jugador
+     * @param limite Número máximo de palabras a devolver
+     * @return Lista con como mucho limite palabras formables con el atril del jugador
+     * @post Se devuelven los resultados sin modificar el estado de la partida ni del jugador.
+     */
+    public List<String> sugerirPalabras(String nombreJugador, int limite) {
+        Map<String, Integer> rack = controladorJugador.getRack(nombreJugador);
+        return controladorDiccionario.buscarAnagramas(controladorJuego.getNombreDiccionario(), rack, false, true, limite);
+    }
+
     /**
      * Devuelve una lista de letras con su puntuación y frecuencia en formato: "letra puntuacion frecuencia".
      * 
@@ -1283,6 +1388,28 @@ public class ControladorDomain {
         controladorDiccionario.modificarPalabraDiccionario(nombre, palabra, anadir);
     }
 
+    /**
+     * Modifica un diccionario añadiendo y eliminando varias palabras en una sola operación.
+     * Valida todos los cambios antes de escribir los archivos del diccionario.
+     * 
+     * @pre El nombre y las listas no deben ser null.
+     * @param nombre Nombre del diccionario
+     * @param altas Palabras a añadir
+     * @param bajas Palabras a eliminar
+     * @post Todas las palabras se añaden y eliminan del diccionario, o ninguna si se lanza una excepción de validación.
+     * @throws ExceptionDiccionarioNotExist Si el diccionario no existe
+     * @throws ExceptionPalabraVacia Si alguna palabra está vacía
+     * @throws ExceptionPalabraInvalida Si alguna palabra a añadir no puede formarse con los tokens del alfabeto
+     * @throws ExceptionPalabraExist Si alguna palabra a añadir ya existe
+     * @throws ExceptionPalabraNotExist Si alguna palabra a eliminar no existe
+     * @throws IOException Si hay problemas con los archivos
+     */
+    public void modificarPalabrasDiccionario(String nombre, List<String> altas, List<String> bajas) 
+            throws ExceptionDiccionarioNotExist, ExceptionPalabraVacia, ExceptionPalabraInvalida, 
+                   ExceptionPalabraExist, ExceptionPalabraNotExist, IOException {
+        controladorDiccionario.modificarPalabrasDiccionario(nombre, altas, bajas);
+    }
+
     /**
      * Modifica una palabra existente en un diccionario reemplazándola por una nueva.
      * Valida que la nueva palabra pueda formarse usando únicamente los tokens existentes en el alfabeto.
@@ -1431,6 +1558,19 @@ public class ControladorDomain {
         return controladorJuego.isJuegoIniciado()?controladorJuego.isValidMove(move, rack):controladorJuego.isValidFirstMove(move, rack);
     }
 
+    /**
+     * Valida si una jugada en su representación compacta es válida en el contexto actual del juego.
+     * 
+     * @pre Los parámetros no deben ser null.
+     * @param jugada jugada a validar
+     * @param rack fichas disponibles del jugador
+     * @return true si la jugada es válida, false en caso contrario
+     * @post Se valida la jugada según las reglas del juego y el estado actual del tablero.
+     */
+    public boolean isValidMove (Jugada jugada, Map<String, Integer> rack) {
+        return controladorJuego.isJuegoIniciado()?controladorJuego.isValidMove(jugada, rack):controladorJuego.isValidFirstMove(jugada.toTriple(), rack);
+    }
+
     /**
      * Muestra el rack del jugador de forma ordenada y legible.
      * 
@@ -0,0 +1,301 @@
+package scrabble.domain.controllers.subcontrollers;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+import scrabble.domain.models.Diccionario;
+
+/**
+ * Caché de diccionarios con carga bajo demanda y desalojo LRU, usada por {@link ControladorDiccionario}.
+ *
+ * De cada diccionario registrado se guardan siempre sus metadatos (alfabeto, bolsa y comodines,
+ * sin palabras), que bastan para las consultas del alfabeto. El diccionario completo con su DAWG
+ * solo se carga la primera vez que se pide con {@link #get(String)} y se desaloja el menos usado
+ * recientemente cuando se superan el número máximo de diccionarios cargados o los bytes estimados
+ * ({@link Diccionario#estimarBytesHeap()}). Los diccionarios fijados, que no se pueden volver a
+ * cargar del repositorio, no se desalojan nunca.
+ *
+ * Las consultas de diccionarios ya cargados no se bloquean; las cargas y los desalojos se
+ * serializan.
+ *
+ * @version 1.0
+ * @since 2.0
+ */
+public class CacheDiccionarios {
+
+    /**
+     * Carga un diccionario completo a partir de su nombre.
+     */
+    @FunctionalInterface
+    public interface Cargador {
+        /**
+         * @param nombre Nombre del diccionario.
+         * @return Diccionario completo, o null si no existe.
+         * @throws IOException Si hay problemas al leerlo.
+         */
+        Diccionario cargar(String nombre) throws IOException;
+    }
+
+    private static final class Entrada {
+        final Diccionario diccionario;
+        final boolean fijado;
+        volatile long ultimoUso;
+
+        Entrada(Diccionario diccionario, boolean fijado) {
+            this.diccionario = diccionario;
+            this.fijado = fijado;
+            this.ultimoUso = System.nanoTime();
+        }
+    }
+
+    private final Cargador cargador;
+    private final Map<String, Diccionario> metadatos = new ConcurrentHashMap<>();
+    private final Map<String, Entrada> cargados = new ConcurrentHashMap<>();
+    private int maxDiccionarios;
+    private long maxBytes;
+    private int numCargas;
+    private int numDesalojos;
+
+    /**
+     * Crea una caché vacía.
+     *
+     * @param cargador Función que carga un diccionario completo del repositorio.
+     * @param maxDiccionarios Número máximo de diccionarios cargados a la vez.
+     * @param maxBytes Máximo de bytes estimados de los diccionarios cargados.
+     * @pre cargador no debe ser null, maxDiccionarios debe ser positivo y maxBytes no negativo.
+     * @post Se crea una caché sin diccionarios registrados.
+     * @throws NullPointerException si cargador es null.
+     * @throws IllegalArgumentException si algún límite no es válido.
+     */
+    public CacheDiccionarios(Cargador cargador, int maxDiccionarios, long maxBytes) {
+        if (cargador == null) {
+            throw new NullPointerException("El cargador no puede ser null");
+        }
+        this.cargador = cargador;
+        setLimites(maxDiccionarios, maxBytes);
+    }
+
+    /**
+     * Cambia los límites de la caché y desaloja los diccionarios que sobren.
+     *
+     * @param maxDiccionarios Número máximo de diccionarios cargados a la vez.
+     * @param maxBytes Máximo de bytes estimados de los diccionarios cargados.
+     * @pre maxDiccionarios debe ser positivo y maxBytes no negativo.
+     * @post Los diccionarios cargados no fijados respetan los nuevos límites, salvo el usado más recientemente.
+     * @throws IllegalArgumentException si algún límite no es válido.
+     */
+    public synchronized void setLimites(int maxDiccionarios, long maxBytes) {
+        if (maxDiccionarios < 1 || maxBytes < 0) {
+            throw new IllegalArgumentException("Límites de caché no válidos: " + maxDiccionarios + " diccionarios, " + maxBytes + " bytes");
+        }
+        this.maxDiccionarios = maxDiccionarios;
+        this.maxBytes = maxBytes;
+        desalojar(null);
+    }
+
+    /** @return Número máximo de diccionarios cargados a la vez. */
+    public synchronized int getMaxDiccionarios() {
+        return maxDiccionarios;
+    }
+
+    /** @return Máximo de bytes estimados de los diccionarios cargados. */
+    public synchronized long getMaxBytes() {
+        return maxBytes;
+    }
+
+    /**
+     * Registra un diccionario por sus metadatos, sin cargar sus palabras.
+     *
+     * @param nombre Nombre del diccionario.
+     * @param metadatos Diccionario con el alfabeto (sus palabras no se usan).
+     * @pre nombre y metadatos no deben ser null.
+     * @post {@link #containsKey(String)} devuelve true y la primera llamada a {@link #get(String)} lo carga.
+     */
+    public void registrar(String nombre, Diccionario metadatos) {
+        this.metadatos.put(nombre, metadatos);
+    }
+
+    /**
+     * Registra un diccionario completo y lo deja cargado.
+     *
+     * @param nombre Nombre del diccionario.
+     * @param diccionario Diccionario completo.
+     * @param fijado true si no se puede volver a cargar del repositorio y, por tanto, no se debe desalojar.
+     * @pre nombre y diccionario no deben ser null.
+     * @post El diccionario queda registrado y cargado como el usado más recientemente.
+     */
+    public synchronized void put(String nombre, Diccionario diccionario, boolean fijado) {
+        metadatos.put(nombre, diccionario.copiarMetadatos());
+        cargados.put(nombre, new Entrada(diccionario, fijado));
+        desalojar(nombre);
+    }
+
+    /**
+     * Registra un diccionario completo que se puede volver a cargar del repositorio.
+     *
+     * @param nombre Nombre del diccionario.
+     * @param diccionario Diccionario completo.
+     * @pre nombre y diccionario no deben ser null.
+     * @post El diccionario queda registrado y cargado como el usado más recientemente.
+     */
+    public void put(String nombre, Diccionario diccionario) {
+        put(nombre, diccionario, false);
+    }
+
+    /**
+     * Sustituye atómicamente un diccionario por una instantánea nueva, conservando si estaba fijado.
+     * Quien ya tenga la instantánea anterior la sigue usando; las llamadas siguientes a
+     * {@link #get(String)} devuelven la nueva.
+     *
+     * @param nombre Nombre del diccionario.
+     * @param diccionario Instantánea nueva del diccionario completo.
+     * @pre nombre y diccionario no deben ser null.
+     * @post El diccionario queda cargado como el usado más recientemente.
+     */
+    public synchronized void reemplazar(String nombre, Diccionario diccionario) {
+        Entrada anterior = cargados.get(nombre);
+        put(nombre, diccionario, anterior != null && anterior.fijado);
+    }
+
+    /**
+     * Elimina un diccionario de la caché, cargado o no.
+     *
+     * @param nombre Nombre del diccionario.
+     * @post El diccionario deja de estar registrado.
+     */
+    public synchronized void remove(String nombre) {
+        metadatos.remove(nombre);
+        cargados.remove(nombre);
+    }
+
+    /**
+     * Indica si un diccionario está registrado, esté o no cargado.
+     *
+     * @param nombre Nombre del diccionario.
+     * @return true si está registrado.
+     */
+    public boolean containsKey(String nombre) {
+        return metadatos.containsKey(nombre);
+    }
+
+    /** @return Nombres de los diccionarios registrados. */
+    public Set<String> keySet() {
+        return Collections.unmodifiableSet(metadatos.keySet());
+    }
+
+    /**
+     * Obtiene los metadatos de un diccionario registrado (alfabeto, bolsa y comodines) sin cargarlo.
+     *
+     * @param nombre Nombre del diccionario.
+     * @return Diccionario sin palabras con los metadatos, o null si no está registrado.
+     */
+    public Diccionario getMetadatos(String nombre) {
+        return metadatos.get(nombre);
+    }
+
+    /**
+     * Obtiene un diccionario completo, cargándolo del repositorio si no está cargado y desalojando
+     * los menos usados si con él se superan los límites.
+     *
+     * @param nombre Nombre del diccionario.
+     * @return Diccionario completo, o null si no está registrado o no se puede cargar.
+     * @post El diccionario queda marcado como el usado más recientemente.
+     */
+    public Diccionario get(String nombre) {
+        Entrada entrada = cargados.get(nombre);
+        if (entrada != null) {
+            entrada.ultimoUso = System.nanoTime();
+            return entrada.diccionario;
+        }
+        return cargar(nombre);
+    }
+
+    /**
+     * Obtiene un diccionario solo si ya está cargado, sin cargarlo ni cambiar su orden de uso.
+     *
+     * @param nombre Nombre del diccionario.
+     * @return Diccionario completo, o null si no está cargado.
+     */
+    public Diccionario getSiCargado(String nombre) {
+        Entrada entrada = cargados.get(nombre);
+        return entrada != null ? entrada.diccionario : null;
+    }
+
+    /** @return Nombres de los diccionarios cargados, ordenados. */
+    public Set<String> getCargados() {
+        return new TreeSet<>(cargados.keySet());
+    }
+
+    /** @return Número de diccionarios cargados del repositorio por la caché. */
+    public synchronized int getNumCargas() {
+        return numCargas;
+    }
+
+    /** @return Número de diccionarios desalojados por superar los límites. */
+    public synchronized int getNumDesalojos() {
+        return numDesalojos;
+    }
+
+    private synchronized Diccionario cargar(String nombre) {
+        Entrada entrada = cargados.get(nombre);
+        if (entrada != null) { // Otro hilo lo ha cargado mientras se esperaba
+            entrada.ultimoUso = System.nanoTime();
+            return entrada.diccionario;
+        }
+        if (!metadatos.containsKey(nombre)) {
+            return null;
+        }
+        Diccionario diccionario;
+        try {
+            long inicio = System.nanoTime();
+            diccionario = cargador.cargar(nombre);
+            if (diccionario == null) {
+                return null;
+            }
+            diccionario.setNanosCarga(System.nanoTime() - inicio);
+        } catch (IOException e) {
+            return null;
+        }
+        numCargas++;
+        cargados.put(nombre, new Entrada(diccionario, false));
+        desalojar(nombre);
+        return diccionario;
+    }
+
+    /**
+     * Desaloja los diccionarios no fijados menos usados mientras se superen los límites,
+     * sin desalojar nunca el indicado (el que se acaba de usar) o, si es null, el usado más
+     * recientemente.
+     */
+    private void desalojar(String conservar) {
+        List<Map.Entry<String, Entrada>> candidatos = new ArrayList<>();
+        long bytes = 0;
+        for (Map.Entry<String, Entrada> e : cargados.entrySet()) {
+            bytes += e.getValue().diccionario.estimarBytesHeap();
+            if (!e.getValue().fijado && !e.getKey().equals(conservar)) {
+                candidatos.add(e);
+            }
+        }
+        candidatos.sort(Comparator.comparingLong(e -> e.getValue().ultimoUso));
+        if (conservar == null && !candidatos.isEmpty()) {
+            candidatos.remove(candidatos.size() - 1); // El usado más recientemente
+        }
+        int cargadosAhora = cargados.size();
+        for (Map.Entry<String, Entrada> e : candidatos) {
+            if (cargadosAhora <= maxDiccionarios && bytes <= maxBytes) {
+                break;
+            }
+            cargados.remove(e.getKey());
+            cargadosAhora--;
+            bytes -= e.getValue().diccionario.estimarBytesHeap();
+            numDesalojos++;
+        }
+    }
+}
@@ -6,14 +6,23 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import scrabble.domain.models.BuscadorAnagramas;
+import scrabble.domain.models.CursorDawg;
 import scrabble.domain.models.Diccionario;
+import scrabble.domain.models.EstadisticasDiccionario;
+import scrabble.domain.models.Gaddag;
 import scrabble.domain.persistences.implementaciones.RepositorioDiccionarioImpl;
 import scrabble.domain.persistences.interfaces.RepositorioDiccionario;
 import scrabble.excepciones.ExceptionDiccionarioExist;
@@ -43,22 +52,30 @@ import scrabble.excepciones.ExceptionPersistenciaFallida;
  */
 public class ControladorDiccionario {
     private static ControladorDiccionario instance;
-    private Map<String, Diccionario> diccionarios;
+    private CacheDiccionarios diccionarios;
     private Map<String, String> diccionarioPaths;
     private RepositorioDiccionario repositorio;
+
+    /** Número máximo de diccionarios con sus palabras cargadas a la vez, por defecto. */
+    public static final int MAX_DICCIONARIOS_CARGADOS = 3;
+
+    /** Indica si los diccionarios usan el prefiltro de Bloom en las consultas por camino. */
+    private volatile boolean prefiltroPalabras = false;
     
     /**
      * Constructor privado para implementar el patrón Singleton.
-     * Inicializa los mapas de diccionarios y paths, y verifica los diccionarios existentes.
+     * Inicializa la caché de diccionarios y los paths, y registra los diccionarios existentes
+     * leyendo solo su alfabeto; las palabras de cada uno se cargan la primera vez que se usan.
      * @throws ExceptionPersistenciaFallida Si ocurre un error al inicializar el repositorio de diccionarios o al verificar/cargar diccionarios existentes.
      *
      * @pre No hay precondiciones específicas.
-     * @post Se inicializa una nueva instancia con mapas vacíos y se cargan o verifican los diccionarios persistidos.
+     * @post Se inicializa una nueva instancia y se registran o verifican los diccionarios persistidos.
      */
     private ControladorDiccionario() {
-        this.diccionarios = new HashMap<>();
         this.diccionarioPaths = new HashMap<>();
         this.repositorio = new RepositorioDiccionarioImpl();
+        this.diccionarios = new CacheDiccionarios(nombre -> prepararDiccionario(repositorio.cargar(nombre)),
+                MAX_DICCIONARIOS_CARGADOS, Runtime.getRuntime().maxMemory() / 4);
         // Verificar diccionarios existentes al inicializar
         verificarTodosDiccionarios();
     }
@@ -130,6 +147,7 @@ public class ControladorDiccionario {
             throw new ExceptionDiccionarioExist("Ya existe un diccionario con el nombre: " + nombre);
         }
         
+        long inicio = System.nanoTime();
         try {
             // Verificar que el directorio existe
             Path dirPath = Paths.get(path);
@@ -176,6 +194,8 @@ public class ControladorDiccionario {
             
             // Si todas las palabras son válidas, añadir el DAWG
             dict.setDawg(palabras);
+            dict.setNanosCarga(System.nanoTime() - inicio);
+            prepararDiccionario(dict);
             
             // Guardar el diccionario y su path en memoria
             diccionarios.put(nombre, dict);
@@ -216,6 +236,7 @@ public class ControladorDiccionario {
             throw new ExceptionDiccionarioExist("Ya existe un diccionario con el nombre: " + nombre);
         }
         
+        long inicio = System.nanoTime();
         try {
             // Verificar que los archivos existen
             Path alphaPath = Paths.get(rutaArchivoAlpha);
@@ -256,9 +277,11 @@ public class ControladorDiccionario {
             
             // Si todas las palabras son válidas, añadir el DAWG
             dict.setDawg(palabras);
+            dict.setNanosCarga(System.nanoTime() - inicio);
+            prepararDiccionario(dict);
             
-            // Guardar el diccionario
-            diccionarios.put(nombre, dict);
+            // Guardar el diccionario; no está en el repositorio, así que no se puede desalojar
+            diccionarios.put(nombre, dict, true);
             
             // Obtener el directorio padre de la ruta del archivo
             String parentDir = alphaPath.getParent() != null ? 
@@ -371,18 +394,48 @@ public class ControladorDiccionario {
      * @throws IllegalStateException Si el path del diccionario no se encuentra en memoria (error interno).
      * @throws ExceptionLoggingOperacion Indicando el resultado de la operación (éxito o fallo específico durante la persistencia/DAWG).
      * @throws NullPointerException Si alguno de los parámetros es null.
-     * @post Si no ocurre ninguna excepción (excepto ExceptionLoggingOperacion informativa), la palabra es añadida/eliminada del archivo words.txt, el DAWG en memoria se actualiza, y los cambios se persisten en el repositorio.
+     * @post Si no ocurre ninguna excepción (excepto ExceptionLoggingOperacion informativa), la palabra es añadida/eliminada del archivo words.txt, se publica una instantánea nueva del diccionario con el cambio (las partidas en curso la recogen entre turnos), y los cambios se persisten en el repositorio.
      */
-    public void modificarPalabraDiccionario(String nombre, String palabra, boolean anadir)
+    public synchronized void modificarPalabraDiccionario(String nombre, String palabra, boolean anadir)
             throws ExceptionDiccionarioNotExist, ExceptionPalabraVacia, ExceptionPalabraInvalida, 
                   ExceptionPalabraExist, ExceptionPalabraNotExist, IOException {
-        
-        // Normalizar palabra
-        palabra = palabra.trim().toUpperCase();
-        if (palabra.isEmpty()) {
-            throw new ExceptionPalabraVacia("No se puede procesar una palabra vacía.");
+        List<String> cambio = List.of(palabra);
+        modificarPalabrasDiccionario(nombre, anadir ? cambio : List.of(), anadir ? List.of() : cambio);
+    }
+
+    /**
+     * Añade y elimina varias palabras de un diccionario en una sola operación, como al guardar la
+     * edición de un diccionario: valida todos los cambios, construye una única instantánea con
+     * ellos y escribe words.txt y el DAWG binario una sola vez.
+     *
+     * @pre El diccionario especificado debe existir en memoria.
+     * @param nombre Nombre del diccionario (debe estar en memoria).
+     * @param altas Palabras a añadir; no deben existir en words.txt.
+     * @param bajas Palabras a eliminar; deben existir en words.txt.
+     * @throws ExceptionDiccionarioNotExist Si el diccionario no existe en memoria.
+     * @throws ExceptionPalabraVacia Si alguna palabra está vacía después de trim.
+     * @throws ExceptionPalabraInvalida Si alguna palabra a añadir no puede formarse con los tokens del alfabeto, o si los cambios no se pueden aplicar al DAWG.
+     * @throws ExceptionPalabraExist Si alguna palabra a añadir ya existe en el archivo words.txt.
+     * @throws ExceptionPalabraNotExist Si alguna palabra a eliminar no existe en el archivo words.txt.
+     * @throws IOException Si hay problemas con la lectura/escritura del archivo words.txt, o si no se
+     *                     puede guardar en el repositorio (el cambio ya está en words.txt y publicado).
+     * @throws IllegalStateException Si el path del diccionario no se encuentra en memoria (error interno).
+     * @throws NullPointerException Si alguno de los parámetros o de las palabras es null.
+     * @post Si no ocurre ninguna excepción, words.txt y la instantánea publicada tienen todos los cambios
+     *       (las partidas en curso la recogen entre turnos) y se persisten en el repositorio. Si se lanza
+     *       alguna de las excepciones de validación, ni el archivo ni el diccionario cambian.
+     */
+    public synchronized void modificarPalabrasDiccionario(String nombre, Collection<String> altas, Collection<String> bajas)
+            throws ExceptionDiccionarioNotExist, ExceptionPalabraVacia, ExceptionPalabraInvalida,
+                   ExceptionPalabraExist, ExceptionPalabraNotExist, IOException {
+        if (nombre == null || altas == null || bajas == null) {
+            throw new NullPointerException("El nombre y las listas de cambios no pueden ser null");
         }
         
+        // Normalizar palabras
+        Set<String> nuevas = normalizarPalabras(altas);
+        Set<String> eliminadas = normalizarPalabras(bajas);
+        
         // Obtener diccionario y su path
         if (!diccionarios.containsKey(nombre)) {
             throw new ExceptionDiccionarioNotExist("No existe un diccionario con el nombre: " + nombre);
@@ -404,63 +457,68 @@ public class ControladorDiccionario {
                                            .map(String::trim)
                                            .filter(w -> !w.isEmpty())
                                            .toList();
+        Set<String> existentes = new HashSet<>(palabrasExistentes);
         
-        // Verificar si la palabra existe en el archivo
-        boolean existePalabra = palabrasExistentes.contains(palabra);
-        
-        // Obtener el diccionario para actualizarlo también
-        Diccionario dict = getDiccionario(nombre);
-        
-        if (anadir) {
-            // Validar si la palabra puede formarse con los tokens del alfabeto
-            Set<String> validTokens = getTokensAlfabeto(nombre);
+        // Validar todos los cambios antes de tocar el archivo
+        for (String palabra : eliminadas) {
+            if (!existentes.contains(palabra)) {
+                throw new ExceptionPalabraNotExist("La palabra '" + palabra + "' no existe en el diccionario.");
+            }
+        }
+        Set<String> validTokens = nuevas.isEmpty() ? Set.of() : getTokensAlfabeto(nombre);
+        for (String palabra : nuevas) {
             if (!isValidWordWithTokens(palabra, validTokens)) {
                 throw new ExceptionPalabraInvalida("La palabra '" + palabra + "' no puede formarse con los tokens disponibles en el alfabeto '" + nombre + "'.");
             }
-            
-            // Verificar que la palabra no existe
-            if (existePalabra) {
+            if (existentes.contains(palabra)) {
                 throw new ExceptionPalabraExist("La palabra '" + palabra + "' ya existe en el diccionario.");
             }
-            
-            // Añadir al DAWG (intentar)
-            try {
-                dict.addWord(palabra);
-            } catch (Exception e) {
-                // Si falla, lo ignoramos (lo importante es actualizarlo en el archivo)
-            }
-            
-            // Añadir a la lista y guardar en archivo
-            List<String> wordList = new ArrayList<>(palabrasExistentes);
-            wordList.add(palabra);
+        }
+        if (nuevas.isEmpty() && eliminadas.isEmpty()) {
+            return;
+        }
+        
+        // Construir la instantánea con todos los cambios; si falla, no se ha escrito nada
+        Diccionario dict;
+        try {
+            dict = getDiccionario(nombre).conCambios(nuevas, eliminadas);
+        } catch (IllegalArgumentException e) {
+            throw new ExceptionPalabraInvalida("No se pueden aplicar los cambios al diccionario '" + nombre + "': " + e.getMessage());
+        }
+        
+        // Guardar el archivo una sola vez
+        List<String> wordList = new ArrayList<>(palabrasExistentes);
+        wordList.removeAll(eliminadas);
+        if (!nuevas.isEmpty()) {
+            wordList.addAll(nuevas);
             Collections.sort(wordList);
-            Files.write(wordsPath, wordList, StandardCharsets.UTF_8);
-            
-            // Actualizar el repositorio
-            repositorio.guardar(nombre, dict, path);
-        } else {
-            // Verificar que la palabra existe
-            if (!existePalabra) {
-                throw new ExceptionPalabraNotExist("La palabra '" + palabra + "' no existe en el diccionario.");
-            }
-            
-            // Eliminar del DAWG (intentar)
-            try {
-                dict.removeWord(palabra);
-            } catch (Exception e) {
-                // Si falla, lo ignoramos (lo importante es actualizarlo en el archivo)
-            }
-            
-            // Eliminar de la lista y guardar en archivo
-            List<String> wordList = new ArrayList<>(palabrasExistentes);
-            wordList.remove(palabra);
-            Files.write(wordsPath, wordList, StandardCharsets.UTF_8);
-            
-            // Actualizar el repositorio
-            repositorio.guardar(nombre, dict, path);
         }
+        Files.write(wordsPath, wordList, StandardCharsets.UTF_8);
         
-        System.out.println("Diccionario '" + nombre + "' actualizado: " + (anadir ? "Palabra añadida" : "Palabra eliminada") + ": " + palabra);
+        // Actualizar el repositorio y publicar la instantánea nueva, que ya corresponde a words.txt
+        boolean guardado = repositorio.guardar(nombre, dict, path);
+        diccionarios.reemplazar(nombre, prepararDiccionario(dict));
+        if (!guardado) {
+            throw new IOException("Se ha actualizado words.txt pero no se ha podido guardar el diccionario '" + nombre + "' en el repositorio.");
+        }
+    }
+
+    /**
+     * Normaliza una lista de palabras a mayúsculas sin espacios y sin repeticiones.
+     *
+     * @throws ExceptionPalabraVacia Si alguna palabra está vacía después de trim.
+     * @throws NullPointerException Si alguna palabra es null.
+     */
+    private static Set<String> normalizarPalabras(Collection<String> palabras) throws ExceptionPalabraVacia {
+        Set<String> normalizadas = new LinkedHashSet<>();
+        for (String palabra : palabras) {
+            String normalizada = palabra.trim().toUpperCase();
+            if (normalizada.isEmpty()) {
+                throw new ExceptionPalabraVacia("No se puede procesar una palabra vacía.");
+            }
+            normalizadas.add(normalizada);
+        }
+        return normalizadas;
     }
     
     /**
@@ -480,9 +538,9 @@ public class ControladorDiccionario {
      * @throws IllegalStateException Si el path del diccionario no se encuentra en memoria (error interno).
      * @throws ExceptionLoggingOperacion Indicando el resultado de la operación (éxito).
      * @throws NullPointerException Si alguno de los parámetros es null.
-     * @post Si no ocurre ninguna excepción (excepto ExceptionLoggingOperacion informativa), la palabra original es reemplazada por la nueva en el archivo words.txt, el DAWG en memoria se actualiza, y los cambios se persisten en el repositorio.
+     * @post Si no ocurre ninguna excepción (excepto ExceptionLoggingOperacion informativa), la palabra original es reemplazada por la nueva en el archivo words.txt, se publica una instantánea nueva del diccionario con el cambio, y los cambios se persisten en el repositorio.
      */
-    public void modificarPalabra(String nombre, String palabraOriginal, String palabraNueva) 
+    public synchronized void modificarPalabra(String nombre, String palabraOriginal, String palabraNueva) 
             throws ExceptionDiccionarioNotExist, ExceptionPalabraVacia, ExceptionPalabraInvalida,
                    ExceptionPalabraNotExist, ExceptionPalabraExist, IOException {
         
@@ -494,69 +552,8 @@ public class ControladorDiccionario {
             throw new ExceptionPalabraVacia("Las palabras no pueden estar vacías.");
         }
         
-        // Verificar que el diccionario existe
-        if (!diccionarios.containsKey(nombre)) {
-            throw new ExceptionDiccionarioNotExist("No existe un diccionario con el nombre: " + nombre);
-        }
-        
-        String path = diccionarioPaths.get(nombre);
-        if (path == null) {
-            throw new IllegalStateException("Error interno: Path no encontrado para el diccionario '" + nombre + "'.");
-        }
-        
-        Path wordsPath = Paths.get(path, "words.txt");
-        if (!Files.exists(wordsPath)) {
-            throw new IOException("No se encuentra el archivo words.txt para el diccionario '" + nombre + "'.");
-        }
-        
-        // Leer todas las palabras existentes primero
-        List<String> palabrasExistentes = Files.readAllLines(wordsPath, StandardCharsets.UTF_8)
-                                          .stream()
-                                          .map(String::trim)
-                                          .filter(w -> !w.isEmpty())
-                                          .toList();
-        
-        // Verificar que la palabra original existe directamente en el archivo
-        boolean existePalabraOriginal = palabrasExistentes.contains(palabraOriginal);
-        if (!existePalabraOriginal) {
-            throw new ExceptionPalabraNotExist("La palabra '" + palabraOriginal + "' no existe en el diccionario.");
-        }
-        
-        // Verificar que la palabra nueva no existe directamente en el archivo
-        boolean existePalabraNueva = palabrasExistentes.contains(palabraNueva);
-        if (existePalabraNueva) {
-            throw new ExceptionPalabraExist("La palabra '" + palabraNueva + "' ya existe en el diccionario.");
-        }
-        
-        Diccionario dict = getDiccionario(nombre);
-        
-        // Validar que la nueva palabra puede formarse con los tokens del alfabeto
-        Set<String> validTokens = getTokensAlfabeto(nombre);
-        if (!isValidWordWithTokens(palabraNueva, validTokens)) {
-            throw new ExceptionPalabraInvalida("La palabra '" + palabraNueva + "' no puede formarse con los tokens disponibles en el alfabeto '" + nombre + "'.");
-        }
-        
-        // Actualizar el DAWG también
-        try {
-            dict.removeWord(palabraOriginal);
-            dict.addWord(palabraNueva);
-        } catch (Exception e) {
-            // Si falla la operación en el DAWG, continuamos con el archivo
-        }
-        
-        // Actualizar el archivo manualmente para garantizar la integridad
-        List<String> wordList = new ArrayList<>(palabrasExistentes);
-        wordList.remove(palabraOriginal);
-        wordList.add(palabraNueva);
-        
-        // Ordenar para mantener orden lexicográfico
-        Collections.sort(wordList);
-        
-        // Escribir al archivo
-        Files.write(wordsPath, wordList, StandardCharsets.UTF_8);
-        
-        // Actualizar en el repositorio
-        repositorio.guardar(nombre, dict, path);
+        // Sustituir la palabra en una sola instantánea y una sola escritura del archivo
+        modificarPalabrasDiccionario(nombre, List.of(palabraNueva), List.of(palabraOriginal));
         
         throw new ExceptionLoggingOperacion("Palabra '" + palabraOriginal + "' modificada a '" + palabraNueva + "' en el diccionario '" + nombre + "'.", "modificación");
     }
@@ -600,7 +597,7 @@ public class ControladorDiccionario {
         if (!diccionarios.containsKey(nombre)) {
             throw new ExceptionDiccionarioNotExist("No existe un diccionario con el nombre: " + nombre);
         }
-        Diccionario d = getDiccionario(nombre);
+        Diccionario d = diccionarios.getMetadatos(nombre);
         
         return d.getAlphabet();
     }
@@ -639,6 +636,225 @@ public class ControladorDiccionario {
         return chars;
     }
 
+    /**
+     * Enumera perezosamente las palabras de un diccionario cargado en memoria, recorriendo su DAWG
+     * sin materializar la lista completa. El flujo admite {@code parallel()}.
+     *
+     * @pre El diccionario especificado debe existir en memoria.
+     * @param nombre Nombre del diccionario (debe estar en memoria).
+     * @return Flujo de palabras en orden de símbolo, vacío si el diccionario no existe en memoria.
+     * @post Se devuelve el flujo sin modificar el estado del diccionario.
+     */
+    public Stream<String> streamPalabras(String nombre) {
+        Diccionario diccionario = diccionarios.get(nombre);
+        return diccionario != null ? diccionario.streamPalabras() : Stream.empty();
+    }
+
+    /**
+     * Busca las palabras de un diccionario que encajan con un patrón ({@code ?} para un símbolo y
+     * {@code *} para cualquier secuencia), deteniendo el recorrido del DAWG al llegar al límite.
+     *
+     * @pre El diccionario especificado debe existir en memoria y el patrón no debe ser null ni vacío.
+     * @param nombre Nombre del diccionario (debe estar en memoria).
+     * @param patron Patrón a buscar, por ejemplo {@code CA*}, {@code *CION} o {@code ?????}.
+     * @param limite Número máximo de palabras a devolver.
+     * @return Palabras que encajan (como mucho limite), en orden de símbolo; vacía si el diccionario no existe en memoria.
+     * @throws IllegalArgumentException si el límite es negativo o el patrón está vacío o es demasiado largo.
+     * @post Se devuelven los resultados sin modificar el estado del diccionario.
+     */
+    public List<String> buscarPatron(String nombre, String patron, int limite) {
+        if (limite < 0) {
+            throw new IllegalArgumentException("El límite no puede ser negativo");
+        }
+        Diccionario diccionario = diccionarios.get(nombre);
+        if (diccionario == null) return new ArrayList<>();
+        return diccionario.buscarPatron(patron).limit(limite).collect(Collectors.toList());
+    }
+
+    /**
+     * Obtiene el número de palabras de un diccionario cargado en memoria sin enumerarlas.
+     *
+     * @pre El diccionario especificado debe existir en memoria.
+     * @param nombre Nombre del diccionario (debe estar en memoria).
+     * @return Número de palabras, 0 si el diccionario no existe en memoria.
+     * @post Se devuelve el número sin modificar el estado del diccionario.
+     */
+    public int getNumPalabras(String nombre) {
+        Diccionario diccionario = diccionarios.get(nombre);
+        return diccionario != null ? diccionario.getNumPalabras() : 0;
+    }
+
+    /**
+     * Obtiene las estadísticas de forma y memoria de un diccionario cargado en memoria: nodos,
+     * arcos y nodos finales del DAWG, bytes estimados y tiempos de construcción y de carga.
+     * No carga el diccionario si aún no se ha usado o se ha desalojado.
+     *
+     * @pre El diccionario especificado debe tener sus palabras cargadas.
+     * @param nombre Nombre del diccionario.
+     * @return Estadísticas del diccionario, null si no tiene sus palabras cargadas.
+     * @post Se devuelven las estadísticas sin modificar las palabras del diccionario.
+     */
+    public EstadisticasDiccionario getEstadisticas(String nombre) {
+        Diccionario diccionario = diccionarios.getSiCargado(nombre);
+        return diccionario != null ? diccionario.getEstadisticas() : null;
+    }
+
+    /**
+     * Configura los límites de la caché de diccionarios cargados. Al superarlos se desaloja el
+     * diccionario usado hace más tiempo, que se vuelve a cargar del repositorio si se necesita.
+     *
+     * @pre maxDiccionarios debe ser positivo y maxBytes no negativo.
+     * @param maxDiccionarios Número máximo de diccionarios con sus palabras cargadas a la vez.
+     * @param maxBytes Máximo de bytes estimados de los diccionarios cargados.
+     * @throws IllegalArgumentException Si algún límite no es válido.
+     * @post Los diccionarios que sobren se desalojan de inmediato, salvo el usado más recientemente
+     *       y los que no están guardados en el repositorio.
+     */
+    public void configurarCache(int maxDiccionarios, long maxBytes) {
+        diccionarios.setLimites(maxDiccionarios, maxBytes);
+    }
+
+    /**
+     * Activa o desactiva el prefiltro de Bloom de las consultas de palabras por camino
+     * ({@link #existePalabra(String, int[], int)}) en todos los diccionarios, cargados o no.
+     * El prefiltro descarta la mayoría de las palabras inexistentes sin recorrer el DAWG y no
+     * cambia las respuestas. Está desactivado por defecto: las verificaciones cruzadas consultan
+     * sobre todo palabras existentes y el recorrido de las inexistentes ya es corto, por lo que
+     * apenas compensa su construcción (unos 10 bits por palabra).
+     *
+     * @param activo true para usar el prefiltro.
+     * @post Los diccionarios cargados y los que se carguen después usan el prefiltro si está activo.
+     */
+    public void setPrefiltroPalabras(boolean activo) {
+        this.prefiltroPalabras = activo;
+        for (String nombre : diccionarios.getCargados()) {
+            Diccionario diccionario = diccionarios.getSiCargado(nombre);
+            if (diccionario != null) {
+                diccionario.setPrefiltro(activo);
+            }
+        }
+    }
+
+    /** @return true si los diccionarios usan el prefiltro de Bloom. */
+    public boolean usaPrefiltroPalabras() {
+        return prefiltroPalabras;
+    }
+
+    /**
+     * Aplica a un diccionario recién cargado o creado la configuración del controlador.
+     *
+     * @param diccionario Diccionario a preparar (puede ser null).
+     * @return El mismo diccionario.
+     */
+    private Diccionario prepararDiccionario(Diccionario diccionario) {
+        if (diccionario != null) {
+            diccionario.setPrefiltro(prefiltroPalabras);
+        }
+        return diccionario;
+    }
+
+    /**
+     * Obtiene los nombres de los diccionarios que tienen sus palabras cargadas en memoria.
+     *
+     * @return Conjunto ordenado de nombres de diccionarios cargados.
+     * @post Se devuelve un conjunto nuevo sin cargar ni desalojar ningún diccionario.
+     */
+    public Set<String> getDiccionariosCargados() {
+        return diccionarios.getCargados();
+    }
+
+    /**
+     * Obtiene las estadísticas de todos los diccionarios cargados en memoria, ordenadas por nombre.
+     *
+     * @return Mapa del nombre de cada diccionario a sus estadísticas.
+     * @post Se devuelve un mapa nuevo sin modificar las palabras de los diccionarios.
+     */
+    public Map<String, EstadisticasDiccionario> getEstadisticas() {
+        Map<String, EstadisticasDiccionario> estadisticas = new TreeMap<>();
+        for (String nombre : diccionarios.getCargados()) {
+            Diccionario diccionario = diccionarios.getSiCargado(nombre);
+            if (diccionario != null) { // Puede haberse desalojado mientras tanto
+                estadisticas.put(nombre, diccionario.getEstadisticas());
+            }
+        }
+        return estadisticas;
+    }
+
+    /**
+     * Cuenta las palabras de un diccionario que empiezan por un prefijo.
+     *
+     * @pre El diccionario especificado debe existir en memoria y el prefijo no debe ser null.
+     * @param nombre Nombre del diccionario (debe estar en memoria).
+     * @param prefijo Prefijo a contar.
+     * @return Número de palabras con el prefijo, 0 si el diccionario no existe en memoria.
+     * @post Se devuelve el número sin modificar el estado del diccionario.
+     */
+    public int contarPrefijo(String nombre, String prefijo) {
+        Diccionario diccionario = diccionarios.get(nombre);
+        return diccionario != null ? diccionario.contarPrefijo(prefijo) : 0;
+    }
+
+    /**
+     * Obtiene la posición de una palabra en el orden de un diccionario, por ejemplo para
+     * desplazar una tabla paginada hasta ella.
+     *
+     * @pre El diccionario especificado debe existir en memoria y la palabra no debe ser null.
+     * @param nombre Nombre del diccionario (debe estar en memoria).
+     * @param palabra Palabra a buscar.
+     * @return Posición de la palabra o un valor negativo si no está (o el diccionario no existe en memoria).
+     * @post Se devuelve la posición sin modificar el estado del diccionario.
+     */
+    public int getIndicePalabra(String nombre, String palabra) {
+        Diccionario diccionario = diccionarios.get(nombre);
+        return diccionario != null ? diccionario.getIndicePalabra(palabra) : -1;
+    }
+
+    /**
+     * Obtiene una página de palabras de un diccionario sin cargar la lista completa.
+     *
+     * @pre El diccionario especificado debe existir en memoria.
+     * @param nombre Nombre del diccionario (debe estar en memoria).
+     * @param desde Posición de la primera palabra.
+     * @param tamano Número máximo de palabras.
+     * @return Palabras de la página en orden de símbolo; vacía si el diccionario no existe en memoria.
+     * @throws IllegalArgumentException si desde o tamano son negativos.
+     * @post Se devuelve la página sin modificar el estado del diccionario.
+     */
+    public List<String> getPaginaPalabras(String nombre, int desde, int tamano) {
+        Diccionario diccionario = diccionarios.get(nombre);
+        return diccionario != null ? diccionario.getPagina(desde, tamano) : new ArrayList<>();
+    }
+
+    /**
+     * Busca las palabras de un diccionario que se pueden formar con las fichas de un atril
+     * (anagramas completos o también subanagramas), admitiendo comodines.
+     *
+     * @pre El diccionario especificado debe existir en memoria y el atril no debe ser null.
+     * @param nombre Nombre del diccionario (debe estar en memoria).
+     * @param atril Fichas del atril y su cantidad.
+     * @param soloCompletos true para devolver solo las palabras que usan todas las fichas.
+     * @param ordenarPorPuntuacion true para ordenar de mayor a menor puntuación, false para orden de símbolo.
+     * @param limite Número máximo de palabras a devolver.
+     * @return Palabras encontradas (como mucho limite); vacía si el diccionario no existe en memoria.
+     * @throws IllegalArgumentException si el límite es negativo.
+     * @post Se devuelven los resultados sin modificar el estado del diccionario.
+     */
+    public List<String> buscarAnagramas(String nombre, Map<String, Integer> atril, boolean soloCompletos,
+                                        boolean ordenarPorPuntuacion, int limite) {
+        if (limite < 0) {
+            throw new IllegalArgumentException("El límite no puede ser negativo");
+        }
+        Diccionario diccionario = diccionarios.get(nombre);
+        if (diccionario == null) return new ArrayList<>();
+        List<BuscadorAnagramas.Anagrama> anagramas = ordenarPorPuntuacion
+                ? diccionario.buscarAnagramasPorPuntuacion(atril, soloCompletos)
+                : diccionario.buscarAnagramas(atril, soloCompletos);
+        return anagramas.stream()
+                .limit(limite)
+                .map(BuscadorAnagramas.Anagrama::getPalabra)
+                .collect(Collectors.toList());
+    }
+
     /**
      * Devuelve una lista con todas las palabras del diccionario leyendo directamente desde el archivo words.txt.
      * @pre El directorio del diccionario debe existir y contener el archivo words.txt.
@@ -799,7 +1015,7 @@ public class ControladorDiccionario {
             throw new ExceptionDiccionarioNotExist("No existe un diccionario con el nombre: " + nombre);
         }
         
-        Diccionario diccionario = getDiccionario(nombre);
+        Diccionario diccionario = diccionarios.getMetadatos(nombre);
         return diccionario.getAlphabetKeys();
     }
     
@@ -837,6 +1053,141 @@ public class ControladorDiccionario {
         }
     }
     
+    /**
+     * Verifica si un camino de identificadores de símbolo forma una palabra del diccionario.
+     * Permite a los generadores de jugadas consultar el DAWG sin construir ni tokenizar cadenas.
+     *
+     * @pre El diccionario especificado debe existir en memoria.
+     * @param nombre Nombre del diccionario (debe estar en memoria).
+     * @param ruta Identificadores de símbolo obtenidos con {@link #codificarPalabra(String, String)} o {@link #getIdSimbolo(String, String)}.
+     * @param longitud Número de símbolos de la ruta a considerar.
+     * @return true si la palabra existe en el DAWG del diccionario, false en caso contrario o si el diccionario no existe en memoria.
+     * @post Se devuelve un valor booleano sin modificar el estado del diccionario.
+     */
+    public boolean existePalabra(String nombre, int[] ruta, int longitud) {
+        Diccionario diccionario = diccionarios.get(nombre);
+        return diccionario != null && diccionario.contienePalabra(ruta, longitud);
+    }
+
+    /**
+     * Convierte una palabra en su camino de identificadores de símbolo del diccionario.
+     *
+     * @pre El diccionario especificado debe existir en memoria.
+     * @param nombre Nombre del diccionario (debe estar en memoria).
+     * @param palabra Palabra a codificar.
+     * @return Identificadores de símbolo, o null si el diccionario no existe en memoria o la palabra contiene símbolos fuera del alfabeto.
+     * @post Se devuelve el camino sin modificar el estado del diccionario.
+     */
+    public int[] codificarPalabra(String nombre, String palabra) {
+        Diccionario diccionario = diccionarios.get(nombre);
+        return diccionario != null ? diccionario.codificar(palabra) : null;
+    }
+
+    /**
+     * Obtiene el identificador de un símbolo del alfabeto de un diccionario.
+     *
+     * @pre El diccionario especificado debe existir en memoria.
+     * @param nombre Nombre del diccionario (debe estar en memoria).
+     * @param simbolo Símbolo (letra o letra multicarácter).
+     * @return Identificador del símbolo, o -1 si el diccionario no existe en memoria o el símbolo no pertenece a su alfabeto.
+     */
+    public int getIdSimbolo(String nombre, String simbolo) {
+        Diccionario diccionario = diccionarios.get(nombre);
+        return diccionario != null ? diccionario.getIdSimbolo(simbolo) : -1;
+    }
+
+    /**
+     * Obtiene un cursor en la raíz del DAWG de un diccionario. A partir de él, el recorrido
+     * (avanzar por un símbolo, comprobar si es final, iterar los símbolos salientes) no necesita
+     * volver a buscar el diccionario por nombre ni a recorrer la palabra parcial desde la raíz.
+     *
+     * @pre El diccionario especificado debe existir en memoria.
+     * @param nombre Nombre del diccionario (debe estar en memoria).
+     * @return Cursor en la raíz, o null si el diccionario no existe en memoria.
+     */
+    public CursorDawg getCursor(String nombre) {
+        Diccionario diccionario = diccionarios.get(nombre);
+        return diccionario != null ? diccionario.getCursor() : null;
+    }
+
+    /**
+     * Obtiene un cursor en el nodo del DAWG alcanzado por una palabra parcial.
+     *
+     * @pre El diccionario especificado debe existir en memoria y la palabra parcial no debe ser null.
+     * @param nombre Nombre del diccionario (debe estar en memoria).
+     * @param palabraParcial Prefijo a recorrer.
+     * @return Cursor al final del prefijo, o null si el diccionario no existe en memoria o ninguna palabra empieza por el prefijo.
+     */
+    public CursorDawg getCursor(String nombre, String palabraParcial) {
+        Diccionario diccionario = diccionarios.get(nombre);
+        return diccionario != null ? diccionario.getCursor(palabraParcial) : null;
+    }
+
+    /**
+     * Indica si el alfabeto de un diccionario admite máscaras de bits (hasta 64 símbolos).
+     *
+     * @pre El diccionario especificado debe existir en memoria.
+     * @param nombre Nombre del diccionario (debe estar en memoria).
+     * @return true si se admiten las consultas con máscaras, false si no o si el diccionario no existe en memoria.
+     */
+    public boolean admiteMascaras(String nombre) {
+        Diccionario diccionario = diccionarios.get(nombre);
+        return diccionario != null && diccionario.admiteMascaras();
+    }
+
+    /**
+     * Obtiene la máscara de bits de un conjunto de símbolos de un diccionario (por ejemplo, las
+     * letras válidas de una verificación cruzada).
+     *
+     * @pre El diccionario especificado debe existir en memoria y admitir máscaras.
+     * @param nombre Nombre del diccionario (debe estar en memoria).
+     * @param simbolos Símbolos a incluir.
+     * @return Máscara con un bit por símbolo, o 0 si el diccionario no existe en memoria.
+     */
+    public long getMascara(String nombre, Collection<String> simbolos) {
+        Diccionario diccionario = diccionarios.get(nombre);
+        return diccionario != null ? diccionario.getMascara(simbolos) : 0L;
+    }
+
+    /**
+     * Obtiene la máscara de bits de las letras que se pueden jugar con un atril (todas si tiene comodín).
+     *
+     * @pre El diccionario especificado debe existir en memoria y admitir máscaras.
+     * @param nombre Nombre del diccionario (debe estar en memoria).
+     * @param atril Fichas del atril y su cantidad.
+     * @return Máscara de los símbolos jugables, o 0 si el diccionario no existe en memoria.
+     */
+    public long getMascaraAtril(String nombre, Map<String, Integer> atril) {
+        Diccionario diccionario = diccionarios.get(nombre);
+        return diccionario != null ? diccionario.getMascaraAtril(atril) : 0L;
+    }
+
+    /**
+     * Obtiene los símbolos de una máscara de bits de un diccionario.
+     *
+     * @pre El diccionario especificado debe existir en memoria y admitir máscaras.
+     * @param nombre Nombre del diccionario (debe estar en memoria).
+     * @param mascara Máscara obtenida del mismo diccionario.
+     * @return Conjunto de símbolos, vacío si el diccionario no existe en memoria.
+     */
+    public Set<String> getSimbolosMascara(String nombre, long mascara) {
+        Diccionario diccionario = diccionarios.get(nombre);
+        return diccionario != null ? diccionario.getSimbolosMascara(mascara) : new HashSet<>();
+    }
+
+    /**
+     * Obtiene el índice GADDAG de un diccionario para la generación de jugadas.
+     * El índice se construye la primera vez que se pide y se reutiliza mientras el diccionario no cambie.
+     *
+     * @pre El diccionario especificado debe existir en memoria.
+     * @param nombre Nombre del diccionario (debe estar en memoria).
+     * @return GADDAG del diccionario, o null si el diccionario no existe en memoria.
+     */
+    public Gaddag getGaddag(String nombre) {
+        Diccionario diccionario = diccionarios.get(nombre);
+        return diccionario != null ? diccionario.getGaddag() : null;
+    }
+
     /**
      * Verifica si un diccionario configurado sigue siendo válido (sus archivos existen) comprobando el repositorio.
      * 
@@ -857,7 +1208,7 @@ public class ControladorDiccionario {
     }
     
     /**
-     * Verifica todos los diccionarios registrados en el repositorio al iniciar el controlador, eliminando aquellos cuyos archivos no son válidos y cargando los válidos en memoria.
+     * Verifica todos los diccionarios registrados en el repositorio al iniciar el controlador, eliminando aquellos cuyos archivos no son válidos y registrando los válidos en la caché con su alfabeto, sin cargar sus palabras.
      * 
      * @pre El repositorio de diccionarios debe estar inicializado.
      * @throws ExceptionLoggingOperacion Con información sobre los diccionarios que fueron encontrados como inválidos y eliminados.
@@ -881,10 +1232,14 @@ public class ControladorDiccionario {
                 continue;
             }
             
-            // Cargar diccionario válido a memoria
+            // Registrar el diccionario válido con su alfabeto; sus palabras se cargan al usarlo
             try {
-                Diccionario dict = repositorio.cargar(nombre);
-                diccionarios.put(nombre, dict);
+                Diccionario metadatos = repositorio.cargarMetadatos(nombre);
+                if (metadatos == null) {
+                    diccionariosInvalidos.add(nombre);
+                    continue;
+                }
+                diccionarios.registrar(nombre, metadatos);
             } catch (Exception e) {
                 diccionariosInvalidos.add(nombre);
             }
@@ -921,7 +1276,7 @@ public class ControladorDiccionario {
             throw new ExceptionDiccionarioNotExist("No existe un diccionario con el nombre: " + nombre);
         }
         
-        Diccionario diccionario = getDiccionario(nombre);
+        Diccionario diccionario = diccionarios.getMetadatos(nombre);
         return diccionario.esComodin(caracter);
     }
 
@@ -935,17 +1290,9 @@ public class ControladorDiccionario {
      * @post Si el diccionario existe en memoria, se devuelve un mapa no nulo con las fichas y sus cantidades sin modificar el estado del diccionario.
      */
     public Map<String, Integer> getFichas(String nombreDiccionario) {
-        if (!diccionarios.containsKey(nombreDiccionario)) {
-            return null;
-        }
-        
-        try {
-            Diccionario diccionario = getDiccionario(nombreDiccionario);
-            return diccionario.getFichas();
-        } catch (ExceptionDiccionarioNotExist e) {
-            // No debería ocurrir ya que verificamos existencia previamente
-            return null;
-        }
+        // Solo hace falta el alfabeto: no carga las palabras del diccionario
+        Diccionario diccionario = diccionarios.getMetadatos(nombreDiccionario);
+        return diccionario != null ? diccionario.getFichas() : null;
     }
 
     /**
@@ -959,17 +1306,8 @@ public class ControladorDiccionario {
      * @post Se devuelve un entero no negativo que representa el puntaje del token sin modificar el estado del diccionario.
      */
     public int getPuntaje(String nombreDiccionario, String valueOf) {
-        if (!diccionarios.containsKey(nombreDiccionario)) {
-            return 0;
-        }
-        
-        try {
-            Diccionario diccionario = getDiccionario(nombreDiccionario);
-            return diccionario.getPuntaje(valueOf);
-        } catch (ExceptionDiccionarioNotExist e) {
-            // No debería ocurrir ya que verificamos existencia previamente
-            return 0;
-        }
+        Diccionario diccionario = diccionarios.getMetadatos(nombreDiccionario);
+        return diccionario != null ? diccionario.getPuntaje(valueOf) : 0;
     }
 
     /**
@@ -1055,10 +1393,12 @@ public class ControladorDiccionario {
      * @post Si el diccionario existe en memoria, devuelve una referencia al objeto Diccionario; en caso contrario, lanza una excepción.
      */
     public Diccionario getDiccionario(String nombre) throws ExceptionDiccionarioNotExist {
-        if (!diccionarios.containsKey(nombre)) {
+        // Carga las palabras si es la primera vez que se usa o si se había desalojado
+        Diccionario diccionario = diccionarios.get(nombre);
+        if (diccionario == null) {
             throw new ExceptionDiccionarioNotExist("No existe un diccionario con el nombre: " + nombre);
         }
-        return diccionarios.get(nombre);
+        return diccionario;
     }
 
 }
\ No newline at end of file
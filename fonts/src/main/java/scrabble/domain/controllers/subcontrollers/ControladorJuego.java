@@ -8,15 +8,27 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 
 import scrabble.domain.models.Bolsa;
+import scrabble.domain.models.DawgCompacto;
+import scrabble.domain.models.Diccionario;
+import scrabble.domain.models.Gaddag;
+import scrabble.domain.models.GeneradorJugadas;
 import scrabble.domain.models.Tablero;
+import scrabble.domain.models.VerificacionesCruzadas;
 import scrabble.domain.persistences.implementaciones.RepositorioPartidaImpl;
 import scrabble.domain.persistences.interfaces.RepositorioPartida;
+import scrabble.excepciones.ExceptionDiccionarioNotExist;
 import scrabble.excepciones.ExceptionPersistenciaFallida;
+import scrabble.helpers.Jugada;
 import scrabble.helpers.Triple;
 import scrabble.helpers.Tuple;
 import scrabble.helpers.Dificultad;
+import scrabble.helpers.IndiceMovimientos;
 import scrabble.helpers.Direction;
 import scrabble.helpers.Bonus;
 
@@ -50,19 +62,34 @@ public class ControladorJuego implements Serializable {
 
     private int idPartida = -1; // Identificador de la partida actual
     private transient ControladorDiccionario controladorDiccionario;
+    // Instantánea del diccionario que usa la partida; se renueva entre turnos
+    private transient Diccionario diccionario;
     private Tablero tablero;
     private Bolsa bolsa;
 
     private Direction direction;
     private boolean juegoTerminado;
     private boolean juegoIniciado;
-    private Map<Tuple<Integer, Integer>, Set<String>> lastCrossCheck;
+    // Verificaciones cruzadas de las dos direcciones, actualizadas con cada ficha colocada
+    private transient VerificacionesCruzadas verificaciones;
+    // Generador de jugadas con el DAWG, reutilizado entre búsquedas mientras no cambie el DAWG
+    private transient GeneradorJugadas generador;
+    private transient int generadorTamano;
+    // Valores de los símbolos para la poda de mejoresJugadas, calculados para valoresCotaDawg
+    private transient int[] valoresCota;
+    private transient DawgCompacto valoresCotaDawg;
+    // Multiplicadores de letra y de palabra por casilla del tablero para el que se calcularon
+    private transient int[][] multiplicadores;
+    private transient Tablero multiplicadoresTablero;
+    // Pool con el que se reparte la generación de jugadas con el DAWG; null para hacerlo en el hilo que llama
+    private transient ForkJoinPool poolJugadas;
     private String nombreDiccionario;
     private Map<String, Integer> jugadores;
     private static RepositorioPartida repositorioPartida;
     private List<String> jugadoresOrdenados;
     private int turnoActual = 0;
     private Set<String> alfabeto;
+    private IndiceMovimientos indiceMovimientos = IndiceMovimientos.DAWG;
 
     /**
      * Constructor por defecto para la clase ControladorJuego.
@@ -70,7 +97,7 @@ public class ControladorJuego implements Serializable {
      * @throws ExceptionPersistenciaFallida si ocurre un error al inicializar el repositorio de partidas
      * @pre No hay precondiciones específicas.
      * @post Se inicializa una nueva instancia de ControladorJuego con valores por defecto:
-     *       - tablero, lastCrossCheck y direction son null
+     *       - tablero y direction son null
      *       - juegoIniciado y juegoTerminado son false
      *       - bolsa es null
      *       - idPartida es -1
@@ -78,7 +105,6 @@ public class ControladorJuego implements Serializable {
      */
     public ControladorJuego() throws ExceptionPersistenciaFallida {
         this.tablero = null;
-        this.lastCrossCheck = null;
         this.direction = null;
         this.juegoIniciado = false;
         this.juegoTerminado = false;
@@ -97,6 +123,66 @@ public class ControladorJuego implements Serializable {
         return this.nombreDiccionario;
     }
 
+    /**
+     * Obtiene el índice de palabras usado para generar jugadas.
+     *
+     * @return El índice empleado por {@link #searchAllMoves(Map, boolean)}.
+     */
+    public IndiceMovimientos getIndiceMovimientos() {
+        return this.indiceMovimientos == null ? IndiceMovimientos.DAWG : this.indiceMovimientos;
+    }
+
+    /**
+     * Selecciona el índice de palabras usado para generar jugadas. Con {@link IndiceMovimientos#GADDAG}
+     * el GADDAG del diccionario se construye la primera vez que se buscan jugadas.
+     *
+     * Es una opción que se activa explícitamente: las partidas usan el DAWG, que no necesita
+     * construir un segundo índice y admite la poda por cota y la búsqueda en paralelo.
+     *
+     * @pre indice no debe ser null.
+     * @param indice Índice a utilizar.
+     * @post {@link #searchAllMoves(Map, boolean)} genera las jugadas con el índice indicado.
+     * @throws NullPointerException Si indice es null.
+     */
+    public void setIndiceMovimientos(IndiceMovimientos indice) {
+        if (indice == null) {
+            throw new NullPointerException("El índice de movimientos no puede ser null");
+        }
+        this.indiceMovimientos = indice;
+    }
+
+    /**
+     * Obtiene el pool con el que se generan las jugadas con el DAWG.
+     *
+     * @return El pool, o null si las jugadas se generan en el hilo que llama.
+     */
+    public ForkJoinPool getPoolJugadas() {
+        return this.poolJugadas;
+    }
+
+    /**
+     * Selecciona el pool fork/join con el que se generan las jugadas con el DAWG. Con un pool,
+     * {@link #searchAllMoves(Map, boolean, Consumer)} y {@link #mejoresJugadas} reparten las filas de
+     * anclajes de las dos direcciones entre sus hilos, cada uno con su propio generador, y las
+     * mejores jugadas de cada parte comparten la puntuación mínima para la poda.
+     *
+     * El resultado no depende del pool ni del número de hilos: searchAllMoves entrega las jugadas en
+     * el mismo orden que sin pool (en el hilo que llama, tras reunirlas) y mejoresJugadas devuelve
+     * las mismas k jugadas, ya que el orden entre ellas es total y la poda nunca descarta empates.
+     * La búsqueda con el GADDAG se hace siempre en el hilo que llama.
+     *
+     * Está desactivado por defecto y las partidas no lo activan: una búsqueda en el tablero estándar
+     * tarda menos de un milisegundo, y repartirla solo compensa con varios núcleos libres y
+     * tableros o diccionarios grandes.
+     *
+     * @param pool Pool a utilizar (por ejemplo {@link ForkJoinPool#commonPool()}), o null para
+     *             generar las jugadas en el hilo que llama, como por defecto.
+     * @post Las búsquedas siguientes con el DAWG usan el pool indicado.
+     */
+    public void setPoolJugadas(ForkJoinPool pool) {
+        this.poolJugadas = pool;
+    }
+
     /**
      * Obtiene el tamaño del tablero de la partida actual.
      * 
@@ -136,6 +222,8 @@ public class ControladorJuego implements Serializable {
         this.juegoTerminado = false;
         this.idPartida = repositorioPartida.generarNuevoId();
         this.alfabeto = controladorDiccionario.getTokensAlfabeto(nombreDiccionario);
+        this.verificaciones = null;
+        actualizarDiccionario();
         
         Map<String, Integer> fichas = controladorDiccionario.getFichas(nombreDiccionario);
         this.bolsa = new Bolsa();
@@ -276,7 +364,8 @@ public class ControladorJuego implements Serializable {
     /**
      * Encuentra las posiciones de anclaje en el tablero.
      * Los anclajes son posiciones vacías adyacentes a casillas ocupadas, 
-     * o el centro del tablero si es el primer turno.
+     * o el centro del tablero si es el primer turno. No recorre el tablero: el {@link Tablero}
+     * mantiene los anclajes al colocar cada ficha.
      *
      * @pre El tablero debe estar inicializado.
      * @param juegoIniciado Indica si el juego ya ha comenzado.
@@ -287,21 +376,31 @@ public class ControladorJuego implements Serializable {
      */
     public Set<Tuple<Integer, Integer>> find_anchors(boolean juegoIniciado) {
         Set<Tuple<Integer, Integer>> anchors = new HashSet<>();
-        if (juegoIniciado) {
-            for (int i = 0; i < tablero.getSize(); i++) {
-                for (int j = 0; j < tablero.getSize(); j++) {
-                    Tuple<Integer, Integer> pos = new Tuple<>(i,j);
-                    if (tablero.isEmpty(pos)) {
-                        if (tablero.isFilled(before_cross(pos)) || tablero.isFilled(after_cross(pos)) || tablero.isFilled(before(pos)) || tablero.isFilled(after(pos))) {
-                            anchors.add(pos);
-                        }
-                    }
-                }
+        long[] anclas = anclas(juegoIniciado);
+        int palabrasFila = Tablero.getPalabrasFila(tablero.getSize());
+        for (int p = 0; p < anclas.length; p++) {
+            for (long bits = anclas[p]; bits != 0; bits &= bits - 1) {
+                anchors.add(new Tuple<>(p / palabrasFila, (p % palabrasFila) * Long.SIZE + Long.numberOfTrailingZeros(bits)));
             }
-        } else anchors.add(this.tablero.getCenter());
+        }
         return anchors;
     }
 
+    /**
+     * Anclajes como bits por fila: los que mantiene el tablero o, si el juego no ha empezado,
+     * solo el centro.
+     */
+    private long[] anclas(boolean juegoIniciado) {
+        if (juegoIniciado) {
+            return tablero.getAnclas();
+        }
+        int n = tablero.getSize();
+        int palabrasFila = Tablero.getPalabrasFila(n);
+        long[] centro = new long[n * palabrasFila];
+        centro[(n / 2) * palabrasFila + ((n / 2) >>> 6)] = 1L << (n / 2);
+        return centro;
+    }
+
     /**
      * Extiende una palabra hacia la izquierda añadiendo letras disponibles del atril.
      * Método auxiliar para la búsqueda de movimientos válidos.
@@ -328,30 +427,10 @@ public class ControladorJuego implements Serializable {
      */
     public Set<Triple<String,Tuple<Integer, Integer>, Direction>> extendLeft(String partialWord, Map<String, Integer> rack, Tuple<Integer, Integer> nextPos, int limit) {
         Set<Triple<String,Tuple<Integer, Integer>, Direction>> words = new HashSet<>();
-    
-        words.addAll(extendRight(partialWord, rack, nextPos, false));
-    
-        if (limit > 0){
-            Set<String> posibles = this.controladorDiccionario.getAvailableEdges(nombreDiccionario, partialWord);
-    
-            for (String c : posibles) {
-                if (rack.containsKey(c) || rack.containsKey("#")) {
-    
-                    String newPartialWord = partialWord + c;
-                    Map<String, Integer> newRack = new HashMap<>(rack);
-                    String usada = c;
-    
-                    if (!rack.containsKey(c)) usada = "#";
-    
-                    if (newRack.get(usada) == 1) {
-                        newRack.remove(usada);
-                    } else {
-                        newRack.put(usada, newRack.get(usada) - 1);
-                    }
-    
-                    words.addAll(extendLeft(newPartialWord, newRack, nextPos, limit - 1));
-                }
-            }
+        int[] prefijo = diccionario().codificar(partialWord);
+        int nodo = prefijo == null ? DawgCompacto.SIN_NODO : dawgCompacto().recorrer(prefijo, prefijo.length);
+        if (nodo != DawgCompacto.SIN_NODO) {
+            prepararGenerador(rack, j -> words.add(j.toTriple())).extenderIzquierda(prefijo, prefijo.length, nodo, nextPos.x, nextPos.y, limit);
         }
         return words;
     }
@@ -372,7 +451,7 @@ public class ControladorJuego implements Serializable {
      * Extiende una palabra hacia la derecha.
      * Parte de una búsqueda recursiva para encontrar jugadas válidas.
      *
-     * @pre El diccionario y el tablero deben estar inicializados y las estructuras de datos (rack, lastCrossCheck) deben ser válidas.
+     * @pre El diccionario y el tablero deben estar inicializados y el atril debe ser válido.
      * @param partialWord Palabra parcial que se está formando.
      * @param rack Mapa de letras disponibles en el atril del jugador.
      * @param nextPos Posición siguiente a explorar en el tablero.
@@ -383,40 +462,429 @@ public class ControladorJuego implements Serializable {
      */
     public Set<Triple<String,Tuple<Integer, Integer>, Direction>> extendRight(String partialWord, Map<String, Integer> rack, Tuple<Integer, Integer> nextPos, boolean anchorFilled) {
         Set<Triple<String,Tuple<Integer, Integer>, Direction>> words = new HashSet<>();
-    
-        if (!this.tablero.isFilled(nextPos) && this.controladorDiccionario.isFinal(nombreDiccionario, partialWord) && anchorFilled) {
-            words.add(new Triple<>(partialWord, before(nextPos), this.direction));
+        int[] prefijo = diccionario().codificar(partialWord);
+        int nodo = prefijo == null ? DawgCompacto.SIN_NODO : dawgCompacto().recorrer(prefijo, prefijo.length);
+        if (nodo != DawgCompacto.SIN_NODO) {
+            prepararGenerador(rack, j -> words.add(j.toTriple())).extenderDerecha(prefijo, prefijo.length, nodo, nextPos.x, nextPos.y, anchorFilled);
         }
-    
-        if (this.tablero.validPosition(nextPos)) {
-            if (this.tablero.isEmpty(nextPos)) {
-                for (String c : this.controladorDiccionario.getAvailableEdges(nombreDiccionario, partialWord)) {
-                    Set<String> allowedChars = this.lastCrossCheck.get(nextPos);
-                    if ((rack.containsKey(c) || rack.containsKey("#")) && allowedChars != null && allowedChars.contains(c)) {    
-                        String newPartialWord = partialWord + c;
-                        Map<String, Integer> newRack = new HashMap<>(rack);
-                        String usada = c;
-    
-                        if (!rack.containsKey(c)) usada = "#";
-    
-                        if (newRack.get(usada) == 1) {
-                            newRack.remove(usada);
-                        } else {
-                            newRack.put(usada, newRack.get(usada) - 1);
+        return words;
+    }
+
+    /**
+     * Prepara el generador de jugadas del DAWG de la partida con el tablero, las verificaciones
+     * cruzadas de la dirección actual y el atril. Las jugadas que encuentre se entregan a consumidor.
+     */
+    private GeneradorJugadas prepararGenerador(Map<String, Integer> rack, Consumer<Jugada> consumidor) {
+        ContextoBusqueda contexto = contexto(rack, null);
+        return contexto.preparar(generador(contexto.dawg), this.direction, consumidor);
+    }
+
+    /**
+     * Generador de jugadas de la partida, reutilizado entre búsquedas mientras no cambien el DAWG ni
+     * el tamaño del tablero. Solo lo usa el hilo que llama; las partes de una búsqueda en paralelo
+     * crean el suyo.
+     */
+    private GeneradorJugadas generador(DawgCompacto dawg) {
+        if (this.generador == null || this.generador.getDawg() != dawg || this.generadorTamano != tablero.getSize()) {
+            this.generador = new GeneradorJugadas(dawg, tablero.getSize());
+            this.generadorTamano = tablero.getSize();
+        }
+        return this.generador;
+    }
+
+    /**
+     * Reúne en el hilo que llama los datos de una búsqueda con el DAWG: el tablero, las
+     * verificaciones cruzadas de las dos direcciones, los anclajes y el atril como cuentas por
+     * símbolo más comodines.
+     */
+    private ContextoBusqueda contexto(Map<String, Integer> rack, long[] anclas) {
+        return contexto(rack, anclas, null);
+    }
+
+    /**
+     * Como {@link #contexto(Map, long[])}, con los valores de los símbolos para la poda de las
+     * búsquedas de las mejores jugadas.
+     */
+    private ContextoBusqueda contexto(Map<String, Integer> rack, long[] anclas, int[] valores) {
+        DawgCompacto dawg = dawgCompacto();
+        VerificacionesCruzadas cruces = verificaciones();
+        long[][] bits = new long[Direction.values().length][];
+        for (Direction dir : Direction.values()) {
+            bits[dir.ordinal()] = cruces.getBits(dir);
+        }
+
+        int[] cuentas = new int[dawg.getNumSimbolos()];
+        int comodines = 0;
+        for (Map.Entry<String, Integer> ficha : rack.entrySet()) {
+            int cantidad = ficha.getValue() == null ? 0 : Math.max(0, ficha.getValue());
+            if (ficha.getKey().equals("#")) {
+                comodines += cantidad;
+            } else {
+                int id = dawg.getIdSimbolo(ficha.getKey());
+                if (id >= 0) cuentas[id] += cantidad;
+            }
+        }
+        return new ContextoBusqueda(dawg, tablero.getSize(), cruces.getCasillas(), bits, anclas, cuentas, comodines,
+                valores, valores == null ? null : valoresComodin(valores, cuentas), multiplicadores());
+    }
+
+    /**
+     * Datos de una búsqueda de jugadas con el DAWG. Se preparan en el hilo que lanza la búsqueda y
+     * después solo se leen, de modo que varios hilos pueden generar jugadas a la vez sobre el mismo
+     * contexto, cada uno con su generador. El trabajo se divide en unidades: la unidad u son los
+     * anclajes de la fila u % n en la dirección u / n.
+     */
+    private static final class ContextoBusqueda {
+        private final DawgCompacto dawg;
+        private final int n;
+        private final int[] casillas;
+        private final long[][] cruces;
+        private final long[] anclas;
+        private final int[] cuentas;
+        private final int comodines;
+        private final int[] valores;
+        private final int[] valoresComodin;
+        private final int[][] multiplicadores;
+
+        private ContextoBusqueda(DawgCompacto dawg, int n, int[] casillas, long[][] cruces, long[] anclas, int[] cuentas,
+                                 int comodines, int[] valores, int[] valoresComodin, int[][] multiplicadores) {
+            this.dawg = dawg;
+            this.n = n;
+            this.casillas = casillas;
+            this.cruces = cruces;
+            this.anclas = anclas;
+            this.cuentas = cuentas;
+            this.comodines = comodines;
+            this.valores = valores;
+            this.valoresComodin = valoresComodin;
+            this.multiplicadores = multiplicadores;
+        }
+
+        private int getUnidades() {
+            return Direction.values().length * n;
+        }
+
+        private GeneradorJugadas preparar(GeneradorJugadas generador, Direction dir, Consumer<Jugada> consumidor) {
+            generador.preparar(casillas, cruces[dir.ordinal()], dir, cuentas, comodines, (simbolos, longitud, fila, columna) -> {
+                StringBuilder palabra = new StringBuilder(longitud + 2);
+                for (int k = 0; k < longitud; k++) {
+                    palabra.append(dawg.getSimbolo(simbolos[k]));
+                }
+                String texto = palabra.toString();
+                long colocadas = colocadas(fila, columna, dir, longitud);
+                long conComodin = comodines == 0 ? 0L : comodines(simbolos, longitud, fila, columna, dir, colocadas);
+                consumidor.accept(new Jugada(texto, fila, columna, dir, colocadas, conComodin));
+            });
+            return generador;
+        }
+
+        /**
+         * Casillas colocadas de la palabra generada en las que van comodines, con la misma asignación
+         * que {@link #asignarComodines}, calculada con los identificadores de símbolo y las cuentas del
+         * atril sin volver a dividir el texto.
+         */
+        private long comodines(int[] simbolos, int longitud, int fila, int columna, Direction dir, long colocadas) {
+            int paso = dir == Direction.HORIZONTAL ? 1 : n;
+            int ultima = fila * n + columna;
+            long comodines = 0;
+            long pendientes = colocadas;
+            while (pendientes != 0) {
+                int simbolo = simbolos[longitud - 1 - Long.numberOfTrailingZeros(pendientes)];
+                long casillas = 0;
+                for (long p = pendientes; p != 0; p &= p - 1) {
+                    int j = Long.numberOfTrailingZeros(p);
+                    if (simbolos[longitud - 1 - j] == simbolo) casillas |= 1L << j;
+                }
+                pendientes &= ~casillas;
+                for (int faltan = Long.bitCount(casillas) - cuentas[simbolo]; faltan > 0; faltan--) {
+                    int elegida = -1;
+                    for (long p = casillas; p != 0; p &= p - 1) {
+                        int j = Long.numberOfTrailingZeros(p);
+                        if (elegida < 0 || multiplicadores[0][ultima - j * paso] < multiplicadores[0][ultima - elegida * paso]) {
+                            elegida = j;
                         }
-                        words.addAll(extendRight(newPartialWord, newRack, after(nextPos), true));
                     }
+                    casillas &= ~(1L << elegida);
+                    comodines |= 1L << elegida;
                 }
-            } else {
-                String c = String.valueOf(this.tablero.getTile(nextPos));
-                if (this.controladorDiccionario.getAvailableEdges(nombreDiccionario, partialWord).contains(c)) {
-                    String newPartialWord = partialWord + c;
-                    words.addAll(extendRight(newPartialWord, rack, after(nextPos), true));
+            }
+            return comodines;
+        }
+
+        /**
+         * Máscara de las casillas vacías, que reciben fichas del atril, de la palabra de longitud
+         * casillas que termina en (fila, columna).
+         */
+        private long colocadas(int fila, int columna, Direction dir, int longitud) {
+            if (longitud > Jugada.MAX_CASILLAS) {
+                throw new IllegalArgumentException("La palabra ocupa más de " + Jugada.MAX_CASILLAS + " casillas");
+            }
+            int paso = dir == Direction.HORIZONTAL ? 1 : n;
+            int idx = fila * n + columna;
+            long mascara = 0;
+            for (int k = 0; k < longitud; k++, idx -= paso) {
+                if (casillas[idx] == GeneradorJugadas.VACIA) mascara |= 1L << k;
+            }
+            return mascara;
+        }
+
+        /**
+         * Genera las jugadas de las unidades [desde, hasta) en orden. Tras preparar el generador en
+         * cada dirección se llama a antesDeBuscar, si no es null.
+         */
+        private void buscar(GeneradorJugadas generador, int desde, int hasta,
+                            Consumer<Jugada> consumidor,
+                            Consumer<GeneradorJugadas> antesDeBuscar) {
+            for (int u = desde; u < hasta; ) {
+                int d = u / n;
+                int fin = Math.min(hasta, (d + 1) * n);
+                preparar(generador, Direction.values()[d], consumidor);
+                if (antesDeBuscar != null) antesDeBuscar.accept(generador);
+                generador.buscar(anclas, u - d * n, fin - d * n);
+                u = fin;
+            }
+        }
+    }
+
+    /**
+     * Número de unidades por debajo del cual una parte de una búsqueda en paralelo no se divide más:
+     * unas cuatro partes por hilo del pool.
+     */
+    private static int grano(ForkJoinPool pool, int unidades) {
+        return Math.max(1, unidades / (4 * pool.getParallelism()));
+    }
+
+    /**
+     * Parte de una búsqueda de todas las jugadas en paralelo: devuelve las jugadas de sus unidades
+     * en el mismo orden que la búsqueda en un solo hilo.
+     */
+    private static final class TareaJugadas extends RecursiveTask<List<Jugada>> {
+        private static final long serialVersionUID = 1L;
+        private final transient ContextoBusqueda contexto;
+        private final int desde;
+        private final int hasta;
+        private final int grano;
+
+        private TareaJugadas(ContextoBusqueda contexto, int desde, int hasta, int grano) {
+            this.contexto = contexto;
+            this.desde = desde;
+            this.hasta = hasta;
+            this.grano = grano;
+        }
+
+        @Override
+        protected List<Jugada> compute() {
+            if (hasta - desde <= grano) {
+                List<Jugada> jugadas = new ArrayList<>();
+                contexto.buscar(new GeneradorJugadas(contexto.dawg, contexto.n), desde, hasta, jugadas::add, null);
+                return jugadas;
+            }
+            int medio = (desde + hasta) >>> 1;
+            TareaJugadas izquierda = new TareaJugadas(contexto, desde, medio, grano);
+            izquierda.fork();
+            List<Jugada> derecha = new TareaJugadas(contexto, medio, hasta, grano).compute();
+            List<Jugada> jugadas = izquierda.join();
+            jugadas.addAll(derecha);
+            return jugadas;
+        }
+    }
+
+    /**
+     * Parte de una búsqueda de las mejores jugadas en paralelo: devuelve las k mejores de sus
+     * unidades, unidas con las de la otra mitad al volver.
+     */
+    private final class TareaMejores extends RecursiveTask<MejoresJugadas> {
+        private static final long serialVersionUID = 1L;
+        private final transient ContextoBusqueda contexto;
+        private final int desde;
+        private final int hasta;
+        private final int grano;
+        private final int k;
+        private final AtomicInteger umbral;
+
+        private TareaMejores(ContextoBusqueda contexto, int desde, int hasta, int grano, int k, AtomicInteger umbral) {
+            this.contexto = contexto;
+            this.desde = desde;
+            this.hasta = hasta;
+            this.grano = grano;
+            this.k = k;
+            this.umbral = umbral;
+        }
+
+        @Override
+        protected MejoresJugadas compute() {
+            if (hasta - desde <= grano) {
+                return buscarMejores(contexto, new GeneradorJugadas(contexto.dawg, contexto.n), desde, hasta, k, umbral);
+            }
+            int medio = (desde + hasta) >>> 1;
+            TareaMejores izquierda = new TareaMejores(contexto, desde, medio, grano, k, umbral);
+            izquierda.fork();
+            MejoresJugadas derecha = new TareaMejores(contexto, medio, hasta, grano, k, umbral).compute();
+            MejoresJugadas mejores = izquierda.join();
+            mejores.unir(derecha);
+            return mejores;
+        }
+    }
+
+    /**
+     * Busca las k jugadas de más puntos según {@link #calculateMovePoints(Jugada)}, con los comodines
+     * del atril en las casillas que menos puntos pierden, ordenadas de más a menos puntos y, en caso
+     * de empate, por palabra, fila, columna y dirección.
+     *
+     * Con el DAWG, la búsqueda lleva la puntuación de las k mejores jugadas encontradas y descarta
+     * las ramas cuya cota superior (fichas restantes del atril en las casillas de más multiplicador,
+     * fichas del tablero y multiplicadores de palabra que alcanzan) no llega a la k-ésima, de modo
+     * que solo se puntúan las jugadas que pueden entrar. Los comodines solo cuentan en la cota si el
+     * atril tiene fichas del símbolo que representan, de modo que con varios comodines la búsqueda
+     * descarta pronto las ramas que dependen de ellos. El resultado es el mismo que puntuando todas
+     * las jugadas de {@link #buscarJugadas(Map, boolean)}. Con el GADDAG se puntúan todas.
+     *
+     * @pre El tablero y el diccionario deben estar inicializados.
+     * @param rack Mapa de letras disponibles en el atril del jugador.
+     * @param juegoIniciado Indica si el juego ya ha comenzado.
+     * @param k Número máximo de jugadas a devolver.
+     * @return Lista con hasta k jugadas (palabra, posición, dirección), la mejor primero.
+     * @post El tablero no se modifica.
+     * @throws IllegalArgumentException Si k no es positivo o si se genera una palabra de más de {@link Jugada#MAX_CASILLAS} casillas.
+     * @throws NullPointerException Si el rack es null.
+     */
+    public List<Triple<String,Tuple<Integer, Integer>, Direction>> mejoresJugadas(Map<String, Integer> rack, boolean juegoIniciado, int k) {
+        if (k <= 0) {
+            throw new IllegalArgumentException("El número de jugadas debe ser positivo: " + k);
+        }
+        List<Triple<String,Tuple<Integer, Integer>, Direction>> jugadas = new ArrayList<>();
+        for (Jugada jugada : buscarMejores(rack, juegoIniciado, k).jugadas) {
+            jugadas.add(jugada.toTriple());
+        }
+        return jugadas;
+    }
+
+    private MejoresJugadas buscarMejores(Map<String, Integer> rack, boolean juegoIniciado, int k) {
+        int[] valores = getIndiceMovimientos() == IndiceMovimientos.DAWG ? valoresCota() : null;
+        if (valores == null) {
+            MejoresJugadas mejores = new MejoresJugadas(k, false);
+            buscarJugadas(rack, juegoIniciado, mejores);
+            return mejores;
+        }
+        ContextoBusqueda contexto = contexto(rack, anclas(juegoIniciado), valores);
+        ForkJoinPool pool = this.poolJugadas;
+        if (pool == null) {
+            return buscarMejores(contexto, generador(contexto.dawg), 0, contexto.getUnidades(), k, null);
+        }
+        int unidades = contexto.getUnidades();
+        return pool.invoke(new TareaMejores(contexto, 0, unidades, grano(pool, unidades), k, new AtomicInteger()));
+    }
+
+    /**
+     * Mejores jugadas de las unidades [desde, hasta) con la poda por cota superior. Si umbral no es
+     * null, lo comparten las partes de una búsqueda en paralelo: cada una publica la puntuación de
+     * su k-ésima jugada y poda con la mayor publicada, que nunca supera la k-ésima del total.
+     */
+    private MejoresJugadas buscarMejores(ContextoBusqueda contexto, GeneradorJugadas generador, int desde, int hasta,
+                                         int k, AtomicInteger umbral) {
+        int[][] multiplicadores = contexto.multiplicadores;
+        MejoresJugadas mejores = new MejoresJugadas(k, false);
+        contexto.buscar(generador, desde, hasta, m -> {
+            mejores.accept(m);
+            generador.setUmbral(umbral == null ? mejores.umbral() : umbral.accumulateAndGet(mejores.umbral(), Math::max));
+        }, g -> g.activarPoda(contexto.valores, contexto.valoresComodin, multiplicadores[0], multiplicadores[1],
+                umbral == null ? mejores.umbral() : Math.max(mejores.umbral(), umbral.get())));
+        return mejores;
+    }
+
+    /**
+     * Valor de cada símbolo del DAWG para la poda de {@link #mejoresJugadas}: sus puntos.
+     * {@link #calculateMovePoints} divide la palabra en los mismos símbolos que el DAWG, así que
+     * cada casilla puntúa con el valor del símbolo que la búsqueda le asigna.
+     */
+    private int[] valoresCota() {
+        DawgCompacto dawg = dawgCompacto();
+        if (this.valoresCotaDawg == dawg) {
+            return this.valoresCota;
+        }
+        int[] valores = new int[dawg.getNumSimbolos()];
+        for (int id = 0; id < valores.length; id++) {
+            valores[id] = controladorDiccionario.getPuntaje(nombreDiccionario, dawg.getSimbolo(id));
+        }
+        this.valoresCota = valores;
+        this.valoresCotaDawg = dawg;
+        return valores;
+    }
+
+    /**
+     * Valor de cada símbolo del DAWG para la poda cuando lo coloca un comodín, con las fichas del
+     * atril por símbolo en cuentas. Es 0 si el atril no tiene fichas de ese símbolo, porque al
+     * puntuar todas sus casillas llevan comodín; si las tiene, es el de valoresCota, porque la
+     * puntuación puede mover la ficha a esa casilla y el comodín a otra.
+     */
+    private static int[] valoresComodin(int[] valores, int[] cuentas) {
+        int[] valoresComodin = new int[valores.length];
+        for (int s = 0; s < valores.length; s++) {
+            valoresComodin[s] = cuentas[s] > 0 ? valores[s] : 0;
+        }
+        return valoresComodin;
+    }
+
+    /**
+     * Multiplicadores de letra ([0]) y de palabra ([1]) de cada casilla del tablero (fila × n +
+     * columna), como los aplica {@link #calculateMovePoints} a las fichas nuevas.
+     */
+    private int[][] multiplicadores() {
+        if (this.multiplicadoresTablero != tablero) {
+            int n = tablero.getSize();
+            int[][] multiplicadores = new int[2][n * n];
+            for (int i = 0; i < n; i++) {
+                for (int j = 0; j < n; j++) {
+                    Bonus bonus = tablero.getBonus(new Tuple<>(i, j));
+                    multiplicadores[0][i * n + j] = bonus == Bonus.TL ? 3 : bonus == Bonus.DL || bonus == Bonus.X ? 2 : 1;
+                    multiplicadores[1][i * n + j] = bonus == Bonus.TW ? 3 : bonus == Bonus.DW ? 2 : 1;
                 }
             }
+            this.multiplicadores = multiplicadores;
+            this.multiplicadoresTablero = tablero;
         }
-    
-        return words;
+        return this.multiplicadores;
+    }
+
+    /**
+     * DAWG compacto de la instantánea del diccionario de la partida.
+     */
+    private DawgCompacto dawgCompacto() {
+        return diccionario().getDawg().compactar();
+    }
+
+    /**
+     * Verificaciones cruzadas de la partida. Se construyen desde el tablero la primera vez y cuando
+     * cambia el DAWG de la instantánea del diccionario; después las mantiene {@link #makeMove}.
+     */
+    private VerificacionesCruzadas verificaciones() {
+        DawgCompacto dawg = dawgCompacto();
+        if (this.verificaciones == null || this.verificaciones.getDawg() != dawg || this.verificaciones.getSize() != tablero.getSize()) {
+            int n = tablero.getSize();
+            int[] casillas = new int[n * n];
+            for (int i = 0; i < n; i++) {
+                for (int j = 0; j < n; j++) {
+                    String ficha = tablero.getTile(i, j);
+                    casillas[i * n + j] = ficha.equals(" ") ? GeneradorJugadas.VACIA : idFicha(dawg, ficha);
+                }
+            }
+            int[] simbolos = new int[alfabeto.size()];
+            int k = 0;
+            for (String simbolo : alfabeto) {
+                simbolos[k++] = dawg.getIdSimbolo(simbolo);
+            }
+            this.verificaciones = new VerificacionesCruzadas(dawg, n, casillas, simbolos);
+        }
+        return this.verificaciones;
+    }
+
+    /**
+     * Identificador de símbolo de una ficha del tablero, o {@link GeneradorJugadas#BLOQUEADA} si
+     * no pertenece al alfabeto del DAWG.
+     */
+    private static int idFicha(DawgCompacto dawg, String ficha) {
+        int id = dawg.getIdSimbolo(ficha);
+        return id >= 0 ? id : GeneradorJugadas.BLOQUEADA;
     }
     
 
@@ -433,6 +901,9 @@ public class ControladorJuego implements Serializable {
      * Este método analiza cada posición vacía y determina qué letras pueden colocarse
      * para formar palabras válidas en la dirección perpendicular a la jugada principal.
      *
+     * Recorre todo el tablero en cada llamada; la búsqueda de jugadas no lo usa, sino las
+     * verificaciones que {@link VerificacionesCruzadas} mantiene entre jugadas.
+     *
      * @pre El tablero y el diccionario deben estar inicializados.
      * @return Mapa que asocia posiciones (tuplas) con conjuntos de caracteres válidos en esa posición.
      * @post Se devuelve un mapa donde las claves son posiciones en el tablero y los valores
@@ -441,6 +912,13 @@ public class ControladorJuego implements Serializable {
      */
     public Map<Tuple<Integer, Integer>, Set<String>> crossCheck() {
         Map<Tuple<Integer, Integer>, Set<String>> words = new HashMap<>();
+        Diccionario diccionario = diccionario();
+        // Identificadores de símbolo del alfabeto, para consultar el DAWG sin tokenizar cada candidata
+        String[] simbolos = alfabeto.toArray(new String[0]);
+        int[] idsSimbolos = new int[simbolos.length];
+        for (int k = 0; k < simbolos.length; k++) {
+            idsSimbolos[k] = diccionario.getIdSimbolo(simbolos[k]);
+        }
         for (int i = 0; i < tablero.getSize(); i++) {
             for (int j = 0; j < tablero.getSize(); j++) {
                 Tuple<Integer, Integer> pos = new Tuple<>(i,j);
@@ -463,10 +941,18 @@ public class ControladorJuego implements Serializable {
                     if (beforePart.length() == 0 && afterPart.length() == 0) {
                         set.addAll(alfabeto);
                     } else {
-                        for (String c : alfabeto) {
-                            String candidateWord = beforePart + c + afterPart;
-                            if (this.controladorDiccionario.existePalabra(nombreDiccionario, candidateWord)) {
-                                set.add(c);
+                        int[] antes = diccionario.codificar(beforePart);
+                        int[] despues = diccionario.codificar(afterPart);
+                        if (antes != null && despues != null) {
+                            int[] candidata = new int[antes.length + 1 + despues.length];
+                            System.arraycopy(antes, 0, candidata, 0, antes.length);
+                            System.arraycopy(despues, 0, candidata, antes.length + 1, despues.length);
+                            for (int k = 0; k < simbolos.length; k++) {
+                                if (idsSimbolos[k] < 0) continue;
+                                candidata[antes.length] = idsSimbolos[k];
+                                if (diccionario.contienePalabra(candidata, candidata.length)) {
+                                    set.add(simbolos[k]);
+                                }
                             }
                         }
                     }
@@ -498,43 +984,341 @@ public class ControladorJuego implements Serializable {
      * @return Conjunto de tripletas (palabra, posición, dirección) que representan movimientos válidos.
      * @post Se devuelve un conjunto (posiblemente vacío) de todos los movimientos válidos posibles.
      * @throws NullPointerException Si el rack es null o si el tablero o diccionario no están inicializados.
+     * @throws IllegalArgumentException Si se genera una palabra de más de {@link Jugada#MAX_CASILLAS} casillas, lo que solo ocurre en tableros de lado mayor.
      */
     public Set<Triple<String,Tuple<Integer, Integer>, Direction>> searchAllMoves(Map<String, Integer> rack, boolean juegoIniciado) {
+        Set<Triple<String,Tuple<Integer, Integer>, Direction>> answers = new HashSet<>();
+        searchAllMoves(rack, juegoIniciado, answers::add);
+        return answers;
+    }
 
+    /**
+     * Genera todos los movimientos posibles y entrega cada uno al consumidor en cuanto se
+     * encuentra, sin reunirlos en un conjunto. Permite puntuar, filtrar o quedarse con los mejores
+     * sobre la marcha con memoria independiente del número de jugadas.
+     *
+     * Cada colocación de fichas se entrega una sola vez. Con letras multicarácter, dos colocaciones
+     * distintas que escriben la misma cadena en la misma posición (por ejemplo C·H y CH) se
+     * entregan ambas, aunque den la misma tripleta. El orden de entrega no está especificado.
+     *
+     * @pre El tablero y el diccionario deben estar inicializados.
+     * @param rack Mapa de letras disponibles en el atril del jugador.
+     * @param juegoIniciado Indica si el juego ya ha comenzado.
+     * @param consumidor Recibe cada tripleta (palabra, posición, dirección) encontrada.
+     * @post El consumidor ha recibido todas las jugadas válidas; el tablero no se modifica.
+     * @throws NullPointerException Si el rack o el consumidor son null.
+     * @throws IllegalArgumentException Si se genera una palabra de más de {@link Jugada#MAX_CASILLAS} casillas, lo que solo ocurre en tableros de lado mayor.
+     */
+    public void searchAllMoves(Map<String, Integer> rack, boolean juegoIniciado,
+                               Consumer<Triple<String,Tuple<Integer, Integer>, Direction>> consumidor) {
+        if (consumidor == null) {
+            throw new NullPointerException("El consumidor no puede ser null");
+        }
+        if (getIndiceMovimientos() == IndiceMovimientos.GADDAG) {
+            searchAllMovesGaddag(rack, juegoIniciado, consumidor);
+            return;
+        }
+        buscarJugadasDawg(rack, juegoIniciado, j -> consumidor.accept(j.toTriple()));
+    }
 
-        Set<Triple<String,Tuple<Integer, Integer>, Direction>> answers = new HashSet<>();
+    /**
+     * Busca todas las jugadas posibles y las devuelve en su representación compacta, con la que el
+     * conjunto compara y calcula el hash de cada jugada sin recorrer tripletas ni enteros encapsulados.
+     *
+     * @pre El tablero y el diccionario deben estar inicializados.
+     * @param rack Mapa de letras disponibles en el atril del jugador.
+     * @param juegoIniciado Indica si el juego ya ha comenzado.
+     * @return Conjunto de las jugadas válidas.
+     * @post Se devuelve un conjunto (posiblemente vacío) de todas las jugadas válidas; el tablero no se modifica.
+     * @throws NullPointerException Si el rack es null o si el tablero o diccionario no están inicializados.
+     * @throws IllegalArgumentException Si se genera una palabra de más de {@link Jugada#MAX_CASILLAS} casillas, lo que solo ocurre en tableros de lado mayor.
+     */
+    public Set<Jugada> buscarJugadas(Map<String, Integer> rack, boolean juegoIniciado) {
+        Set<Jugada> jugadas = new HashSet<>();
+        buscarJugadas(rack, juegoIniciado, jugadas::add);
+        return jugadas;
+    }
+
+    /**
+     * Como {@link #searchAllMoves(Map, boolean, Consumer)}, pero entrega cada jugada en su
+     * representación compacta, con las casillas en las que coloca fichas del atril. Con el DAWG
+     * las jugadas se crean así directamente; con el GADDAG se convierten desde la tripleta.
+     *
+     * @pre El tablero y el diccionario deben estar inicializados.
+     * @param rack Mapa de letras disponibles en el atril del jugador.
+     * @param juegoIniciado Indica si el juego ya ha comenzado.
+     * @param consumidor Recibe cada jugada encontrada.
+     * @post El consumidor ha recibido todas las jugadas válidas; el tablero no se modifica.
+     * @throws NullPointerException Si el rack o el consumidor son null.
+     * @throws IllegalArgumentException Si se genera una palabra de más de {@link Jugada#MAX_CASILLAS} casillas, lo que solo ocurre en tableros de lado mayor.
+     */
+    public void buscarJugadas(Map<String, Integer> rack, boolean juegoIniciado, Consumer<Jugada> consumidor) {
+        if (consumidor == null) {
+            throw new NullPointerException("El consumidor no puede ser null");
+        }
+        if (getIndiceMovimientos() == IndiceMovimientos.GADDAG) {
+            searchAllMovesGaddag(rack, juegoIniciado, m -> consumidor.accept(jugada(m, rack)));
+            return;
+        }
+        buscarJugadasDawg(rack, juegoIniciado, consumidor);
+    }
+
+    private void buscarJugadasDawg(Map<String, Integer> rack, boolean juegoIniciado, Consumer<Jugada> consumidor) {
+        ContextoBusqueda contexto = contexto(rack, anclas(juegoIniciado));
+        ForkJoinPool pool = this.poolJugadas;
+        if (pool == null) {
+            contexto.buscar(generador(contexto.dawg), 0, contexto.getUnidades(), consumidor, null);
+            return;
+        }
+        int unidades = contexto.getUnidades();
+        pool.invoke(new TareaJugadas(contexto, 0, unidades, grano(pool, unidades))).forEach(consumidor);
+    }
+
+    /**
+     * Convierte una tripleta (palabra, posición, dirección) a su representación compacta. La palabra
+     * se divide en símbolos como en el DAWG ({@link #simbolos}), y las casillas vacías del tablero
+     * actual (o fuera de él) se marcan como casillas en las que se colocan fichas del atril. Sin el
+     * atril no se sabe qué fichas son comodines: la jugada no tiene ninguno.
+     *
+     * @pre El tablero y el alfabeto deben estar inicializados.
+     * @param move Tripleta (palabra, posición de la última ficha, dirección).
+     * @return La jugada equivalente sobre el tablero actual.
+     * @post El tablero no se modifica.
+     * @throws NullPointerException Si move o alguno de sus elementos es null.
+     * @throws IllegalArgumentException Si la palabra ocupa más de {@link Jugada#MAX_CASILLAS} casillas.
+     */
+    public Jugada jugada(Triple<String,Tuple<Integer, Integer>, Direction> move) {
+        String word = move.x;
+        int fila = move.y.x;
+        int columna = move.y.y;
+        Direction dir = move.z;
+        int casillas = simbolos(alfabeto, word.toUpperCase()).length;
+        if (casillas > Jugada.MAX_CASILLAS) {
+            throw new IllegalArgumentException("La palabra ocupa más de " + Jugada.MAX_CASILLAS + " casillas: " + word);
+        }
+        long colocadas = 0;
+        for (int k = 0; k < casillas; k++) {
+            Tuple<Integer, Integer> pos = dir == Direction.HORIZONTAL ? new Tuple<>(fila, columna - k) : new Tuple<>(fila - k, columna);
+            if (!tablero.validPosition(pos) || tablero.isEmpty(pos)) {
+                colocadas |= 1L << k;
+            }
+        }
+        return new Jugada(word, fila, columna, dir, colocadas);
+    }
+
+    /**
+     * Convierte una tripleta a su representación compacta como {@link #jugada(Triple)}, con los
+     * comodines que necesita el atril: los de la asignación de más puntos, la misma que usa la
+     * búsqueda de jugadas.
+     *
+     * @pre El tablero y el alfabeto deben estar inicializados.
+     * @param move Tripleta (palabra, posición de la última ficha, dirección).
+     * @param rack Mapa de letras disponibles en el atril del jugador.
+     * @return La jugada equivalente sobre el tablero actual con el atril dado.
+     * @post El tablero no se modifica.
+     * @throws NullPointerException Si move, alguno de sus elementos o el rack son null.
+     * @throws IllegalArgumentException Si la palabra ocupa más de {@link Jugada#MAX_CASILLAS} casillas.
+     */
+    public Jugada jugada(Triple<String,Tuple<Integer, Integer>, Direction> move, Map<String, Integer> rack) {
+        if (rack == null) {
+            throw new NullPointerException("El rack no puede ser null");
+        }
+        Jugada jugada = jugada(move);
+        long comodines = asignarComodines(alfabeto, multiplicadores()[0], tablero.getSize(), jugada.getPalabra().toUpperCase(),
+                jugada.getFila(), jugada.getColumna(), jugada.getDireccion(), jugada.getColocadas(), rack);
+        return comodines == 0 ? jugada : new Jugada(jugada.getPalabra(), jugada.getFila(), jugada.getColumna(),
+                jugada.getDireccion(), jugada.getColocadas(), comodines);
+    }
+
+    /**
+     * Casillas colocadas en las que una jugada pone comodines con el atril dado. De cada símbolo se
+     * ponen fichas mientras queden y comodines en el resto de sus casillas; los comodines van a las
+     * de menor multiplicador de letra (a igualdad, a la más cercana al final), que es la asignación
+     * de más puntos. Así cada colocación tiene una sola asignación de comodines, sea cual sea el
+     * orden en que la búsqueda gastó las fichas.
+     */
+    private static long asignarComodines(Set<String> alfabeto, int[] multiplicadoresLetra, int n, String word, int fila,
+                                         int columna, Direction dir, long colocadas, Map<String, Integer> rack) {
+        Integer disponibles = rack.get("#");
+        if (disponibles == null || disponibles <= 0 || colocadas == 0) return 0L;
+
+        // Símbolo y multiplicador de letra de cada casilla hasta la última colocada
+        String[] enPalabra = simbolos(alfabeto, word);
+        int total = Long.SIZE - Long.numberOfLeadingZeros(colocadas);
+        String[] simbolos = new String[total];
+        int[] multiplicadores = new int[total];
+        for (int k = 0; k < total && k < enPalabra.length; k++) {
+            simbolos[k] = enPalabra[enPalabra.length - 1 - k];
+            int f = dir == Direction.HORIZONTAL ? fila : fila - k;
+            int c = dir == Direction.HORIZONTAL ? columna - k : columna;
+            multiplicadores[k] = f >= 0 && f < n && c >= 0 && c < n ? multiplicadoresLetra[f * n + c] : 1;
+        }
+
+        long comodines = 0;
+        long pendientes = colocadas;
+        while (pendientes != 0) {
+            String simbolo = simbolos[Long.numberOfTrailingZeros(pendientes)];
+            if (simbolo == null) break;
+            long casillas = 0;
+            for (long p = pendientes; p != 0; p &= p - 1) {
+                int j = Long.numberOfTrailingZeros(p);
+                if (simbolo.equals(simbolos[j])) casillas |= 1L << j;
+            }
+            pendientes &= ~casillas;
+            Integer fichas = rack.get(simbolo);
+            for (int faltan = Long.bitCount(casillas) - (fichas == null ? 0 : Math.max(0, fichas)); faltan > 0; faltan--) {
+                int elegida = -1;
+                for (long p = casillas; p != 0; p &= p - 1) {
+                    int j = Long.numberOfTrailingZeros(p);
+                    if (elegida < 0 || multiplicadores[j] < multiplicadores[elegida]) elegida = j;
+                }
+                casillas &= ~(1L << elegida);
+                comodines |= 1L << elegida;
+            }
+        }
+        return comodines;
+    }
+
+    /**
+     * Divide la palabra en los símbolos de sus casillas de izquierda a derecha con la coincidencia
+     * más larga del alfabeto, como el {@link scrabble.domain.models.Tokenizador} del DAWG. Así se
+     * coloca, se puntúa y se comprueba una jugada con los mismos símbolos con los que la genera la
+     * búsqueda: en ORRR, O·RR·R y no O·R·RR. Un carácter fuera del alfabeto ocupa una casilla.
+     */
+    private static String[] simbolos(Set<String> alfabeto, String word) {
+        int maximo = 1;
+        for (String simbolo : alfabeto) {
+            maximo = Math.max(maximo, simbolo.length());
+        }
+        List<String> simbolos = new ArrayList<>(word.length());
+        for (int i = 0; i < word.length(); ) {
+            int longitud = Math.min(maximo, word.length() - i);
+            while (longitud > 1 && !alfabeto.contains(word.substring(i, i + longitud))) {
+                longitud--;
+            }
+            simbolos.add(word.substring(i, i + longitud));
+            i += longitud;
+        }
+        return simbolos.toArray(new String[0]);
+    }
+
+    /**
+     * Busca todos los movimientos posibles usando el GADDAG del diccionario.
+     * Genera el mismo conjunto de jugadas que la búsqueda con el DAWG, pero cada jugada crece
+     * desde su anclaje: primero hacia la izquierda y, tras el separador, hacia la derecha.
+     *
+     * @pre El tablero y el diccionario deben estar inicializados.
+     * @param rack Mapa de letras disponibles en el atril del jugador.
+     * @param juegoIniciado Indica si el juego ya ha comenzado.
+     * @param consumidor Recibe cada tripleta (palabra, posición, dirección) encontrada.
+     */
+    private void searchAllMovesGaddag(Map<String, Integer> rack, boolean juegoIniciado,
+                                      Consumer<Triple<String,Tuple<Integer, Integer>, Direction>> consumidor) {
+        Gaddag gaddag = diccionario().getGaddag();
+        if (gaddag == null) return;
         Set<Tuple<Integer, Integer>> anchors = find_anchors(juegoIniciado);
-        
+
         for (Direction dir : Direction.values()) {
             this.direction = dir;
-            this.lastCrossCheck = crossCheck();
-    
-            for (Tuple<Integer, Integer> pos : anchors) {
-                if (this.tablero.isFilled(before(pos))) {
-                    String partial_word = "";
-                    Tuple<Integer, Integer> before_pos = pos;
-                    while (tablero.isFilled(before(before_pos))) {
-                        partial_word = tablero.getTile(before(before_pos)) + partial_word;
-                        before_pos = before(before_pos);
-                    }
-                    if (this.controladorDiccionario.nodeExists(nombreDiccionario, partial_word)) {
-                        answers.addAll(this.extendRight(partial_word, rack, pos, false));
-                    }
-                } else {
-                    Tuple<Integer, Integer> before_pos = pos;
-                    int limit = 0;
-                    while (tablero.isEmpty(before(before_pos)) && !anchors.contains(before(before_pos))) {
-                        limit += 1;
-                        before_pos = before(before_pos);
-                    }
-                    answers.addAll(extendLeft("", rack, pos, limit));
+
+            for (Tuple<Integer, Integer> anchor : anchors) {
+                extendGaddagLeft(gaddag, DawgCompacto.RAIZ, "", rack, anchor, anchor, anchors, consumidor);
+            }
+        }
+    }
+
+    /**
+     * Extiende hacia la izquierda desde el anclaje siguiendo el GADDAG. Las fichas del tablero se
+     * consumen; en casillas vacías se colocan fichas del atril, salvo en otros anclajes (las jugadas
+     * que pasan por ellos se generan desde el anclaje más a la izquierda). Cuando la casilla a la
+     * izquierda de la palabra está libre se puede tomar el separador y seguir hacia la derecha.
+     */
+    private void extendGaddagLeft(Gaddag gaddag, int nodo, String partialWord, Map<String, Integer> rack,
+                                  Tuple<Integer, Integer> pos, Tuple<Integer, Integer> anchor,
+                                  Set<Tuple<Integer, Integer>> anchors,
+                                  Consumer<Triple<String,Tuple<Integer, Integer>, Direction>> words) {
+        if (this.tablero.isFilled(pos)) {
+            String c = this.tablero.getTile(pos);
+            int siguiente = gaddag.transicion(nodo, gaddag.getIdSimbolo(c));
+            if (siguiente != DawgCompacto.SIN_NODO) {
+                extendGaddagLeft(gaddag, siguiente, c + partialWord, rack, before(pos), anchor, anchors, words);
+            }
+            return;
+        }
+
+        if (this.tablero.isEmpty(pos) && (pos.equals(anchor) || !anchors.contains(pos))) {
+            DawgCompacto arcos = gaddag.getCompacto();
+            for (int a = arcos.getInicioArcos(nodo); a < arcos.getFinArcos(nodo); a++) {
+                if (arcos.getSimboloArco(a) == gaddag.getIdSeparador()) continue;
+                String c = arcos.getSimbolo(arcos.getSimboloArco(a));
+                if ((rack.containsKey(c) || rack.containsKey("#")) && admiteCruce(pos, c)) {
+                    extendGaddagLeft(gaddag, arcos.getDestinoArco(a), c + partialWord, usarFicha(rack, c),
+                            before(pos), anchor, anchors, words);
                 }
             }
         }
-    
-        return answers;
+
+        // La casilla a la izquierda de la palabra está libre: cambiar de sentido
+        if (!pos.equals(anchor)) {
+            int separador = gaddag.transicion(nodo, gaddag.getIdSeparador());
+            if (separador != DawgCompacto.SIN_NODO) {
+                extendGaddagRight(gaddag, separador, partialWord, rack, after(anchor), words);
+            }
+        }
+    }
+
+    /**
+     * Extiende hacia la derecha del anclaje siguiendo el GADDAG tras el separador, con las mismas
+     * reglas que {@link #extendRight(String, Map, Tuple, boolean)}.
+     */
+    private void extendGaddagRight(Gaddag gaddag, int nodo, String partialWord, Map<String, Integer> rack,
+                                   Tuple<Integer, Integer> nextPos,
+                                   Consumer<Triple<String,Tuple<Integer, Integer>, Direction>> words) {
+        if (!this.tablero.isFilled(nextPos) && gaddag.esFinal(nodo)) {
+            words.accept(new Triple<>(partialWord, before(nextPos), this.direction));
+        }
+        if (!this.tablero.validPosition(nextPos)) return;
+
+        if (this.tablero.isEmpty(nextPos)) {
+            DawgCompacto arcos = gaddag.getCompacto();
+            for (int a = arcos.getInicioArcos(nodo); a < arcos.getFinArcos(nodo); a++) {
+                String c = arcos.getSimbolo(arcos.getSimboloArco(a));
+                if ((rack.containsKey(c) || rack.containsKey("#")) && admiteCruce(nextPos, c)) {
+                    extendGaddagRight(gaddag, arcos.getDestinoArco(a), partialWord + c, usarFicha(rack, c),
+                            after(nextPos), words);
+                }
+            }
+        } else {
+            String c = this.tablero.getTile(nextPos);
+            int siguiente = gaddag.transicion(nodo, gaddag.getIdSimbolo(c));
+            if (siguiente != DawgCompacto.SIN_NODO) {
+                extendGaddagRight(gaddag, siguiente, partialWord + c, rack, after(nextPos), words);
+            }
+        }
+    }
+
+    /**
+     * Indica si la letra c se puede colocar en pos según las verificaciones cruzadas de la
+     * dirección actual.
+     */
+    private boolean admiteCruce(Tuple<Integer, Integer> pos, String c) {
+        VerificacionesCruzadas cruces = verificaciones();
+        return cruces.admite(this.direction, pos.x, pos.y, cruces.getDawg().getIdSimbolo(c));
+    }
+
+    /**
+     * Devuelve una copia del atril tras gastar la ficha c, o un comodín si no se tiene c.
+     */
+    private Map<String, Integer> usarFicha(Map<String, Integer> rack, String c) {
+        Map<String, Integer> newRack = new HashMap<>(rack);
+        String usada = rack.containsKey(c) ? c : "#";
+        if (newRack.get(usada) == 1) {
+            newRack.remove(usada);
+        } else {
+            newRack.put(usada, newRack.get(usada) - 1);
+        }
+        return newRack;
     }
-    
 
     /**
      * Realiza un movimiento en el tablero colocando las letras correspondientes.
@@ -558,57 +1342,56 @@ public class ControladorJuego implements Serializable {
      * @throws IllegalArgumentException Si el movimiento intenta colocar letras fuera del tablero.
      */
 public Map<String, Integer> makeMove(Triple<String, Tuple<Integer, Integer>, Direction> move, Map<String, Integer> rack) {
-    String word = move.x.toUpperCase();
-    Tuple<Integer, Integer> pos = move.y;
-    Direction dir = move.z;
-
-    Map<String, Integer> newRack = new HashMap<>(rack);
-
-    int i = word.length() - 1;
-    while (i >= 0) {
-        String letter;
+    return makeMove(jugada(move, rack), rack);
+}
 
-        // Intentar extraer un dígrafo de dos letras
-        if (i > 0) {
-            String potentialDiletter = word.substring(i - 1, i + 1);
-            if (alfabeto.contains(potentialDiletter)) {
-                letter = potentialDiletter;
-                i -= 2;
+    /**
+     * Realiza una jugada en su representación compacta: coloca en el tablero las fichas de las
+     * casillas marcadas en la jugada, sin volver a consultar qué casillas están vacías.
+     *
+     * @pre La jugada debe ser válida y sus casillas colocadas deben ser las vacías del tablero actual.
+     * @param jugada Jugada a realizar.
+     * @param rack Mapa de letras disponibles en el atril del jugador.
+     * @return Mapa actualizado con las letras disponibles después de realizar la jugada.
+     * @post Las fichas colocadas por la jugada están en el tablero y se devuelve el rack actualizado.
+     * @throws NullPointerException Si alguno de los parámetros es null.
+     * @throws IllegalStateException Si el atril no tiene una ficha (ni un comodín) para alguna casilla colocada.
+     */
+    public Map<String, Integer> makeMove(Jugada jugada, Map<String, Integer> rack) {
+        String word = jugada.getPalabra().toUpperCase();
+        int fila = jugada.getFila();
+        int columna = jugada.getColumna();
+        boolean horizontal = jugada.getDireccion() == Direction.HORIZONTAL;
+
+        Map<String, Integer> newRack = new HashMap<>(rack);
+        String[] simbolos = simbolos(alfabeto, word);
+        for (int k = 0; k < simbolos.length; k++) {
+            if (!jugada.colocaEn(k)) continue;
+            String letter = simbolos[simbolos.length - 1 - k];
+
+            String fichaUsada = jugada.comodinEn(k) || !newRack.containsKey(letter) ? "#" : letter;
+            Integer cantidad = newRack.get(fichaUsada);
+            if (cantidad == null) {
+                throw new IllegalStateException("No tienes la letra '" + letter + "' en el atril.");
+            }
+            if (cantidad == 1) {
+                newRack.remove(fichaUsada);
             } else {
-                letter = String.valueOf(word.charAt(i));
-                i -= 1;
+                newRack.put(fichaUsada, cantidad - 1);
             }
-        } else {
-            letter = String.valueOf(word.charAt(i));
-            i -= 1;
-        }
-
-
-        if (this.tablero.isEmpty(pos)) {
-            if (newRack.containsKey(letter) || newRack.containsKey("#")) {
-                String fichaUsada = newRack.containsKey(letter) ? letter : "#";
 
-                if (newRack.get(fichaUsada) == 1) {
-                    newRack.remove(fichaUsada);
-                } else {
-                    newRack.put(fichaUsada, newRack.get(fichaUsada) - 1);
-                }
-            } else {
-                throw new IllegalStateException("No tienes la letra '" + letter + "' en el atril.");
+            Tuple<Integer, Integer> pos = horizontal ? new Tuple<>(fila, columna - k) : new Tuple<>(fila - k, columna);
+            this.tablero.setTile(pos, letter);
+            if (fichaUsada.equals("#")) {
+                this.tablero.setComodin(pos);
+            }
+            if (this.verificaciones != null) {
+                this.verificaciones.colocar(pos.x, pos.y, idFicha(this.verificaciones.getDawg(), letter));
             }
         }
-
-        this.tablero.setTile(pos, letter);
-
-        // Avanzar posición
-        pos = (dir == Direction.HORIZONTAL)
-            ? new Tuple<>(pos.x, pos.y - 1)
-            : new Tuple<>(pos.x - 1, pos.y);
+        return newRack;
     }
 
-    return newRack;
-}
-
 
 
     /**
@@ -631,76 +1414,52 @@ public Map<String, Integer> makeMove(Triple<String, Tuple<Integer, Integer>, Dir
      */
     /**
  * Calcula los puntos obtenidos por una jugada según las bonificaciones del tablero.
- * Compatible con letras multicaracter (e.g., "CH", "LL", "RR").
+ * Compatible con letras multicaracter (e.g., "CH", "LL", "RR"). La tripleta no indica qué fichas
+ * son comodines, así que las fichas colocadas suman su valor; para descontarlos, se puntúa la
+ * jugada de {@link #jugada(Triple, Map)} con el atril.
  *
  * @param move Triple con palabra, posición inicial y dirección.
  * @return Total de puntos obtenidos por la jugada.
  */
 public int calculateMovePoints(Triple<String, Tuple<Integer, Integer>, Direction> move) {
-    int points = 0;
-    int doubleTimes = 0;
-    int tripleTimes = 0;
-
-    String word = move.x.toUpperCase();
-    Tuple<Integer, Integer> pos = move.y;
-    Direction dir = move.z;
-
-    int i = word.length() - 1;
-    while (i >= 0) {
-
-
-        String symbol;
-
-        if (i > 0) {
-            String potentialDiletter = word.substring(i - 1, i + 1);
-            if (alfabeto.contains(potentialDiletter)) {
-                symbol = potentialDiletter;
-                i -= 2;
-            } else {
-                symbol = String.valueOf(word.charAt(i));
-                i -= 1;
-            }
-        } else {
-            symbol = String.valueOf(word.charAt(i));
-            i -= 1;
-        }
-
-        int letterPoint = controladorDiccionario.getPuntaje(nombreDiccionario, symbol);
+    return calculateMovePoints(jugada(move));
+}
 
-        if (this.tablero.isFilled(new Tuple<>(pos.x, pos.y))) {
-            points += letterPoint;
-        } else {
-            switch (this.tablero.getBonus(pos)) {
-                case TW:
-                    points += letterPoint;
-                    tripleTimes++;
-                    break;
-                case TL:
-                    points += letterPoint * 3;
-                    break;
-                case DW:
-                    points += letterPoint;
-                    doubleTimes++;
-                    break;
-                case DL:
-                    points += letterPoint * 2;
-                    break;
-                case X:
-                    points += letterPoint * 2;
-                    break;
-                default:
-                    points += letterPoint;
-                    break;
+    /**
+     * Calcula los puntos de una jugada en su representación compacta. Las fichas de las casillas
+     * colocadas por la jugada reciben los multiplicadores de su casilla; las demás cuentan su valor.
+     * Los comodines, colocados por la jugada o ya en el tablero, no suman puntos, aunque su casilla
+     * sí multiplica la palabra.
+     *
+     * @pre La jugada debe ser válida y el tablero y diccionario deben estar inicializados.
+     * @param jugada Jugada a evaluar.
+     * @return Puntos obtenidos por la jugada.
+     * @post Se devuelve un entero no negativo; el tablero no se modifica.
+     * @throws NullPointerException Si la jugada es null.
+     */
+    public int calculateMovePoints(Jugada jugada) {
+        int n = tablero.getSize();
+        int[][] multiplicadores = multiplicadores();
+        String word = jugada.getPalabra().toUpperCase();
+        int paso = jugada.getDireccion() == Direction.HORIZONTAL ? 1 : n;
+        int idx = jugada.getFila() * n + jugada.getColumna();
+
+        int points = 0;
+        int factor = 1;
+        String[] simbolos = simbolos(alfabeto, word);
+        for (int k = 0; k < simbolos.length; k++, idx -= paso) {
+            String symbol = simbolos[simbolos.length - 1 - k];
+            if (jugada.colocaEn(k)) {
+                int letterPoint = jugada.comodinEn(k) ? 0 : controladorDiccionario.getPuntaje(nombreDiccionario, symbol);
+                points += letterPoint * multiplicadores[0][idx];
+                factor *= multiplicadores[1][idx];
+            } else if (!tablero.isComodin(idx / n, idx % n)) {
+                points += controladorDiccionario.getPuntaje(nombreDiccionario, symbol);
             }
         }
-
-        // Avanzar posición en sentido inverso
-        pos = (dir == Direction.HORIZONTAL) ? new Tuple<>(pos.x, pos.y - 1) : new Tuple<>(pos.x - 1, pos.y);
+        return points * factor;
     }
 
-    return points * (int) Math.pow(2, doubleTimes) * (int) Math.pow(3, tripleTimes);
-}
-
 
     /**
      * Verifica si un movimiento es válido según las reglas del juego.
@@ -716,8 +1475,39 @@ public int calculateMovePoints(Triple<String, Tuple<Integer, Integer>, Direction
      * @throws NullPointerException Si alguno de los parámetros es null.
      */
     public boolean isValidMove (Triple<String,Tuple<Integer, Integer>, Direction> move, Map<String, Integer> rack) {
-        Set<Triple<String,Tuple<Integer, Integer>, Direction>> possibleWords = searchAllMoves(rack, true);
-        return possibleWords.contains(move);
+        return isValidMove(jugada(move, rack), rack);
+    }
+
+    /**
+     * Verifica si una jugada en su representación compacta es válida: si su palabra, en la misma
+     * posición y dirección, está entre las jugadas que genera {@link #buscarJugadas(Map, boolean, Consumer)}.
+     * No se comparan los comodines: basta con que el atril pueda formar la palabra en esa casilla.
+     *
+     * @pre El tablero y el diccionario deben estar inicializados.
+     * @param jugada Jugada a evaluar.
+     * @param rack Mapa de letras disponibles en el atril del jugador.
+     * @return true si la jugada es válida, false en caso contrario.
+     * @post El tablero no se modifica.
+     * @throws NullPointerException Si alguno de los parámetros es null.
+     * @throws IllegalArgumentException Si se genera una palabra de más de {@link Jugada#MAX_CASILLAS} casillas, lo que solo ocurre en tableros de lado mayor.
+     */
+    public boolean isValidMove(Jugada jugada, Map<String, Integer> rack) {
+        if (jugada == null) {
+            throw new NullPointerException("La jugada no puede ser null");
+        }
+        boolean[] encontrada = new boolean[1];
+        buscarJugadas(rack, true, m -> encontrada[0] |= mismaColocacion(m, jugada));
+        return encontrada[0];
+    }
+
+    /**
+     * Indica si dos jugadas forman la misma palabra en la misma posición y dirección, sin tener en
+     * cuenta en qué casillas van los comodines: una misma palabra se puede formar con distintas
+     * asignaciones de comodines y la búsqueda solo genera la canónica.
+     */
+    private static boolean mismaColocacion(Jugada a, Jugada b) {
+        return a.getFila() == b.getFila() && a.getColumna() == b.getColumna()
+                && a.getDireccion() == b.getDireccion() && a.getPalabra().equals(b.getPalabra());
     }
 
     /**
@@ -751,25 +1541,12 @@ public boolean isValidFirstMove(Triple<String, Tuple<Integer, Integer>, Directio
     Tuple<Integer, Integer> pos = move.y;
     Direction dir = move.z;
 
+    // Las casillas son los símbolos de la palabra, divididos como en el DAWG
+    String[] simbolos = simbolos(alfabeto, word);
+
     // Verificar si la palabra cabe dentro del tablero
     Tuple<Integer, Integer> currentPos = new Tuple<>(pos.x, pos.y);
-    int i = word.length() - 1;
-    while (i >= 0) {
-        String symbol;
-        if (i > 0) {
-            String diletter = word.substring(i - 1, i + 1);
-            if (alfabeto.contains(diletter)) {
-                symbol = diletter;
-                i -= 2;
-            } else {
-                symbol = String.valueOf(word.charAt(i));
-                i -= 1;
-            }
-        } else {
-            symbol = String.valueOf(word.charAt(i));
-            i -= 1;
-        }
-
+    for (int k = 0; k < simbolos.length; k++) {
         if (!tablero.validPosition(currentPos)) {
             return false;
         }
@@ -781,25 +1558,9 @@ public boolean isValidFirstMove(Triple<String, Tuple<Integer, Integer>, Directio
 
     // Verificar si cubre la casilla central
     currentPos = new Tuple<>(pos.x, pos.y);
-    i = word.length() - 1;
     boolean centerTileCovered = false;
 
-    while (i >= 0) {
-        String symbol;
-        if (i > 0) {
-            String diletter = word.substring(i - 1, i + 1);
-            if (alfabeto.contains(diletter)) {
-                symbol = diletter;
-                i -= 2;
-            } else {
-                symbol = String.valueOf(word.charAt(i));
-                i -= 1;
-            }
-        } else {
-            symbol = String.valueOf(word.charAt(i));
-            i -= 1;
-        }
-
+    for (int k = 0; k < simbolos.length; k++) {
         if (currentPos.equals(tablero.getCenter())) {
             centerTileCovered = true;
         }
@@ -813,24 +1574,7 @@ public boolean isValidFirstMove(Triple<String, Tuple<Integer, Integer>, Directio
 
     // Verificar si la palabra se puede formar con el atril
     Map<String, Integer> tempRack = new HashMap<>(rack);
-    i = 0;
-    while (i < word.length()) {
-        String symbol;
-
-        if (i + 1 < word.length()) {
-            String diletter = word.substring(i, i + 2);
-            if (alfabeto.contains(diletter)) {
-                symbol = diletter;
-                i += 2;
-            } else {
-                symbol = String.valueOf(word.charAt(i));
-                i += 1;
-            }
-        } else {
-            symbol = String.valueOf(word.charAt(i));
-            i += 1;
-        }
-
+    for (String symbol : simbolos) {
         if (tempRack.containsKey(symbol)) {
             int count = tempRack.get(symbol);
             if (count == 1) {
@@ -850,8 +1594,9 @@ public boolean isValidFirstMove(Triple<String, Tuple<Integer, Integer>, Directio
         }
     }
 
-    // Verificar si la palabra existe en el diccionario
-    return this.controladorDiccionario.existePalabra(nombreDiccionario, word);
+    // Verificar si la palabra existe en la instantánea del diccionario de la partida
+    int[] ruta = diccionario().codificar(word.trim().toUpperCase());
+    return ruta != null && diccionario().contienePalabra(ruta, ruta.length);
 }
 
     
@@ -872,36 +1617,98 @@ public boolean isValidFirstMove(Triple<String, Tuple<Integer, Integer>, Directio
 
      private Tuple<Map<String, Integer>, Integer> realizarAccion(Triple<String,Tuple<Integer, Integer>, Direction> move, String nombreJugador, Map<String, Integer> rack, boolean isIA, Dificultad dificultad, boolean isFirst) {
         if (!isIA) { 
-            this.juegoIniciado = true;
-            int points = calculateMovePoints(move);
-            Map <String, Integer> newRack = this.makeMove(move, rack);
-            return new Tuple<Map<String,Integer>,Integer>(newRack, points);
+            return aplicarJugada(jugada(move, rack), rack);
         } else {
-            Set<Triple<String,Tuple<Integer, Integer>, Direction>> moves = this.searchAllMoves(rack, this.juegoIniciado);
-            if (moves == null || moves.isEmpty()) {
+            MejoresJugadas mejores;
+            if (dificultad == Dificultad.FACIL) {
+                mejores = new MejoresJugadas(1, true);
+                this.buscarJugadas(rack, this.juegoIniciado, mejores);
+            } else {
+                mejores = this.buscarMejores(rack, this.juegoIniciado, 1);
+            }
+            if (mejores.jugadas.isEmpty()) {
                 return null;
             } else {
-                Triple<String,Tuple<Integer, Integer>, Direction> bestMove = null;
-                int bestMovePoints = 0;
-                for (Triple<String,Tuple<Integer, Integer>, Direction> m : moves) {
-                    int currentMovePoints = this.calculateMovePoints(m);
-                    if (bestMove == null || currentMovePoints > bestMovePoints) {
-                        bestMove = m;
-                        bestMovePoints = currentMovePoints;
-                    }
-                    if (dificultad == Dificultad.FACIL) {
-                        if (currentMovePoints > 0) {
-                            break; // Si la dificultad es fácil, no es necesario buscar más
-                        }
-                    }
-                }
+                Jugada bestMove = mejores.jugadas.get(0);
+                int bestMovePoints = mejores.puntos.get(0);
                 this.juegoIniciado = true;
-                move.setFromTriple(bestMove);
+                move.setFromTriple(bestMove.toTriple());
                 return new Tuple<Map<String,Integer>,Integer>(this.makeMove(bestMove, rack), bestMovePoints);
             }
         
         }
     }
+
+    /**
+     * Se queda, de las jugadas que recibe, con las k de más puntos, puntuándolas a medida que se
+     * generan. Los empates se deshacen por palabra, fila, columna y dirección, de modo que el
+     * resultado no depende del orden de generación, y una jugada recibida dos veces solo cuenta una.
+     * En dificultad fácil (primera) se queda con la primera jugada que puntúa, como antes al
+     * recorrer el conjunto de jugadas.
+     */
+    private final class MejoresJugadas implements Consumer<Jugada> {
+        private final int k;
+        private final boolean primera;
+        private final List<Jugada> jugadas = new ArrayList<>();
+        private final List<Integer> puntos = new ArrayList<>();
+
+        private MejoresJugadas(int k, boolean primera) {
+            this.k = k;
+            this.primera = primera;
+        }
+
+        @Override
+        public void accept(Jugada m) {
+            if (primera) {
+                if (!jugadas.isEmpty() && puntos.get(0) > 0) return;
+                int p = calculateMovePoints(m);
+                if (jugadas.isEmpty() || p > puntos.get(0)) {
+                    jugadas.clear();
+                    puntos.clear();
+                    jugadas.add(m);
+                    puntos.add(p);
+                }
+                return;
+            }
+            insertar(m, calculateMovePoints(m));
+        }
+
+        /** Añade las jugadas de otra búsqueda, ya puntuadas. */
+        private void unir(MejoresJugadas otras) {
+            for (int i = 0; i < otras.jugadas.size(); i++) {
+                insertar(otras.jugadas.get(i), otras.puntos.get(i));
+            }
+        }
+
+        private void insertar(Jugada m, int p) {
+            int i = jugadas.size();
+            while (i > 0 && (p > puntos.get(i - 1) || (p == puntos.get(i - 1) && precede(m, jugadas.get(i - 1))))) {
+                i--;
+            }
+            if (i == k || (i > 0 && puntos.get(i - 1) == p && jugadas.get(i - 1).equals(m))) return;
+            jugadas.add(i, m);
+            puntos.add(i, p);
+            if (jugadas.size() > k) {
+                jugadas.remove(k);
+                puntos.remove(k);
+            }
+        }
+
+        /** @return Puntos que debe alcanzar una jugada para entrar entre las k mejores. */
+        private int umbral() {
+            return jugadas.size() < k ? 0 : puntos.get(k - 1);
+        }
+
+        private boolean precede(Jugada a, Jugada b) {
+            int c = a.getPalabra().compareTo(b.getPalabra());
+            if (c == 0) c = Integer.compare(a.getFila(), b.getFila());
+            if (c == 0) c = Integer.compare(a.getColumna(), b.getColumna());
+            if (c == 0) c = a.getDireccion().name().compareTo(b.getDireccion().name());
+            if (c == 0) c = Long.compare(a.getColocadas(), b.getColocadas());
+            return c < 0;
+        }
+    }
+
     /**
      * Realiza un turno en el juego procesando la acción del jugador o de la IA.
      * Método público que delega en realizarAccion para ejecutar la lógica del turno.
@@ -930,7 +1737,69 @@ public boolean isValidFirstMove(Triple<String, Tuple<Integer, Integer>, Directio
      * @throws NullPointerException Si alguno de los parámetros esenciales es null.
      */
     public Tuple<Map<String, Integer>, Integer> realizarTurno(Triple<String,Tuple<Integer, Integer>, Direction> move, String nombreJugador, Map<String, Integer> rack,  boolean isIA, Dificultad dificultad) {
-        return realizarAccion(move, nombreJugador, rack, isIA, dificultad, juegoIniciado);
+        Tuple<Map<String, Integer>, Integer> resultado = realizarAccion(move, nombreJugador, rack, isIA, dificultad, juegoIniciado);
+        actualizarDiccionario(); // Entre turnos se recogen los cambios publicados en el diccionario
+        return resultado;
+    }
+
+    /**
+     * Realiza el turno de un jugador con una jugada ya construida, sin convertirla desde una
+     * tripleta: se colocan sus fichas, con sus comodines, y se suman sus puntos.
+     *
+     * @pre El juego debe estar inicializado con tablero y diccionario válidos y la jugada debe ser
+     *      válida para el atril.
+     * @param jugada La jugada a realizar.
+     * @param rack Mapa de letras disponibles en el atril del jugador.
+     * @return Una tupla con el nuevo rack del jugador y los puntos obtenidos.
+     * @post Se coloca la jugada en el tablero, la partida queda iniciada y se recogen los cambios
+     *       publicados en el diccionario.
+     * @throws NullPointerException Si la jugada o el rack son null.
+     */
+    public Tuple<Map<String, Integer>, Integer> realizarTurno(Jugada jugada, Map<String, Integer> rack) {
+        if (jugada == null || rack == null) {
+            throw new NullPointerException("La jugada y el rack no pueden ser null");
+        }
+        Tuple<Map<String, Integer>, Integer> resultado = aplicarJugada(jugada, rack);
+        actualizarDiccionario(); // Entre turnos se recogen los cambios publicados en el diccionario
+        return resultado;
+    }
+
+    /** Coloca la jugada y devuelve el nuevo atril y sus puntos, calculados antes de colocarla. */
+    private Tuple<Map<String, Integer>, Integer> aplicarJugada(Jugada jugada, Map<String, Integer> rack) {
+        this.juegoIniciado = true;
+        int points = calculateMovePoints(jugada);
+        Map <String, Integer> newRack = this.makeMove(jugada, rack);
+        return new Tuple<Map<String,Integer>,Integer>(newRack, points);
+    }
+
+    /**
+     * Toma la instantánea publicada del diccionario de la partida. Las búsquedas y validaciones
+     * de un turno usan siempre la misma instantánea aunque el diccionario se edite a la vez, sin
+     * bloquearse; los cambios se recogen al terminar el turno.
+     *
+     * @post La partida usa la última instantánea publicada del diccionario, o ninguna si no existe.
+     */
+    public void actualizarDiccionario() {
+        try {
+            this.diccionario = controladorDiccionario.getDiccionario(nombreDiccionario);
+        } catch (ExceptionDiccionarioNotExist e) {
+            this.diccionario = null;
+        }
+    }
+
+    /**
+     * Instantánea del diccionario de la partida, tomándola si aún no se ha tomado.
+     *
+     * @throws IllegalStateException si el diccionario de la partida no existe.
+     */
+    private Diccionario diccionario() {
+        if (diccionario == null) {
+            actualizarDiccionario();
+            if (diccionario == null) {
+                throw new IllegalStateException("No existe el diccionario de la partida: " + nombreDiccionario);
+            }
+        }
+        return diccionario;
     }
 
     /**
@@ -1060,8 +1929,9 @@ public boolean isValidFirstMove(Triple<String, Tuple<Integer, Integer>, Directio
                 this.direction = loadedGame.direction;
                 this.juegoTerminado = loadedGame.juegoTerminado;
                 this.juegoIniciado = loadedGame.juegoIniciado;
-                this.lastCrossCheck = loadedGame.lastCrossCheck;
+                this.verificaciones = null;
                 this.nombreDiccionario = loadedGame.nombreDiccionario;
+                this.diccionario = null;
                 this.alfabeto = loadedGame.alfabeto;
                 this.jugadores = loadedGame.jugadores;
                 this.idPartida = loadedGame.idPartida;
@@ -0,0 +1,196 @@
+package scrabble.domain.models;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * Buscador de anagramas y subanagramas de un atril sobre un {@link DawgCompacto}.
+ *
+ * El atril se representa como el número de fichas de cada símbolo (indexado por identificador de
+ * símbolo del DAWG) más el número de comodines. El DAWG se recorre en profundidad gastando una
+ * ficha por arco: solo se siguen los arcos cuyo símbolo queda en el atril o, si no queda, los que
+ * puede cubrir un comodín, y se vuelve atrás restaurando las cuentas. Así cada rama se poda en
+ * cuanto el atril no puede continuarla y nunca se visitan palabras más largas que el atril.
+ *
+ * Cada camino del DAWG se recorre una sola vez: si el atril tiene la ficha se usa la ficha y el
+ * comodín solo cubre los símbolos que faltan. Como todas las apariciones de un símbolo valen lo
+ * mismo, esta asignación da también la puntuación máxima de la palabra con ese atril, y no se
+ * emiten palabras repetidas por cubrir con comodín letras que ya se tienen.
+ *
+ * Sin comodines y con alfabetos de hasta 64 símbolos, los arcos candidatos se obtienen con la
+ * intersección de la máscara de símbolos salientes del nodo y la de símbolos que quedan en el atril.
+ *
+ * @version 1.0
+ * @since 2.0
+ */
+public final class BuscadorAnagramas {
+
+    /** Número máximo de fichas de un atril (la máscara de comodines de cada anagrama es un {@code long}). */
+    public static final int MAX_FICHAS = Long.SIZE;
+
+    private final DawgCompacto dawg;
+    private final int[] puntos;
+
+    /**
+     * Crea un buscador sobre un DAWG.
+     *
+     * @pre dawg y puntos no deben ser null.
+     * @param dawg DAWG en el que buscar.
+     * @param puntos Puntuación de cada símbolo, indexada por identificador de símbolo del DAWG;
+     *               los símbolos sin entrada valen 0.
+     */
+    public BuscadorAnagramas(DawgCompacto dawg, int[] puntos) {
+        this.dawg = dawg;
+        this.puntos = Arrays.copyOf(puntos, dawg.getNumSimbolos());
+    }
+
+    /**
+     * Busca las palabras que se pueden formar con las fichas de un atril.
+     *
+     * @pre cuentas y accion no deben ser null.
+     * @param cuentas Número de fichas de cada símbolo, indexado por identificador de símbolo.
+     * @param comodines Número de comodines del atril.
+     * @param longitudMinima Número mínimo de símbolos de las palabras emitidas.
+     * @param soloCompletos true para emitir solo las palabras que usan todas las fichas.
+     * @param accion Receptor de cada anagrama, en orden de símbolo.
+     * @throws IllegalArgumentException si alguna cuenta es negativa o el atril tiene más de {@link #MAX_FICHAS} fichas.
+     * @post El array cuentas no se modifica.
+     */
+    public void buscar(int[] cuentas, int comodines, int longitudMinima, boolean soloCompletos, Consumer<Anagrama> accion) {
+        if (comodines < 0) {
+            throw new IllegalArgumentException("El número de comodines no puede ser negativo.");
+        }
+        int total = comodines;
+        for (int cuenta : cuentas) {
+            if (cuenta < 0) {
+                throw new IllegalArgumentException("El número de fichas no puede ser negativo.");
+            }
+            total += cuenta;
+        }
+        if (total > MAX_FICHAS) {
+            throw new IllegalArgumentException("El atril tiene más de " + MAX_FICHAS + " fichas.");
+        }
+        new Recorrido(cuentas, comodines, total, Math.max(1, longitudMinima), soloCompletos, accion).recorrer(DawgCompacto.RAIZ, 0, 0, 0L);
+    }
+
+    /**
+     * Estado del recorrido con vuelta atrás: cuentas del atril que se decrementan y restauran en
+     * cada nivel, y un único StringBuilder para el camino actual.
+     */
+    private final class Recorrido {
+        private final int[] cuentas;
+        private final int total;
+        private final int longitudMinima;
+        private final boolean soloCompletos;
+        private final Consumer<Anagrama> accion;
+        private final boolean mascaras;
+        private final StringBuilder camino = new StringBuilder();
+        private int comodines;
+        // Símbolos con alguna ficha en el atril
+        private long disponibles;
+
+        Recorrido(int[] cuentas, int comodines, int total, int longitudMinima, boolean soloCompletos, Consumer<Anagrama> accion) {
+            this.cuentas = Arrays.copyOf(cuentas, dawg.getNumSimbolos());
+            this.comodines = comodines;
+            this.total = total;
+            this.longitudMinima = longitudMinima;
+            this.soloCompletos = soloCompletos;
+            this.accion = accion;
+            this.mascaras = dawg.admiteMascaras();
+            if (mascaras) {
+                for (int s = 0; s < this.cuentas.length; s++) {
+                    if (this.cuentas[s] > 0) disponibles |= 1L << s;
+                }
+            }
+        }
+
+        void recorrer(int nodo, int longitud, int puntuacion, long mascaraComodines) {
+            if (longitud >= longitudMinima && dawg.esFinal(nodo) && (!soloCompletos || longitud == total)) {
+                accion.accept(new Anagrama(camino.toString(), longitud, puntuacion, mascaraComodines));
+            }
+            if (longitud == total) return;
+
+            int longitudCamino = camino.length();
+            int inicio = dawg.getInicioArcos(nodo);
+            if (mascaras && comodines == 0) {
+                long salientes = dawg.getMascaraSalientes(nodo);
+                for (long candidatos = salientes & disponibles; candidatos != 0; candidatos &= candidatos - 1) {
+                    int s = Long.numberOfTrailingZeros(candidatos);
+                    int arco = inicio + Long.bitCount(salientes & ((1L << s) - 1));
+                    usarFicha(s, dawg.getDestinoArco(arco), longitud, puntuacion, mascaraComodines);
+                    camino.setLength(longitudCamino);
+                }
+                return;
+            }
+            for (int a = inicio, fin = dawg.getFinArcos(nodo); a < fin; a++) {
+                int s = dawg.getSimboloArco(a);
+                if (cuentas[s] > 0) {
+                    usarFicha(s, dawg.getDestinoArco(a), longitud, puntuacion, mascaraComodines);
+                } else if (comodines > 0) {
+                    comodines--;
+                    camino.append(dawg.getSimbolo(s));
+                    recorrer(dawg.getDestinoArco(a), longitud + 1, puntuacion, mascaraComodines | (1L << longitud));
+                    comodines++;
+                } else {
+                    continue;
+                }
+                camino.setLength(longitudCamino);
+            }
+        }
+
+        private void usarFicha(int s, int destino, int longitud, int puntuacion, long mascaraComodines) {
+            if (--cuentas[s] == 0) disponibles &= ~(1L << s);
+            camino.append(dawg.getSimbolo(s));
+            recorrer(destino, longitud + 1, puntuacion + puntos[s], mascaraComodines);
+            if (cuentas[s]++ == 0) disponibles |= 1L << s;
+        }
+    }
+
+    /**
+     * Palabra encontrada con un atril, junto con su longitud en símbolos, su puntuación (sin
+     * bonificaciones del tablero) y las posiciones cubiertas con comodín, que valen 0 puntos.
+     */
+    public static final class Anagrama {
+        private final String palabra;
+        private final int longitud;
+        private final int puntuacion;
+        private final long mascaraComodines;
+
+        Anagrama(String palabra, int longitud, int puntuacion, long mascaraComodines) {
+            this.palabra = palabra;
+            this.longitud = longitud;
+            this.puntuacion = puntuacion;
+            this.mascaraComodines = mascaraComodines;
+        }
+
+        /** @return Palabra formada. */
+        public String getPalabra() {
+            return palabra;
+        }
+
+        /** @return Número de símbolos (fichas) de la palabra. */
+        public int getLongitud() {
+            return longitud;
+        }
+
+        /** @return Suma de los puntos de las fichas que no son comodín. */
+        public int getPuntuacion() {
+            return puntuacion;
+        }
+
+        /** @return Máscara con el bit i activo si el símbolo i de la palabra se cubre con un comodín. */
+        public long getMascaraComodines() {
+            return mascaraComodines;
+        }
+
+        /** @return Número de comodines usados. */
+        public int getNumComodines() {
+            return Long.bitCount(mascaraComodines);
+        }
+
+        @Override
+        public String toString() {
+            return palabra + " (" + puntuacion + ")";
+        }
+    }
+}
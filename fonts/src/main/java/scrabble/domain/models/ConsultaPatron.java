@@ -0,0 +1,236 @@
+package scrabble.domain.models;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Consulta de palabras por patrón resuelta directamente sobre un {@link DawgCompacto}.
+ *
+ * El patrón se compone de símbolos del alfabeto (incluidas letras multicarácter) y comodines:
+ * - {@code ?} equivale a exactamente un símbolo.
+ * - {@code *} equivale a cualquier secuencia de símbolos, incluida la vacía.
+ *
+ * Así se expresan búsquedas por prefijo ({@code CA*}), sufijo ({@code *CION}), longitud fija
+ * ({@code ?????}) o combinaciones ({@code C?S*}).
+ *
+ * El patrón se compila en un autómata cuyas posiciones activas se guardan como bits de un
+ * {@code long}, y se recorre el DAWG en profundidad llevando ese conjunto de posiciones: cada arco
+ * se evalúa con dos operaciones de bits y las ramas sin posiciones activas se descartan sin
+ * visitarlas. Cuando solo queda una posición activa y es un símbolo fijo, se sigue directamente
+ * su arco. Cada camino del DAWG se recorre una vez, de modo que no se emiten palabras repetidas
+ * aunque el patrón tenga varios {@code *}.
+ *
+ * @version 2.0
+ * @since 2.0
+ */
+public final class ConsultaPatron {
+
+    /** Comodín que equivale a un símbolo. */
+    public static final char UNO = '?';
+
+    /** Comodín que equivale a cualquier secuencia de símbolos. */
+    public static final char CUALQUIERA = '*';
+
+    /** Número máximo de elementos del patrón (símbolos y comodines, con los {@code *} seguidos agrupados). */
+    public static final int MAX_ELEMENTOS = Long.SIZE - 1;
+
+    private static final int ELEMENTO_UNO = -1;
+    private static final int ELEMENTO_CUALQUIERA = -2;
+
+    private final DawgCompacto dawg;
+    private final boolean vacia;
+    // Símbolo de cada elemento, o ELEMENTO_UNO / ELEMENTO_CUALQUIERA
+    private final int[] elementos;
+    // avanza[s]: posiciones cuyo elemento acepta el símbolo s
+    private final long[] avanza;
+    private final long estrellas;
+    private final long comodines;
+    private final long aceptacion;
+    private final long inicial;
+
+    /**
+     * Compila un patrón para un DAWG.
+     *
+     * @pre dawg, tokenizador y patron no deben ser null; los identificadores del tokenizador deben
+     *      coincidir con los del DAWG.
+     * @param dawg DAWG en el que buscar.
+     * @param tokenizador Tokenizador del alfabeto del DAWG.
+     * @param patron Patrón con símbolos y los comodines {@code ?} y {@code *}.
+     * @throws IllegalArgumentException si el patrón está vacío o tiene más de {@link #MAX_ELEMENTOS} elementos.
+     * @post Si algún símbolo del patrón no pertenece al alfabeto, la consulta no tiene resultados.
+     */
+    public ConsultaPatron(DawgCompacto dawg, Tokenizador tokenizador, String patron) {
+        if (patron.isEmpty()) {
+            throw new IllegalArgumentException("El patrón no puede estar vacío.");
+        }
+        this.dawg = dawg;
+
+        List<Integer> lista = new ArrayList<>();
+        boolean simbolosValidos = true;
+        StringBuilder literal = new StringBuilder();
+        for (int i = 0; i <= patron.length(); i++) {
+            char c = i < patron.length() ? patron.charAt(i) : UNO;
+            if (c != UNO && c != CUALQUIERA) {
+                literal.append(c);
+                continue;
+            }
+            if (literal.length() > 0) {
+                int[] ids = tokenizador.tokenizarSiExiste(literal.toString());
+                if (ids == null) {
+                    simbolosValidos = false;
+                } else {
+                    for (int id : ids) lista.add(id);
+                }
+                literal.setLength(0);
+            }
+            if (i == patron.length()) break;
+            if (c == UNO) {
+                lista.add(ELEMENTO_UNO);
+            } else if (lista.isEmpty() || lista.get(lista.size() - 1) != ELEMENTO_CUALQUIERA) {
+                lista.add(ELEMENTO_CUALQUIERA);
+            }
+        }
+        if (lista.size() > MAX_ELEMENTOS) {
+            throw new IllegalArgumentException("El patrón tiene más de " + MAX_ELEMENTOS + " elementos.");
+        }
+
+        this.elementos = lista.stream().mapToInt(Integer::intValue).toArray();
+        this.avanza = new long[dawg.getNumSimbolos()];
+        long unos = 0L;
+        long todasEstrellas = 0L;
+        for (int i = 0; i < elementos.length; i++) {
+            if (elementos[i] == ELEMENTO_UNO) {
+                unos |= 1L << i;
+            } else if (elementos[i] == ELEMENTO_CUALQUIERA) {
+                todasEstrellas |= 1L << i;
+            } else if (elementos[i] < avanza.length) {
+                avanza[elementos[i]] |= 1L << i;
+            }
+        }
+        for (int s = 0; s < avanza.length; s++) {
+            avanza[s] |= unos;
+        }
+        this.estrellas = todasEstrellas;
+        this.comodines = unos | todasEstrellas;
+        this.aceptacion = 1L << elementos.length;
+        this.inicial = cierre(1L);
+        this.vacia = !simbolosValidos;
+    }
+
+    /**
+     * Añade a un conjunto de posiciones las que se alcanzan saltando {@code *} sin consumir símbolos.
+     */
+    private long cierre(long estados) {
+        long anterior;
+        do {
+            anterior = estados;
+            estados |= (estados & estrellas) << 1;
+        } while (estados != anterior);
+        return estados;
+    }
+
+    /**
+     * Calcula las posiciones activas tras consumir un símbolo: las que lo aceptan avanzan y los
+     * {@code *} activos se mantienen.
+     */
+    private long avanzar(long estados, int simbolo) {
+        return cierre(((estados & avanza[simbolo]) << 1) | (estados & estrellas));
+    }
+
+    /**
+     * Devuelve las palabras que encajan con el patrón, en orden de símbolo. El recorrido es
+     * perezoso: con {@code limit(n)} se detiene al encontrar n palabras.
+     *
+     * @return Flujo secuencial de las palabras que encajan.
+     */
+    public Stream<String> stream() {
+        if (vacia) return Stream.empty();
+        return StreamSupport.stream(new Recorrido(), false);
+    }
+
+    /** @return Número de elementos del patrón compilado. */
+    public int getNumElementos() {
+        return elementos.length;
+    }
+
+    /**
+     * Recorrido en profundidad con pila explícita. Cada nivel guarda el nodo, el rango de arcos
+     * pendientes, las posiciones activas del patrón y la longitud del camino.
+     */
+    private final class Recorrido extends Spliterators.AbstractSpliterator<String> {
+        private final StringBuilder camino = new StringBuilder();
+        private int[] arcos = new int[16];
+        private int[] fines = new int[16];
+        private long[] estados = new long[16];
+        private int[] longitudes = new int[16];
+        private int profundidad = -1;
+        private boolean raizPendiente;
+
+        Recorrido() {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL | Spliterator.IMMUTABLE);
+            apilar(DawgCompacto.RAIZ, inicial);
+            raizPendiente = dawg.esFinal(DawgCompacto.RAIZ) && (inicial & aceptacion) != 0;
+        }
+
+        private void apilar(int nodo, long activos) {
+            int p = ++profundidad;
+            if (p == arcos.length) {
+                arcos = Arrays.copyOf(arcos, p * 2);
+                fines = Arrays.copyOf(fines, p * 2);
+                estados = Arrays.copyOf(estados, p * 2);
+                longitudes = Arrays.copyOf(longitudes, p * 2);
+            }
+            estados[p] = activos;
+            longitudes[p] = camino.length();
+            long pendientes = activos & ~aceptacion;
+            if ((pendientes & comodines) == 0 && Long.bitCount(pendientes) == 1) {
+                // Un único símbolo fijo: solo puede seguir su arco
+                int arco = dawg.getArco(nodo, elementos[Long.numberOfTrailingZeros(pendientes)]);
+                arcos[p] = arco < 0 ? 0 : arco;
+                fines[p] = arco < 0 ? 0 : arco + 1;
+            } else if (pendientes == 0) {
+                arcos[p] = 0;
+                fines[p] = 0;
+            } else {
+                arcos[p] = dawg.getInicioArcos(nodo);
+                fines[p] = dawg.getFinArcos(nodo);
+            }
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super String> accion) {
+            if (raizPendiente) {
+                raizPendiente = false;
+                accion.accept("");
+                return true;
+            }
+            while (profundidad >= 0) {
+                int p = profundidad;
+                if (arcos[p] == fines[p]) {
+                    profundidad--;
+                    continue;
+                }
+                int a = arcos[p]++;
+                int simbolo = dawg.getSimboloArco(a);
+                long siguientes = avanzar(estados[p], simbolo);
+                if (siguientes == 0) continue;
+
+                camino.setLength(longitudes[p]);
+                camino.append(dawg.getSimbolo(simbolo));
+                int destino = dawg.getDestinoArco(a);
+                apilar(destino, siguientes);
+                if ((siguientes & aceptacion) != 0 && dawg.esFinal(destino)) {
+                    accion.accept(camino.toString());
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
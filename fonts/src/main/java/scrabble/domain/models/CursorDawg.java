@@ -0,0 +1,169 @@
+package scrabble.domain.models;
+
+import java.util.Set;
+
+/**
+ * Cursor inmutable sobre un nodo de un {@link DawgCompacto}.
+ *
+ * Permite recorrer el autómata paso a paso (por ejemplo, en la generación de jugadas) sin
+ * volver a tokenizar ni a recorrer desde la raíz la palabra parcial en cada paso: avanzar
+ * por un símbolo es una única transición. Cada paso devuelve un cursor nuevo, de modo que
+ * los recorridos con vuelta atrás pueden conservar los cursores de los niveles anteriores.
+ *
+ * Un cursor se refiere a la versión del DAWG en la que se obtuvo; si el diccionario se
+ * modifica después, hay que pedir un cursor nuevo.
+ *
+ * @version 1.0
+ * @since 2.0
+ */
+public final class CursorDawg {
+
+    private final DawgCompacto dawg;
+    private final int nodo;
+
+    /**
+     * Crea un cursor sobre un nodo.
+     *
+     * @param dawg DAWG compacto recorrido.
+     * @param nodo Identificador del nodo.
+     */
+    CursorDawg(DawgCompacto dawg, int nodo) {
+        this.dawg = dawg;
+        this.nodo = nodo;
+    }
+
+    /**
+     * Avanza por la arista etiquetada con un símbolo.
+     *
+     * @param simbolo Identificador del símbolo.
+     * @return Cursor en el nodo destino, o null si la arista no existe.
+     */
+    public CursorDawg avanzar(int simbolo) {
+        int destino = dawg.transicion(nodo, simbolo);
+        return destino == DawgCompacto.SIN_NODO ? null : new CursorDawg(dawg, destino);
+    }
+
+    /**
+     * Avanza por la arista etiquetada con un símbolo textual (letra o letra multicarácter).
+     *
+     * @param simbolo Símbolo de la arista.
+     * @return Cursor en el nodo destino, o null si el símbolo o la arista no existen.
+     */
+    public CursorDawg avanzar(String simbolo) {
+        int destino = dawg.transicion(nodo, simbolo);
+        return destino == DawgCompacto.SIN_NODO ? null : new CursorDawg(dawg, destino);
+    }
+
+    /**
+     * Indica si el camino recorrido hasta el cursor forma una palabra.
+     *
+     * @return true si el nodo es final.
+     */
+    public boolean esFinal() {
+        return dawg.esFinal(nodo);
+    }
+
+    /**
+     * Obtiene el número de aristas salientes del nodo. Las aristas se indexan de 0 a
+     * {@code getNumSalientes() - 1} en orden de identificador de símbolo.
+     *
+     * @return Número de aristas salientes.
+     */
+    public int getNumSalientes() {
+        return dawg.getFinArcos(nodo) - dawg.getInicioArcos(nodo);
+    }
+
+    /**
+     * Obtiene el identificador de símbolo de una arista saliente.
+     *
+     * @pre 0 &lt;= k &lt; getNumSalientes().
+     * @param k Índice de la arista saliente.
+     * @return Identificador del símbolo.
+     */
+    public int getIdSaliente(int k) {
+        return dawg.getSimboloArco(dawg.getInicioArcos(nodo) + k);
+    }
+
+    /**
+     * Obtiene el símbolo textual de una arista saliente.
+     *
+     * @pre 0 &lt;= k &lt; getNumSalientes().
+     * @param k Índice de la arista saliente.
+     * @return Símbolo de la arista.
+     */
+    public String getSimboloSaliente(int k) {
+        return dawg.getSimbolo(getIdSaliente(k));
+    }
+
+    /**
+     * Avanza por una arista saliente dada por su índice, sin buscarla por símbolo.
+     *
+     * @pre 0 &lt;= k &lt; getNumSalientes().
+     * @param k Índice de la arista saliente.
+     * @return Cursor en el nodo destino.
+     */
+    public CursorDawg seguirSaliente(int k) {
+        return new CursorDawg(dawg, dawg.getDestinoArco(dawg.getInicioArcos(nodo) + k));
+    }
+
+    /**
+     * Obtiene los símbolos de las aristas salientes como máscara de bits (un bit por identificador
+     * de símbolo), para intersecarla con otras máscaras como las del atril o las verificaciones cruzadas.
+     *
+     * @pre El alfabeto del DAWG admite máscaras ({@link DawgCompacto#admiteMascaras()}).
+     * @return Máscara de símbolos salientes.
+     */
+    public long getMascaraSalientes() {
+        return dawg.getMascaraSalientes(nodo);
+    }
+
+    /**
+     * Avanza por la arista de un símbolo que se sabe presente, sin buscarla: su índice es el número
+     * de símbolos salientes con identificador menor.
+     *
+     * @pre El bit del símbolo está activo en {@link #getMascaraSalientes()}.
+     * @param simbolo Identificador del símbolo.
+     * @return Cursor en el nodo destino.
+     */
+    public CursorDawg seguirSimbolo(int simbolo) {
+        long menores = dawg.getMascaraSalientes(nodo) & ((1L << simbolo) - 1);
+        return seguirSaliente(Long.bitCount(menores));
+    }
+
+    /**
+     * Obtiene el símbolo textual asociado a un identificador del DAWG.
+     *
+     * @param simbolo Identificador del símbolo.
+     * @return Símbolo correspondiente.
+     */
+    public String getSimbolo(int simbolo) {
+        return dawg.getSimbolo(simbolo);
+    }
+
+    /**
+     * Obtiene los símbolos de las aristas salientes.
+     *
+     * @return Conjunto (en orden de símbolo) de las etiquetas salientes.
+     */
+    public Set<String> getSimbolosSalientes() {
+        return dawg.getSimbolosSalientes(nodo);
+    }
+
+    /** @return Identificador del nodo en el DAWG compacto. */
+    public int getNodo() {
+        return nodo;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof CursorDawg)) return false;
+        CursorDawg otro = (CursorDawg) o;
+        return dawg == otro.dawg && nodo == otro.nodo;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * System.identityHashCode(dawg) + nodo;
+    }
+}
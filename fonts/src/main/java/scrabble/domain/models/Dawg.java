@@ -1,6 +1,11 @@
 package scrabble.domain.models;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
 import scrabble.helpers.Triple;
 
 /**
@@ -10,27 +15,68 @@ import scrabble.helpers.Triple;
  * 
  * Esta versión permite letras multicaracter como "CH", "LL" o "RR", usando un alfabeto definido por el usuario.
  * No requiere que el alfabeto esté ordenado, ya que se realiza una búsqueda de coincidencia máxima.
+ * Cada símbolo se interna con un identificador entero ({@link Tokenizador}); además de la API basada
+ * en cadenas se ofrecen consultas sobre caminos {@code int[]} de identificadores, que evitan
+ * volver a tokenizar en los bucles críticos del generador de jugadas.
+ *
+ * Durante la construcción las palabras se almacenan en un grafo de {@link DawgNode}. Al llamar a
+ * {@link #finish()} el grafo minimizado se convierte en un {@link DawgCompacto} (tablas planas de
+ * enteros) y los nodos originales se liberan; a partir de ese momento todas las consultas se
+ * resuelven sobre la representación compacta.
+ *
+ * La minimización no usa la igualdad estructural recursiva de {@link DawgNode}: cada nodo registrado
+ * recibe un identificador canónico y su firma se calcula una sola vez a partir de su finalidad y de
+ * los pares (símbolo, identificador del hijo), por lo que cada consulta al registro es O(grado de salida).
+ *
+ * Además de la construcción ordenada con {@link #insert(String)}, el DAWG admite altas y bajas
+ * incrementales ({@link #add(String)}, {@link #remove(String)}) que mantienen el autómata mínimo
+ * sin reconstruirlo: se clonan los nodos compartidos del camino de la palabra, se modifica el camino
+ * y se vuelve a registrar de abajo arriba fusionándolo con los nodos equivalentes existentes.
+ *
+ * Las listas grandes se pueden construir en paralelo ({@link #buildParallel(Collection)}): los caminos
+ * ordenados se reparten por subárboles de sus primeros símbolos, cada subárbol se construye en una
+ * tarea fork/join con el mismo algoritmo ordenado y todas las tareas comparten un registro concurrente
+ * de nodos canónicos, por lo que el resultado es el mismo autómata mínimo que el de la construcción
+ * secuencial.
  *
  * @version 2.0
  * @since 1.0
  */
 public class Dawg {
 
-    private final DawgNode root;
-    private final Set<String> alfabeto;
-    private Map<DawgNode, DawgNode> minimizedNodes = new HashMap<>();
+    /** Número mínimo de palabras para que {@link #buildParallel(Collection)} reparta la construcción. */
+    public static final int UMBRAL_PARALELO = 20_000;
+
+    // Por debajo de este número de caminos un subárbol se construye en una sola tarea
+    private static final int TAMANO_MINIMO_TAREA = 2_048;
+
+    // Nodo (32) + HashMap de aristas con su tabla inicial (48 + 80); arista = entrada del HashMap
+    private static final int BYTES_NODO = 160;
+    private static final int BYTES_ARISTA = 32;
+    // Entrada del registro con su firma (objeto, array de datos y entrada del HashMap)
+    private static final int BYTES_REGISTRO = 112;
+
+    private DawgNode root;
+    private DawgCompacto compacto;
+    private final Tokenizador tokenizador;
+    private Map<Firma, DawgNode> minimizedNodes = new HashMap<>();
+    private int nextCanonicalId = 0;
     private Stack<Triple<DawgNode, String, DawgNode>> uncheckedNodes = new Stack<>();
-    private List<String> previousTokens = new ArrayList<>();
+    private int[] previousTokens = new int[0];
+    // true cuando el registro contiene todos los nodos y se mantienen los grados de entrada
+    private boolean editing = false;
+    // Representación compacta del grafo en edición, para los cursores; se descarta al modificarlo
+    private DawgCompacto instantanea;
 
 
 
     /**
-     * Constructor sin parámetros que inicializa el DAWG con un alfabeto vacío.
-     * El DAWG no podrá almacenar palabras hasta que se defina un alfabeto válido.
+     * Constructor sin parámetros que inicializa el DAWG con un alfabeto vacío (abierto).
+     * Cada carácter de las palabras insertadas se trata como un símbolo.
      */
     public Dawg() {
         this.root = new DawgNode();
-        this.alfabeto = new HashSet<>();
+        this.tokenizador = new Tokenizador(Collections.emptySet());
     }
 
     /**
@@ -43,50 +89,48 @@ public class Dawg {
      */
     public Dawg(Set<String> alfabeto) {
         this.root = new DawgNode();
-        this.alfabeto = alfabeto;
+        this.tokenizador = new Tokenizador(alfabeto);
     }
 
     /**
-     * Divide una palabra en letras válidas según el alfabeto definido.
+     * Constructor que envuelve un DAWG ya compactado, por ejemplo uno precompilado cargado de disco.
+     * La tabla de símbolos del DAWG compacto fija el alfabeto y los identificadores.
+     *
+     * @param compacto DAWG compacto con las palabras.
+     * @pre compacto no debe ser null.
+     * @post Se crea un DAWG finalizado que resuelve las consultas sobre compacto.
+     */
+    public Dawg(DawgCompacto compacto) {
+        this.root = null;
+        this.compacto = compacto;
+        this.tokenizador = Tokenizador.conSimbolos(compacto.getSimbolos());
+    }
+
+    /**
+     * Divide una palabra en identificadores de símbolo según el alfabeto definido.
      * Prioriza coincidencias más largas en caso de ambigüedad (e.g., "CH" sobre "C").
      *
+     * Con un alfabeto abierto, los caracteres nunca insertados no pueden formar parte de
+     * ninguna palabra y se devuelve null en lugar de lanzar una excepción.
+     *
      * @param word Palabra a tokenizar.
-     * @return Lista de letras (símbolos) correspondientes.
+     * @return Identificadores de los símbolos de la palabra, o null (solo con alfabeto abierto).
      * @throws IllegalArgumentException si algún fragmento no pertenece al alfabeto.
      */
-    private List<String> tokenize(String word) {
-        List<String> tokens = new ArrayList<>();
-        int i = 0;
-        while (i < word.length()) {
-            String match = null;
-            int maxLength = 0;
-            for (String symbol : alfabeto) {
-                if (i + symbol.length() <= word.length() && word.startsWith(symbol, i)) {
-                    if (symbol.length() > maxLength) {
-                        match = symbol;
-                        maxLength = symbol.length();
-                    }
-                }
-            }
-            if (match == null) {
-                throw new IllegalArgumentException("Símbolo no reconocido en el alfabeto: " + word.substring(i));
-            }
-            tokens.add(match);
-            i += match.length();
-        }
-        return tokens;
+    private int[] tokenize(String word) {
+        return tokenizador.isAbierto() ? tokenizador.tokenizarSiExiste(word) : tokenizador.tokenizar(word);
     }
 
     /**
      * Calcula el prefijo común entre la palabra actual y la anterior insertada.
      *
-     * @param currentTokens Lista de símbolos de la palabra actual.
+     * @param currentTokens Símbolos de la palabra actual.
      * @return Longitud del prefijo común.
      */
-    private int commonPrefix(List<String> currentTokens) {
+    private int commonPrefix(int[] currentTokens) {
         int commonPrefix = 0;
-        while (commonPrefix < currentTokens.size() && commonPrefix < previousTokens.size()) {
-            if (!currentTokens.get(commonPrefix).equals(previousTokens.get(commonPrefix))) break;
+        while (commonPrefix < currentTokens.length && commonPrefix < previousTokens.length) {
+            if (currentTokens[commonPrefix] != previousTokens[commonPrefix]) break;
             commonPrefix++;
         }
         return commonPrefix;
@@ -105,28 +149,239 @@ public class Dawg {
             String letter = unNode.y;
             DawgNode child = unNode.z;
 
-            if (minimizedNodes.containsKey(child)) {
-                DawgNode newChild = minimizedNodes.get(child);
+            Firma firma = firma(child);
+            DawgNode newChild = minimizedNodes.get(firma);
+            if (newChild != null) {
                 parent.switchEdge(letter, newChild);
             } else {
-                minimizedNodes.put(child, child);
+                child.setIdCanonico(nextCanonicalId++);
+                minimizedNodes.put(firma, child);
             }
         }
     }
 
+    /**
+     * Calcula la firma de un nodo cuyos hijos ya son canónicos.
+     *
+     * @param node Nodo a registrar.
+     * @return Firma formada por la finalidad y los pares (símbolo, hijo) ordenados por símbolo.
+     */
+    private Firma firma(DawgNode node) {
+        return firma(node, tokenizador);
+    }
+
+    private static Firma firma(DawgNode node, Tokenizador tokenizador) {
+        Map<String, DawgNode> edges = node.getEdges();
+        long[] pares = new long[edges.size()];
+        int n = 0;
+        for (Map.Entry<String, DawgNode> edge : edges.entrySet()) {
+            pares[n++] = ((long) tokenizador.getId(edge.getKey()) << 32) | (edge.getValue().getIdCanonico() & 0xFFFFFFFFL);
+        }
+        Arrays.sort(pares);
+        int[] datos = new int[1 + 2 * n];
+        datos[0] = node.isFinal() ? 1 : 0;
+        for (int i = 0; i < n; i++) {
+            datos[1 + 2 * i] = (int) (pares[i] >>> 32);
+            datos[2 + 2 * i] = (int) pares[i];
+        }
+        return new Firma(datos);
+    }
+
+    /**
+     * Firma de un nodo para el registro de minimización. El hash se calcula una vez.
+     */
+    private static final class Firma {
+        private final int[] datos;
+        private final int hash;
+
+        Firma(int[] datos) {
+            this.datos = datos;
+            this.hash = Arrays.hashCode(datos);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Firma && Arrays.equals(datos, ((Firma) o).datos);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
     /**
      * Finaliza la construcción del DAWG.
-     * Aplica minimización completa y limpia estructuras temporales.
+     * Aplica minimización completa, limpia estructuras temporales y compacta el grafo
+     * en un {@link DawgCompacto}, liberando los nodos de construcción.
      */
     public void finish() {
+        if (compacto != null) return;
         minimize(0);
-        minimizedNodes.clear();
+        // Un mapa nuevo en lugar de clear(): clear() conserva la tabla del registro ya vacío
+        minimizedNodes = new HashMap<>();
         uncheckedNodes.clear();
-        previousTokens = new ArrayList<>();
+        previousTokens = new int[0];
+        editing = false;
+        compacto = instantanea != null ? instantanea : DawgCompacto.desde(root, tokenizador);
+        instantanea = null;
+        root = null;
     }
 
     /**
-     * Inserta una palabra en el DAWG. Requiere que las palabras se inserten en orden lexicográfico.
+     * Indica si el DAWG está compactado (construcción finalizada y sin modificaciones posteriores).
+     *
+     * @return true si las consultas se resuelven sobre la representación compacta.
+     */
+    public boolean isCompactado() {
+        return compacto != null;
+    }
+
+    /**
+     * Obtiene la representación compacta del DAWG.
+     *
+     * @return El DAWG compacto, o null si la construcción no ha finalizado.
+     */
+    public DawgCompacto getCompacto() {
+        return compacto;
+    }
+
+    /**
+     * Obtiene una representación compacta del estado actual sin salir del modo de edición,
+     * por ejemplo para guardarla en disco tras una modificación incremental.
+     * Si la construcción ordenada no ha finalizado, la finaliza.
+     *
+     * @return DAWG compacto con las palabras actuales.
+     */
+    public DawgCompacto compactar() {
+        if (editing) {
+            if (instantanea == null) {
+                instantanea = DawgCompacto.desde(root, tokenizador);
+            }
+            return instantanea;
+        }
+        if (compacto == null) finish();
+        return compacto;
+    }
+
+    /**
+     * Estima los bytes de heap que retiene el DAWG. Finalizado, son los de su {@link DawgCompacto};
+     * en construcción o en edición, los del grafo de {@link DawgNode} (cada nodo con su mapa de
+     * aristas), el registro de minimización y la instantánea compacta si existe.
+     *
+     * @return Estimación de los bytes de heap retenidos.
+     */
+    public long estimateRetainedBytes() {
+        if (compacto != null) {
+            return compacto.getBytesHeap();
+        }
+        if (root == null) {
+            return 0;
+        }
+        long nodos = 0;
+        long aristas = 0;
+        Set<DawgNode> visitados = Collections.newSetFromMap(new IdentityHashMap<>());
+        ArrayDeque<DawgNode> pendientes = new ArrayDeque<>();
+        visitados.add(root);
+        pendientes.add(root);
+        while (!pendientes.isEmpty()) {
+            DawgNode nodo = pendientes.poll();
+            nodos++;
+            for (String simbolo : nodo.getAllEdges()) {
+                DawgNode hijo = nodo.getEdge(simbolo);
+                aristas++;
+                if (visitados.add(hijo)) {
+                    pendientes.add(hijo);
+                }
+            }
+        }
+        long bytes = nodos * BYTES_NODO + aristas * BYTES_ARISTA
+                + (long) minimizedNodes.size() * BYTES_REGISTRO;
+        return instantanea != null ? bytes + instantanea.getBytesHeap() : bytes;
+    }
+
+    /**
+     * Obtiene un cursor en la raíz del DAWG para recorrerlo símbolo a símbolo.
+     * Si el DAWG está en edición, el cursor recorre una representación compacta del estado actual.
+     *
+     * @pre La construcción ordenada ha finalizado ({@link #finish()}); después se puede editar.
+     * @return Cursor en la raíz.
+     * @throws IllegalStateException si la construcción ordenada no ha finalizado.
+     */
+    public CursorDawg getCursor() {
+        return new CursorDawg(vistaCursor(), DawgCompacto.RAIZ);
+    }
+
+    /**
+     * Obtiene un cursor en el nodo alcanzado por un prefijo.
+     *
+     * @pre La construcción ordenada ha finalizado ({@link #finish()}); después se puede editar.
+     * @param prefix Prefijo a recorrer desde la raíz.
+     * @return Cursor al final del prefijo, o null si el camino no existe.
+     * @throws NullPointerException si el prefijo es null.
+     * @throws IllegalStateException si la construcción ordenada no ha finalizado.
+     */
+    public CursorDawg getCursor(String prefix) {
+        if (prefix == null) {
+            throw new NullPointerException("No se puede obtener un cursor para un prefijo nulo.");
+        }
+        DawgCompacto vista = vistaCursor();
+        if (prefix.isEmpty()) return new CursorDawg(vista, DawgCompacto.RAIZ);
+        int[] tokens = tokenize(prefix);
+        if (tokens == null) return null;
+        int nodo = vista.recorrer(tokens, tokens.length);
+        return nodo == DawgCompacto.SIN_NODO ? null : new CursorDawg(vista, nodo);
+    }
+
+    /**
+     * Representación compacta que recorren los cursores. No se finaliza una construcción en curso:
+     * finish() descarta los nodos de construcción y las inserciones siguientes pasarían a ser altas
+     * incrementales, mucho más lentas que la construcción ordenada.
+     */
+    private DawgCompacto vistaCursor() {
+        if (compacto == null && !editing) {
+            throw new IllegalStateException("El DAWG no está finalizado: llame a finish() antes de obtener un cursor.");
+        }
+        return compactar();
+    }
+
+    /**
+     * Prepara el DAWG para la edición incremental: recupera el grafo de nodos a partir de la
+     * representación compacta, registra todos los nodos y calcula sus grados de entrada.
+     */
+    private void prepararEdicion() {
+        if (editing) return;
+        if (compacto == null) finish();
+
+        root = compacto.descompactar();
+        nextCanonicalId = compacto.getNumNodos();
+        compacto = null;
+
+        Set<DawgNode> visitados = Collections.newSetFromMap(new IdentityHashMap<>());
+        Deque<DawgNode> pendientes = new ArrayDeque<>();
+        visitados.add(root);
+        pendientes.push(root);
+        while (!pendientes.isEmpty()) {
+            DawgNode nodo = pendientes.pop();
+            for (DawgNode hijo : nodo.getEdges().values()) {
+                hijo.setGradoEntrada(hijo.getGradoEntrada() + 1);
+                if (visitados.add(hijo)) {
+                    pendientes.push(hijo);
+                }
+            }
+        }
+        for (DawgNode nodo : visitados) {
+            if (nodo != root) {
+                minimizedNodes.put(firma(nodo), nodo);
+            }
+        }
+        editing = true;
+    }
+
+    /**
+     * Inserta una palabra en el DAWG. Está pensado para la construcción inicial con las palabras en
+     * orden lexicográfico; si la palabra llega fuera de orden o el DAWG ya estaba finalizado, se
+     * delega en la inserción incremental {@link #add(String)}.
      *
      * @param word Palabra a insertar.
      * @throws NullPointerException si la palabra es null o vacía.
@@ -136,15 +391,45 @@ public class Dawg {
         if (word == null || word.isEmpty()) {
             throw new NullPointerException("No se puede insertar una palabra nula o vacía.");
         }
+        insertPath(tokenizador.tokenizar(word, true));
+    }
+
+    /**
+     * Inserta un camino de identificadores de símbolo, con la misma semántica que {@link #insert(String)}.
+     * Permite insertar secuencias de símbolos cuya concatenación sería ambigua al volver a tokenizarla
+     * (por ejemplo "C" seguido de "H" con el dígrafo "CH" en el alfabeto).
+     *
+     * @pre Los identificadores deben pertenecer al tokenizador del DAWG.
+     * @param currentTokens Identificadores de los símbolos, en orden.
+     * @throws NullPointerException si el camino es null o vacío.
+     * @throws IllegalArgumentException si algún identificador no pertenece al alfabeto.
+     */
+    public void insertPath(int[] currentTokens) {
+        if (currentTokens == null || currentTokens.length == 0) {
+            throw new NullPointerException("No se puede insertar un camino nulo o vacío.");
+        }
+        for (int simbolo : currentTokens) {
+            if (simbolo < 0 || simbolo >= tokenizador.getNumSimbolos()) {
+                throw new IllegalArgumentException("Identificador de símbolo no válido: " + simbolo);
+            }
+        }
+        if (compacto != null || editing) {
+            add(currentTokens);
+            return;
+        }
 
-        List<String> currentTokens = tokenize(word);
         int common = commonPrefix(currentTokens);
         minimize(common);
 
         DawgNode current = uncheckedNodes.isEmpty() ? root : uncheckedNodes.peek().z;
+        if (common < currentTokens.length && current.getEdge(tokenizador.getSimbolo(currentTokens[common])) != null) {
+            // Fuera de orden: la arista ya lleva a una rama minimizada que no se puede modificar
+            add(currentTokens);
+            return;
+        }
 
-        for (int i = common; i < currentTokens.size(); i++) {
-            String letter = currentTokens.get(i);
+        for (int i = common; i < currentTokens.length; i++) {
+            String letter = tokenizador.getSimbolo(currentTokens[i]);
             DawgNode newNode = new DawgNode();
             current.addEdge(letter, newNode);
             uncheckedNodes.push(new Triple<>(current, letter, newNode));
@@ -155,6 +440,341 @@ public class Dawg {
         previousTokens = currentTokens;
     }
 
+    /**
+     * Inserta una colección de palabras ordenándolas antes según el orden de símbolos del DAWG,
+     * de modo que la construcción ordenada no tenga que recurrir a la inserción incremental.
+     *
+     * @pre words no debe ser null ni contener palabras nulas o vacías.
+     * @param words Palabras a insertar, en cualquier orden y posiblemente repetidas.
+     * @throws IllegalArgumentException si alguna palabra contiene símbolos no válidos.
+     */
+    public void insertAll(Collection<String> words) {
+        List<int[]> caminos = new ArrayList<>(words.size());
+        for (String word : words) {
+            if (word == null || word.isEmpty()) {
+                throw new NullPointerException("No se puede insertar una palabra nula o vacía.");
+            }
+            caminos.add(tokenizador.tokenizar(word, true));
+        }
+        caminos.sort(Arrays::compare);
+        for (int[] camino : caminos) {
+            insertPath(camino);
+        }
+    }
+
+    /**
+     * Construye el DAWG en paralelo con las palabras dadas y lo finaliza, usando el pool fork/join común.
+     *
+     * @pre words no debe ser null ni contener palabras nulas o vacías.
+     * @param words Palabras a insertar, en cualquier orden y posiblemente repetidas.
+     * @throws IllegalArgumentException si alguna palabra contiene símbolos no válidos.
+     * @post El DAWG está finalizado y es idéntico al obtenido con {@link #insertAll(Collection)} y {@link #finish()}.
+     * @see #buildParallel(Collection, ForkJoinPool)
+     */
+    public void buildParallel(Collection<String> words) {
+        buildParallel(words, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Construye el DAWG en paralelo con las palabras dadas y lo finaliza.
+     *
+     * Las palabras se tokenizan (en paralelo si el alfabeto es cerrado) y se ordenan; después la
+     * raíz se reparte por primer símbolo, y los subárboles con muchas palabras por el siguiente,
+     * hasta tener tareas del tamaño adecuado. Cada tarea construye su subárbol con el algoritmo
+     * ordenado y registra sus nodos en un registro concurrente compartido, de modo que los sufijos
+     * comunes a subárboles distintos se fusionan igual que en la construcción secuencial.
+     *
+     * Si el DAWG ya contiene palabras, la lista es pequeña ({@link #UMBRAL_PARALELO}) o el pool
+     * tiene un solo hilo, se construye secuencialmente.
+     *
+     * @pre words y pool no deben ser null; words no debe contener palabras nulas o vacías.
+     * @param words Palabras a insertar, en cualquier orden y posiblemente repetidas.
+     * @param pool Pool fork/join en el que se ejecutan la tokenización, la ordenación y la construcción.
+     * @throws IllegalArgumentException si alguna palabra contiene símbolos no válidos.
+     * @post El DAWG está finalizado y es idéntico al obtenido con {@link #insertAll(Collection)} y {@link #finish()}.
+     */
+    public void buildParallel(Collection<String> words, ForkJoinPool pool) {
+        boolean vacio = compacto == null && !editing && root.getEdges().isEmpty() && !root.isFinal();
+        if (!vacio || words.size() < UMBRAL_PARALELO || pool.getParallelism() < 2) {
+            insertAll(words);
+            finish();
+            return;
+        }
+        Registro registro = new Registro(tokenizador);
+        int tamanoTarea = Math.max(TAMANO_MINIMO_TAREA, words.size() / (8 * pool.getParallelism()));
+        root = pool.submit(() -> {
+            int[][] caminos = (tokenizador.isAbierto() ? words.stream() : words.parallelStream())
+                    .map(word -> {
+                        if (word == null || word.isEmpty()) {
+                            throw new NullPointerException("No se puede insertar una palabra nula o vacía.");
+                        }
+                        return tokenizador.tokenizar(word, true);
+                    })
+                    .toArray(int[][]::new);
+            Arrays.parallelSort(caminos, Arrays::compare);
+            return new ConstruccionSubarbol(registro, caminos, 0, caminos.length, 0, tamanoTarea).invoke();
+        }).join();
+        finish();
+    }
+
+    /**
+     * Registro de nodos canónicos compartido por las tareas de la construcción paralela. Un nodo
+     * recibe su identificador canónico antes de publicarse en el mapa, así que las tareas que lo
+     * obtienen del registro ven su identificador al calcular la firma de sus padres.
+     */
+    private static final class Registro {
+        private final Map<Firma, DawgNode> nodos = new ConcurrentHashMap<>();
+        private final AtomicInteger siguienteId = new AtomicInteger();
+        private final Tokenizador tokenizador;
+
+        Registro(Tokenizador tokenizador) {
+            this.tokenizador = tokenizador;
+        }
+
+        /** Devuelve el nodo canónico equivalente a nodo (cuyos hijos ya son canónicos), registrándolo si es nuevo. */
+        DawgNode registrar(DawgNode nodo) {
+            Firma firma = firma(nodo, tokenizador);
+            DawgNode existente = nodos.get(firma);
+            if (existente != null) return existente;
+            nodo.setIdCanonico(siguienteId.getAndIncrement());
+            existente = nodos.putIfAbsent(firma, nodo);
+            return existente != null ? existente : nodo;
+        }
+    }
+
+    /**
+     * Construye el subárbol de los caminos ordenados {@code [desde, hasta)}, que comparten sus
+     * primeros {@code profundidad} símbolos. Devuelve el nodo del subárbol sin registrar (lo registra
+     * el padre, y la raíz no se registra, como en la construcción secuencial).
+     */
+    private static final class ConstruccionSubarbol extends RecursiveTask<DawgNode> {
+        private static final long serialVersionUID = 1L;
+        private final transient Registro registro;
+        private final int[][] caminos;
+        private final int desde;
+        private final int hasta;
+        private final int profundidad;
+        private final int tamanoTarea;
+
+        ConstruccionSubarbol(Registro registro, int[][] caminos, int desde, int hasta, int profundidad, int tamanoTarea) {
+            this.registro = registro;
+            this.caminos = caminos;
+            this.desde = desde;
+            this.hasta = hasta;
+            this.profundidad = profundidad;
+            this.tamanoTarea = tamanoTarea;
+        }
+
+        @Override
+        protected DawgNode compute() {
+            if (hasta - desde <= tamanoTarea) {
+                return construirSecuencial();
+            }
+            DawgNode nodo = new DawgNode();
+            int i = desde;
+            // Los caminos que terminan aquí van primero en el orden
+            while (i < hasta && caminos[i].length == profundidad) {
+                nodo.setFinal(true);
+                i++;
+            }
+            List<ConstruccionSubarbol> hijos = new ArrayList<>();
+            while (i < hasta) {
+                int simbolo = caminos[i][profundidad];
+                int j = i + 1;
+                while (j < hasta && caminos[j][profundidad] == simbolo) j++;
+                hijos.add(new ConstruccionSubarbol(registro, caminos, i, j, profundidad + 1, tamanoTarea));
+                i = j;
+            }
+            invokeAll(hijos);
+            for (ConstruccionSubarbol hijo : hijos) {
+                String simbolo = registro.tokenizador.getSimbolo(caminos[hijo.desde][profundidad]);
+                nodo.addEdge(simbolo, registro.registrar(hijo.join()));
+            }
+            return nodo;
+        }
+
+        /** Construcción ordenada de los sufijos del rango, como {@link Dawg#insertPath(int[])}. */
+        private DawgNode construirSecuencial() {
+            DawgNode nodo = new DawgNode();
+            ArrayDeque<Triple<DawgNode, String, DawgNode>> pendientes = new ArrayDeque<>();
+            int[] anterior = caminos[desde];
+            for (int k = desde; k < hasta; k++) {
+                int[] camino = caminos[k];
+                int comun = profundidad;
+                if (k > desde) {
+                    while (comun < camino.length && comun < anterior.length && camino[comun] == anterior[comun]) comun++;
+                }
+                minimizar(pendientes, comun - profundidad);
+                DawgNode actual = pendientes.isEmpty() ? nodo : pendientes.peek().z;
+                for (int t = comun; t < camino.length; t++) {
+                    String simbolo = registro.tokenizador.getSimbolo(camino[t]);
+                    DawgNode nuevo = new DawgNode();
+                    actual.addEdge(simbolo, nuevo);
+                    pendientes.push(new Triple<>(actual, simbolo, nuevo));
+                    actual = nuevo;
+                }
+                actual.setFinal(true);
+                anterior = camino;
+            }
+            minimizar(pendientes, 0);
+            return nodo;
+        }
+
+        private void minimizar(ArrayDeque<Triple<DawgNode, String, DawgNode>> pendientes, int hasta) {
+            while (pendientes.size() > hasta) {
+                Triple<DawgNode, String, DawgNode> pendiente = pendientes.pop();
+                DawgNode canonico = registro.registrar(pendiente.z);
+                if (canonico != pendiente.z) {
+                    pendiente.x.switchEdge(pendiente.y, canonico);
+                }
+            }
+        }
+    }
+
+    /**
+     * Añade una palabra manteniendo el DAWG mínimo, sin requisitos de orden.
+     * El coste es proporcional a la longitud de la palabra por el tamaño del alfabeto.
+     *
+     * @param word Palabra a añadir.
+     * @return true si la palabra se ha añadido, false si ya existía.
+     * @throws NullPointerException si la palabra es null o vacía.
+     * @throws IllegalArgumentException si contiene símbolos no válidos.
+     * @post La palabra pertenece al DAWG y el grafo sigue siendo mínimo.
+     */
+    public boolean add(String word) {
+        if (word == null || word.isEmpty()) {
+            throw new NullPointerException("No se puede insertar una palabra nula o vacía.");
+        }
+        return add(tokenizador.tokenizar(word, true));
+    }
+
+    private boolean add(int[] tokens) {
+        prepararEdicion();
+        instantanea = null;
+        DawgNode[] camino = new DawgNode[tokens.length + 1];
+        camino[0] = root;
+        int k = 0;
+        while (k < tokens.length) {
+            DawgNode siguiente = camino[k].getEdge(tokenizador.getSimbolo(tokens[k]));
+            if (siguiente == null) break;
+            camino[++k] = siguiente;
+        }
+        if (k == tokens.length && camino[k].isFinal()) {
+            return false;
+        }
+
+        separarCamino(camino, tokens, k);
+        DawgNode actual = camino[k];
+        for (int i = k; i < tokens.length; i++) {
+            DawgNode nuevo = new DawgNode();
+            nuevo.setGradoEntrada(1);
+            actual.addEdge(tokenizador.getSimbolo(tokens[i]), nuevo);
+            camino[i + 1] = nuevo;
+            actual = nuevo;
+        }
+        actual.setFinal(true);
+        registrarCamino(camino, tokens, tokens.length);
+        return true;
+    }
+
+    /**
+     * Elimina una palabra manteniendo el DAWG mínimo, sin reconstruirlo.
+     *
+     * @param word Palabra a eliminar.
+     * @return true si la palabra se ha eliminado, false si no existía.
+     * @throws NullPointerException si la palabra es null.
+     * @post La palabra no pertenece al DAWG, el resto de palabras se conservan y el grafo sigue siendo mínimo.
+     */
+    public boolean remove(String word) {
+        if (word == null) {
+            throw new NullPointerException("No se puede eliminar una palabra nula.");
+        }
+        if (!search(word)) {
+            return false;
+        }
+        prepararEdicion();
+        instantanea = null;
+        int[] tokens = tokenizador.tokenizar(word);
+
+        DawgNode[] camino = new DawgNode[tokens.length + 1];
+        camino[0] = root;
+        for (int i = 0; i < tokens.length; i++) {
+            camino[i + 1] = camino[i].getEdge(tokenizador.getSimbolo(tokens[i]));
+        }
+
+        separarCamino(camino, tokens, tokens.length);
+        camino[tokens.length].setFinal(false);
+
+        // Podar la rama que ya no lleva a ninguna palabra
+        int hasta = tokens.length;
+        while (hasta > 0 && !camino[hasta].isFinal() && camino[hasta].getEdges().isEmpty()) {
+            camino[hasta - 1].removeEdge(tokenizador.getSimbolo(tokens[hasta - 1]));
+            hasta--;
+        }
+        registrarCamino(camino, tokens, hasta);
+        return true;
+    }
+
+    /**
+     * Saca del registro los nodos del camino que se van a modificar. A partir del primer nodo
+     * compartido (grado de entrada mayor que 1) los nodos se clonan, para que el resto de palabras
+     * que pasan por ellos no se vean afectadas.
+     *
+     * @param camino Nodos del camino; camino[i + 1] es el destino de la arista tokens[i] desde camino[i].
+     * @param tokens Símbolos del camino.
+     * @param longitud Número de nodos del camino (sin contar la raíz) a separar.
+     */
+    private void separarCamino(DawgNode[] camino, int[] tokens, int longitud) {
+        boolean clonar = false;
+        for (int i = 1; i <= longitud; i++) {
+            DawgNode nodo = camino[i];
+            if (clonar || nodo.getGradoEntrada() > 1) {
+                clonar = true;
+                DawgNode copia = new DawgNode();
+                copia.setFinal(nodo.isFinal());
+                copia.setGradoEntrada(1);
+                for (Map.Entry<String, DawgNode> arista : nodo.getEdges().entrySet()) {
+                    copia.addEdge(arista.getKey(), arista.getValue());
+                    arista.getValue().setGradoEntrada(arista.getValue().getGradoEntrada() + 1);
+                }
+                nodo.setGradoEntrada(nodo.getGradoEntrada() - 1);
+                camino[i - 1].switchEdge(tokenizador.getSimbolo(tokens[i - 1]), copia);
+                camino[i] = copia;
+            } else {
+                minimizedNodes.remove(firma(nodo));
+            }
+        }
+    }
+
+    /**
+     * Vuelve a registrar los nodos de un camino de abajo arriba, sustituyendo cada nodo por un
+     * nodo equivalente ya registrado cuando existe.
+     *
+     * @param camino Nodos del camino.
+     * @param tokens Símbolos del camino.
+     * @param longitud Número de nodos del camino (sin contar la raíz) a registrar.
+     */
+    private void registrarCamino(DawgNode[] camino, int[] tokens, int longitud) {
+        for (int i = longitud; i >= 1; i--) {
+            DawgNode nodo = camino[i];
+            Firma firma = firma(nodo);
+            DawgNode equivalente = minimizedNodes.get(firma);
+            if (equivalente == null) {
+                if (nodo.getIdCanonico() < 0) {
+                    nodo.setIdCanonico(nextCanonicalId++);
+                }
+                minimizedNodes.put(firma, nodo);
+            } else if (equivalente != nodo) {
+                camino[i - 1].switchEdge(tokenizador.getSimbolo(tokens[i - 1]), equivalente);
+                equivalente.setGradoEntrada(equivalente.getGradoEntrada() + 1);
+                for (DawgNode hijo : nodo.getEdges().values()) {
+                    hijo.setGradoEntrada(hijo.getGradoEntrada() - 1);
+                }
+                camino[i] = equivalente;
+            }
+        }
+    }
+
     /**
      * Verifica si una palabra existe en el DAWG.
      *
@@ -167,22 +787,121 @@ public class Dawg {
             throw new NullPointerException("No se puede buscar una palabra nula.");
         }
 
-        List<String> tokens = tokenize(word);
+        int[] tokens = tokenize(word);
+        return tokens != null && search(tokens, tokens.length);
+    }
+
+    /**
+     * Verifica si el camino de símbolos dado forma una palabra del DAWG.
+     *
+     * @pre path contiene identificadores obtenidos de {@link #encode(String)} o {@link #getSymbolId(String)}.
+     * @param path Identificadores de símbolo.
+     * @param length Número de símbolos de path a considerar.
+     * @return true si el camino existe y termina en un nodo final.
+     */
+    public boolean search(int[] path, int length) {
+        if (compacto != null) {
+            int nodo = compacto.recorrer(path, length);
+            return nodo != DawgCompacto.SIN_NODO && compacto.esFinal(nodo);
+        }
+        DawgNode node = walk(path, length);
+        return node != null && node.isFinal();
+    }
+
+    /**
+     * Verifica si el camino de símbolos dado es prefijo de alguna palabra del DAWG.
+     *
+     * @param path Identificadores de símbolo.
+     * @param length Número de símbolos de path a considerar.
+     * @return true si el camino existe en el grafo.
+     */
+    public boolean nodeExists(int[] path, int length) {
+        if (compacto != null) {
+            return compacto.recorrer(path, length) != DawgCompacto.SIN_NODO;
+        }
+        return walk(path, length) != null;
+    }
+
+    /**
+     * Retorna los símbolos que pueden seguir al camino dado.
+     *
+     * @param path Identificadores de símbolo.
+     * @param length Número de símbolos de path a considerar.
+     * @return Conjunto de símbolos disponibles o null si el camino no existe.
+     */
+    public Set<String> getAvailableEdges(int[] path, int length) {
+        if (compacto != null) {
+            int nodo = compacto.recorrer(path, length);
+            return nodo != DawgCompacto.SIN_NODO ? compacto.getSimbolosSalientes(nodo) : null;
+        }
+        DawgNode node = walk(path, length);
+        return node != null ? node.getAllEdges() : null;
+    }
+
+    /**
+     * Recorre el grafo de nodos (DAWG no compactado) siguiendo un camino de identificadores.
+     */
+    private DawgNode walk(int[] path, int length) {
         DawgNode current = root;
-        for (String letter : tokens) {
-            current = current.getEdge(letter);
-            if (current == null) return false;
+        for (int i = 0; i < length && current != null; i++) {
+            if (path[i] < 0 || path[i] >= tokenizador.getNumSimbolos()) return null;
+            current = current.getEdge(tokenizador.getSimbolo(path[i]));
+        }
+        return current;
+    }
+
+    /**
+     * Convierte una palabra en su camino de identificadores de símbolo.
+     *
+     * @param word Palabra a codificar.
+     * @return Identificadores de los símbolos de la palabra.
+     * @throws NullPointerException si la palabra es null.
+     * @throws IllegalArgumentException si algún fragmento no pertenece al alfabeto.
+     */
+    public int[] encode(String word) {
+        if (word == null) {
+            throw new NullPointerException("No se puede codificar una palabra nula.");
         }
-        return current.isFinal();
+        return tokenizador.tokenizar(word);
+    }
+
+    /**
+     * Obtiene el identificador de un símbolo del alfabeto.
+     *
+     * @param symbol Símbolo (letra o letra multicarácter).
+     * @return Identificador o {@link Tokenizador#SIN_SIMBOLO} si el símbolo no existe.
+     */
+    public int getSymbolId(String symbol) {
+        return tokenizador.getId(symbol);
+    }
+
+    /**
+     * Obtiene el símbolo asociado a un identificador.
+     *
+     * @param id Identificador de símbolo.
+     * @return Símbolo correspondiente.
+     */
+    public String getSymbol(int id) {
+        return tokenizador.getSimbolo(id);
+    }
+
+    /**
+     * Obtiene el tokenizador con la tabla de símbolos del DAWG.
+     *
+     * @return Tokenizador del DAWG.
+     */
+    public Tokenizador getTokenizador() {
+        return tokenizador;
     }
 
     /**
      * Retorna el nodo raíz del DAWG.
+     * Si el DAWG está compactado se devuelve una vista de solo lectura.
      *
      * @return Nodo raíz.
      */
     public DawgNode getRoot() {
-        return root;
+        return compacto != null ? compacto.getVistaNodo(DawgCompacto.RAIZ) : root;
     }
 
     /**
@@ -197,15 +916,15 @@ public class Dawg {
             throw new NullPointerException("No se puede obtener nodo para una palabra nula.");
         }
 
-        if (word.isEmpty()) return root;
+        if (word.isEmpty()) return getRoot();
 
-        List<String> tokens = tokenize(word);
-        DawgNode current = root;
-        for (String letter : tokens) {
-            current = current.getEdge(letter);
-            if (current == null) return null;
+        int[] tokens = tokenize(word);
+        if (tokens == null) return null;
+        if (compacto != null) {
+            int nodo = compacto.recorrer(tokens, tokens.length);
+            return nodo == DawgCompacto.SIN_NODO ? null : compacto.getVistaNodo(nodo);
         }
-        return current;
+        return walk(tokens, tokens.length);
     }
 
     /**
@@ -219,8 +938,8 @@ public class Dawg {
         if (partialword == null) {
             throw new NullPointerException("No se puede obtener bordes de palabra nula.");
         }
-        DawgNode node = getNode(partialword);
-        return node != null ? node.getAllEdges() : null;
+        int[] tokens = tokenize(partialword);
+        return tokens != null ? getAvailableEdges(tokens, tokens.length) : null;
     }
 
     /**
@@ -234,8 +953,8 @@ public class Dawg {
         if (partialword == null) {
             throw new NullPointerException("No se puede verificar si palabra nula es final.");
         }
-        DawgNode node = getNode(partialword);
-        return node != null && node.isFinal();
+        int[] tokens = tokenize(partialword);
+        return tokens != null && search(tokens, tokens.length);
     }
 
     /**
@@ -245,25 +964,115 @@ public class Dawg {
      */
     public List<String> getAllWords() {
         List<String> result = new ArrayList<>();
-        collectWords(root, "", result);
+        streamWords().forEachOrdered(result::add);
         return result;
     }
 
     /**
-     * Método auxiliar recursivo para recolectar todas las palabras.
+     * Enumera perezosamente las palabras del DAWG en orden de símbolo, sin construir la lista completa.
+     * El flujo se puede paralelizar ({@code streamWords().parallel()}): se reparte por subárboles del
+     * primer símbolo. Si el DAWG está en construcción o en edición, se recorre una representación
+     * compacta del estado actual.
+     *
+     * @return Flujo secuencial de las palabras.
+     */
+    public Stream<String> streamWords() {
+        return vista().streamPalabras();
+    }
+
+    /**
+     * Enumera perezosamente las palabras del DAWG en orden de símbolo a partir de una posición,
+     * sin recorrer las anteriores. Pensado para paginar: {@code streamWords(desde).limit(tamano)}.
+     *
+     * @param from Posición de la primera palabra.
+     * @return Flujo secuencial de las palabras desde esa posición (vacío si no hay tantas palabras).
+     * @throws IllegalArgumentException si from es negativo.
+     * @see DawgCompacto#streamPalabras(int)
+     */
+    public Stream<String> streamWords(int from) {
+        return vista().streamPalabras(from);
+    }
+
+    /**
+     * Cuenta las palabras del DAWG sin enumerarlas.
+     *
+     * @return Número de palabras.
+     */
+    public int countWords() {
+        return vista().getNumPalabras();
+    }
+
+    /**
+     * Cuenta las palabras que empiezan por un prefijo, en tiempo proporcional a su longitud.
+     *
+     * @param prefix Prefijo a contar; la cadena vacía cuenta todas las palabras.
+     * @return Número de palabras con ese prefijo (incluida el propio prefijo si es palabra).
+     * @throws NullPointerException si el prefijo es null.
+     * @throws IllegalArgumentException si algún fragmento no pertenece al alfabeto.
+     */
+    public int countWordsWithPrefix(String prefix) {
+        if (prefix == null) {
+            throw new NullPointerException("No se pueden contar palabras con un prefijo nulo.");
+        }
+        int[] tokens = tokenize(prefix);
+        if (tokens == null) return 0;
+        DawgCompacto vista = vista();
+        int nodo = vista.recorrer(tokens, tokens.length);
+        return nodo == DawgCompacto.SIN_NODO ? 0 : vista.getNumPalabras(nodo);
+    }
+
+    /**
+     * Obtiene la posición de una palabra en el orden de símbolo, en tiempo proporcional a su longitud.
      *
-     * @param node Nodo actual.
-     * @param prefix Prefijo acumulado.
-     * @param result Lista donde se almacenan las palabras encontradas.
+     * @param word Palabra a buscar.
+     * @return Posición de la palabra, o {@code -(puntoDeInsercion) - 1} si no está en el DAWG
+     *         (-1 si contiene símbolos nunca insertados en un alfabeto abierto).
+     * @throws NullPointerException si la palabra es null.
+     * @throws IllegalArgumentException si algún fragmento no pertenece al alfabeto.
+     * @see DawgCompacto#getIndice(int[], int)
      */
-    private void collectWords(DawgNode node, String prefix, List<String> result) {
-        if (node.isFinal()) {
-            result.add(prefix);
+    public int indexOf(String word) {
+        if (word == null) {
+            throw new NullPointerException("No se puede buscar la posición de una palabra nula.");
         }
+        int[] tokens = tokenize(word);
+        return tokens == null ? -1 : vista().getIndice(tokens, tokens.length);
+    }
+
+    /**
+     * Obtiene la palabra que ocupa una posición en el orden de símbolo, en tiempo proporcional a su longitud.
+     *
+     * @param index Posición de la palabra.
+     * @return Palabra en esa posición.
+     * @throws IndexOutOfBoundsException si la posición está fuera de rango.
+     */
+    public String getWord(int index) {
+        return vista().getPalabra(index);
+    }
 
-        for (String edge : node.getAllEdges()) {
-            DawgNode next = node.getEdge(edge);
-            collectWords(next, prefix + edge, result);
+    /**
+     * Busca las palabras que encajan con un patrón, recorriendo solo las ramas del DAWG compatibles.
+     * El patrón admite {@code ?} (un símbolo) y {@code *} (cualquier secuencia de símbolos).
+     *
+     * @param pattern Patrón a buscar, por ejemplo {@code CA*}, {@code *CION} o {@code C?S?}.
+     * @return Flujo perezoso de las palabras que encajan, en orden de símbolo.
+     * @throws NullPointerException si el patrón es null.
+     * @throws IllegalArgumentException si el patrón está vacío o es demasiado largo.
+     * @see ConsultaPatron
+     */
+    public Stream<String> matchPattern(String pattern) {
+        if (pattern == null) {
+            throw new NullPointerException("No se puede buscar un patrón nulo.");
         }
+        return new ConsultaPatron(vista(), tokenizador, pattern).stream();
+    }
+
+    /**
+     * Representación compacta sobre la que se hacen los recorridos completos: la definitiva, la
+     * instantánea de edición o, durante la construcción, una copia del estado actual.
+     */
+    private DawgCompacto vista() {
+        return compacto != null ? compacto
+                : editing ? compactar() : DawgCompacto.desde(root, tokenizador);
     }
 }
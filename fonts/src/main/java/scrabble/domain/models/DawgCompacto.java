@@ -0,0 +1,1060 @@
+package scrabble.domain.models;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.TreeSet;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Representación inmutable y compacta de un DAWG ya minimizado.
+ *
+ * Se obtiene a partir del grafo de {@link DawgNode} una vez finalizada la construcción
+ * ({@link Dawg#finish()}) y sustituye a los mapas de aristas de cada nodo por tablas
+ * planas de enteros:
+ * - {@code primerArco[n]..primerArco[n+1]} delimita los arcos salientes del nodo {@code n},
+ *   ordenados por identificador de símbolo.
+ * - {@code simboloArco[a]} y {@code destinoArco[a]} guardan el símbolo y el nodo destino del arco {@code a}.
+ * - {@code finales} es un conjunto de bits con los nodos que terminan una palabra.
+ *
+ * Los nodos se numeran en anchura desde la raíz (nodo 0) recorriendo los arcos en orden
+ * de símbolo, de modo que dos DAWG con el mismo lenguaje producen exactamente las mismas tablas.
+ *
+ * Las tablas se guardan como {@link IntBuffer}/{@link LongBuffer}: envuelven arrays de heap cuando
+ * el DAWG se construye en memoria, o vistas de un fichero proyectado en memoria cuando se carga un
+ * DAWG precompilado ({@link #leer(ByteBuffer)}), en cuyo caso se consulta directamente sobre el fichero.
+ *
+ * Cada nodo se puede anotar con el número de palabras que se alcanzan desde él (y cada arco con
+ * las que cuelgan de los arcos anteriores del mismo nodo). Con esas cuentas, la posición de una
+ * palabra en el orden de símbolo, la palabra de una posición y el número de palabras con un
+ * prefijo se calculan en tiempo proporcional a la longitud de la palabra.
+ *
+ * @version 2.0
+ * @since 2.0
+ */
+public final class DawgCompacto {
+
+    /** Identificador del nodo raíz. */
+    public static final int RAIZ = 0;
+
+    /** Valor devuelto cuando una transición no existe. */
+    public static final int SIN_NODO = -1;
+
+    // Tamaños aproximados de una JVM de 64 bits con referencias comprimidas
+    static final int CABECERA_OBJETO = 16;
+    static final int CABECERA_ARRAY = 16;
+    static final int BYTES_ENTRADA_MAPA = 48;
+
+    private final String[] simbolos;
+    private final Map<String, Integer> idSimbolo;
+    private final IntBuffer primerArco;
+    private final IntBuffer simboloArco;
+    private final IntBuffer destinoArco;
+    private final LongBuffer finales;
+    // Símbolos salientes de cada nodo como máscara de bits; se calcula la primera vez que se pide
+    private volatile long[] mascarasSalientes;
+    // Número de palabras bajo cada nodo y antes de cada arco; se calcula la primera vez que se pide
+    private volatile Conteos conteos;
+
+    private DawgCompacto(String[] simbolos, IntBuffer primerArco, IntBuffer simboloArco, IntBuffer destinoArco, LongBuffer finales) {
+        this.simbolos = simbolos;
+        this.idSimbolo = new HashMap<>();
+        for (int i = 0; i < simbolos.length; i++) {
+            idSimbolo.put(simbolos[i], i);
+        }
+        this.primerArco = primerArco;
+        this.simboloArco = simboloArco;
+        this.destinoArco = destinoArco;
+        this.finales = finales;
+    }
+
+    /**
+     * Compacta el grafo accesible desde la raíz dada.
+     * Los nodos compartidos (mismo objeto) se conservan compartidos en la representación compacta.
+     *
+     * @pre raiz no debe ser null.
+     * @param raiz Nodo raíz del grafo a compactar.
+     * @return Representación compacta equivalente al grafo.
+     * @post El grafo original no se modifica.
+     */
+    public static DawgCompacto desde(DawgNode raiz) {
+        // Símbolos presentes en el grafo, ordenados para obtener identificadores estables
+        Set<DawgNode> visitados = Collections.newSetFromMap(new IdentityHashMap<>());
+        Set<String> etiquetas = new TreeSet<>();
+        ArrayDeque<DawgNode> pendientes = new ArrayDeque<>();
+        visitados.add(raiz);
+        pendientes.add(raiz);
+        while (!pendientes.isEmpty()) {
+            for (Map.Entry<String, DawgNode> arista : pendientes.poll().getEdges().entrySet()) {
+                etiquetas.add(arista.getKey());
+                if (visitados.add(arista.getValue())) {
+                    pendientes.add(arista.getValue());
+                }
+            }
+        }
+        return desde(raiz, new Tokenizador(etiquetas));
+    }
+
+    /**
+     * Compacta el grafo accesible desde la raíz usando los identificadores de símbolo del tokenizador.
+     *
+     * @pre raiz y tokenizador no deben ser null; todas las etiquetas del grafo deben estar registradas en el tokenizador.
+     * @param raiz Nodo raíz del grafo a compactar.
+     * @param tokenizador Tabla de símbolos que fija los identificadores de los arcos.
+     * @return Representación compacta equivalente al grafo.
+     * @post El grafo original no se modifica.
+     */
+    public static DawgCompacto desde(DawgNode raiz, Tokenizador tokenizador) {
+        String[] simbolos = tokenizador.getSimbolos();
+        Map<String, Integer> idSimbolo = new HashMap<>();
+        for (int i = 0; i < simbolos.length; i++) {
+            idSimbolo.put(simbolos[i], i);
+        }
+
+        // Numeración en anchura siguiendo los arcos en orden de símbolo
+        Map<DawgNode, Integer> ids = new IdentityHashMap<>();
+        List<DawgNode> orden = new ArrayList<>();
+        List<String[]> etiquetasPorNodo = new ArrayList<>();
+        ids.put(raiz, 0);
+        orden.add(raiz);
+        int numArcos = 0;
+        for (int i = 0; i < orden.size(); i++) {
+            DawgNode nodo = orden.get(i);
+            String[] etiquetasNodo = nodo.getAllEdges().toArray(new String[0]);
+            Arrays.sort(etiquetasNodo, (x, y) -> Integer.compare(idSimbolo.get(x), idSimbolo.get(y)));
+            etiquetasPorNodo.add(etiquetasNodo);
+            for (String etiqueta : etiquetasNodo) {
+                DawgNode hijo = nodo.getEdge(etiqueta);
+                if (!ids.containsKey(hijo)) {
+                    ids.put(hijo, orden.size());
+                    orden.add(hijo);
+                }
+            }
+            numArcos += etiquetasNodo.length;
+        }
+
+        int numNodos = orden.size();
+        int[] primerArco = new int[numNodos + 1];
+        int[] simboloArco = new int[numArcos];
+        int[] destinoArco = new int[numArcos];
+        long[] finales = new long[(numNodos + 63) >>> 6];
+        int a = 0;
+        for (int n = 0; n < numNodos; n++) {
+            DawgNode nodo = orden.get(n);
+            primerArco[n] = a;
+            if (nodo.isFinal()) {
+                finales[n >>> 6] |= 1L << n;
+            }
+            for (String etiqueta : etiquetasPorNodo.get(n)) {
+                simboloArco[a] = idSimbolo.get(etiqueta);
+                destinoArco[a] = ids.get(nodo.getEdge(etiqueta));
+                a++;
+            }
+        }
+        primerArco[numNodos] = a;
+        return new DawgCompacto(simbolos, IntBuffer.wrap(primerArco), IntBuffer.wrap(simboloArco),
+                IntBuffer.wrap(destinoArco), LongBuffer.wrap(finales));
+    }
+
+    /**
+     * Reconstruye un grafo de {@link DawgNode} equivalente, conservando los nodos compartidos.
+     * Se utiliza cuando un DAWG compactado necesita volver a modificarse.
+     *
+     * @return Nodo raíz del grafo reconstruido.
+     * @post Se devuelve un grafo nuevo e independiente de esta representación.
+     */
+    public DawgNode descompactar() {
+        int numNodos = getNumNodos();
+        DawgNode[] nodos = new DawgNode[numNodos];
+        for (int n = 0; n < numNodos; n++) {
+            nodos[n] = new DawgNode();
+            nodos[n].setFinal(esFinal(n));
+            nodos[n].setIdCanonico(n);
+        }
+        for (int n = 0; n < numNodos; n++) {
+            for (int a = primerArco.get(n); a < primerArco.get(n + 1); a++) {
+                nodos[n].addEdge(simbolos[simboloArco.get(a)], nodos[destinoArco.get(a)]);
+            }
+        }
+        return nodos[RAIZ];
+    }
+
+    /**
+     * Obtiene el nodo destino de la transición desde un nodo con un símbolo.
+     *
+     * @pre nodo debe ser un identificador de nodo válido.
+     * @param nodo Nodo de origen.
+     * @param simbolo Identificador del símbolo.
+     * @return Nodo destino o {@link #SIN_NODO} si la transición no existe.
+     */
+    public int transicion(int nodo, int simbolo) {
+        int arco = getArco(nodo, simbolo);
+        return arco < 0 ? SIN_NODO : destinoArco.get(arco);
+    }
+
+    /**
+     * Busca el arco saliente de un nodo etiquetado con un símbolo.
+     *
+     * @pre nodo debe ser un identificador de nodo válido.
+     * @param nodo Nodo de origen.
+     * @param simbolo Identificador del símbolo.
+     * @return Índice del arco (entre {@link #getInicioArcos(int)} y {@link #getFinArcos(int)}) o -1 si no existe.
+     */
+    public int getArco(int nodo, int simbolo) {
+        int lo = primerArco.get(nodo);
+        int hi = primerArco.get(nodo + 1) - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            int s = simboloArco.get(mid);
+            if (s < simbolo) lo = mid + 1;
+            else if (s > simbolo) hi = mid - 1;
+            else return mid;
+        }
+        return -1;
+    }
+
+    /**
+     * Obtiene el nodo destino de la transición desde un nodo con un símbolo textual.
+     *
+     * @pre nodo debe ser un identificador de nodo válido.
+     * @param nodo Nodo de origen.
+     * @param simbolo Símbolo (letra o letra multicarácter).
+     * @return Nodo destino o {@link #SIN_NODO} si el símbolo no existe o la transición no existe.
+     */
+    public int transicion(int nodo, String simbolo) {
+        Integer id = idSimbolo.get(simbolo);
+        return id == null ? SIN_NODO : transicion(nodo, id);
+    }
+
+    /**
+     * Recorre una secuencia de símbolos desde la raíz.
+     *
+     * @pre tokens no debe ser null.
+     * @param tokens Símbolos de la palabra.
+     * @return Nodo alcanzado o {@link #SIN_NODO} si el camino no existe.
+     */
+    public int recorrer(List<String> tokens) {
+        int nodo = RAIZ;
+        for (String token : tokens) {
+            nodo = transicion(nodo, token);
+            if (nodo == SIN_NODO) return SIN_NODO;
+        }
+        return nodo;
+    }
+
+    /**
+     * Recorre un camino de identificadores de símbolo desde la raíz.
+     *
+     * @pre camino no debe ser null y longitud &lt;= camino.length.
+     * @param camino Identificadores de símbolo.
+     * @param longitud Número de símbolos a recorrer.
+     * @return Nodo alcanzado o {@link #SIN_NODO} si el camino no existe.
+     */
+    public int recorrer(int[] camino, int longitud) {
+        int nodo = RAIZ;
+        for (int i = 0; i < longitud && nodo != SIN_NODO; i++) {
+            nodo = transicion(nodo, camino[i]);
+        }
+        return nodo;
+    }
+
+    /**
+     * Indica si un nodo termina una palabra.
+     *
+     * @param nodo Identificador del nodo.
+     * @return true si el nodo es final.
+     */
+    public boolean esFinal(int nodo) {
+        return (finales.get(nodo >>> 6) & (1L << nodo)) != 0;
+    }
+
+    /**
+     * Obtiene los símbolos de los arcos salientes de un nodo.
+     *
+     * @param nodo Identificador del nodo.
+     * @return Conjunto (en orden de símbolo) de las etiquetas salientes.
+     */
+    public Set<String> getSimbolosSalientes(int nodo) {
+        int inicio = primerArco.get(nodo);
+        int fin = primerArco.get(nodo + 1);
+        if (inicio == fin) return Collections.emptySet();
+        Set<String> resultado = new LinkedHashSet<>();
+        for (int a = inicio; a < fin; a++) {
+            resultado.add(simbolos[simboloArco.get(a)]);
+        }
+        return resultado;
+    }
+
+    /**
+     * Indica si los símbolos salientes de un nodo se pueden consultar como máscara de bits,
+     * es decir, si el alfabeto tiene como mucho {@link Tokenizador#MAX_SIMBOLOS_MASCARA} símbolos.
+     *
+     * @return true si se admite {@link #getMascaraSalientes(int)}.
+     */
+    public boolean admiteMascaras() {
+        return simbolos.length <= Tokenizador.MAX_SIMBOLOS_MASCARA;
+    }
+
+    /**
+     * Obtiene los símbolos de los arcos salientes de un nodo como máscara de bits: el bit i está
+     * activo si existe un arco con el símbolo de identificador i. Como los arcos están ordenados
+     * por símbolo, el arco de un símbolo presente es el número de bits activos por debajo del suyo.
+     *
+     * @pre admiteMascaras() y nodo debe ser un identificador de nodo válido.
+     * @param nodo Identificador del nodo.
+     * @return Máscara de símbolos salientes.
+     * @throws IllegalStateException si el alfabeto no cabe en una máscara.
+     */
+    public long getMascaraSalientes(int nodo) {
+        long[] mascaras = mascarasSalientes;
+        if (mascaras == null) {
+            mascaras = calcularMascaras();
+            mascarasSalientes = mascaras;
+        }
+        return mascaras[nodo];
+    }
+
+    private long[] calcularMascaras() {
+        if (!admiteMascaras()) {
+            throw new IllegalStateException("El alfabeto tiene más de " + Tokenizador.MAX_SIMBOLOS_MASCARA
+                    + " símbolos y no admite máscaras de bits.");
+        }
+        int numNodos = getNumNodos();
+        long[] mascaras = new long[numNodos];
+        for (int nodo = 0; nodo < numNodos; nodo++) {
+            long mascara = 0L;
+            for (int a = primerArco.get(nodo), fin = primerArco.get(nodo + 1); a < fin; a++) {
+                mascara |= 1L << simboloArco.get(a);
+            }
+            mascaras[nodo] = mascara;
+        }
+        return mascaras;
+    }
+
+    /**
+     * Obtiene el número de palabras aceptadas, sin enumerarlas.
+     *
+     * @return Número de palabras del DAWG.
+     * @throws ArithmeticException si el DAWG acepta más de {@link Integer#MAX_VALUE} palabras.
+     */
+    public int getNumPalabras() {
+        return getNumPalabras(RAIZ);
+    }
+
+    /**
+     * Obtiene el número de palabras que se alcanzan desde un nodo, es decir, el número de palabras
+     * aceptadas que empiezan por cualquier camino que lleve a él.
+     *
+     * @pre nodo debe ser un identificador de nodo válido.
+     * @param nodo Identificador del nodo.
+     * @return Número de caminos desde el nodo hasta un nodo final (incluido el propio nodo si es final).
+     * @throws ArithmeticException si el DAWG acepta más de {@link Integer#MAX_VALUE} palabras.
+     */
+    public int getNumPalabras(int nodo) {
+        return getConteos().palabrasNodo[nodo];
+    }
+
+    /**
+     * Obtiene la posición de una palabra en el orden de símbolo de todas las palabras aceptadas.
+     * Si la palabra no se acepta, devuelve {@code -(puntoDeInsercion) - 1}, como
+     * {@link java.util.Arrays#binarySearch(int[], int)}, donde el punto de inserción es la posición
+     * que ocuparía. Recorre el camino una vez, sumando las palabras de los arcos anteriores.
+     *
+     * @pre camino no debe ser null y longitud &lt;= camino.length.
+     * @param camino Identificadores de símbolo de la palabra.
+     * @param longitud Número de símbolos a considerar.
+     * @return Posición de la palabra o un valor negativo si no se acepta.
+     * @throws ArithmeticException si el DAWG acepta más de {@link Integer#MAX_VALUE} palabras.
+     */
+    public int getIndice(int[] camino, int longitud) {
+        Conteos c = getConteos();
+        int nodo = RAIZ;
+        int indice = 0;
+        for (int i = 0; i < longitud; i++) {
+            if (esFinal(nodo)) {
+                indice++;
+            }
+            int inicio = primerArco.get(nodo);
+            int fin = primerArco.get(nodo + 1);
+            int simbolo = camino[i];
+            int lo = inicio;
+            int hi = fin - 1;
+            while (lo <= hi) {
+                int mid = (lo + hi) >>> 1;
+                int s = simboloArco.get(mid);
+                if (s < simbolo) lo = mid + 1;
+                else if (s > simbolo) hi = mid - 1;
+                else {
+                    lo = mid;
+                    break;
+                }
+            }
+            if (lo == fin || simboloArco.get(lo) != simbolo) {
+                // Va detrás de las palabras de los arcos con símbolo menor
+                indice += lo == fin ? c.palabrasNodo[nodo] - (esFinal(nodo) ? 1 : 0) : c.palabrasPrevias[lo];
+                return -indice - 1;
+            }
+            indice += c.palabrasPrevias[lo];
+            nodo = destinoArco.get(lo);
+        }
+        return esFinal(nodo) ? indice : -indice - 1;
+    }
+
+    /**
+     * Obtiene la palabra que ocupa una posición en el orden de símbolo de todas las palabras
+     * aceptadas. En cada nodo se elige por búsqueda binaria el arco cuyo intervalo de palabras
+     * contiene la posición restante.
+     *
+     * @pre 0 &lt;= indice &lt; getNumPalabras().
+     * @param indice Posición de la palabra.
+     * @return Palabra en esa posición.
+     * @throws IndexOutOfBoundsException si el índice está fuera de rango.
+     * @throws ArithmeticException si el DAWG acepta más de {@link Integer#MAX_VALUE} palabras.
+     */
+    public String getPalabra(int indice) {
+        Conteos c = getConteos();
+        if (indice < 0 || indice >= c.palabrasNodo[RAIZ]) {
+            throw new IndexOutOfBoundsException("Índice: " + indice + ", palabras: " + c.palabrasNodo[RAIZ]);
+        }
+        StringBuilder palabra = new StringBuilder();
+        int nodo = RAIZ;
+        int resto = indice;
+        while (true) {
+            if (esFinal(nodo)) {
+                if (resto == 0) return palabra.toString();
+                resto--;
+            }
+            int arco = arcoDePosicion(c, nodo, resto);
+            resto -= c.palabrasPrevias[arco];
+            palabra.append(simbolos[simboloArco.get(arco)]);
+            nodo = destinoArco.get(arco);
+        }
+    }
+
+    /**
+     * Último arco del nodo cuyas palabras previas no superan la posición, es decir, el arco bajo
+     * el que está la palabra de esa posición (relativa a los arcos del nodo).
+     */
+    private int arcoDePosicion(Conteos c, int nodo, int posicion) {
+        int lo = primerArco.get(nodo);
+        int hi = primerArco.get(nodo + 1) - 1;
+        while (lo < hi) {
+            int mid = (lo + hi + 1) >>> 1;
+            if (c.palabrasPrevias[mid] <= posicion) lo = mid;
+            else hi = mid - 1;
+        }
+        return lo;
+    }
+
+    private Conteos getConteos() {
+        Conteos c = conteos;
+        if (c == null) {
+            c = calcularConteos();
+            conteos = c;
+        }
+        return c;
+    }
+
+    /**
+     * Calcula las cuentas en postorden (los identificadores en anchura no son un orden topológico),
+     * con una pila explícita para no depender de la profundidad de recursión.
+     */
+    private Conteos calcularConteos() {
+        int numNodos = getNumNodos();
+        int[] palabrasNodo = new int[numNodos];
+        int[] palabrasPrevias = new int[getNumArcos()];
+        boolean[] calculado = new boolean[numNodos];
+        int[] pilaNodos = new int[16];
+        int[] pilaArcos = new int[16];
+        int p = 0;
+        pilaNodos[0] = RAIZ;
+        pilaArcos[0] = primerArco.get(RAIZ);
+        while (p >= 0) {
+            int nodo = pilaNodos[p];
+            int a = pilaArcos[p];
+            if (a < primerArco.get(nodo + 1)) {
+                pilaArcos[p]++;
+                int destino = destinoArco.get(a);
+                if (!calculado[destino]) {
+                    if (++p == pilaNodos.length) {
+                        pilaNodos = Arrays.copyOf(pilaNodos, p * 2);
+                        pilaArcos = Arrays.copyOf(pilaArcos, p * 2);
+                    }
+                    pilaNodos[p] = destino;
+                    pilaArcos[p] = primerArco.get(destino);
+                }
+                continue;
+            }
+            int total = esFinal(nodo) ? 1 : 0;
+            for (int arco = primerArco.get(nodo), fin = primerArco.get(nodo + 1); arco < fin; arco++) {
+                palabrasPrevias[arco] = total - (esFinal(nodo) ? 1 : 0);
+                total = Math.addExact(total, palabrasNodo[destinoArco.get(arco)]);
+            }
+            palabrasNodo[nodo] = total;
+            calculado[nodo] = true;
+            p--;
+        }
+        return new Conteos(palabrasNodo, palabrasPrevias);
+    }
+
+    /**
+     * Obtiene todas las palabras aceptadas, en orden de símbolo.
+     *
+     * @return Lista con todas las palabras.
+     */
+    public List<String> getAllWords() {
+        List<String> resultado = new ArrayList<>();
+        spliteratorPalabras().forEachRemaining(resultado::add);
+        return resultado;
+    }
+
+    /**
+     * Enumera perezosamente las palabras aceptadas, en orden de símbolo.
+     *
+     * El recorrido reutiliza un único {@link StringBuilder} para el camino actual y solo crea la
+     * cadena de cada palabra al emitirla. El flujo se puede ejecutar con {@link Stream#parallel()}:
+     * se divide por subárboles del primer símbolo (y, si solo queda uno, por los del siguiente).
+     *
+     * @return Flujo secuencial de las palabras.
+     */
+    public Stream<String> streamPalabras() {
+        return StreamSupport.stream(spliteratorPalabras(), false);
+    }
+
+    /**
+     * Obtiene un {@link Spliterator} sobre las palabras aceptadas, en orden de símbolo.
+     *
+     * @return Spliterator ordenado, sin duplicados ni nulos.
+     */
+    public Spliterator<String> spliteratorPalabras() {
+        return new SpliteratorPalabras(this, RAIZ, "", getInicioArcos(RAIZ), getFinArcos(RAIZ), true, Long.MAX_VALUE);
+    }
+
+    /**
+     * Enumera perezosamente las palabras aceptadas a partir de una posición del orden de símbolo,
+     * sin recorrer las anteriores: el recorrido se sitúa en la palabra {@code desde} bajando por
+     * los arcos según las cuentas de palabras, y continúa desde allí. Permite obtener una página
+     * de palabras con {@code streamPalabras(desde).limit(tamano)}.
+     *
+     * @pre desde &gt;= 0.
+     * @param desde Posición de la primera palabra; si es mayor o igual que el número de palabras, el flujo está vacío.
+     * @return Flujo secuencial de las palabras desde esa posición.
+     * @throws IllegalArgumentException si desde es negativo.
+     * @throws ArithmeticException si el DAWG acepta más de {@link Integer#MAX_VALUE} palabras.
+     */
+    public Stream<String> streamPalabras(int desde) {
+        if (desde < 0) {
+            throw new IllegalArgumentException("La posición inicial no puede ser negativa: " + desde);
+        }
+        SpliteratorPalabras palabras = new SpliteratorPalabras(this, RAIZ, "", getInicioArcos(RAIZ), getFinArcos(RAIZ), false, Long.MAX_VALUE);
+        palabras.situar(desde);
+        return StreamSupport.stream(palabras, false);
+    }
+
+    /**
+     * Escribe la representación binaria del DAWG (little-endian): tabla de símbolos en UTF-8,
+     * número de nodos y arcos, y las tablas de finales, primer arco, símbolo y destino, alineadas a 8 bytes.
+     *
+     * @pre canal debe estar abierto para escritura.
+     * @param canal Canal de destino.
+     * @throws IOException si falla la escritura.
+     * @post Se han escrito {@link #getTamanoSerializado()} bytes en el canal.
+     */
+    public void escribir(WritableByteChannel canal) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate((int) getTamanoSerializado()).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(simbolos.length);
+        for (String simbolo : simbolos) {
+            byte[] bytes = simbolo.getBytes(StandardCharsets.UTF_8);
+            buffer.putInt(bytes.length);
+            buffer.put(bytes);
+        }
+        buffer.putInt(getNumNodos());
+        buffer.putInt(getNumArcos());
+        buffer.position(alinear(buffer.position()));
+        for (int i = 0; i < finales.limit(); i++) buffer.putLong(finales.get(i));
+        for (int i = 0; i < primerArco.limit(); i++) buffer.putInt(primerArco.get(i));
+        for (int i = 0; i < simboloArco.limit(); i++) buffer.putInt(simboloArco.get(i));
+        for (int i = 0; i < destinoArco.limit(); i++) buffer.putInt(destinoArco.get(i));
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            canal.write(buffer);
+        }
+    }
+
+    /**
+     * Calcula el número de bytes que ocupa la representación binaria.
+     *
+     * @return Tamaño en bytes de lo que escribe {@link #escribir(WritableByteChannel)}.
+     */
+    public long getTamanoSerializado() {
+        long tamano = 4;
+        for (String simbolo : simbolos) {
+            tamano += 4 + simbolo.getBytes(StandardCharsets.UTF_8).length;
+        }
+        tamano = alinear(tamano + 8);
+        return tamano + 8L * finales.limit() + 4L * (primerArco.limit() + simboloArco.limit() + destinoArco.limit());
+    }
+
+    /**
+     * Crea un DAWG compacto que lee sus tablas directamente del buffer (sin copiarlas), a partir
+     * de la posición actual. Pensado para buffers proyectados en memoria con {@code FileChannel.map}.
+     * Las posiciones de alineación se cuentan desde el inicio del buffer.
+     *
+     * @pre datos contiene, desde su posición actual, lo escrito por {@link #escribir(WritableByteChannel)}
+     *      a partir de una posición con la misma alineación a 8 bytes.
+     * @param datos Buffer con la representación binaria.
+     * @return DAWG compacto respaldado por el buffer.
+     * @throws IllegalArgumentException si los datos están truncados o son incoherentes.
+     * @post La posición de datos avanza hasta el final de la representación.
+     */
+    public static DawgCompacto leer(ByteBuffer datos) {
+        ByteBuffer buffer = datos.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        try {
+            // Cada cuenta y longitud se comprueba contra lo que queda antes de reservar memoria
+            int numSimbolos = buffer.getInt();
+            if (numSimbolos < 0 || numSimbolos > buffer.remaining() / 4) {
+                throw new IllegalArgumentException("Número de símbolos de DAWG incoherente: " + numSimbolos);
+            }
+            String[] simbolos = new String[numSimbolos];
+            for (int i = 0; i < numSimbolos; i++) {
+                int longitud = buffer.getInt();
+                if (longitud < 0 || longitud > buffer.remaining()) {
+                    throw new IllegalArgumentException("Longitud de símbolo de DAWG incoherente: " + longitud);
+                }
+                byte[] bytes = new byte[longitud];
+                buffer.get(bytes);
+                simbolos[i] = new String(bytes, StandardCharsets.UTF_8);
+            }
+            int numNodos = buffer.getInt();
+            int numArcos = buffer.getInt();
+            if (numNodos < 1 || numArcos < 0) {
+                throw new IllegalArgumentException("Cabecera de DAWG incoherente.");
+            }
+            buffer.position(alinear(buffer.position()));
+            long bytesTablas = 8L * ((numNodos + 63L) >>> 6) + 4L * (numNodos + 1L) + 8L * numArcos;
+            if (bytesTablas > buffer.remaining()) {
+                throw new IllegalArgumentException("Datos de DAWG truncados.");
+            }
+            LongBuffer finales = vista(buffer, 8 * ((numNodos + 63) >>> 6)).asLongBuffer();
+            IntBuffer primerArco = vista(buffer, 4 * (numNodos + 1)).asIntBuffer();
+            IntBuffer simboloArco = vista(buffer, 4 * numArcos).asIntBuffer();
+            IntBuffer destinoArco = vista(buffer, 4 * numArcos).asIntBuffer();
+            if (primerArco.get(numNodos) != numArcos) {
+                throw new IllegalArgumentException("Tablas de DAWG incoherentes.");
+            }
+            datos.position(buffer.position());
+            return new DawgCompacto(simbolos, primerArco, simboloArco, destinoArco, finales);
+        } catch (java.nio.BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Datos de DAWG truncados.", e);
+        }
+    }
+
+    private static ByteBuffer vista(ByteBuffer buffer, int bytes) {
+        ByteBuffer vista = buffer.slice();
+        vista.limit(bytes);
+        buffer.position(buffer.position() + bytes);
+        return vista.order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    private static int alinear(int posicion) {
+        return (posicion + 7) & ~7;
+    }
+
+    private static long alinear(long posicion) {
+        return (posicion + 7) & ~7L;
+    }
+
+    /**
+     * Obtiene la tabla de símbolos indexada por identificador.
+     *
+     * @return Copia de la tabla de símbolos.
+     */
+    public String[] getSimbolos() {
+        return simbolos.clone();
+    }
+
+    /** @return Número de nodos. */
+    public int getNumNodos() {
+        return primerArco.limit() - 1;
+    }
+
+    /** @return Número de arcos. */
+    public int getNumArcos() {
+        return simboloArco.limit();
+    }
+
+    /** @return Número de nodos finales (que terminan una palabra). */
+    public int getNumFinales() {
+        int total = 0;
+        for (int i = 0; i < finales.limit(); i++) {
+            total += Long.bitCount(finales.get(i));
+        }
+        return total;
+    }
+
+    /**
+     * Estima los bytes de heap que retiene el DAWG: las tablas respaldadas por arrays, las tablas
+     * derivadas ya calculadas (máscaras de salientes y cuentas de palabras) y la tabla de símbolos.
+     * Las tablas leídas de un fichero proyectado en memoria no ocupan heap y se cuentan aparte en
+     * {@link #getBytesProyectados()}.
+     *
+     * @return Estimación de los bytes de heap retenidos.
+     */
+    public long getBytesHeap() {
+        long bytes = CABECERA_OBJETO + bytesHeap(finales, 8) + bytesHeap(primerArco, 4)
+                + bytesHeap(simboloArco, 4) + bytesHeap(destinoArco, 4);
+        for (String simbolo : simbolos) {
+            // Cadena, su array de bytes y su entrada en idSimbolo
+            bytes += 2 * CABECERA_OBJETO + CABECERA_ARRAY + simbolo.length() + BYTES_ENTRADA_MAPA;
+        }
+        long[] mascaras = mascarasSalientes;
+        if (mascaras != null) {
+            bytes += CABECERA_ARRAY + 8L * mascaras.length;
+        }
+        Conteos c = conteos;
+        if (c != null) {
+            bytes += CABECERA_OBJETO + 2 * CABECERA_ARRAY + 4L * (c.palabrasNodo.length + c.palabrasPrevias.length);
+        }
+        return bytes;
+    }
+
+    /**
+     * Obtiene los bytes de las tablas que se leen directamente de un fichero proyectado en memoria
+     * (fuera del heap).
+     *
+     * @return Bytes proyectados, 0 si el DAWG se construyó en memoria.
+     */
+    public long getBytesProyectados() {
+        return bytesProyectados(finales, 8) + bytesProyectados(primerArco, 4)
+                + bytesProyectados(simboloArco, 4) + bytesProyectados(destinoArco, 4);
+    }
+
+    private static long bytesHeap(java.nio.Buffer tabla, int bytesElemento) {
+        return tabla.hasArray() ? CABECERA_OBJETO + CABECERA_ARRAY + (long) bytesElemento * tabla.capacity() : CABECERA_OBJETO;
+    }
+
+    private static long bytesProyectados(java.nio.Buffer tabla, int bytesElemento) {
+        return tabla.hasArray() ? 0 : (long) bytesElemento * tabla.capacity();
+    }
+
+    /** @return Número de símbolos distintos usados en los arcos. */
+    public int getNumSimbolos() {
+        return simbolos.length;
+    }
+
+    /**
+     * Obtiene el identificador de un símbolo.
+     *
+     * @param simbolo Símbolo textual.
+     * @return Identificador o {@link Tokenizador#SIN_SIMBOLO} si ningún arco usa ese símbolo.
+     */
+    public int getIdSimbolo(String simbolo) {
+        Integer id = idSimbolo.get(simbolo);
+        return id == null ? Tokenizador.SIN_SIMBOLO : id;
+    }
+
+    /**
+     * Obtiene el primer arco saliente de un nodo. Los arcos de un nodo son los del intervalo
+     * {@code [getInicioArcos(nodo), getFinArcos(nodo))}, ordenados por símbolo.
+     *
+     * @param nodo Identificador del nodo.
+     * @return Índice del primer arco del nodo.
+     */
+    public int getInicioArcos(int nodo) {
+        return primerArco.get(nodo);
+    }
+
+    /**
+     * Obtiene el final (exclusivo) de los arcos salientes de un nodo.
+     *
+     * @param nodo Identificador del nodo.
+     * @return Índice siguiente al último arco del nodo.
+     */
+    public int getFinArcos(int nodo) {
+        return primerArco.get(nodo + 1);
+    }
+
+    /**
+     * Obtiene el símbolo de un arco.
+     *
+     * @param arco Índice del arco.
+     * @return Identificador del símbolo del arco.
+     */
+    public int getSimboloArco(int arco) {
+        return simboloArco.get(arco);
+    }
+
+    /**
+     * Obtiene el nodo destino de un arco.
+     *
+     * @param arco Índice del arco.
+     * @return Identificador del nodo destino.
+     */
+    public int getDestinoArco(int arco) {
+        return destinoArco.get(arco);
+    }
+
+    /**
+     * Obtiene el símbolo textual asociado a un identificador.
+     *
+     * @param id Identificador de símbolo.
+     * @return Símbolo correspondiente.
+     */
+    public String getSimbolo(int id) {
+        return simbolos[id];
+    }
+
+    /**
+     * Obtiene una vista de solo lectura de un nodo con la interfaz de {@link DawgNode}.
+     * Permite mantener la API basada en nodos una vez el grafo original se ha liberado.
+     *
+     * @param nodo Identificador del nodo.
+     * @return Vista inmutable del nodo.
+     */
+    public DawgNode getVistaNodo(int nodo) {
+        return new VistaNodo(this, nodo);
+    }
+
+    /**
+     * Recorrido en profundidad de las palabras bajo un nodo, limitado a un rango de sus arcos.
+     * La pila de nodos y arcos es explícita y el camino se guarda en un único StringBuilder.
+     * Solo se divide antes de empezar a recorrer: la parte devuelta toma la primera mitad de los
+     * arcos pendientes del nodo base (un prefijo en orden de encuentro). El número de palabras no se
+     * conoce, así que la estimación se reparte a partes iguales en cada división para que el flujo
+     * paralelo deje de dividir tras unos pocos niveles.
+     */
+    private static final class SpliteratorPalabras implements Spliterator<String> {
+        private final DawgCompacto dawg;
+        private final StringBuilder camino;
+        private int[] nodos = new int[16];
+        private int[] arcos = new int[16];
+        private int[] fines = new int[16];
+        private int[] longitudes = new int[16];
+        private int profundidad;
+        // El nodo base es final y su palabra aún no se ha emitido
+        private boolean finalPendiente;
+        private long estimacion;
+
+        SpliteratorPalabras(DawgCompacto dawg, int nodo, String prefijo, int desde, int hasta, boolean incluirFinal, long estimacion) {
+            this.dawg = dawg;
+            this.estimacion = estimacion;
+            this.camino = new StringBuilder(Math.max(16, prefijo.length() * 2)).append(prefijo);
+            base(nodo, desde, hasta);
+            this.finalPendiente = incluirFinal && dawg.esFinal(nodo);
+        }
+
+        private void base(int nodo, int desde, int hasta) {
+            profundidad = 0;
+            nodos[0] = nodo;
+            arcos[0] = desde;
+            fines[0] = hasta;
+            longitudes[0] = camino.length();
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super String> accion) {
+            if (finalPendiente) {
+                finalPendiente = false;
+                accion.accept(camino.toString());
+                return true;
+            }
+            while (profundidad >= 0) {
+                int p = profundidad;
+                if (arcos[p] == fines[p]) {
+                    profundidad--;
+                    continue;
+                }
+                int a = arcos[p]++;
+                camino.setLength(longitudes[p]);
+                camino.append(dawg.simbolos[dawg.simboloArco.get(a)]);
+                int destino = dawg.destinoArco.get(a);
+                apilar(destino);
+                if (dawg.esFinal(destino)) {
+                    accion.accept(camino.toString());
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private void apilar(int nodo) {
+            int p = ++profundidad;
+            if (p == nodos.length) {
+                nodos = Arrays.copyOf(nodos, p * 2);
+                arcos = Arrays.copyOf(arcos, p * 2);
+                fines = Arrays.copyOf(fines, p * 2);
+                longitudes = Arrays.copyOf(longitudes, p * 2);
+            }
+            nodos[p] = nodo;
+            arcos[p] = dawg.primerArco.get(nodo);
+            fines[p] = dawg.primerArco.get(nodo + 1);
+            longitudes[p] = camino.length();
+        }
+
+        /**
+         * Sitúa el recorrido, recién creado sobre la raíz, en la palabra de una posición: apila
+         * el camino hasta ella dejando cada nivel en el arco siguiente al tomado.
+         */
+        void situar(int posicion) {
+            DawgCompacto.Conteos c = dawg.getConteos();
+            int total = c.palabrasNodo[RAIZ];
+            if (posicion >= total) {
+                profundidad = -1;
+                estimacion = 0;
+                return;
+            }
+            estimacion = total - posicion;
+            int resto = posicion;
+            int nodo = RAIZ;
+            while (true) {
+                if (dawg.esFinal(nodo)) {
+                    if (resto == 0) {
+                        finalPendiente = true;
+                        return;
+                    }
+                    resto--;
+                }
+                int arco = dawg.arcoDePosicion(c, nodo, resto);
+                resto -= c.palabrasPrevias[arco];
+                arcos[profundidad] = arco + 1;
+                camino.append(dawg.simbolos[dawg.simboloArco.get(arco)]);
+                nodo = dawg.destinoArco.get(arco);
+                apilar(nodo);
+            }
+        }
+
+        @Override
+        public Spliterator<String> trySplit() {
+            if (profundidad != 0) return null;
+            // Con un único subárbol pendiente se baja a él para poder repartir sus hijos
+            while (fines[0] - arcos[0] == 1 && !finalPendiente) {
+                int a = arcos[0];
+                camino.append(dawg.simbolos[dawg.simboloArco.get(a)]);
+                int destino = dawg.destinoArco.get(a);
+                base(destino, dawg.primerArco.get(destino), dawg.primerArco.get(destino + 1));
+                finalPendiente = dawg.esFinal(destino);
+            }
+            int pendientes = fines[0] - arcos[0];
+            if (pendientes < 2) return null;
+            int mitad = arcos[0] + pendientes / 2;
+            estimacion >>>= 1;
+            Spliterator<String> prefijo = new SpliteratorPalabras(dawg, nodos[0], camino.toString(), arcos[0], mitad, finalPendiente, estimacion);
+            arcos[0] = mitad;
+            finalPendiente = false;
+            return prefijo;
+        }
+
+        @Override
+        public long estimateSize() {
+            return profundidad < 0 && !finalPendiente ? 0 : estimacion;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | DISTINCT | NONNULL | IMMUTABLE;
+        }
+    }
+
+    /** Número de palabras bajo cada nodo y, para cada arco, bajo los arcos anteriores del mismo nodo. */
+    private static final class Conteos {
+        final int[] palabrasNodo;
+        final int[] palabrasPrevias;
+
+        Conteos(int[] palabrasNodo, int[] palabrasPrevias) {
+            this.palabrasNodo = palabrasNodo;
+            this.palabrasPrevias = palabrasPrevias;
+        }
+    }
+
+    /**
+     * Vista de un nodo del DAWG compacto. Las operaciones de modificación no están permitidas.
+     */
+    private static final class VistaNodo extends DawgNode {
+        private final DawgCompacto dawg;
+        private final int nodo;
+
+        VistaNodo(DawgCompacto dawg, int nodo) {
+            super(Collections.emptyMap());
+            this.dawg = dawg;
+            this.nodo = nodo;
+        }
+
+        @Override
+        public DawgNode getEdge(String c) {
+            if (c == null) {
+                throw new NullPointerException("Edge character cannot be null.");
+            }
+            int destino = dawg.transicion(nodo, c);
+            return destino == SIN_NODO ? null : new VistaNodo(dawg, destino);
+        }
+
+        @Override
+        public Set<String> getAllEdges() {
+            return dawg.getSimbolosSalientes(nodo);
+        }
+
+        @Override
+        public Map<String, DawgNode> getEdges() {
+            Map<String, DawgNode> aristas = new HashMap<>();
+            for (int a = dawg.primerArco.get(nodo); a < dawg.primerArco.get(nodo + 1); a++) {
+                aristas.put(dawg.simbolos[dawg.simboloArco.get(a)], new VistaNodo(dawg, dawg.destinoArco.get(a)));
+            }
+            return Collections.unmodifiableMap(aristas);
+        }
+
+        @Override
+        public boolean isFinal() {
+            return dawg.esFinal(nodo);
+        }
+
+        @Override
+        public void addEdge(String c, DawgNode node) {
+            throw new UnsupportedOperationException("El DAWG compactado es de solo lectura.");
+        }
+
+        @Override
+        public void switchEdge(String c, DawgNode node) {
+            throw new UnsupportedOperationException("El DAWG compactado es de solo lectura.");
+        }
+
+        @Override
+        public DawgNode removeEdge(String c) {
+            throw new UnsupportedOperationException("El DAWG compactado es de solo lectura.");
+        }
+
+        @Override
+        public void setFinal(boolean isFinal) {
+            throw new UnsupportedOperationException("El DAWG compactado es de solo lectura.");
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof VistaNodo)) return false;
+            VistaNodo otra = (VistaNodo) o;
+            return dawg == otra.dawg && nodo == otra.nodo;
+        }
+
+        @Override
+        public int hashCode() {
+            return nodo;
+        }
+    }
+}
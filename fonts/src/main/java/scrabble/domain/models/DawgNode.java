@@ -22,6 +22,10 @@ public class DawgNode {
     // Make edges private and add a getter for better encapsulation
     private Map<String, DawgNode> edges;
     private boolean isFinal;
+    // Identificador del nodo en el registro de minimización (-1 si aún no está minimizado)
+    private int idCanonico = -1;
+    // Número de aristas que llegan al nodo; solo se mantiene durante la edición incremental del DAWG
+    private int gradoEntrada = 0;
 
     /**
      * Constructor por defecto. Inicializa un nodo sin aristas y no final.
@@ -37,6 +41,17 @@ public class DawgNode {
         this.isFinal = false;
     }
 
+    /**
+     * Constructor para subclases que no almacenan aristas propias, como las vistas
+     * de solo lectura sobre un {@link DawgCompacto}.
+     *
+     * @param edges Mapa de aristas a utilizar (normalmente vacío e inmutable).
+     */
+    DawgNode(Map<String, DawgNode> edges) {
+        this.edges = edges;
+        this.isFinal = false;
+    }
+
     /**
      * Obtiene el nodo conectado mediante una arista con la etiqueta dada.
      * Este método es esencial para la navegación en el DAWG durante las búsquedas
@@ -113,6 +128,23 @@ public class DawgNode {
          edges.put(c, node);
     }
 
+    /**
+     * Elimina la arista saliente con la etiqueta dada.
+     * Método utilizado al borrar palabras del DAWG cuando una rama deja de llevar a ninguna palabra.
+     *
+     * @pre c no debe ser null.
+     * @param c Etiqueta de la arista a eliminar.
+     * @return El nodo al que apuntaba la arista, o null si no existía.
+     * @post El nodo deja de tener una arista con la etiqueta dada.
+     * @throws NullPointerException si c es null
+     */
+    public DawgNode removeEdge(String c) {
+        if (c == null) {
+            throw new NullPointerException("Edge character cannot be null.");
+        }
+        return edges.remove(c);
+    }
+
     /**
      * Verifica si este nodo es final (indica el final de una palabra válida).
      *
@@ -135,6 +167,42 @@ public class DawgNode {
         this.isFinal = isFinal;
     }
 
+    /**
+     * Obtiene el identificador asignado al nodo al registrarlo como canónico durante la minimización.
+     *
+     * @return Identificador canónico o -1 si el nodo todavía no se ha minimizado.
+     */
+    int getIdCanonico() {
+        return idCanonico;
+    }
+
+    /**
+     * Asigna el identificador canónico del nodo.
+     *
+     * @param idCanonico Identificador único entre los nodos minimizados del DAWG.
+     */
+    void setIdCanonico(int idCanonico) {
+        this.idCanonico = idCanonico;
+    }
+
+    /**
+     * Obtiene el número de aristas que llegan a este nodo (solo válido en edición incremental).
+     *
+     * @return Grado de entrada del nodo.
+     */
+    int getGradoEntrada() {
+        return gradoEntrada;
+    }
+
+    /**
+     * Establece el número de aristas que llegan a este nodo.
+     *
+     * @param gradoEntrada Nuevo grado de entrada.
+     */
+    void setGradoEntrada(int gradoEntrada) {
+        this.gradoEntrada = gradoEntrada;
+    }
+
     // --- Implementations for structural equality ---
 
     @Override
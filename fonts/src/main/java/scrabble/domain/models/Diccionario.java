@@ -1,11 +1,16 @@
 package scrabble.domain.models;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Stream;
 
 /**
  * Clase que implementa un diccionario de palabras para el juego de Scrabble.
@@ -24,10 +29,19 @@ import java.util.Set;
 public class Diccionario implements Serializable {
     private static final long serialVersionUID = 1L;
 
+    // Entrada de HashMap con su clave String y su valor Integer en caché
+    private static final int BYTES_ENTRADA_ALFABETO = 80;
+
     /**
      * Estructura DAWG que almacena las palabras del diccionario.
      */
     private Dawg dawg;
+
+    /**
+     * Índice GADDAG opcional para la generación de jugadas. Se construye bajo demanda a partir
+     * de las palabras del DAWG y se descarta cuando cambian.
+     */
+    private transient volatile Gaddag gaddag;
     
     /**
      * Mapa que almacena los valores de puntos para cada letra del alfabeto.
@@ -44,6 +58,28 @@ public class Diccionario implements Serializable {
      */
     private Set<String> comodines;
 
+    /**
+     * Filtro de Bloom opcional que descarta la mayoría de las consultas negativas de
+     * {@link #contienePalabra(int[], int)} antes de recorrer el DAWG. Se construye bajo demanda
+     * si está activado y se descarta cuando se reemplaza el DAWG.
+     */
+    private transient volatile FiltroBloom prefiltro;
+
+    /**
+     * Indica si se usa el prefiltro de palabras.
+     */
+    private transient boolean usarPrefiltro;
+
+    /**
+     * Tiempo de la última construcción del DAWG a partir de palabras, en nanosegundos.
+     */
+    private transient long nanosConstruccion;
+
+    /**
+     * Tiempo de carga o creación del diccionario medido por el controlador, en nanosegundos.
+     */
+    private transient long nanosCarga;
+
     /**
      * Constructor por defecto que inicializa las estructuras de datos.
      * Crea un diccionario vacío listo para ser configurado con palabras, alfabeto y fichas.
@@ -76,9 +112,148 @@ public class Diccionario implements Serializable {
             throw new NullPointerException("La lista de palabras no puede ser null");
         }
         
+        long inicio = System.nanoTime();
         Dawg newDawg = new Dawg(this.alphabet.keySet());
         inicializarDawg(newDawg, palabras);
+        this.nanosConstruccion = System.nanoTime() - inicio;
         this.dawg = newDawg;
+        this.gaddag = null;
+        this.prefiltro = null;
+    }
+
+    /**
+     * Inicializa el DAWG del diccionario a partir de una representación compacta ya construida,
+     * por ejemplo la cargada de un fichero binario precompilado, sin volver a insertar las palabras.
+     *
+     * @pre compacto no debe ser null.
+     * @param compacto DAWG compacto con las palabras del diccionario.
+     * @post El diccionario resuelve las consultas sobre compacto.
+     * @throws NullPointerException si compacto es null
+     */
+    public void setDawgCompacto(DawgCompacto compacto) {
+        if (compacto == null) {
+            throw new NullPointerException("El DAWG compacto no puede ser null");
+        }
+        this.dawg = new Dawg(compacto);
+        this.gaddag = null;
+        this.prefiltro = null;
+        this.nanosConstruccion = 0;
+    }
+
+    /**
+     * Registra el tiempo que ha tardado en cargarse o crearse el diccionario, para sus estadísticas.
+     *
+     * @pre nanos no debe ser negativo.
+     * @param nanos Tiempo de carga en nanosegundos.
+     * @post {@link #getEstadisticas()} informa de este tiempo de carga.
+     */
+    public void setNanosCarga(long nanos) {
+        this.nanosCarga = nanos;
+    }
+
+    /**
+     * Obtiene las estadísticas de forma y memoria del diccionario: nodos, arcos y nodos finales
+     * del DAWG, bytes estimados retenidos (DAWG, GADDAG si se ha construido y alfabeto) y tiempos
+     * de construcción y de carga.
+     *
+     * @return Instantánea de las estadísticas.
+     * @post El estado del diccionario no se modifica, salvo que un DAWG en edición genera su vista compacta.
+     */
+    public EstadisticasDiccionario getEstadisticas() {
+        DawgCompacto compacto = dawg.compactar();
+        // Las cuentas de palabras se calculan antes de estimar para que se incluyan en los bytes
+        int numPalabras = compacto.getNumPalabras();
+        return new EstadisticasDiccionario(numPalabras, compacto.getNumNodos(), compacto.getNumArcos(),
+                compacto.getNumFinales(), estimarBytesHeap(), compacto.getBytesProyectados(), nanosConstruccion, nanosCarga);
+    }
+
+    /**
+     * Estima los bytes de heap que retiene el diccionario (DAWG, GADDAG y prefiltro si se han
+     * construido, y alfabeto) sin calcular ninguna tabla nueva, de modo que es barato llamarlo a menudo.
+     *
+     * @return Estimación de los bytes de heap retenidos.
+     * @post El estado del diccionario no se modifica.
+     */
+    public long estimarBytesHeap() {
+        long bytes = dawg.estimateRetainedBytes()
+                + (long) (alphabet.size() + bag.size() + comodines.size()) * BYTES_ENTRADA_ALFABETO;
+        Gaddag indice = gaddag;
+        if (indice != null) {
+            bytes += indice.getCompacto().getBytesHeap();
+        }
+        FiltroBloom filtro = prefiltro;
+        return filtro != null ? bytes + filtro.getBytesHeap() : bytes;
+    }
+
+    /**
+     * Crea una copia del diccionario con el mismo alfabeto, bolsa y comodines pero sin palabras,
+     * para responder a las consultas del alfabeto sin retener el DAWG.
+     *
+     * @return Diccionario nuevo con los metadatos de este y un DAWG vacío.
+     * @post El estado de este diccionario no se modifica; la copia no comparte estructuras con él.
+     */
+    public Diccionario copiarMetadatos() {
+        Diccionario copia = new Diccionario();
+        copia.alphabet.putAll(alphabet);
+        copia.bag.putAll(bag);
+        copia.comodines.addAll(comodines);
+        return copia;
+    }
+
+    /**
+     * Crea una instantánea nueva del diccionario con las altas y bajas indicadas, sin modificar
+     * este. La copia parte del mismo {@link DawgCompacto} (que es inmutable), aplica los cambios
+     * sobre su propio grafo y lo vuelve a compactar, de modo que se puede publicar y consultar
+     * desde varios hilos mientras este sigue atendiendo a quien lo tenga.
+     *
+     * @param altas Palabras a añadir (las que ya existen se ignoran).
+     * @param bajas Palabras a eliminar (las que no existen se ignoran); se aplican antes que las altas.
+     * @return Diccionario nuevo, compactado, con los mismos metadatos y la configuración del prefiltro.
+     * @pre altas y bajas no deben ser null.
+     * @post Este diccionario no cambia.
+     * @throws NullPointerException si altas o bajas son null.
+     * @throws IllegalArgumentException si alguna palabra está vacía o contiene símbolos fuera del alfabeto.
+     */
+    public Diccionario conCambios(Collection<String> altas, Collection<String> bajas) {
+        if (altas == null || bajas == null) {
+            throw new NullPointerException("Las listas de cambios no pueden ser null");
+        }
+        long inicio = System.nanoTime();
+        Diccionario copia = copiarMetadatos();
+        copia.dawg = new Dawg(dawg.compactar());
+        copia.usarPrefiltro = usarPrefiltro;
+        copia.nanosCarga = nanosCarga;
+        for (String palabra : bajas) {
+            copia.removeWord(palabra);
+        }
+        for (String palabra : altas) {
+            copia.addWord(palabra);
+        }
+        copia.dawg.finish();
+        copia.nanosConstruccion = System.nanoTime() - inicio;
+        return copia;
+    }
+
+    /**
+     * Obtiene el índice GADDAG del diccionario, construyéndolo la primera vez que se pide
+     * con las mismas palabras que contiene el DAWG.
+     *
+     * @pre El DAWG debe estar inicializado.
+     * @return GADDAG con las palabras actuales del diccionario.
+     * @post Las llamadas siguientes devuelven el mismo índice mientras no se modifiquen las palabras.
+     */
+    public Gaddag getGaddag() {
+        Gaddag indice = gaddag;
+        if (indice == null) {
+            synchronized (this) {
+                indice = gaddag;
+                if (indice == null) {
+                    indice = new Gaddag(alphabet.keySet(), dawg.getAllWords());
+                    gaddag = indice;
+                }
+            }
+        }
+        return indice;
     }
 
     /**
@@ -99,11 +274,8 @@ public class Diccionario implements Serializable {
             throw new NullPointerException("La lista de palabras no puede ser null");
         }
         
-        for (String palabra : palabras) {
-            dawg.insert(palabra);
-        }
-
-        dawg.finish(); // Finaliza la construcción del DAWG
+        // Ordena según los símbolos del alfabeto y, con listas grandes, construye en varios hilos
+        dawg.buildParallel(palabras);
     }
 
     /**
@@ -244,6 +416,348 @@ public class Diccionario implements Serializable {
         return dawg.search(palabra.toUpperCase());
     }
     
+    /**
+     * Verifica si un camino de identificadores de símbolo forma una palabra del diccionario.
+     * Evita tokenizar cadenas cuando el llamador ya trabaja con identificadores.
+     *
+     * @pre ruta no debe ser null y longitud &lt;= ruta.length.
+     * @param ruta Identificadores de símbolo obtenidos con {@link #codificar(String)} o {@link #getIdSimbolo(String)}.
+     * @param longitud Número de símbolos de la ruta a considerar.
+     * @return true si la palabra existe, false en caso contrario.
+     * @post El estado del diccionario no se modifica.
+     */
+    public boolean contienePalabra(int[] ruta, int longitud) {
+        if (dawg == null || longitud == 0) return false;
+        FiltroBloom filtro = usarPrefiltro ? getPrefiltro() : null;
+        if (filtro != null && !filtro.puedeContener(ruta, longitud)) {
+            return false;
+        }
+        boolean existe = dawg.search(ruta, longitud);
+        if (filtro != null && !existe) {
+            filtro.anotarFalsoPositivo();
+        }
+        return existe;
+    }
+
+    /**
+     * Activa o desactiva el prefiltro de {@link #contienePalabra(int[], int)}: un filtro de Bloom
+     * con las palabras del diccionario que descarta la mayoría de las palabras inexistentes sin
+     * recorrer el DAWG. Las palabras que deja pasar se confirman siempre en el DAWG, así que las
+     * respuestas no cambian.
+     *
+     * @param activo true para usar el prefiltro.
+     * @post Con el prefiltro activo, se construye la primera vez que se consulta una palabra.
+     */
+    public void setPrefiltro(boolean activo) {
+        this.usarPrefiltro = activo;
+        if (!activo) {
+            this.prefiltro = null;
+        }
+    }
+
+    /** @return true si el prefiltro de palabras está activado. */
+    public boolean usaPrefiltro() {
+        return usarPrefiltro;
+    }
+
+    /**
+     * Obtiene el prefiltro de palabras, construyéndolo si está activado y aún no existe.
+     *
+     * @return El prefiltro con sus cuentas de consultas, o null si está desactivado.
+     * @post El estado del diccionario no cambia, salvo por la construcción del prefiltro.
+     */
+    public FiltroBloom getPrefiltro() {
+        if (!usarPrefiltro) {
+            return null;
+        }
+        FiltroBloom filtro = prefiltro;
+        if (filtro == null) {
+            synchronized (this) {
+                filtro = prefiltro;
+                if (filtro == null) {
+                    filtro = FiltroBloom.desde(dawg.compactar(), FiltroBloom.BITS_POR_PALABRA);
+                    prefiltro = filtro;
+                }
+            }
+        }
+        return filtro;
+    }
+
+    /**
+     * Convierte una palabra en su camino de identificadores de símbolo.
+     *
+     * @pre palabra no debe ser null.
+     * @param palabra Palabra a codificar (se convierte a mayúsculas).
+     * @return Identificadores de los símbolos, o null si la palabra contiene símbolos fuera del alfabeto.
+     * @post El estado del diccionario no se modifica.
+     * @throws NullPointerException si palabra es null
+     */
+    public int[] codificar(String palabra) {
+        if (palabra == null) {
+            throw new NullPointerException("La palabra no puede ser null");
+        }
+        return dawg.getTokenizador().tokenizarSiExiste(palabra.toUpperCase());
+    }
+
+    /**
+     * Obtiene el identificador de un símbolo del alfabeto del diccionario.
+     *
+     * @param simbolo Símbolo (letra o letra multicarácter).
+     * @return Identificador del símbolo o {@link Tokenizador#SIN_SIMBOLO} si no existe.
+     */
+    public int getIdSimbolo(String simbolo) {
+        return dawg.getSymbolId(simbolo);
+    }
+
+    /**
+     * Indica si los conjuntos de símbolos del alfabeto se pueden representar como máscaras de bits
+     * {@code long} (alfabetos de hasta 64 símbolos, contando las letras multicarácter).
+     *
+     * @return true si se admiten las consultas con máscaras.
+     */
+    public boolean admiteMascaras() {
+        return dawg.getTokenizador().admiteMascaras();
+    }
+
+    /**
+     * Obtiene la máscara de bits de un conjunto de símbolos, con los mismos identificadores que
+     * {@link #getIdSimbolo(String)} y que las máscaras de los cursores del DAWG.
+     *
+     * @pre admiteMascaras() y simbolos no debe ser null.
+     * @param simbolos Símbolos a incluir; los que no pertenecen al alfabeto se ignoran.
+     * @return Máscara con un bit por símbolo.
+     * @throws NullPointerException si simbolos es null
+     */
+    public long getMascara(Collection<String> simbolos) {
+        if (simbolos == null) {
+            throw new NullPointerException("El conjunto de símbolos no puede ser null");
+        }
+        return dawg.getTokenizador().getMascara(simbolos);
+    }
+
+    /**
+     * Obtiene la máscara de bits de las letras que se pueden jugar con un atril. Si el atril
+     * contiene un comodín, se puede jugar cualquier letra del alfabeto que no sea un comodín.
+     *
+     * @pre admiteMascaras() y atril no debe ser null.
+     * @param atril Fichas del atril y su cantidad.
+     * @return Máscara de los símbolos jugables.
+     * @throws NullPointerException si atril es null
+     */
+    public long getMascaraAtril(Map<String, Integer> atril) {
+        if (atril == null) {
+            throw new NullPointerException("El atril no puede ser null");
+        }
+        Tokenizador tokenizador = dawg.getTokenizador();
+        long mascara = 0L;
+        for (Map.Entry<String, Integer> ficha : atril.entrySet()) {
+            if (ficha.getValue() == null || ficha.getValue() <= 0) continue;
+            if (comodines.contains(ficha.getKey())) {
+                long todas = tokenizador.getMascara(alphabet.keySet());
+                return todas & ~tokenizador.getMascara(comodines);
+            }
+            int id = tokenizador.getId(ficha.getKey());
+            if (id != Tokenizador.SIN_SIMBOLO) {
+                mascara |= 1L << id;
+            }
+        }
+        return mascara;
+    }
+
+    /**
+     * Obtiene los símbolos de una máscara de bits.
+     *
+     * @pre admiteMascaras().
+     * @param mascara Máscara obtenida de este diccionario.
+     * @return Conjunto de los símbolos con su bit activo.
+     */
+    public Set<String> getSimbolosMascara(long mascara) {
+        return dawg.getTokenizador().getSimbolosMascara(mascara);
+    }
+
+    /**
+     * Enumera perezosamente las palabras del diccionario, en orden de símbolo, sin materializar la
+     * lista completa. Admite {@code parallel()} para contar, filtrar o exportar en varios hilos.
+     *
+     * @return Flujo de las palabras del diccionario.
+     * @post El estado del diccionario no se modifica.
+     */
+    public Stream<String> streamPalabras() {
+        return dawg.streamWords();
+    }
+
+    /**
+     * Obtiene el número de palabras del diccionario a partir de las cuentas del DAWG, sin enumerarlas.
+     *
+     * @return Número de palabras.
+     * @post El estado del diccionario no se modifica.
+     */
+    public int getNumPalabras() {
+        return dawg.countWords();
+    }
+
+    /**
+     * Cuenta las palabras del diccionario que empiezan por un prefijo, en tiempo proporcional a
+     * la longitud del prefijo.
+     *
+     * @pre prefijo no debe ser null.
+     * @param prefijo Prefijo (se convierte a mayúsculas); la cadena vacía cuenta todas las palabras.
+     * @return Número de palabras con ese prefijo, 0 si contiene símbolos fuera del alfabeto.
+     * @throws NullPointerException si prefijo es null
+     * @post El estado del diccionario no se modifica.
+     */
+    public int contarPrefijo(String prefijo) {
+        int[] ruta = codificar(prefijo);
+        if (ruta == null) return 0;
+        DawgCompacto compacto = dawg.compactar();
+        int nodo = compacto.recorrer(ruta, ruta.length);
+        return nodo == DawgCompacto.SIN_NODO ? 0 : compacto.getNumPalabras(nodo);
+    }
+
+    /**
+     * Obtiene la posición de una palabra en el orden del diccionario, en tiempo proporcional a su longitud.
+     *
+     * @pre palabra no debe ser null.
+     * @param palabra Palabra a buscar (se convierte a mayúsculas).
+     * @return Posición de la palabra o un valor negativo si no está en el diccionario.
+     * @throws NullPointerException si palabra es null
+     * @post El estado del diccionario no se modifica.
+     * @see DawgCompacto#getIndice(int[], int)
+     */
+    public int getIndicePalabra(String palabra) {
+        int[] ruta = codificar(palabra);
+        return ruta == null ? -1 : dawg.compactar().getIndice(ruta, ruta.length);
+    }
+
+    /**
+     * Obtiene la palabra que ocupa una posición en el orden del diccionario, en tiempo
+     * proporcional a su longitud.
+     *
+     * @pre 0 &lt;= indice &lt; getNumPalabras().
+     * @param indice Posición de la palabra.
+     * @return Palabra en esa posición.
+     * @throws IndexOutOfBoundsException si la posición está fuera de rango.
+     * @post El estado del diccionario no se modifica.
+     */
+    public String getPalabra(int indice) {
+        return dawg.getWord(indice);
+    }
+
+    /**
+     * Obtiene una página de palabras del diccionario: se sitúa directamente en la primera
+     * palabra de la página y enumera a partir de ella, sin recorrer las anteriores.
+     *
+     * @pre desde &gt;= 0 y tamano &gt;= 0.
+     * @param desde Posición de la primera palabra de la página.
+     * @param tamano Número máximo de palabras de la página.
+     * @return Palabras de la página, en orden de símbolo; vacía si desde supera el número de palabras.
+     * @throws IllegalArgumentException si desde o tamano son negativos.
+     * @post El estado del diccionario no se modifica.
+     */
+    public List<String> getPagina(int desde, int tamano) {
+        if (tamano < 0) {
+            throw new IllegalArgumentException("El tamaño de página no puede ser negativo");
+        }
+        List<String> pagina = new ArrayList<>(Math.min(tamano, 1024));
+        dawg.streamWords(desde).limit(tamano).forEachOrdered(pagina::add);
+        return pagina;
+    }
+
+    /**
+     * Busca las palabras del diccionario que encajan con un patrón, resolviéndolo sobre el DAWG
+     * sin recorrer la lista completa de palabras.
+     *
+     * @pre patron no debe ser null ni vacío.
+     * @param patron Patrón con símbolos del alfabeto, {@code ?} (un símbolo) y {@code *} (cualquier
+     *               secuencia); se convierte a mayúsculas.
+     * @return Flujo perezoso de las palabras que encajan, en orden de símbolo.
+     * @throws NullPointerException si patron es null
+     * @throws IllegalArgumentException si el patrón está vacío o es demasiado largo
+     * @post El estado del diccionario no se modifica.
+     */
+    public Stream<String> buscarPatron(String patron) {
+        if (patron == null) {
+            throw new NullPointerException("El patrón no puede ser null");
+        }
+        return dawg.matchPattern(patron.trim().toUpperCase());
+    }
+
+    /**
+     * Busca las palabras del diccionario que se pueden formar con las fichas de un atril,
+     * recorriendo el DAWG y podando cada rama en cuanto el atril no la puede continuar.
+     * Los comodines ({@code #} o los definidos en el alfabeto) pueden cubrir cualquier símbolo.
+     *
+     * @pre atril no debe ser null.
+     * @param atril Fichas del atril y su cantidad; las fichas que no pertenecen al alfabeto se ignoran.
+     * @param soloCompletos true para devolver solo los anagramas que usan todas las fichas, false
+     *                      para incluir también los subanagramas.
+     * @return Anagramas en orden de símbolo, sin repetidos.
+     * @throws NullPointerException si atril es null
+     * @throws IllegalArgumentException si el atril tiene más de {@link BuscadorAnagramas#MAX_FICHAS} fichas
+     * @post El estado del diccionario no se modifica.
+     */
+    public List<BuscadorAnagramas.Anagrama> buscarAnagramas(Map<String, Integer> atril, boolean soloCompletos) {
+        if (atril == null) {
+            throw new NullPointerException("El atril no puede ser null");
+        }
+        DawgCompacto compacto = dawg.compactar();
+        int[] cuentas = new int[compacto.getNumSimbolos()];
+        int numComodines = 0;
+        for (Map.Entry<String, Integer> ficha : atril.entrySet()) {
+            int cantidad = ficha.getValue() == null ? 0 : Math.max(0, ficha.getValue());
+            if ("#".equals(ficha.getKey()) || comodines.contains(ficha.getKey())) {
+                numComodines += cantidad;
+            } else {
+                int id = compacto.getIdSimbolo(ficha.getKey());
+                if (id != Tokenizador.SIN_SIMBOLO) {
+                    cuentas[id] += cantidad;
+                }
+            }
+        }
+        int[] puntos = new int[compacto.getNumSimbolos()];
+        for (int id = 0; id < puntos.length; id++) {
+            puntos[id] = getPuntaje(compacto.getSimbolo(id));
+        }
+
+        List<BuscadorAnagramas.Anagrama> resultado = new ArrayList<>();
+        new BuscadorAnagramas(compacto, puntos).buscar(cuentas, numComodines, 1, soloCompletos, resultado::add);
+        return resultado;
+    }
+
+    /**
+     * Busca los anagramas y subanagramas de un atril agrupados por su número de fichas.
+     *
+     * @pre atril no debe ser null.
+     * @param atril Fichas del atril y su cantidad.
+     * @return Mapa ordenado de longitud (en símbolos) a las palabras de esa longitud, en orden de símbolo.
+     * @throws NullPointerException si atril es null
+     * @post El estado del diccionario no se modifica.
+     */
+    public Map<Integer, List<String>> buscarAnagramasPorLongitud(Map<String, Integer> atril) {
+        Map<Integer, List<String>> grupos = new TreeMap<>();
+        for (BuscadorAnagramas.Anagrama anagrama : buscarAnagramas(atril, false)) {
+            grupos.computeIfAbsent(anagrama.getLongitud(), k -> new ArrayList<>()).add(anagrama.getPalabra());
+        }
+        return grupos;
+    }
+
+    /**
+     * Busca los anagramas de un atril ordenados de mayor a menor puntuación según
+     * {@link #getPuntaje(String)}; los símbolos cubiertos con comodín valen 0.
+     *
+     * @pre atril no debe ser null.
+     * @param atril Fichas del atril y su cantidad.
+     * @param soloCompletos true para devolver solo los anagramas que usan todas las fichas.
+     * @return Anagramas ordenados por puntuación descendente y, a igual puntuación, en orden de símbolo.
+     * @throws NullPointerException si atril es null
+     * @post El estado del diccionario no se modifica.
+     */
+    public List<BuscadorAnagramas.Anagrama> buscarAnagramasPorPuntuacion(Map<String, Integer> atril, boolean soloCompletos) {
+        List<BuscadorAnagramas.Anagrama> anagramas = buscarAnagramas(atril, soloCompletos);
+        anagramas.sort(Comparator.comparingInt(BuscadorAnagramas.Anagrama::getPuntuacion).reversed());
+        return anagramas;
+    }
+
     /**
      * Obtiene los caracteres del alfabeto.
      * 
@@ -372,6 +886,32 @@ public class Diccionario implements Serializable {
         return dawg.isFinal(palabraParcial);
     }
 
+    /**
+     * Obtiene un cursor en la raíz del DAWG, para recorrerlo símbolo a símbolo sin volver a
+     * consultar la palabra parcial completa en cada paso.
+     *
+     * @return Cursor en la raíz del DAWG.
+     * @post El cursor refleja las palabras actuales; tras modificar el diccionario hay que pedir otro.
+     */
+    public CursorDawg getCursor() {
+        return dawg.getCursor();
+    }
+
+    /**
+     * Obtiene un cursor en el nodo alcanzado por una palabra parcial.
+     *
+     * @pre La palabra parcial no debe ser null.
+     * @param palabraParcial Prefijo a recorrer.
+     * @return Cursor al final del prefijo, o null si ninguna palabra empieza por él.
+     * @throws NullPointerException si palabraParcial es null
+     */
+    public CursorDawg getCursor(String palabraParcial) {
+        if (palabraParcial == null) {
+            throw new NullPointerException("La palabra parcial no puede ser null");
+        }
+        return dawg.getCursor(palabraParcial.toUpperCase());
+    }
+
     /**
      * Verifica si existe un nodo para una palabra parcial en el DAWG.
      *
@@ -398,6 +938,9 @@ public class Diccionario implements Serializable {
      * @post La palabra se añade al DAWG si no existía previamente.
      * @throws NullPointerException si palabra es null
      * @throws IllegalArgumentException si palabra está vacía
+     *
+     * @apiNote Modifica el diccionario en el sitio; para uno compartido entre hilos, use
+     *          {@link #conCambios(Collection, Collection)}.
      */
     public boolean addWord(String palabra) {
         if (palabra == null) {
@@ -409,12 +952,16 @@ public class Diccionario implements Serializable {
             throw new IllegalArgumentException("La palabra no puede estar vacía");
         }
         
-        if (contienePalabra(palabra)) {
-            return false; // La palabra ya existe
+        boolean anadida = dawg.add(palabra); // Inserción incremental, no requiere orden
+        if (anadida) {
+            gaddag = null;
+            FiltroBloom filtro = prefiltro;
+            if (filtro != null) {
+                int[] ruta = codificar(palabra);
+                filtro.anadir(ruta, ruta.length);
+            }
         }
-        
-        dawg.insert(palabra);
-        return true;
+        return anadida;
     }
 
     /**
@@ -427,7 +974,9 @@ public class Diccionario implements Serializable {
      * @throws NullPointerException si palabra es null
      * @throws IllegalArgumentException si palabra está vacía
      * 
-     * @apiNote Esta operación puede ser costosa ya que requiere reconstruir el DAWG.
+     * @apiNote El DAWG se actualiza de forma incremental, sin reconstruirlo. Modifica el
+     *          diccionario en el sitio; para uno compartido entre hilos, use
+     *          {@link #conCambios(Collection, Collection)}.
      */
     public boolean removeWord(String palabra) {
         if (palabra == null) {
@@ -439,20 +988,9 @@ public class Diccionario implements Serializable {
             throw new IllegalArgumentException("La palabra no puede estar vacía");
         }
         
-        if (!contienePalabra(palabra)) {
-            return false; // La palabra no existe
-        }
-        
-        // Para eliminar una palabra necesitamos reconstruir el DAWG
-        // Obtenemos todas las palabras excepto la que queremos eliminar
-        List<String> palabras = dawg.getAllWords();
-        palabras.remove(palabra);
-        
-        // Reconstruimos el DAWG
-        Dawg newDawg = new Dawg(this.alphabet.keySet());
-        inicializarDawg(newDawg, palabras);
-        this.dawg = newDawg;
-        
-        return true;
+        // El prefiltro no admite bajas: sigue conteniendo la palabra, lo que solo cuesta un falso positivo
+        boolean eliminada = dawg.remove(palabra);
+        if (eliminada) gaddag = null;
+        return eliminada;
     }
 }
\ No newline at end of file
@@ -0,0 +1,131 @@
+package scrabble.domain.models;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Estadísticas de forma y memoria de un diccionario cargado: tamaño del DAWG (nodos, arcos y
+ * nodos finales), bytes estimados que retiene en el heap y en ficheros proyectados, y tiempos de
+ * construcción y de carga. Es una instantánea inmutable tomada con {@link Diccionario#getEstadisticas()}.
+ *
+ * Los bytes son una estimación a partir del tamaño de las tablas y de los objetos de una JVM de
+ * 64 bits con referencias comprimidas; sirven para comparar diccionarios, no como medida exacta.
+ *
+ * @version 1.0
+ * @since 2.0
+ */
+public final class EstadisticasDiccionario {
+
+    private final int numPalabras;
+    private final int numNodos;
+    private final int numArcos;
+    private final int numFinales;
+    private final long bytesHeap;
+    private final long bytesProyectados;
+    private final long nanosConstruccion;
+    private final long nanosCarga;
+
+    /**
+     * Crea una instantánea de estadísticas.
+     *
+     * @param numPalabras Número de palabras del diccionario.
+     * @param numNodos Número de nodos del DAWG.
+     * @param numArcos Número de arcos del DAWG.
+     * @param numFinales Número de nodos finales del DAWG.
+     * @param bytesHeap Bytes estimados retenidos en el heap.
+     * @param bytesProyectados Bytes leídos de un fichero proyectado en memoria, fuera del heap.
+     * @param nanosConstruccion Tiempo de construcción del DAWG a partir de las palabras (0 si se leyó precompilado).
+     * @param nanosCarga Tiempo total de carga o creación del diccionario (0 si no se ha medido).
+     * @pre Todos los valores deben ser no negativos.
+     * @post Se crea una instantánea inmutable con los valores dados.
+     */
+    public EstadisticasDiccionario(int numPalabras, int numNodos, int numArcos, int numFinales, long bytesHeap,
+                                   long bytesProyectados, long nanosConstruccion, long nanosCarga) {
+        this.numPalabras = numPalabras;
+        this.numNodos = numNodos;
+        this.numArcos = numArcos;
+        this.numFinales = numFinales;
+        this.bytesHeap = bytesHeap;
+        this.bytesProyectados = bytesProyectados;
+        this.nanosConstruccion = nanosConstruccion;
+        this.nanosCarga = nanosCarga;
+    }
+
+    /** @return Número de palabras del diccionario. */
+    public int getNumPalabras() {
+        return numPalabras;
+    }
+
+    /** @return Número de nodos del DAWG. */
+    public int getNumNodos() {
+        return numNodos;
+    }
+
+    /** @return Número de arcos del DAWG. */
+    public int getNumArcos() {
+        return numArcos;
+    }
+
+    /** @return Número de nodos finales del DAWG. */
+    public int getNumFinales() {
+        return numFinales;
+    }
+
+    /** @return Bytes estimados retenidos en el heap (DAWG, GADDAG si se ha construido y alfabeto). */
+    public long getBytesHeap() {
+        return bytesHeap;
+    }
+
+    /** @return Bytes de las tablas leídas de un fichero proyectado en memoria. */
+    public long getBytesProyectados() {
+        return bytesProyectados;
+    }
+
+    /**
+     * Obtiene los bytes por palabra, sumando los del heap y los proyectados.
+     *
+     * @return Bytes por palabra, 0 si el diccionario está vacío.
+     */
+    public double getBytesPorPalabra() {
+        return numPalabras == 0 ? 0 : (double) (bytesHeap + bytesProyectados) / numPalabras;
+    }
+
+    /** @return Tiempo de construcción del DAWG en nanosegundos (0 si se leyó precompilado). */
+    public long getNanosConstruccion() {
+        return nanosConstruccion;
+    }
+
+    /** @return Tiempo de carga o creación del diccionario en nanosegundos (0 si no se ha medido). */
+    public long getNanosCarga() {
+        return nanosCarga;
+    }
+
+    /**
+     * Devuelve las estadísticas como un mapa ordenado de nombre a valor, para mostrarlas en la
+     * interfaz sin depender de esta clase. Los tiempos se expresan en milisegundos.
+     *
+     * @return Mapa con las estadísticas, en un orden fijo.
+     * @post El estado del objeto no se modifica.
+     */
+    public Map<String, Number> toMap() {
+        Map<String, Number> mapa = new LinkedHashMap<>();
+        mapa.put("palabras", numPalabras);
+        mapa.put("nodos", numNodos);
+        mapa.put("arcos", numArcos);
+        mapa.put("finales", numFinales);
+        mapa.put("bytesHeap", bytesHeap);
+        mapa.put("bytesProyectados", bytesProyectados);
+        mapa.put("bytesPorPalabra", getBytesPorPalabra());
+        mapa.put("msConstruccion", nanosConstruccion / 1e6);
+        mapa.put("msCarga", nanosCarga / 1e6);
+        return mapa;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%,d palabras, %,d nodos, %,d arcos, %,d finales, %,d bytes de heap, %,d bytes proyectados, "
+                        + "%.1f bytes/palabra, construcción %.1f ms, carga %.1f ms",
+                numPalabras, numNodos, numArcos, numFinales, bytesHeap, bytesProyectados, getBytesPorPalabra(),
+                nanosConstruccion / 1e6, nanosCarga / 1e6);
+    }
+}
@@ -0,0 +1,220 @@
+package scrabble.domain.models;
+
+import java.util.Arrays;
+
+/**
+ * Filtro de Bloom por bloques sobre los caminos de identificadores de símbolo de las palabras de un
+ * DAWG. Responde en tiempo constante si una palabra puede estar en el diccionario: un "no" es
+ * seguro y un "sí" se debe confirmar en el DAWG. Lo usa {@link Diccionario} como prefiltro de
+ * {@link Diccionario#contienePalabra(int[], int)}, donde la mayoría de las consultas de las
+ * verificaciones cruzadas son negativas.
+ *
+ * Cada palabra marca un bit en cada una de las 8 palabras {@code long} de un bloque de 64 bytes
+ * elegido por su hash, de modo que una consulta lee una sola línea de caché. Con unos 10 bits por
+ * palabra la tasa de falsos positivos ronda el 1-2 %. Las palabras se pueden añadir, pero no quitar:
+ * tras eliminar una palabra del diccionario el filtro sigue siendo válido, solo algo menos selectivo.
+ *
+ * Lleva la cuenta (aproximada si se consulta desde varios hilos) de las consultas, las que descarta
+ * y los falsos positivos que le notifica el diccionario.
+ *
+ * @version 1.0
+ * @since 2.0
+ */
+public final class FiltroBloom {
+
+    /** Bits por palabra con los que {@link Diccionario} construye el filtro. */
+    public static final int BITS_POR_PALABRA = 10;
+
+    private static final int LONGS_POR_BLOQUE = 8;
+    private static final long[] SALES = {
+        0x47b6137b44974d91L, 0x8824ad5ba2b7289dL, 0x705495c72df1424bL, 0x9efc49475c6bfb31L,
+        0x2df1424b9efc4947L, 0x5c6bfb3144974d91L, 0xa2b7289d705495c7L, 0x44974d918824ad5bL
+    };
+    // Semilla del hash de un camino
+    private static final long SEMILLA = 0x9E3779B97F4A7C15L;
+
+    private final long[] bits;
+    private final int numBloques;
+    private int numPalabras;
+    private long consultas;
+    private long descartes;
+    private long falsosPositivos;
+
+    private FiltroBloom(int numPalabras, int bitsPorPalabra) {
+        long bitsTotales = Math.max(1L, (long) numPalabras) * bitsPorPalabra;
+        this.numBloques = (int) Math.max(1, (bitsTotales + 511) / 512);
+        this.bits = new long[numBloques * LONGS_POR_BLOQUE];
+    }
+
+    /**
+     * Construye el filtro con todas las palabras de un DAWG compacto, recorriéndolo una vez en
+     * profundidad y calculando el hash de cada camino de forma incremental.
+     *
+     * @param dawg DAWG compacto con las palabras.
+     * @param bitsPorPalabra Bits del filtro por palabra; más bits, menos falsos positivos.
+     * @return Filtro que contiene todas las palabras del DAWG.
+     * @pre dawg no debe ser null y bitsPorPalabra debe ser positivo.
+     * @throws IllegalArgumentException si bitsPorPalabra no es positivo.
+     */
+    public static FiltroBloom desde(DawgCompacto dawg, int bitsPorPalabra) {
+        if (bitsPorPalabra <= 0) {
+            throw new IllegalArgumentException("Los bits por palabra deben ser positivos: " + bitsPorPalabra);
+        }
+        // Hashes de todas las palabras, para dimensionar el filtro antes de insertarlas
+        long[] hashes = new long[1024];
+        int numHashes = 0;
+        int[] nodos = new int[16];
+        int[] arcos = new int[16];
+        long[] parciales = new long[17];
+        int profundidad = 0;
+        nodos[0] = DawgCompacto.RAIZ;
+        arcos[0] = dawg.getInicioArcos(DawgCompacto.RAIZ);
+        parciales[0] = SEMILLA;
+        while (profundidad >= 0) {
+            int nodo = nodos[profundidad];
+            int arco = arcos[profundidad];
+            if (arco == dawg.getFinArcos(nodo)) {
+                profundidad--;
+                continue;
+            }
+            arcos[profundidad]++;
+            int destino = dawg.getDestinoArco(arco);
+            long parcial = paso(parciales[profundidad], dawg.getSimboloArco(arco));
+            if (dawg.esFinal(destino)) {
+                if (numHashes == hashes.length) {
+                    hashes = Arrays.copyOf(hashes, numHashes * 2);
+                }
+                hashes[numHashes++] = finalizar(parcial, profundidad + 1);
+            }
+            if (dawg.getInicioArcos(destino) < dawg.getFinArcos(destino)) {
+                profundidad++;
+                if (profundidad == nodos.length) {
+                    nodos = Arrays.copyOf(nodos, profundidad * 2);
+                    arcos = Arrays.copyOf(arcos, profundidad * 2);
+                    parciales = Arrays.copyOf(parciales, profundidad * 2 + 1);
+                }
+                nodos[profundidad] = destino;
+                arcos[profundidad] = dawg.getInicioArcos(destino);
+                parciales[profundidad] = parcial;
+            }
+        }
+        FiltroBloom filtro = new FiltroBloom(numHashes, bitsPorPalabra);
+        for (int i = 0; i < numHashes; i++) {
+            filtro.marcar(hashes[i]);
+        }
+        filtro.numPalabras = numHashes;
+        return filtro;
+    }
+
+    /**
+     * Añade una palabra al filtro.
+     *
+     * @param ruta Identificadores de símbolo de la palabra.
+     * @param longitud Número de símbolos a considerar.
+     * @pre ruta no debe ser null y longitud &lt;= ruta.length.
+     * @post {@link #puedeContener(int[], int)} devuelve true para la palabra.
+     */
+    public void anadir(int[] ruta, int longitud) {
+        marcar(hash(ruta, longitud));
+        numPalabras++;
+    }
+
+    /**
+     * Indica si una palabra puede estar en el filtro.
+     *
+     * @param ruta Identificadores de símbolo de la palabra.
+     * @param longitud Número de símbolos a considerar.
+     * @return false si la palabra seguro que no se añadió; true si puede haberse añadido.
+     * @pre ruta no debe ser null y longitud &lt;= ruta.length.
+     */
+    public boolean puedeContener(int[] ruta, int longitud) {
+        consultas++;
+        long h = hash(ruta, longitud);
+        int base = bloque(h) * LONGS_POR_BLOQUE;
+        int h32 = (int) h;
+        for (int i = 0; i < LONGS_POR_BLOQUE; i++) {
+            if ((bits[base + i] & bit(h32, i)) == 0) {
+                descartes++;
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Anota que una consulta que el filtro dejó pasar no estaba en el diccionario.
+     *
+     * @post {@link #getFalsosPositivos()} aumenta en uno.
+     */
+    public void anotarFalsoPositivo() {
+        falsosPositivos++;
+    }
+
+    /** @return Número de consultas desde la construcción o el último reinicio. */
+    public long getConsultas() {
+        return consultas;
+    }
+
+    /** @return Número de consultas descartadas por el filtro sin consultar el DAWG. */
+    public long getDescartes() {
+        return descartes;
+    }
+
+    /** @return Número de consultas que el filtro dejó pasar y el DAWG rechazó. */
+    public long getFalsosPositivos() {
+        return falsosPositivos;
+    }
+
+    /** @post Las cuentas de consultas, descartes y falsos positivos vuelven a cero. */
+    public void reiniciarContadores() {
+        consultas = 0;
+        descartes = 0;
+        falsosPositivos = 0;
+    }
+
+    /** @return Número de palabras añadidas al filtro. */
+    public int getNumPalabras() {
+        return numPalabras;
+    }
+
+    /** @return Bytes de heap que ocupa el filtro. */
+    public long getBytesHeap() {
+        return DawgCompacto.CABECERA_OBJETO + DawgCompacto.CABECERA_ARRAY + 8L * bits.length;
+    }
+
+    // Hash de un camino: mezcla multiplicativa por símbolo y finalización con la longitud
+    private static long paso(long h, int simbolo) {
+        return (h ^ (simbolo + 1)) * 0xBF58476D1CE4E5B9L;
+    }
+
+    private static long finalizar(long h, int longitud) {
+        h ^= longitud;
+        h ^= h >>> 31;
+        h *= 0x94D049BB133111EBL;
+        return h ^ (h >>> 29);
+    }
+
+    private static long hash(int[] ruta, int longitud) {
+        long h = SEMILLA;
+        for (int i = 0; i < longitud; i++) {
+            h = paso(h, ruta[i]);
+        }
+        return finalizar(h, longitud);
+    }
+
+    private int bloque(long h) {
+        return (int) (((h >>> 32) * numBloques) >>> 32);
+    }
+
+    private static long bit(int h32, int i) {
+        return 1L << ((h32 * SALES[i]) >>> 58);
+    }
+
+    private void marcar(long h) {
+        int base = bloque(h) * LONGS_POR_BLOQUE;
+        int h32 = (int) h;
+        for (int i = 0; i < LONGS_POR_BLOQUE; i++) {
+            bits[base + i] |= bit(h32, i);
+        }
+    }
+}
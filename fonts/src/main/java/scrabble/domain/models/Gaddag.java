@@ -0,0 +1,164 @@
+package scrabble.domain.models;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Índice GADDAG de un diccionario, pensado para generar jugadas creciendo desde cada anclaje.
+ *
+ * Por cada palabra {@code w} de n símbolos y cada posición i se guarda el camino
+ * {@code rev(w[0..i]) SEPARADOR w[i+1..n-1]}: se lee primero hacia la izquierda desde la letra de
+ * la posición i y, tras el separador, hacia la derecha. Así el generador de jugadas puede colocar
+ * la ficha del anclaje, extender hacia la izquierda solo por prefijos que existen y después
+ * continuar hacia la derecha, sin enumerar prefijos que el tablero no admite.
+ *
+ * Los caminos se insertan en un {@link Dawg} (con el separador como un símbolo más, de modo que
+ * las letras multicarácter se tratan igual que en el DAWG del diccionario) y el resultado se
+ * consulta sobre su {@link DawgCompacto}. La construcción procesa los caminos agrupados por su
+ * primer símbolo, que es el orden en que deben insertarse, para no tener todos en memoria a la vez.
+ *
+ * @version 1.0
+ * @since 2.0
+ */
+public final class Gaddag {
+
+    /** Símbolo que separa la parte izquierda (invertida) de la derecha en cada camino. */
+    public static final String SEPARADOR = "◇";
+
+    private final DawgCompacto compacto;
+    private final Tokenizador tokenizador;
+    private final int idSeparador;
+    private final int numPalabras;
+
+    /**
+     * Construye el GADDAG de una lista de palabras.
+     *
+     * @pre alfabeto y palabras no deben ser null; las palabras no deben contener el separador.
+     * @param alfabeto Símbolos del alfabeto del diccionario. Si está vacío, el alfabeto es abierto.
+     * @param palabras Palabras del diccionario, en cualquier orden.
+     * @throws IllegalArgumentException si alguna palabra contiene símbolos fuera del alfabeto.
+     * @post El GADDAG contiene, para cada palabra, un camino por cada una de sus posiciones.
+     */
+    public Gaddag(Set<String> alfabeto, Collection<String> palabras) {
+        Set<String> simbolos = new HashSet<>(alfabeto);
+        if (!simbolos.isEmpty()) {
+            simbolos.add(SEPARADOR);
+        }
+        Dawg dawg = simbolos.isEmpty() ? new Dawg() : new Dawg(simbolos);
+        this.tokenizador = dawg.getTokenizador();
+
+        List<int[]> tokens = new ArrayList<>(palabras.size());
+        for (String palabra : palabras) {
+            if (palabra != null && !palabra.isEmpty()) {
+                tokens.add(tokenizador.tokenizar(palabra, true));
+            }
+        }
+        this.idSeparador = tokenizador.tokenizar(SEPARADOR, true)[0];
+        this.numPalabras = tokens.size();
+
+        // Los caminos que empiezan por un símbolo menor van antes en orden: se insertan por grupos
+        List<int[]> caminos = new ArrayList<>();
+        for (int primero = 0; primero < tokenizador.getNumSimbolos(); primero++) {
+            caminos.clear();
+            for (int[] palabra : tokens) {
+                for (int i = 0; i < palabra.length; i++) {
+                    if (palabra[i] == primero) {
+                        caminos.add(camino(palabra, i));
+                    }
+                }
+            }
+            caminos.sort(Arrays::compare);
+            for (int[] camino : caminos) {
+                dawg.insertPath(camino);
+            }
+        }
+        dawg.finish();
+        this.compacto = dawg.getCompacto();
+    }
+
+    /**
+     * Construye el camino {@code rev(palabra[0..i]) SEPARADOR palabra[i+1..]}.
+     */
+    private int[] camino(int[] palabra, int i) {
+        int[] camino = new int[palabra.length + 1];
+        for (int k = 0; k <= i; k++) {
+            camino[k] = palabra[i - k];
+        }
+        camino[i + 1] = idSeparador;
+        System.arraycopy(palabra, i + 1, camino, i + 2, palabra.length - i - 1);
+        return camino;
+    }
+
+    /**
+     * Sigue la arista etiquetada con un símbolo.
+     *
+     * @param nodo Nodo de origen ({@link DawgCompacto#RAIZ} para empezar).
+     * @param simbolo Identificador de símbolo del GADDAG.
+     * @return Nodo destino o {@link DawgCompacto#SIN_NODO} si no existe.
+     */
+    public int transicion(int nodo, int simbolo) {
+        return compacto.transicion(nodo, simbolo);
+    }
+
+    /**
+     * Indica si el camino hasta un nodo completa una palabra (solo ocurre tras el separador).
+     *
+     * @param nodo Nodo a consultar.
+     * @return true si el nodo es final.
+     */
+    public boolean esFinal(int nodo) {
+        return compacto.esFinal(nodo);
+    }
+
+    /**
+     * Comprueba si una palabra está en el GADDAG recorriendo su camino completamente invertido.
+     *
+     * @param palabra Palabra a buscar.
+     * @return true si la palabra pertenece al diccionario indexado.
+     */
+    public boolean contiene(String palabra) {
+        if (palabra == null || palabra.isEmpty()) return false;
+        int[] ids = tokenizador.tokenizarSiExiste(palabra);
+        if (ids == null) return false;
+        int nodo = DawgCompacto.RAIZ;
+        for (int i = ids.length - 1; i >= 0 && nodo != DawgCompacto.SIN_NODO; i--) {
+            nodo = compacto.transicion(nodo, ids[i]);
+        }
+        if (nodo == DawgCompacto.SIN_NODO) return false;
+        nodo = compacto.transicion(nodo, idSeparador);
+        return nodo != DawgCompacto.SIN_NODO && compacto.esFinal(nodo);
+    }
+
+    /** @return Identificador del símbolo separador. */
+    public int getIdSeparador() {
+        return idSeparador;
+    }
+
+    /**
+     * Obtiene el identificador de un símbolo en el GADDAG.
+     *
+     * @param simbolo Símbolo a consultar.
+     * @return Identificador o {@link Tokenizador#SIN_SIMBOLO} si no pertenece al alfabeto.
+     */
+    public int getIdSimbolo(String simbolo) {
+        return tokenizador.getId(simbolo);
+    }
+
+    /**
+     * Obtiene la representación compacta subyacente, para recorrer los arcos de un nodo.
+     *
+     * @return DAWG compacto con los caminos del GADDAG.
+     */
+    public DawgCompacto getCompacto() {
+        return compacto;
+    }
+
+    /** @return Número de palabras indexadas (incluidas repeticiones de la lista de entrada). */
+    public int getNumPalabras() {
+        return numPalabras;
+    }
+}
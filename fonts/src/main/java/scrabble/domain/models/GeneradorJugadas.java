@@ -0,0 +1,609 @@
+package scrabble.domain.models;
+
+import java.util.Arrays;
+
+import scrabble.helpers.Direction;
+
+/**
+ * Generador de jugadas sobre un {@link DawgCompacto} con el algoritmo de anclajes de Appel y
+ * Jacobson: desde cada anclaje se extiende la palabra hacia la izquierda por las casillas libres
+ * que no son anclajes y después hacia la derecha, respetando las verificaciones cruzadas.
+ *
+ * Todo el estado de la búsqueda es primitivo y se reutiliza entre nodos: el tablero son los
+ * identificadores de símbolo de cada casilla, el atril el número de fichas de cada símbolo más el
+ * número de comodines (que se decrementan al colocar una ficha y se restauran al volver atrás), la
+ * palabra en curso un único buffer de identificadores y las posiciones índices de casilla. Un nodo
+ * explorado no reserva memoria; solo la reserva el receptor de las jugadas si la necesita.
+ *
+ * Con alfabetos de hasta 64 símbolos, las letras candidatas de una casilla vacía se obtienen con la
+ * intersección de la máscara de símbolos salientes del nodo, la verificación cruzada de la casilla y
+ * los símbolos que quedan en el atril. Con alfabetos mayores se recorren los arcos del nodo.
+ *
+ * En cada casilla libre se prueban primero los símbolos de los que quedan fichas en el atril y
+ * después, si quedan comodines, los demás; un símbolo se coloca con un comodín solo si no quedan
+ * fichas suyas, de modo que cada palabra se genera una sola vez sea cual sea el número de comodines.
+ *
+ * Con {@link #activarPoda} la búsqueda lleva además la puntuación de la palabra en curso y una cota
+ * superior de la que puede alcanzar cualquier jugada que la continúe (las fichas de más valor del
+ * atril en las casillas libres de más multiplicador de letra, más las fichas del tablero y los
+ * multiplicadores de palabra que alcance), y descarta las ramas cuya cota no llega al umbral.
+ *
+ * Un generador no es seguro para hilos: cada hilo debe usar el suyo.
+ *
+ * @version 1.0
+ * @since 2.0
+ */
+public final class GeneradorJugadas {
+
+    /** Valor de una casilla vacía en el array de casillas. */
+    public static final int VACIA = -1;
+
+    /** Valor de una casilla con una ficha que no pertenece al alfabeto del DAWG. */
+    public static final int BLOQUEADA = -2;
+
+    /**
+     * Recibe cada jugada encontrada.
+     */
+    @FunctionalInterface
+    public interface Receptor {
+        /**
+         * @param simbolos Identificadores de símbolo de la palabra completa (fichas del tablero incluidas).
+         *                 El array se reutiliza: solo es válido durante la llamada.
+         * @param longitud Número de símbolos de la palabra.
+         * @param fila Fila de la última ficha de la palabra.
+         * @param columna Columna de la última ficha de la palabra.
+         */
+        void aceptar(int[] simbolos, int longitud, int fila, int columna);
+    }
+
+    private final DawgCompacto dawg;
+    private final int n;
+    private final boolean mascaras;
+    // Longs por casilla en las verificaciones cruzadas
+    private final int palabrasCruce;
+    private final int[] camino;
+    // Posiciones de la palabra en curso ocupadas por un comodín
+    private final boolean[] comodinCamino;
+    private final int[] cuentas;
+
+    // Estado de la búsqueda en curso
+    private int[] casillas;
+    private long[] cruces;
+    private Receptor receptor;
+    private int comodines;
+    // Símbolos con alguna ficha en el atril (solo con máscaras)
+    private long disponibles;
+    // Paso entre casillas consecutivas de la palabra y línea (fila o columna) que se recorre
+    private int paso;
+    private boolean horizontal;
+    private int linea;
+    private long nodosVisitados;
+
+    // Poda por cota superior de la puntuación
+    private boolean poda;
+    private int umbral;
+    private int[] valores;
+    private int[] valoresComodin;
+    private int valorComodin;
+    private int[] multiplicadoresLetra;
+    private int[] multiplicadoresPalabra;
+    // Valores de las fichas del atril, de mayor a menor, y número de fichas que quedan
+    private int[] valoresAtril = new int[0];
+    private int fichasAtril;
+    private int numRestantes;
+    // Multiplicadores de letra de las casillas libres recorridas al calcular las cotas, de mayor a menor
+    private final int[] multiplicadores;
+    // Cotas de cada casilla por número de fichas restantes, calculadas la primera vez que se usan:
+    // mayor multiplicador de palabra y mayor puntuación sin la palabra en curso
+    private long[] cotaFactor = new long[0];
+    private long[] cotaResto = new long[0];
+    private final int[] sellos;
+    private int sello;
+    // Suma de valores y multiplicador de palabra de la palabra en curso
+    private long suma;
+    private long factor;
+    private long podados;
+
+    /**
+     * Crea un generador para un DAWG y un tamaño de tablero.
+     *
+     * @pre dawg no debe ser null y n debe ser positivo.
+     * @param dawg DAWG con las palabras válidas.
+     * @param n Tamaño del tablero (n × n casillas).
+     */
+    public GeneradorJugadas(DawgCompacto dawg, int n) {
+        this.dawg = dawg;
+        this.n = n;
+        this.mascaras = dawg.admiteMascaras();
+        this.palabrasCruce = getPalabrasCruce(dawg.getNumSimbolos());
+        this.camino = new int[n + 1];
+        this.comodinCamino = new boolean[n + 1];
+        this.cuentas = new int[dawg.getNumSimbolos()];
+        this.multiplicadores = new int[n + 1];
+        this.sellos = new int[n * n];
+    }
+
+    /**
+     * Número de {@code long} por casilla de las verificaciones cruzadas para un alfabeto.
+     *
+     * @param numSimbolos Número de símbolos del alfabeto.
+     * @return Longs necesarios para un bit por símbolo.
+     */
+    public static int getPalabrasCruce(int numSimbolos) {
+        return Math.max(1, (numSimbolos + Long.SIZE - 1) / Long.SIZE);
+    }
+
+    /**
+     * Prepara una búsqueda en una dirección. Los arrays no se copian y no se deben modificar
+     * mientras dure la búsqueda; cuentas sí se copia.
+     *
+     * @pre Los arrays no deben ser null; casillas tiene n × n entradas (fila × n + columna) con
+     *      {@link #VACIA}, {@link #BLOQUEADA} o un identificador de símbolo, y cruces tiene
+     *      {@link #getPalabrasCruce(int)} longs por casilla con los símbolos que se pueden colocar
+     *      en ella según la dirección perpendicular.
+     * @param casillas Contenido del tablero.
+     * @param cruces Verificaciones cruzadas de la dirección.
+     * @param direccion Dirección de las jugadas.
+     * @param cuentas Número de fichas de cada símbolo del atril, indexado por identificador de símbolo.
+     * @param comodines Número de comodines del atril.
+     * @param receptor Receptor de las jugadas.
+     * @post Las llamadas siguientes a {@link #buscar(long[])} y a los métodos de extensión usan este
+     *       estado, sin poda.
+     */
+    public void preparar(int[] casillas, long[] cruces, Direction direccion, int[] cuentas, int comodines, Receptor receptor) {
+        this.casillas = casillas;
+        this.cruces = cruces;
+        this.receptor = receptor;
+        this.horizontal = direccion == Direction.HORIZONTAL;
+        this.paso = horizontal ? 1 : n;
+        this.comodines = comodines;
+        Arrays.fill(this.cuentas, 0);
+        System.arraycopy(cuentas, 0, this.cuentas, 0, Math.min(cuentas.length, this.cuentas.length));
+        this.disponibles = 0L;
+        if (mascaras) {
+            for (int s = 0; s < this.cuentas.length; s++) {
+                if (this.cuentas[s] > 0) disponibles |= 1L << s;
+            }
+        }
+        this.poda = false;
+    }
+
+    /**
+     * Activa la poda por cota superior en la búsqueda preparada. La puntuación de una jugada es la
+     * suma de los valores de sus fichas, con el multiplicador de letra en las casillas libres,
+     * multiplicada por los multiplicadores de palabra de las casillas libres que ocupa. Las jugadas
+     * y las ramas cuya cota sea menor que el umbral no se exploran ni se entregan al receptor; las
+     * que la igualan sí, para que el receptor pueda deshacer empates.
+     *
+     * @pre Se ha llamado a {@link #preparar}; los arrays no deben ser null y no se copian. Para que la
+     *      poda no descarte jugadas que alcanzan el umbral, cada valor debe ser mayor o igual que los
+     *      puntos que aporte el símbolo en la puntuación que se use.
+     * @param valores Valor de cada símbolo, indexado por identificador de símbolo. Un comodín vale
+     *                como el mayor de ellos.
+     * @param multiplicadoresLetra Multiplicador de letra de cada casilla (fila × n + columna).
+     * @param multiplicadoresPalabra Multiplicador de palabra de cada casilla.
+     * @param umbral Puntuación mínima de las jugadas a entregar.
+     * @post {@link #buscar(long[])} solo entrega jugadas cuya puntuación alcanza el umbral.
+     */
+    public void activarPoda(int[] valores, int[] multiplicadoresLetra, int[] multiplicadoresPalabra, int umbral) {
+        activarPoda(valores, valores, multiplicadoresLetra, multiplicadoresPalabra, umbral);
+    }
+
+    /**
+     * Como {@link #activarPoda(int[], int[], int[], int)}, con el valor que aporta cada símbolo
+     * cuando lo coloca un comodín. Un comodín que vale 0 puntos puede aportar más que 0 a la cota
+     * si la puntuación mueve los comodines a otras casillas del mismo símbolo (o de símbolos que se
+     * solapan con él), por lo que el valor debe ser 0 solo para los símbolos sin fichas así en el atril.
+     *
+     * @pre Se ha llamado a {@link #preparar}; valoresComodin[s] &lt;= valores[s] y cumple la misma
+     *      condición que valores para las casillas con comodín.
+     * @param valores Valor de cada símbolo colocado con una ficha o del tablero.
+     * @param valoresComodin Valor de cada símbolo colocado con un comodín. Un comodín del atril vale
+     *                       como el mayor de ellos.
+     * @param multiplicadoresLetra Multiplicador de letra de cada casilla (fila × n + columna).
+     * @param multiplicadoresPalabra Multiplicador de palabra de cada casilla.
+     * @param umbral Puntuación mínima de las jugadas a entregar.
+     * @post {@link #buscar(long[])} solo entrega jugadas cuya puntuación alcanza el umbral.
+     */
+    public void activarPoda(int[] valores, int[] valoresComodin, int[] multiplicadoresLetra, int[] multiplicadoresPalabra, int umbral) {
+        this.valores = valores;
+        this.valoresComodin = valoresComodin;
+        this.multiplicadoresLetra = multiplicadoresLetra;
+        this.multiplicadoresPalabra = multiplicadoresPalabra;
+        this.umbral = umbral;
+        this.valorComodin = 0;
+        for (int s = 0; s < cuentas.length; s++) {
+            valorComodin = Math.max(valorComodin, valoresComodin[s]);
+        }
+        int total = comodines;
+        for (int cuenta : cuentas) {
+            total += cuenta;
+        }
+        if (valoresAtril.length < total) {
+            valoresAtril = new int[total];
+        }
+        int fichas = 0;
+        for (int s = 0; s < cuentas.length; s++) {
+            for (int c = 0; c < cuentas[s]; c++) {
+                valoresAtril[fichas++] = valores[s];
+            }
+        }
+        for (int c = 0; c < comodines; c++) {
+            valoresAtril[fichas++] = valorComodin;
+        }
+        Arrays.sort(valoresAtril, 0, total);
+        for (int i = 0, j = total - 1; i < j; i++, j--) {
+            int v = valoresAtril[i];
+            valoresAtril[i] = valoresAtril[j];
+            valoresAtril[j] = v;
+        }
+        this.fichasAtril = total;
+        this.numRestantes = total;
+        if (cotaFactor.length < n * n * (total + 1)) {
+            cotaFactor = new long[n * n * (total + 1)];
+            cotaResto = new long[n * n * (total + 1)];
+        }
+        if (++sello == 0) {
+            Arrays.fill(sellos, 0);
+            sello = 1;
+        }
+        this.poda = true;
+    }
+
+    /**
+     * Cambia el umbral de la poda; el receptor lo sube a medida que encuentra mejores jugadas.
+     *
+     * @pre Se ha llamado a {@link #activarPoda}.
+     * @param umbral Puntuación mínima de las jugadas a entregar.
+     */
+    public void setUmbral(int umbral) {
+        this.umbral = umbral;
+    }
+
+    /**
+     * Genera las jugadas de todos los anclajes en la dirección preparada. Si la casilla anterior al
+     * anclaje está ocupada, la palabra empieza con las fichas del tablero que lo preceden; si no,
+     * se extiende hacia la izquierda por las casillas libres anteriores que no son anclajes.
+     *
+     * @pre Se ha llamado a {@link #preparar}; anclas tiene {@link Tablero#getPalabrasFila(int)}
+     *      longs por fila, como {@link Tablero#getAnclas()}.
+     * @param anclas Bits de las casillas de anclaje por fila; solo se recorren los bits activos.
+     */
+    public void buscar(long[] anclas) {
+        buscar(anclas, 0, n);
+    }
+
+    /**
+     * Genera las jugadas de los anclajes de las filas [desde, hasta) en la dirección preparada, como
+     * {@link #buscar(long[])}. Los límites de la extensión a la izquierda se calculan con todos los
+     * anclajes, de modo que repartir las filas entre varias llamadas da las mismas jugadas.
+     *
+     * @pre Se ha llamado a {@link #preparar}; 0 &lt;= desde &lt;= hasta &lt;= n.
+     * @param anclas Bits de las casillas de anclaje por fila, de todo el tablero.
+     * @param desde Primera fila cuyos anclajes se recorren.
+     * @param hasta Fila siguiente a la última que se recorre.
+     */
+    public void buscar(long[] anclas, int desde, int hasta) {
+        int palabrasFila = Tablero.getPalabrasFila(n);
+        for (int p = desde * palabrasFila; p < hasta * palabrasFila; p++) {
+            for (long bits = anclas[p]; bits != 0; bits &= bits - 1) {
+                int fila = p / palabrasFila;
+                int columna = (p % palabrasFila) * Long.SIZE + Long.numberOfTrailingZeros(bits);
+                buscarDesde(anclas, palabrasFila, fila, columna);
+            }
+        }
+    }
+
+    private void buscarDesde(long[] anclas, int palabrasFila, int fila, int columna) {
+        int idx = fila * n + columna;
+        linea = horizontal ? fila : columna;
+        int k = horizontal ? columna : fila;
+        if (k > 0 && casillas[idx - paso] != VACIA) {
+            // Prefijo: fichas del tablero contiguas a la izquierda del anclaje
+            int inicio = k;
+            while (inicio > 0 && casillas[idx - (k - inicio + 1) * paso] != VACIA) {
+                inicio--;
+            }
+            int nodo = DawgCompacto.RAIZ;
+            int longitud = 0;
+            for (int j = inicio; j < k && nodo != DawgCompacto.SIN_NODO; j++) {
+                int ficha = casillas[idx - (k - j) * paso];
+                nodo = ficha >= 0 ? dawg.transicion(nodo, ficha) : DawgCompacto.SIN_NODO;
+                comodinCamino[longitud] = false;
+                camino[longitud++] = ficha;
+            }
+            if (nodo != DawgCompacto.SIN_NODO) {
+                if (poda) {
+                    suma = 0;
+                    factor = 1;
+                    for (int j = 0; j < longitud; j++) {
+                        suma += valores[camino[j]];
+                    }
+                }
+                derecha(nodo, longitud, idx, k, false);
+            }
+        } else {
+            int limite = 0;
+            while (k - limite > 0) {
+                int anterior = k - limite - 1;
+                int f = horizontal ? fila : anterior;
+                int c = horizontal ? anterior : columna;
+                if (casillas[f * n + c] != VACIA || (anclas[f * palabrasFila + (c >>> 6)] & (1L << c)) != 0) break;
+                limite++;
+            }
+            izquierda(DawgCompacto.RAIZ, 0, idx, k, limite);
+        }
+    }
+
+    /**
+     * Extiende hacia la izquierda de un anclaje una palabra que empieza por un prefijo ya colocado
+     * a su izquierda, y después hacia la derecha desde el anclaje.
+     *
+     * @pre Se ha llamado a {@link #preparar}; nodo es el nodo alcanzado por el prefijo.
+     * @param prefijo Identificadores de símbolo del prefijo.
+     * @param longitud Número de símbolos del prefijo.
+     * @param nodo Nodo del DAWG alcanzado por el prefijo.
+     * @param fila Fila del anclaje.
+     * @param columna Columna del anclaje.
+     * @param limite Número máximo de fichas del atril a añadir a la izquierda.
+     */
+    public void extenderIzquierda(int[] prefijo, int longitud, int nodo, int fila, int columna, int limite) {
+        System.arraycopy(prefijo, 0, camino, 0, longitud);
+        Arrays.fill(comodinCamino, 0, longitud, false);
+        linea = horizontal ? fila : columna;
+        izquierda(nodo, longitud, fila * n + columna, horizontal ? columna : fila, limite);
+    }
+
+    /**
+     * Extiende hacia la derecha una palabra a partir de una casilla.
+     *
+     * @pre Se ha llamado a {@link #preparar}; nodo es el nodo alcanzado por el prefijo.
+     * @param prefijo Identificadores de símbolo de la palabra ya formada.
+     * @param longitud Número de símbolos del prefijo.
+     * @param nodo Nodo del DAWG alcanzado por el prefijo.
+     * @param fila Fila de la casilla siguiente a explorar.
+     * @param columna Columna de la casilla siguiente a explorar.
+     * @param anclaOcupada true si la palabra ya cubre el anclaje.
+     */
+    public void extenderDerecha(int[] prefijo, int longitud, int nodo, int fila, int columna, boolean anclaOcupada) {
+        System.arraycopy(prefijo, 0, camino, 0, longitud);
+        Arrays.fill(comodinCamino, 0, longitud, false);
+        linea = horizontal ? fila : columna;
+        int k = horizontal ? columna : fila;
+        derecha(nodo, longitud, k < n ? fila * n + columna : -1, k, anclaOcupada);
+    }
+
+    /** @return DAWG sobre el que se generan las jugadas. */
+    public DawgCompacto getDawg() {
+        return dawg;
+    }
+
+    /** @return Número de nodos del DAWG explorados desde la creación del generador. */
+    public long getNodosVisitados() {
+        return nodosVisitados;
+    }
+
+    /** @return Número de ramas descartadas por la poda desde la creación del generador. */
+    public long getPodados() {
+        return podados;
+    }
+
+    private void izquierda(int nodo, int longitud, int anclaje, int k, int limite) {
+        if (poda) {
+            // La parte izquierda ocupa las casillas libres anteriores al anclaje
+            suma = 0;
+            factor = 1;
+            for (int j = 0, i = anclaje - longitud * paso; j < longitud; j++, i += paso) {
+                suma += (comodinCamino[j] ? valoresComodin : valores)[camino[j]] * multiplicadoresLetra[i];
+                factor *= multiplicadoresPalabra[i];
+            }
+        }
+        derecha(nodo, longitud, anclaje, k, false);
+        if (limite == 0 || longitud == n) return;
+
+        if (mascaras) {
+            long salientes = dawg.getMascaraSalientes(nodo);
+            // Primero los símbolos con fichas en el atril y después los que solo puede poner un comodín
+            long candidatos = salientes & disponibles;
+            long conComodin = comodines > 0 ? salientes & ~disponibles : 0L;
+            int inicio = dawg.getInicioArcos(nodo);
+            while (true) {
+                for (; candidatos != 0; candidatos &= candidatos - 1) {
+                    int s = Long.numberOfTrailingZeros(candidatos);
+                    int destino = dawg.getDestinoArco(inicio + Long.bitCount(salientes & ((1L << s) - 1)));
+                    camino[longitud] = s;
+                    boolean ficha = gastar(s);
+                    comodinCamino[longitud] = !ficha;
+                    izquierda(destino, longitud + 1, anclaje, k, limite - 1);
+                    devolver(s, ficha);
+                }
+                if (conComodin == 0) return;
+                candidatos = conComodin;
+                conComodin = 0;
+            }
+        }
+        for (int fase = 0; fase < 2; fase++) {
+            for (int a = dawg.getInicioArcos(nodo), fin = dawg.getFinArcos(nodo); a < fin; a++) {
+                int s = dawg.getSimboloArco(a);
+                if (fase == 0 ? cuentas[s] > 0 : cuentas[s] == 0 && comodines > 0) {
+                    camino[longitud] = s;
+                    boolean ficha = gastar(s);
+                    comodinCamino[longitud] = !ficha;
+                    izquierda(dawg.getDestinoArco(a), longitud + 1, anclaje, k, limite - 1);
+                    devolver(s, ficha);
+                }
+            }
+        }
+    }
+
+    /**
+     * Extiende hacia la derecha: idx es la casilla k de la línea, o está fuera del tablero si k == n.
+     */
+    private void derecha(int nodo, int longitud, int idx, int k, boolean anclaOcupada) {
+        nodosVisitados++;
+        boolean dentro = k < n;
+        if (poda && umbral > 0 && cota(idx, k) < umbral) {
+            podados++;
+            return;
+        }
+        if (anclaOcupada && (!dentro || casillas[idx] == VACIA) && dawg.esFinal(nodo)
+                && (!poda || suma * factor >= umbral)) {
+            receptor.aceptar(camino, longitud, horizontal ? linea : k - 1, horizontal ? k - 1 : linea);
+        }
+        if (!dentro || longitud == n) return;
+
+        int contenido = casillas[idx];
+        if (contenido != VACIA) {
+            int destino = contenido >= 0 ? dawg.transicion(nodo, contenido) : DawgCompacto.SIN_NODO;
+            if (destino != DawgCompacto.SIN_NODO) {
+                camino[longitud] = contenido;
+                comodinCamino[longitud] = false;
+                long sumaAntes = suma;
+                if (poda) suma += valores[contenido];
+                derecha(destino, longitud + 1, idx + paso, k + 1, true);
+                suma = sumaAntes;
+            }
+            return;
+        }
+        long sumaAntes = suma;
+        long factorAntes = factor;
+        if (mascaras) {
+            long salientes = dawg.getMascaraSalientes(nodo);
+            long permitidos = salientes & cruces[idx];
+            // Primero los símbolos con fichas en el atril y después los que solo puede poner un comodín
+            long candidatos = permitidos & disponibles;
+            long conComodin = comodines > 0 ? permitidos & ~disponibles : 0L;
+            int inicio = dawg.getInicioArcos(nodo);
+            while (true) {
+                for (; candidatos != 0; candidatos &= candidatos - 1) {
+                    int s = Long.numberOfTrailingZeros(candidatos);
+                    int destino = dawg.getDestinoArco(inicio + Long.bitCount(salientes & ((1L << s) - 1)));
+                    camino[longitud] = s;
+                    boolean ficha = gastar(s);
+                    colocar(s, ficha, longitud, idx, sumaAntes, factorAntes);
+                    derecha(destino, longitud + 1, idx + paso, k + 1, true);
+                    devolver(s, ficha);
+                }
+                if (conComodin == 0) break;
+                candidatos = conComodin;
+                conComodin = 0;
+            }
+            suma = sumaAntes;
+            factor = factorAntes;
+            return;
+        }
+        int base = idx * palabrasCruce;
+        for (int fase = 0; fase < 2; fase++) {
+            for (int a = dawg.getInicioArcos(nodo), fin = dawg.getFinArcos(nodo); a < fin; a++) {
+                int s = dawg.getSimboloArco(a);
+                if ((fase == 0 ? cuentas[s] > 0 : cuentas[s] == 0 && comodines > 0) && (cruces[base + (s >>> 6)] & (1L << s)) != 0) {
+                    camino[longitud] = s;
+                    boolean ficha = gastar(s);
+                    colocar(s, ficha, longitud, idx, sumaAntes, factorAntes);
+                    derecha(dawg.getDestinoArco(a), longitud + 1, idx + paso, k + 1, true);
+                    devolver(s, ficha);
+                }
+            }
+        }
+        suma = sumaAntes;
+        factor = factorAntes;
+    }
+
+    // Puntuación de la palabra en curso tras colocar el símbolo s (con una ficha o con un comodín)
+    // en la casilla libre idx, posición longitud de la palabra
+    private void colocar(int s, boolean ficha, int longitud, int idx, long sumaAntes, long factorAntes) {
+        comodinCamino[longitud] = !ficha;
+        if (poda) {
+            suma = sumaAntes + (ficha ? valores : valoresComodin)[s] * multiplicadoresLetra[idx];
+            factor = factorAntes * multiplicadoresPalabra[idx];
+        }
+    }
+
+    /**
+     * Cota superior de la puntuación de las jugadas que continúan la palabra en curso desde la
+     * casilla k de la línea (idx).
+     */
+    private long cota(int idx, int k) {
+        if (k == n) {
+            return suma * factor;
+        }
+        if (sellos[idx] != sello) {
+            calcularCotas(idx, k);
+        }
+        int i = idx * (fichasAtril + 1) + numRestantes;
+        return factor * (suma * cotaFactor[i] + cotaResto[i]);
+    }
+
+    /**
+     * Calcula, para cada número r de fichas restantes, el mayor multiplicador de palabra y la mayor
+     * puntuación sin la palabra en curso de las jugadas que siguen desde la casilla idx: para cada
+     * casilla donde pueden terminar, las fichas del tablero que recorren y las r fichas del atril de
+     * más valor en las casillas libres de mayor multiplicador de letra, por los multiplicadores de
+     * palabra de esas casillas. Así la cota de un nodo es factor × (suma × cotaFactor + cotaResto).
+     */
+    private void calcularCotas(int idx, int k) {
+        int base = idx * (fichasAtril + 1);
+        // Terminar sin recorrer más casillas
+        for (int r = 0; r <= fichasAtril; r++) {
+            cotaFactor[base + r] = 1;
+            cotaResto[base + r] = 0;
+        }
+        long tablero = 0;
+        long f = 1;
+        int libres = 0;
+        for (int j = k, i = idx; j < n; j++, i += paso) {
+            int contenido = casillas[i];
+            if (contenido == VACIA) {
+                if (libres == fichasAtril) break;
+                int m = multiplicadoresLetra[i];
+                int p = libres++;
+                while (p > 0 && multiplicadores[p - 1] < m) {
+                    multiplicadores[p] = multiplicadores[p - 1];
+                    p--;
+                }
+                multiplicadores[p] = m;
+                f *= multiplicadoresPalabra[i];
+            } else if (contenido < 0) {
+                break;
+            } else {
+                tablero += valores[contenido];
+            }
+            if (j + 1 == n || casillas[i + paso] == VACIA) {
+                long resto = tablero;
+                for (int t = 0; t < libres; t++) {
+                    resto += (long) valoresAtril[t] * multiplicadores[t];
+                }
+                resto *= f;
+                for (int r = libres; r <= fichasAtril; r++) {
+                    cotaFactor[base + r] = Math.max(cotaFactor[base + r], f);
+                    cotaResto[base + r] = Math.max(cotaResto[base + r], resto);
+                }
+            }
+        }
+        sellos[idx] = sello;
+    }
+
+    /**
+     * Gasta una ficha del símbolo o, si no quedan, un comodín.
+     *
+     * @return true si se ha gastado una ficha del símbolo.
+     */
+    private boolean gastar(int s) {
+        numRestantes--;
+        if (cuentas[s] > 0) {
+            if (--cuentas[s] == 0 && mascaras) disponibles &= ~(1L << s);
+            return true;
+        }
+        comodines--;
+        return false;
+    }
+
+    private void devolver(int s, boolean ficha) {
+        numRestantes++;
+        if (ficha) {
+            if (cuentas[s]++ == 0 && mascaras) disponibles |= 1L << s;
+        } else {
+            comodines++;
+        }
+    }
+}
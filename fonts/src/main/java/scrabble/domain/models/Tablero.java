@@ -47,6 +47,19 @@ public class Tablero implements Serializable{
     /** Tamaño del tablero (NxN) */
     private int N;
 
+    /**
+     * Anclajes (casillas vacías con alguna casilla vecina ocupada) como bits por fila, con
+     * {@link #getPalabrasFila(int)} longs por fila. Se calcula la primera vez que se pide y
+     * después lo mantiene {@link #setTile}; no se guarda con la partida.
+     */
+    private transient long[] anclas;
+
+    /**
+     * Casillas cuya ficha es un comodín, que no suma puntos en las palabras que la usan. Se crea al
+     * colocar el primer comodín; las partidas guardadas antes de existir lo cargan como null.
+     */
+    private boolean[][] comodines;
+
     /**
      * Inicializa el mapa de puntos para cada letra del alfabeto.
      * Por defecto, asigna puntos incrementales (a=1, b=2, etc).
@@ -202,6 +215,12 @@ public class Tablero implements Serializable{
                 this.bonus[i][j] = tablero2.getBonus(new Tuple<>(i, j));
             }
         }
+        if (tablero2.comodines != null) {
+            this.comodines = new boolean[N][];
+            for (int i = 0; i < N; i++) {
+                this.comodines[i] = tablero2.comodines[i].clone();
+            }
+        }
     }
 
     /**
@@ -294,6 +313,19 @@ public class Tablero implements Serializable{
         return this.tablero[pos.x][pos.y];
     }
 
+    /**
+     * Obtiene la ficha de una casilla a partir de sus coordenadas, sin crear una posición.
+     *
+     * @pre 0 &lt;= x, y &lt; getSize().
+     * @param x Fila de la casilla.
+     * @param y Columna de la casilla.
+     * @return Letra en esa posición o espacio si está vacía
+     * @throws IndexOutOfBoundsException si la posición está fuera de los límites del tablero
+     */
+    public String getTile(int x, int y) {
+        return this.tablero[x][y];
+    }
+
     /**
      * Coloca una ficha en una posición específica del tablero.
      * 
@@ -316,6 +348,112 @@ public class Tablero implements Serializable{
             throw new IndexOutOfBoundsException("Posición fuera de los límites del tablero.");
         }
         this.tablero[pos.x][pos.y] = letra;
+        if (this.anclas != null) {
+            // Solo cambian la casilla y sus cuatro vecinas
+            actualizarAncla(pos.x, pos.y);
+            actualizarAncla(pos.x - 1, pos.y);
+            actualizarAncla(pos.x + 1, pos.y);
+            actualizarAncla(pos.x, pos.y - 1);
+            actualizarAncla(pos.x, pos.y + 1);
+        }
+    }
+
+    /**
+     * Marca la ficha de una casilla como comodín: escribe su letra pero no suma sus puntos.
+     *
+     * @pre pos no debe ser null y debe representar una posición válida en el tablero.
+     * @param pos Posición (x,y) de la ficha.
+     * @post La casilla queda marcada como comodín.
+     * @throws NullPointerException si pos es null
+     * @throws IndexOutOfBoundsException si la posición está fuera de los límites del tablero
+     */
+    public void setComodin(Tuple<Integer, Integer> pos) {
+        if (pos == null) {
+            throw new NullPointerException("La posición no puede ser null.");
+        }
+        if (!validPosition(pos)) {
+            throw new IndexOutOfBoundsException("Posición fuera de los límites del tablero.");
+        }
+        if (this.comodines == null) {
+            this.comodines = new boolean[N][N];
+        }
+        this.comodines[pos.x][pos.y] = true;
+    }
+
+    /**
+     * Indica si la ficha de una casilla es un comodín.
+     *
+     * @pre 0 &lt;= x, y &lt; getSize().
+     * @param x Fila de la casilla.
+     * @param y Columna de la casilla.
+     * @return true si la casilla tiene un comodín, false en caso contrario.
+     */
+    public boolean isComodin(int x, int y) {
+        return this.comodines != null && this.comodines[x][y];
+    }
+
+    /**
+     * Número de {@code long} por fila en el conjunto de anclajes de un tablero.
+     *
+     * @param N Tamaño del tablero.
+     * @return Longs necesarios para un bit por columna.
+     */
+    public static int getPalabrasFila(int N) {
+        return (N + Long.SIZE - 1) / Long.SIZE;
+    }
+
+    /**
+     * Obtiene los anclajes del tablero: las casillas vacías con alguna casilla vecina ocupada.
+     * La primera llamada recorre el tablero; después el conjunto se actualiza en cada
+     * {@link #setTile} mirando solo la casilla colocada y sus vecinas.
+     *
+     * @pre No hay precondiciones específicas.
+     * @return Bits por fila: la casilla (x, y) es un anclaje si el bit {@code y % 64} del long
+     *         {@code x * getPalabrasFila(N) + y / 64} está activo. El array es interno y no se debe modificar.
+     * @post El estado del tablero no se modifica.
+     */
+    public long[] getAnclas() {
+        if (this.anclas == null) {
+            this.anclas = new long[N * getPalabrasFila(N)];
+            for (int i = 0; i < N; i++) {
+                for (int j = 0; j < N; j++) {
+                    actualizarAncla(i, j);
+                }
+            }
+        }
+        return this.anclas;
+    }
+
+    /**
+     * Indica si una casilla es un anclaje.
+     *
+     * @pre 0 &lt;= x, y &lt; getSize().
+     * @param x Fila de la casilla.
+     * @param y Columna de la casilla.
+     * @return true si la casilla está vacía y tiene alguna casilla vecina ocupada.
+     * @throws IndexOutOfBoundsException si la posición está fuera de los límites del tablero
+     */
+    public boolean isAnchor(int x, int y) {
+        if (x < 0 || x >= N || y < 0 || y >= N) {
+            throw new IndexOutOfBoundsException("Posición fuera de los límites del tablero.");
+        }
+        return (getAnclas()[x * getPalabrasFila(N) + (y >>> 6)] & (1L << y)) != 0;
+    }
+
+    private void actualizarAncla(int x, int y) {
+        if (x < 0 || x >= N || y < 0 || y >= N) return;
+        boolean ancla = !ocupada(x, y)
+                && (ocupada(x - 1, y) || ocupada(x + 1, y) || ocupada(x, y - 1) || ocupada(x, y + 1));
+        int palabra = x * getPalabrasFila(N) + (y >>> 6);
+        if (ancla) {
+            this.anclas[palabra] |= 1L << y;
+        } else {
+            this.anclas[palabra] &= ~(1L << y);
+        }
+    }
+
+    private boolean ocupada(int x, int y) {
+        return x >= 0 && x < N && y >= 0 && y < N && !this.tablero[x][y].equals(" ");
     }
 
     /**
@@ -0,0 +1,294 @@
+package scrabble.domain.models;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Tokenizador de palabras en símbolos del alfabeto (letras simples o multicarácter como "CH", "LL" o "RR").
+ *
+ * Cada símbolo se interna una sola vez con un identificador entero pequeño y denso (0..n-1).
+ * La división de una palabra se hace en una única pasada con un trie de caracteres que aplica
+ * la coincidencia más larga, en lugar de probar todos los símbolos del alfabeto en cada posición.
+ *
+ * Si el alfabeto se crea vacío el tokenizador es abierto: cada carácter es un símbolo y los
+ * símbolos nuevos se registran al insertar palabras ({@link #tokenizar(String, boolean)}).
+ *
+ * @version 2.0
+ * @since 2.0
+ */
+public final class Tokenizador {
+
+    /** Identificador devuelto para símbolos desconocidos. */
+    public static final int SIN_SIMBOLO = -1;
+
+    /** Número máximo de símbolos que caben en una máscara de bits {@code long} (un bit por identificador). */
+    public static final int MAX_SIMBOLOS_MASCARA = Long.SIZE;
+
+    private final boolean abierto;
+    private final List<String> simbolos = new ArrayList<>();
+    private final Map<String, Integer> ids = new HashMap<>();
+    private final NodoTrie raiz = new NodoTrie();
+    // Acceso directo al primer nivel del trie para caracteres Latin-1
+    private final NodoTrie[] primerNivel = new NodoTrie[256];
+
+    /**
+     * Crea un tokenizador para el alfabeto dado.
+     * Los identificadores se asignan siguiendo el orden lexicográfico de los símbolos.
+     *
+     * @pre alfabeto no debe ser null.
+     * @param alfabeto Símbolos válidos. Si está vacío el tokenizador es abierto.
+     * @post Cada símbolo del alfabeto tiene un identificador único.
+     */
+    public Tokenizador(Collection<String> alfabeto) {
+        this(alfabeto.isEmpty());
+        for (String simbolo : new TreeSet<>(alfabeto)) {
+            if (!simbolo.isEmpty()) {
+                registrar(simbolo);
+            }
+        }
+    }
+
+    /**
+     * Crea un tokenizador sin símbolos.
+     *
+     * @param abierto Si se admiten símbolos nuevos de un carácter al tokenizar.
+     */
+    private Tokenizador(boolean abierto) {
+        this.abierto = abierto;
+    }
+
+    /**
+     * Crea un tokenizador cerrado que conserva los identificadores de una tabla de símbolos existente,
+     * por ejemplo la de un DAWG precompilado.
+     *
+     * @pre simbolos no debe ser null ni contener duplicados.
+     * @param simbolos Símbolos indexados por identificador.
+     * @return Tokenizador con simbolos[i] asociado al identificador i.
+     */
+    public static Tokenizador conSimbolos(String[] simbolos) {
+        Tokenizador tokenizador = new Tokenizador(false);
+        for (String simbolo : simbolos) {
+            tokenizador.registrar(simbolo);
+        }
+        return tokenizador;
+    }
+
+    /**
+     * Registra un símbolo si no existía.
+     *
+     * @param simbolo Símbolo a registrar.
+     * @return Identificador del símbolo.
+     */
+    private int registrar(String simbolo) {
+        Integer existente = ids.get(simbolo);
+        if (existente != null) return existente;
+
+        int id = simbolos.size();
+        simbolos.add(simbolo);
+        ids.put(simbolo, id);
+        NodoTrie nodo = raiz;
+        for (int i = 0; i < simbolo.length(); i++) {
+            nodo = nodo.hijoOCrear(simbolo.charAt(i));
+            if (i == 0 && simbolo.charAt(0) < primerNivel.length) {
+                primerNivel[simbolo.charAt(0)] = nodo;
+            }
+        }
+        nodo.simbolo = id;
+        return id;
+    }
+
+    /**
+     * Divide una palabra en identificadores de símbolo aplicando la coincidencia más larga.
+     *
+     * @pre palabra no debe ser null.
+     * @param palabra Palabra a tokenizar.
+     * @return Identificadores de los símbolos de la palabra.
+     * @throws IllegalArgumentException si algún fragmento no pertenece al alfabeto.
+     */
+    public int[] tokenizar(String palabra) {
+        return tokenizar(palabra, false);
+    }
+
+    /**
+     * Divide una palabra en identificadores de símbolo aplicando la coincidencia más larga.
+     *
+     * @pre palabra no debe ser null.
+     * @param palabra Palabra a tokenizar.
+     * @param registrarNuevos Si el tokenizador es abierto, registra los caracteres desconocidos como símbolos nuevos.
+     * @return Identificadores de los símbolos de la palabra.
+     * @throws IllegalArgumentException si algún fragmento no pertenece al alfabeto.
+     */
+    public int[] tokenizar(String palabra, boolean registrarNuevos) {
+        return dividir(palabra, registrarNuevos, true);
+    }
+
+    /**
+     * Divide una palabra en identificadores de símbolo sin lanzar excepciones.
+     * Pensado para consultas: una palabra con símbolos desconocidos no puede estar en el diccionario.
+     *
+     * @pre palabra no debe ser null.
+     * @param palabra Palabra a tokenizar.
+     * @return Identificadores de los símbolos, o null si algún fragmento no pertenece al alfabeto.
+     */
+    public int[] tokenizarSiExiste(String palabra) {
+        return dividir(palabra, false, false);
+    }
+
+    private int[] dividir(String palabra, boolean registrarNuevos, boolean lanzar) {
+        int[] resultado = new int[palabra.length()];
+        int n = 0;
+        int i = 0;
+        while (i < palabra.length()) {
+            char primero = palabra.charAt(i);
+            NodoTrie nodo = primero < primerNivel.length ? primerNivel[primero] : raiz.hijo(primero);
+            int simbolo = SIN_SIMBOLO;
+            int fin = i;
+            for (int j = i + 1; nodo != null; j++) {
+                if (nodo.simbolo != SIN_SIMBOLO) {
+                    simbolo = nodo.simbolo;
+                    fin = j;
+                }
+                if (j == palabra.length()) break;
+                nodo = nodo.hijo(palabra.charAt(j));
+            }
+            if (simbolo == SIN_SIMBOLO) {
+                if (!abierto || !registrarNuevos) {
+                    if (!lanzar) return null;
+                    throw new IllegalArgumentException("Símbolo no reconocido en el alfabeto: " + palabra.substring(i));
+                }
+                simbolo = registrar(String.valueOf(palabra.charAt(i)));
+                fin = i + 1;
+            }
+            resultado[n++] = simbolo;
+            i = fin;
+        }
+        return n == resultado.length ? resultado : Arrays.copyOf(resultado, n);
+    }
+
+    /**
+     * Obtiene el identificador de un símbolo.
+     *
+     * @param simbolo Símbolo a consultar.
+     * @return Identificador o {@link #SIN_SIMBOLO} si no está registrado.
+     */
+    public int getId(String simbolo) {
+        Integer id = ids.get(simbolo);
+        return id == null ? SIN_SIMBOLO : id;
+    }
+
+    /**
+     * Obtiene el símbolo asociado a un identificador.
+     *
+     * @pre 0 &lt;= id &lt; getNumSimbolos().
+     * @param id Identificador del símbolo.
+     * @return Símbolo correspondiente.
+     */
+    public String getSimbolo(int id) {
+        return simbolos.get(id);
+    }
+
+    /** @return Número de símbolos registrados. */
+    public int getNumSimbolos() {
+        return simbolos.size();
+    }
+
+    /**
+     * Obtiene todos los símbolos registrados indexados por identificador.
+     *
+     * @return Copia de la tabla de símbolos.
+     */
+    public String[] getSimbolos() {
+        return simbolos.toArray(new String[0]);
+    }
+
+    /**
+     * Indica si los conjuntos de símbolos se pueden representar como máscaras de bits {@code long},
+     * es decir, si hay como mucho {@link #MAX_SIMBOLOS_MASCARA} símbolos registrados.
+     *
+     * @return true si caben todos los identificadores en una máscara.
+     */
+    public boolean admiteMascaras() {
+        return simbolos.size() <= MAX_SIMBOLOS_MASCARA;
+    }
+
+    /**
+     * Obtiene la máscara de bits de un conjunto de símbolos: el bit i está activo si el símbolo
+     * con identificador i pertenece al conjunto. Los símbolos no registrados se ignoran.
+     *
+     * @pre admiteMascaras() y simbolos no debe ser null.
+     * @param simbolos Símbolos a incluir.
+     * @return Máscara con un bit por símbolo.
+     */
+    public long getMascara(Collection<String> simbolos) {
+        long mascara = 0L;
+        for (String simbolo : simbolos) {
+            Integer id = ids.get(simbolo);
+            if (id != null) {
+                mascara |= 1L << id;
+            }
+        }
+        return mascara;
+    }
+
+    /**
+     * Obtiene los símbolos de una máscara de bits.
+     *
+     * @pre admiteMascaras().
+     * @param mascara Máscara con un bit por identificador de símbolo.
+     * @return Conjunto (en orden de identificador) de los símbolos con su bit activo.
+     */
+    public Set<String> getSimbolosMascara(long mascara) {
+        Set<String> resultado = new LinkedHashSet<>();
+        for (long resto = mascara; resto != 0; resto &= resto - 1) {
+            int id = Long.numberOfTrailingZeros(resto);
+            if (id < simbolos.size()) {
+                resultado.add(simbolos.get(id));
+            }
+        }
+        return resultado;
+    }
+
+    /**
+     * Indica si el alfabeto es abierto (se admiten símbolos nuevos de un carácter).
+     *
+     * @return true si el tokenizador es abierto.
+     */
+    public boolean isAbierto() {
+        return abierto;
+    }
+
+    /**
+     * Nodo del trie de caracteres. Los hijos se guardan en arrays paralelos porque el
+     * número de continuaciones de un carácter es muy pequeño.
+     */
+    private static final class NodoTrie {
+        private char[] letras = new char[0];
+        private NodoTrie[] hijos = new NodoTrie[0];
+        private int simbolo = SIN_SIMBOLO;
+
+        NodoTrie hijo(char c) {
+            for (int i = 0; i < letras.length; i++) {
+                if (letras[i] == c) return hijos[i];
+            }
+            return null;
+        }
+
+        NodoTrie hijoOCrear(char c) {
+            NodoTrie existente = hijo(c);
+            if (existente != null) return existente;
+            NodoTrie nuevo = new NodoTrie();
+            letras = Arrays.copyOf(letras, letras.length + 1);
+            hijos = Arrays.copyOf(hijos, hijos.length + 1);
+            letras[letras.length - 1] = c;
+            hijos[hijos.length - 1] = nuevo;
+            return nuevo;
+        }
+    }
+}
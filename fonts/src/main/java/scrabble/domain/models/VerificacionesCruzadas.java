@@ -0,0 +1,216 @@
+package scrabble.domain.models;
+
+import java.util.Arrays;
+
+import scrabble.helpers.Direction;
+
+/**
+ * Verificaciones cruzadas de un tablero en las dos orientaciones, mantenidas entre jugadas.
+ *
+ * Para cada casilla vacía y cada dirección de jugada guarda, como un bit por identificador de
+ * símbolo del {@link DawgCompacto}, los símbolos que se pueden colocar en ella sin formar una
+ * palabra inválida en la dirección perpendicular. Una casilla sin fichas vecinas en esa dirección
+ * admite todo el alfabeto.
+ *
+ * Colocar una ficha solo cambia las verificaciones de las casillas vacías que cierran, por arriba
+ * y por abajo y por la izquierda y la derecha, el tramo de fichas contiguas que la contiene. Por
+ * eso {@link #colocar(int, int, int)} solo marca esas casillas como pendientes y
+ * {@link #getBits(Direction)} recalcula únicamente las pendientes de la dirección pedida. Cada
+ * recálculo recorre el prefijo en el DAWG una sola vez y después prueba el sufijo desde cada arco
+ * saliente, sin crear cadenas ni objetos.
+ *
+ * No es seguro para hilos.
+ *
+ * @version 1.0
+ * @since 2.0
+ */
+public final class VerificacionesCruzadas {
+
+    private final DawgCompacto dawg;
+    private final int n;
+    private final int palabrasCruce;
+    // Bits de los símbolos del alfabeto: verificación de una casilla sin vecinas
+    private final long[] alfabeto;
+    private final int[] casillas;
+    // Bits y casillas pendientes de recalcular por dirección (índice Direction.ordinal())
+    private final long[][] bits;
+    private final boolean[][] pendientes;
+    private final int[] numPendientes;
+    private final int[] ruta;
+    private long recalculadas;
+
+    /**
+     * Crea las verificaciones de un tablero. Todas las casillas quedan pendientes de calcular.
+     *
+     * @pre dawg y casillas no deben ser null; casillas tiene n × n entradas (fila × n + columna)
+     *      con {@link GeneradorJugadas#VACIA}, {@link GeneradorJugadas#BLOQUEADA} o un
+     *      identificador de símbolo del DAWG.
+     * @param dawg DAWG con las palabras válidas.
+     * @param n Tamaño del tablero.
+     * @param casillas Contenido del tablero; se copia.
+     * @param simbolosAlfabeto Identificadores de los símbolos que se pueden colocar en el tablero.
+     */
+    public VerificacionesCruzadas(DawgCompacto dawg, int n, int[] casillas, int[] simbolosAlfabeto) {
+        this.dawg = dawg;
+        this.n = n;
+        this.palabrasCruce = GeneradorJugadas.getPalabrasCruce(dawg.getNumSimbolos());
+        this.alfabeto = new long[palabrasCruce];
+        for (int s : simbolosAlfabeto) {
+            if (s >= 0 && s < dawg.getNumSimbolos()) alfabeto[s >>> 6] |= 1L << s;
+        }
+        this.casillas = Arrays.copyOf(casillas, n * n);
+        int numDirecciones = Direction.values().length;
+        this.bits = new long[numDirecciones][n * n * palabrasCruce];
+        this.pendientes = new boolean[numDirecciones][n * n];
+        this.numPendientes = new int[numDirecciones];
+        for (int d = 0; d < numDirecciones; d++) {
+            Arrays.fill(pendientes[d], true);
+            numPendientes[d] = n * n;
+        }
+        this.ruta = new int[n];
+    }
+
+    /**
+     * Coloca una ficha y marca como pendientes las casillas cuyas verificaciones pueden cambiar.
+     *
+     * @pre 0 &lt;= fila, columna &lt; n.
+     * @param fila Fila de la casilla.
+     * @param columna Columna de la casilla.
+     * @param simbolo Identificador de símbolo de la ficha o {@link GeneradorJugadas#BLOQUEADA}.
+     * @post La casilla queda ocupada y las casillas vacías que cierran sus tramos horizontal y
+     *       vertical quedan pendientes de recalcular.
+     */
+    public void colocar(int fila, int columna, int simbolo) {
+        int idx = fila * n + columna;
+        casillas[idx] = simbolo;
+        for (Direction dir : Direction.values()) {
+            marcar(dir, idx);
+            // Las jugadas en dir se verifican con las palabras de la dirección perpendicular
+            boolean vertical = dir == Direction.HORIZONTAL;
+            int paso = vertical ? n : 1;
+            int k = vertical ? fila : columna;
+            int antes = k;
+            while (antes >= 0 && casillas[idx - (k - antes) * paso] != GeneradorJugadas.VACIA) antes--;
+            if (antes >= 0) marcar(dir, idx - (k - antes) * paso);
+            int despues = k;
+            while (despues < n && casillas[idx + (despues - k) * paso] != GeneradorJugadas.VACIA) despues++;
+            if (despues < n) marcar(dir, idx + (despues - k) * paso);
+        }
+    }
+
+    /**
+     * Obtiene las verificaciones cruzadas de una dirección, recalculando antes las casillas pendientes.
+     *
+     * @param dir Dirección de las jugadas.
+     * @return {@link GeneradorJugadas#getPalabrasCruce(int)} longs por casilla con los símbolos
+     *         que se pueden colocar en ella; las casillas ocupadas no admiten ninguno. El array es
+     *         interno: no se debe modificar y deja de ser válido tras el siguiente {@link #colocar}.
+     */
+    public long[] getBits(Direction dir) {
+        int d = dir.ordinal();
+        if (numPendientes[d] > 0) {
+            boolean[] marcadas = pendientes[d];
+            for (int idx = 0; idx < marcadas.length; idx++) {
+                if (marcadas[idx]) {
+                    recalcular(dir, idx);
+                    marcadas[idx] = false;
+                }
+            }
+            numPendientes[d] = 0;
+        }
+        return bits[d];
+    }
+
+    /**
+     * Indica si un símbolo se puede colocar en una casilla según las verificaciones de una dirección.
+     *
+     * @param dir Dirección de las jugadas.
+     * @param fila Fila de la casilla.
+     * @param columna Columna de la casilla.
+     * @param simbolo Identificador de símbolo; un valor negativo nunca se admite.
+     * @return true si el símbolo se puede colocar en la casilla.
+     */
+    public boolean admite(Direction dir, int fila, int columna, int simbolo) {
+        if (simbolo < 0) return false;
+        long[] verificaciones = getBits(dir);
+        return (verificaciones[(fila * n + columna) * palabrasCruce + (simbolo >>> 6)] & (1L << simbolo)) != 0;
+    }
+
+    /**
+     * Contenido del tablero tal como lo ven las verificaciones.
+     *
+     * @return Array de n × n casillas; es interno y no se debe modificar.
+     */
+    public int[] getCasillas() {
+        return casillas;
+    }
+
+    /** @return DAWG con el que se calculan las verificaciones. */
+    public DawgCompacto getDawg() {
+        return dawg;
+    }
+
+    /** @return Tamaño del tablero. */
+    public int getSize() {
+        return n;
+    }
+
+    /** @return Número de casillas recalculadas desde la creación, en las dos direcciones. */
+    public long getRecalculadas() {
+        return recalculadas;
+    }
+
+    private void marcar(Direction dir, int idx) {
+        int d = dir.ordinal();
+        if (!pendientes[d][idx]) {
+            pendientes[d][idx] = true;
+            numPendientes[d]++;
+        }
+    }
+
+    private void recalcular(Direction dir, int idx) {
+        recalculadas++;
+        int base = idx * palabrasCruce;
+        Arrays.fill(bits[dir.ordinal()], base, base + palabrasCruce, 0L);
+        if (casillas[idx] != GeneradorJugadas.VACIA) return;
+
+        boolean vertical = dir == Direction.HORIZONTAL;
+        int paso = vertical ? n : 1;
+        int k = vertical ? idx / n : idx % n;
+        int inicio = k;
+        while (inicio > 0 && casillas[idx - (k - inicio + 1) * paso] != GeneradorJugadas.VACIA) inicio--;
+        int fin = k;
+        while (fin < n - 1 && casillas[idx + (fin - k + 1) * paso] != GeneradorJugadas.VACIA) fin++;
+        long[] destino = bits[dir.ordinal()];
+        if (inicio == fin) {
+            System.arraycopy(alfabeto, 0, destino, base, palabrasCruce);
+            return;
+        }
+
+        // Prefijo: fichas antes de la casilla
+        int nodo = DawgCompacto.RAIZ;
+        for (int j = inicio; j < k && nodo != DawgCompacto.SIN_NODO; j++) {
+            int ficha = casillas[idx - (k - j) * paso];
+            nodo = ficha >= 0 ? dawg.transicion(nodo, ficha) : DawgCompacto.SIN_NODO;
+        }
+        if (nodo == DawgCompacto.SIN_NODO) return;
+        // Sufijo: fichas después de la casilla
+        int longitud = 0;
+        for (int j = k + 1; j <= fin; j++) {
+            int ficha = casillas[idx + (j - k) * paso];
+            if (ficha < 0) return;
+            ruta[longitud++] = ficha;
+        }
+        for (int a = dawg.getInicioArcos(nodo), finArcos = dawg.getFinArcos(nodo); a < finArcos; a++) {
+            int s = dawg.getSimboloArco(a);
+            if ((alfabeto[s >>> 6] & (1L << s)) == 0) continue;
+            int siguiente = dawg.getDestinoArco(a);
+            for (int j = 0; j < longitud && siguiente != DawgCompacto.SIN_NODO; j++) {
+                siguiente = dawg.transicion(siguiente, ruta[j]);
+            }
+            if (siguiente != DawgCompacto.SIN_NODO && dawg.esFinal(siguiente)) {
+                destino[base + (s >>> 6)] |= 1L << s;
+            }
+        }
+    }
+}
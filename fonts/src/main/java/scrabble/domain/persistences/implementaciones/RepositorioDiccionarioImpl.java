@@ -6,15 +6,28 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
 
+import scrabble.domain.models.DawgCompacto;
 import scrabble.domain.models.Diccionario;
 import scrabble.domain.persistences.interfaces.RepositorioDiccionario;
 
@@ -35,6 +48,17 @@ import scrabble.domain.persistences.interfaces.RepositorioDiccionario;
  * - Verificación de validez de estructuras DAWG
  * - Gestión robusta de errores y excepciones
  * 
+ * Junto a {@code words.txt} se guarda el DAWG ya construido en un fichero binario versionado
+ * ({@code words.<generación>.dawg}) que se proyecta en memoria al cargar, evitando reconstruir el
+ * DAWG en cada arranque. La cabecera guarda el CRC-32 del propio DAWG y el tamaño, la fecha de
+ * modificación y el CRC-32 de {@code words.txt} y {@code alpha.txt}; el CRC de un fichero de texto
+ * solo se calcula si su fecha ha cambiado, de modo que el arranque habitual no lee {@code words.txt}.
+ * Si algo no coincide, o el binario falta, es de otra versión o está corrupto, se vuelve a leer
+ * {@code words.txt} y se regenera el binario. Cada guardado escribe una generación nueva en lugar
+ * de reemplazar la anterior, que puede seguir proyectada por una instantánea del diccionario (en
+ * Windows un fichero proyectado no se puede reemplazar ni borrar); las generaciones anteriores se
+ * borran cuando ya no están en uso.
+ * 
  * La arquitectura permite escalabilidad y mantenimiento eficiente de múltiples
  * diccionarios con diferentes idiomas y configuraciones de alfabeto.
  * 
@@ -44,6 +68,16 @@ import scrabble.domain.persistences.interfaces.RepositorioDiccionario;
 public class RepositorioDiccionarioImpl implements RepositorioDiccionario {
     
     private static final String DICCIONARIOS_INDEX_FILE = "src/main/resources/persistencias/diccionarios_index.dat";
+
+    // Los binarios con el DAWG precompilado se llaman words.<generación>.dawg
+    private static final String DAWG_PREFIJO = "words.";
+    private static final String DAWG_EXTENSION = ".dawg";
+    private static final int DAWG_MAGIC = 0x44415747; // "DAWG"
+    private static final int DAWG_VERSION = 3;
+    // magic, versión, CRC-32 del DAWG y (tamaño, fecha, CRC-32) de words.txt y alpha.txt;
+    // múltiplo de 8 para alinear las tablas
+    private static final int DAWG_CABECERA = 4 + 4 + 8 + 2 * 3 * 8;
+    private static final int TAMANO_BUFFER_CRC = 1 << 16;
     
     /**
      * Constructor para la clase {@code RepositorioDiccionarioImpl}.
@@ -117,9 +151,11 @@ public class RepositorioDiccionarioImpl implements RepositorioDiccionario {
      * @param nombre El nom identificador del diccionari.
      * @param diccionario L'objecte {@link Diccionario} (actualment no serialitzat directament aquí).
      * @param path La ruta al directori on es troben els fitxers del diccionari.
-     * @return {@code true} si la referència al diccionari s'ha guardat correctament a l'índex,
-     *         {@code false} si s'ha produït un error.
-     * @post L'índex de diccionaris s'actualitza amb la nova entrada si l'operació té èxit.
+     * @return {@code true} si la referència al diccionari s'ha guardat correctament a l'índex
+     *         i s'ha escrit el binari del DAWG, {@code false} si s'ha produït un error.
+     * @post L'índex de diccionaris s'actualitza amb la nova entrada si l'operació té èxit,
+     *       i s'escriu una nova generació del fitxer binari {@code words.<generació>.dawg}
+     *       amb el DAWG actual del diccionari.
      */
     @Override
     public boolean guardar(String nombre, Diccionario diccionario, String path) {
@@ -127,7 +163,187 @@ public class RepositorioDiccionarioImpl implements RepositorioDiccionario {
         // en la ruta especificada y solo necesitamos guardar la referencia en el índice
         Map<String, String> diccionariosPaths = cargarIndice();
         diccionariosPaths.put(nombre, path);
-        return guardarIndice(diccionariosPaths);
+        boolean guardado = guardarIndice(diccionariosPaths);
+        if (guardado && diccionario != null && diccionario.getDawg() != null) {
+            try {
+                escribirDawgBinario(Paths.get(path), diccionario.getDawg().compactar());
+            } catch (IOException e) {
+                System.err.println("Error al guardar el DAWG binario: " + e.getMessage());
+                return false;
+            }
+        }
+        return guardado;
+    }
+
+    /**
+     * Escribe el DAWG compacto en una generación nueva de {@code words.<generación>.dawg} con la
+     * huella actual de {@code words.txt} y {@code alpha.txt}. Se escribe en un fichero temporal y
+     * se mueve con un nombre nuevo, de modo que un lector nunca ve un binario a medias y nunca se
+     * reemplaza un binario que una instantánea puede tener proyectado. Después se borran las
+     * generaciones anteriores que ya no están en uso.
+     *
+     * @param dirPath Directorio del diccionario.
+     * @param compacto DAWG compacto a escribir.
+     * @throws IOException Si no se puede escribir o mover el binario; el binario anterior, si
+     *                     existe, queda desfasado y la siguiente carga reconstruye el DAWG.
+     */
+    private void escribirDawgBinario(Path dirPath, DawgCompacto compacto) throws IOException {
+        List<Long> anteriores = generaciones(dirPath);
+        long generacion = anteriores.isEmpty() ? 1 : anteriores.get(anteriores.size() - 1) + 1;
+        Path destino = dirPath.resolve(DAWG_PREFIJO + generacion + DAWG_EXTENSION);
+        Path temporal = dirPath.resolve(destino.getFileName() + ".tmp");
+        try {
+            try (FileChannel canal = FileChannel.open(temporal, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                // El DAWG va primero y la cabecera, con su CRC, al final
+                canal.position(DAWG_CABECERA);
+                compacto.escribir(canal);
+                ByteBuffer cabecera = ByteBuffer.allocate(DAWG_CABECERA).order(ByteOrder.LITTLE_ENDIAN);
+                cabecera.putInt(DAWG_MAGIC).putInt(DAWG_VERSION);
+                cabecera.putLong(crc(canal, DAWG_CABECERA));
+                escribirHuella(cabecera, dirPath.resolve("words.txt"));
+                escribirHuella(cabecera, dirPath.resolve("alpha.txt"));
+                cabecera.flip();
+                while (cabecera.hasRemaining()) {
+                    canal.write(cabecera, cabecera.position());
+                }
+            }
+            try {
+                Files.move(temporal, destino, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporal, destino);
+            }
+        } catch (IOException e) {
+            try {
+                Files.deleteIfExists(temporal);
+            } catch (IOException borrado) {
+                e.addSuppressed(borrado);
+            }
+            throw e;
+        }
+        for (long anterior : anteriores) {
+            try {
+                Files.deleteIfExists(dirPath.resolve(DAWG_PREFIJO + anterior + DAWG_EXTENSION));
+            } catch (IOException e) {
+                // Sigue proyectado por una instantánea anterior: se borrará en un guardado posterior
+            }
+        }
+        // Binario de la versión 1, que se reemplazaba en el sitio
+        try {
+            Files.deleteIfExists(dirPath.resolve("words" + DAWG_EXTENSION));
+        } catch (IOException e) {
+            // Igual que las generaciones anteriores
+        }
+    }
+
+    /**
+     * Obtiene las generaciones de los binarios del DAWG que hay en el directorio.
+     *
+     * @param dirPath Directorio del diccionario.
+     * @return Generaciones en orden creciente; vacía si no hay ninguna.
+     * @throws IOException Si no se puede listar el directorio.
+     */
+    private static List<Long> generaciones(Path dirPath) throws IOException {
+        List<Long> generaciones = new ArrayList<>();
+        try (DirectoryStream<Path> binarios = Files.newDirectoryStream(dirPath, DAWG_PREFIJO + "*" + DAWG_EXTENSION)) {
+            for (Path binario : binarios) {
+                String nombre = binario.getFileName().toString();
+                try {
+                    generaciones.add(Long.parseLong(nombre.substring(DAWG_PREFIJO.length(), nombre.length() - DAWG_EXTENSION.length())));
+                } catch (NumberFormatException e) {
+                    // No es un binario del repositorio
+                }
+            }
+        }
+        Collections.sort(generaciones);
+        return generaciones;
+    }
+
+    /**
+     * Intenta cargar el DAWG precompilado proyectando en memoria la última generación de
+     * {@code words.<generación>.dawg}.
+     *
+     * @param dirPath Directorio del diccionario.
+     * @return El DAWG compacto respaldado por el fichero, o null si falta, es de otra versión,
+     *         está corrupto o no corresponde a los {@code words.txt} y {@code alpha.txt} actuales.
+     */
+    private DawgCompacto leerDawgBinario(Path dirPath) {
+        Path binario;
+        try {
+            List<Long> generaciones = generaciones(dirPath);
+            if (generaciones.isEmpty()) {
+                return null;
+            }
+            binario = dirPath.resolve(DAWG_PREFIJO + generaciones.get(generaciones.size() - 1) + DAWG_EXTENSION);
+        } catch (IOException e) {
+            System.err.println("No se pueden listar los DAWG binarios, se reconstruirá: " + e.getMessage());
+            return null;
+        }
+        try (FileChannel canal = FileChannel.open(binario, StandardOpenOption.READ)) {
+            if (canal.size() < DAWG_CABECERA) {
+                return null;
+            }
+            // La proyección sigue siendo válida tras cerrar el canal
+            MappedByteBuffer datos = canal.map(FileChannel.MapMode.READ_ONLY, 0, canal.size());
+            datos.order(ByteOrder.LITTLE_ENDIAN);
+            if (datos.getInt() != DAWG_MAGIC || datos.getInt() != DAWG_VERSION) {
+                return null;
+            }
+            long crcDawg = datos.getLong();
+            if (!coincideHuella(datos, dirPath.resolve("words.txt"))
+                    || !coincideHuella(datos, dirPath.resolve("alpha.txt"))) {
+                return null;
+            }
+            CRC32 crc = new CRC32();
+            crc.update(datos.duplicate());
+            if (crc.getValue() != crcDawg) {
+                System.err.println("DAWG binario corrupto, se reconstruirá: " + binario);
+                return null;
+            }
+            return DawgCompacto.leer(datos);
+        } catch (IOException | IllegalArgumentException e) {
+            System.err.println("DAWG binario no válido, se reconstruirá: " + e.getMessage());
+            return null;
+        }
+    }
+
+    private static void escribirHuella(ByteBuffer cabecera, Path fichero) throws IOException {
+        cabecera.putLong(Files.size(fichero));
+        cabecera.putLong(Files.getLastModifiedTime(fichero).toMillis());
+        try (FileChannel canal = FileChannel.open(fichero, StandardOpenOption.READ)) {
+            cabecera.putLong(crc(canal, 0));
+        }
+    }
+
+    private static boolean coincideHuella(ByteBuffer cabecera, Path fichero) throws IOException {
+        long tamano = cabecera.getLong();
+        long fecha = cabecera.getLong();
+        long crc = cabecera.getLong();
+        if (Files.size(fichero) != tamano) {
+            return false;
+        }
+        if (Files.getLastModifiedTime(fichero).toMillis() == fecha) {
+            return true;
+        }
+        // Solo se lee el fichero si se ha tocado: una copia o un guardado sin cambios conserva el binario
+        try (FileChannel canal = FileChannel.open(fichero, StandardOpenOption.READ)) {
+            return crc(canal, 0) == crc;
+        }
+    }
+
+    // CRC-32 del canal desde la posición dada hasta el final
+    private static long crc(FileChannel canal, long desde) throws IOException {
+        CRC32 crc = new CRC32();
+        ByteBuffer buffer = ByteBuffer.allocate(TAMANO_BUFFER_CRC);
+        long posicion = desde;
+        int leidos;
+        while ((leidos = canal.read(buffer, posicion)) >= 0) {
+            posicion += leidos;
+            buffer.flip();
+            crc.update(buffer);
+            buffer.clear();
+        }
+        return crc.getValue();
     }
     
     /**
@@ -190,14 +406,17 @@ public class RepositorioDiccionarioImpl implements RepositorioDiccionario {
     /**
      * Carrega un diccionari específic a partir del seu nom.
      * Primer consulta l'índex per obtenir la ruta del diccionari, i després llegeix
-     * els fitxers {@code alpha.txt} i {@code words.txt} des d'aquesta ruta.
+     * {@code alpha.txt} i el DAWG precompilat {@code words.<generació>.dawg}. Només es llegeix
+     * {@code words.txt} (i s'escriu una nova generació del binari) si el binari no existeix o no està al dia.
      * 
      * @pre {@code nombre} no ha de ser nul ni buit.
      * @param nombre El nom del diccionari a carregar.
      * @return Un objecte {@link Diccionario} inicialitzat amb les dades llegides.
      *         Retorna {@code null} si el diccionari no es troba a l'índex.
      * @throws IOException Si hi ha un problema llegint els fitxers del diccionari 
-     *                     (p.ex., fitxers no trobats, problemes de permisos).
+     *                     (p.ex., fitxers no trobats, problemes de permisos). Si no es pot escriure el
+     *                     binari regenerat (directori de només lectura, disc ple), es retorna igualment
+     *                     el diccionari reconstruït.
      * @post Si té èxit, es retorna un objecte {@code Diccionario} complet.
      */
     @Override
@@ -210,31 +429,72 @@ public class RepositorioDiccionarioImpl implements RepositorioDiccionario {
         }
         
         // Cargar el diccionario desde los archivos
-        Diccionario diccionario = new Diccionario();
-        
-        // Leer alpha.txt
-        Path alphaPath = Paths.get(path, "alpha.txt");
-        if (!Files.exists(alphaPath)) {
-            throw new IOException("No se encuentra el archivo alpha.txt para el diccionario '" + nombre + "'.");
-        }
-        List<String> lineasAlpha = Files.readAllLines(alphaPath);
-        diccionario.setAlphabet(lineasAlpha);
+        Diccionario diccionario = leerAlfabeto(nombre, path);
         
         // Leer words.txt
         Path wordsPath = Paths.get(path, "words.txt");
         if (!Files.exists(wordsPath)) {
             throw new IOException("No se encuentra el archivo words.txt para el diccionario '" + nombre + "'.");
         }
-        List<String> palabras = Files.readAllLines(wordsPath);
-        diccionario.setDawg(palabras);
+
+        // Usar el DAWG precompilado si está al día; si no, reconstruir y regenerar el binario
+        DawgCompacto precompilado = leerDawgBinario(Paths.get(path));
+        if (precompilado != null) {
+            diccionario.setDawgCompacto(precompilado);
+        } else {
+            List<String> palabras = Files.readAllLines(wordsPath);
+            diccionario.setDawg(palabras);
+            try {
+                escribirDawgBinario(Paths.get(path), diccionario.getDawg().compactar());
+            } catch (IOException e) {
+                // El diccionario reconstruido es válido; la siguiente carga volverá a intentarlo
+                System.err.println("Error al guardar el DAWG binario: " + e.getMessage());
+            }
+        }
         
         return diccionario;
     }
     
+    /**
+     * Carrega només les metadades d'un diccionari ({@code alpha.txt}) sense llegir les paraules
+     * ni el DAWG precompilat, per registrar-lo a l'inici sense el cost de carregar-lo sencer.
+     * 
+     * @pre {@code nombre} no ha de ser nul ni buit.
+     * @param nombre El nom del diccionari a carregar.
+     * @return Un {@link Diccionario} amb l'alfabet i un DAWG buit,
+     *         o {@code null} si el diccionari no es troba a l'índex.
+     * @throws IOException Si hi ha un problema llegint {@code alpha.txt}.
+     * @post Si té èxit, es retorna un diccionari sense paraules.
+     */
+    @Override
+    public Diccionario cargarMetadatos(String nombre) throws IOException {
+        String path = cargarIndice().get(nombre);
+        return path != null ? leerAlfabeto(nombre, path) : null;
+    }
+
+    /**
+     * Crea un diccionari amb l'alfabet llegit del fitxer {@code alpha.txt} del directori donat.
+     * 
+     * @param nombre El nom del diccionari, per als missatges d'error.
+     * @param path El directori del diccionari.
+     * @return Un diccionari amb l'alfabet i un DAWG buit.
+     * @throws IOException Si {@code alpha.txt} no existeix o no es pot llegir.
+     */
+    private Diccionario leerAlfabeto(String nombre, String path) throws IOException {
+        Path alphaPath = Paths.get(path, "alpha.txt");
+        if (!Files.exists(alphaPath)) {
+            throw new IOException("No se encuentra el archivo alpha.txt para el diccionario '" + nombre + "'.");
+        }
+        Diccionario diccionario = new Diccionario();
+        diccionario.setAlphabet(Files.readAllLines(alphaPath));
+        return diccionario;
+    }
+    
     /**
      * Elimina un diccionari del sistema de persistència.
-     * Això implica eliminar la seva entrada de l'índex i esborrar el directori
-     * i els fitxers associats ({@code alpha.txt}, {@code words.txt}).
+     * Això implica esborrar el directori i els fitxers associats ({@code alpha.txt}, {@code words.txt}
+     * i els binaris del DAWG) i eliminar la seva entrada de l'índex. Els binaris s'esborren primer:
+     * si algun encara està projectat (a Windows no es pot esborrar), el diccionari queda intacte.
      * 
      * @pre {@code nombre} no ha de ser nul ni buit.
      * @param nombre El nom del diccionari a eliminar.
@@ -246,30 +506,37 @@ public class RepositorioDiccionarioImpl implements RepositorioDiccionario {
     @Override
     public boolean eliminar(String nombre) {
         Map<String, String> diccionariosPaths = cargarIndice();
-        String path = diccionariosPaths.remove(nombre);
+        String path = diccionariosPaths.get(nombre);
         
         if (path == null) {
             return false; // No existe ese diccionario en el índice
         }
         
-        // Guardar el índice actualizado
-        boolean indexGuardado = guardarIndice(diccionariosPaths);
-        
-        // Eliminar los archivos físicos
+        // Eliminar los archivos físicos, empezando por los binarios proyectables
         try {
             Path dirPath = Paths.get(path);
             if (Files.exists(dirPath)) {
-                Files.walk(dirPath)
-                    .sorted(java.util.Comparator.reverseOrder())
-                    .map(Path::toFile)
-                    .forEach(File::delete);
-                return indexGuardado;
+                try (DirectoryStream<Path> binarios = Files.newDirectoryStream(dirPath, "*" + DAWG_EXTENSION)) {
+                    for (Path binario : binarios) {
+                        Files.delete(binario);
+                    }
+                }
+                List<Path> rutas;
+                try (Stream<Path> recorrido = Files.walk(dirPath)) {
+                    rutas = recorrido.sorted(Comparator.reverseOrder()).toList();
+                }
+                for (Path ruta : rutas) {
+                    Files.delete(ruta);
+                }
             }
-            return indexGuardado;
         } catch (IOException e) {
             System.err.println("Error al eliminar los archivos del diccionario: " + e.getMessage());
             return false;
         }
+        
+        // Guardar el índice actualizado
+        diccionariosPaths.remove(nombre);
+        return guardarIndice(diccionariosPaths);
     }
     
     /**
@@ -72,6 +72,18 @@ public interface RepositorioDiccionario {
      * @post Si no lanza excepción, retorna un diccionario válido o null
      */
     Diccionario cargar(String nombre) throws IOException;
+
+    /**
+     * Carga solo los metadatos de un diccionario (alfabeto, bolsa y comodines) sin leer ni
+     * construir sus palabras.
+     * 
+     * @param nombre Nombre del diccionario a cargar desde el almacenamiento.
+     * @return Diccionario con el alfabeto y un DAWG vacío, o null si no existe.
+     * @throws IOException Si hay problemas al leer el alfabeto del diccionario.
+     * @pre nombre != null && !nombre.isEmpty()
+     * @post Si no lanza excepción, retorna un diccionario sin palabras o null
+     */
+    Diccionario cargarMetadatos(String nombre) throws IOException;
     
     /**
      * Carga el índice de diccionarios disponibles en el sistema.
@@ -0,0 +1,29 @@
+package scrabble.helpers;
+
+/**
+ * Enumeración que define el índice de palabras usado para generar jugadas.
+ * 
+ * Ambos índices producen exactamente el mismo conjunto de jugadas; solo cambia
+ * el coste de la búsqueda y la memoria ocupada.
+ * 
+ * Índices disponibles:
+ * - DAWG: Construye la parte izquierda de la palabra enumerando prefijos del DAWG
+ *   y después la extiende hacia la derecha. No necesita memoria adicional.
+ * - GADDAG: Crece desde cada anclaje hacia la izquierda y luego hacia la derecha,
+ *   descartando antes los prefijos que el tablero no admite. Requiere construir
+ *   el GADDAG del diccionario, bastante mayor que el DAWG.
+ * 
+ * @version 2.0
+ * @since 2.0
+ */
+public enum IndiceMovimientos {
+    /** 
+     * Generación con el DAWG del diccionario (extensión izquierda y derecha).
+     */
+    DAWG,
+
+    /** 
+     * Generación con el GADDAG del diccionario, creciendo desde cada anclaje.
+     */
+    GADDAG
+}
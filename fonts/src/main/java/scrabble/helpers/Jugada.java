@@ -0,0 +1,197 @@
+package scrabble.helpers;
+
+import java.io.Serializable;
+
+/**
+ * Representación compacta e inmutable de una jugada de Scrabble.
+ *
+ * Guarda lo mismo que la tripleta (palabra, posición, dirección) que usa el resto del sistema,
+ * pero la fila y la columna van empaquetadas en un único {@code long}, la dirección es la propia
+ * constante del enumerado y la jugada añade la máscara de las casillas en las que coloca fichas
+ * del atril y, entre ellas, la de las casillas en las que la ficha colocada es un comodín. Así se
+ * crea con un solo objeto además de la palabra, sin enteros encapsulados, y compararla o calcular
+ * su hash en un conjunto cuesta unas pocas instrucciones: el hash de la palabra lo guarda el propio
+ * {@link String}.
+ *
+ * Como en la tripleta, la posición es la de la última ficha de la palabra. El bit k de las máscaras
+ * corresponde a la casilla que está k casillas antes de la última, de modo que las palabras de
+ * más de 64 casillas no se pueden representar. Un comodín escribe la letra de la palabra en su
+ * casilla pero no suma sus puntos.
+ *
+ * @version 2.0
+ * @since 2.0
+ */
+public final class Jugada implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    /** Número máximo de casillas de la palabra de una jugada. */
+    public static final int MAX_CASILLAS = Long.SIZE;
+
+    private final String palabra;
+    private final long posicion;
+    private final Direction direccion;
+    private final long colocadas;
+    private final long comodines;
+
+    /**
+     * Crea una jugada.
+     *
+     * @pre palabra y direccion no son null y la palabra ocupa como mucho {@link #MAX_CASILLAS} casillas.
+     * @param palabra Palabra completa que forma la jugada, fichas del tablero incluidas.
+     * @param fila Fila de la última ficha de la palabra.
+     * @param columna Columna de la última ficha de la palabra.
+     * @param direccion Dirección de la palabra.
+     * @param colocadas Máscara de las casillas en las que se colocan fichas del atril; el bit k es
+     *                  la casilla k posiciones antes de la última.
+     * @post Se crea una jugada inmutable con los valores dados, sin comodines.
+     * @throws NullPointerException Si la palabra o la dirección son null.
+     */
+    public Jugada(String palabra, int fila, int columna, Direction direccion, long colocadas) {
+        this(palabra, fila, columna, direccion, colocadas, 0L);
+    }
+
+    /**
+     * Crea una jugada que coloca comodines en algunas de sus casillas.
+     *
+     * @pre palabra y direccion no son null, la palabra ocupa como mucho {@link #MAX_CASILLAS}
+     *      casillas y comodines es un subconjunto de colocadas.
+     * @param palabra Palabra completa que forma la jugada, fichas del tablero incluidas.
+     * @param fila Fila de la última ficha de la palabra.
+     * @param columna Columna de la última ficha de la palabra.
+     * @param direccion Dirección de la palabra.
+     * @param colocadas Máscara de las casillas en las que se colocan fichas del atril.
+     * @param comodines Máscara de las casillas colocadas en las que la ficha es un comodín.
+     * @post Se crea una jugada inmutable con los valores dados.
+     * @throws NullPointerException Si la palabra o la dirección son null.
+     * @throws IllegalArgumentException Si algún comodín está en una casilla no colocada.
+     */
+    public Jugada(String palabra, int fila, int columna, Direction direccion, long colocadas, long comodines) {
+        if (palabra == null || direccion == null) {
+            throw new NullPointerException("La palabra y la dirección no pueden ser null");
+        }
+        if ((comodines & ~colocadas) != 0) {
+            throw new IllegalArgumentException("Los comodines deben estar en casillas colocadas");
+        }
+        this.palabra = palabra;
+        this.posicion = ((long) fila << 32) | (columna & 0xFFFFFFFFL);
+        this.direccion = direccion;
+        this.colocadas = colocadas;
+        this.comodines = comodines;
+    }
+
+    /**
+     * @return La palabra completa de la jugada.
+     */
+    public String getPalabra() {
+        return palabra;
+    }
+
+    /**
+     * @return La fila de la última ficha de la palabra.
+     */
+    public int getFila() {
+        return (int) (posicion >> 32);
+    }
+
+    /**
+     * @return La columna de la última ficha de la palabra.
+     */
+    public int getColumna() {
+        return (int) posicion;
+    }
+
+    /**
+     * @return La dirección de la palabra.
+     */
+    public Direction getDireccion() {
+        return direccion;
+    }
+
+    /**
+     * @return La máscara de las casillas en las que se colocan fichas del atril.
+     */
+    public long getColocadas() {
+        return colocadas;
+    }
+
+    /**
+     * @return La máscara de las casillas en las que se colocan comodines.
+     */
+    public long getComodines() {
+        return comodines;
+    }
+
+    /**
+     * Indica si la jugada coloca una ficha del atril en la casilla que está k casillas antes de la última.
+     *
+     * @param k Distancia a la última casilla de la palabra.
+     * @return true si la casilla recibe una ficha del atril.
+     */
+    public boolean colocaEn(int k) {
+        return k < MAX_CASILLAS && (colocadas & (1L << k)) != 0;
+    }
+
+    /**
+     * Indica si la jugada coloca un comodín en la casilla que está k casillas antes de la última.
+     *
+     * @param k Distancia a la última casilla de la palabra.
+     * @return true si la casilla recibe un comodín.
+     */
+    public boolean comodinEn(int k) {
+        return k < MAX_CASILLAS && (comodines & (1L << k)) != 0;
+    }
+
+    /**
+     * @return El número de fichas del atril que coloca la jugada.
+     */
+    public int getNumColocadas() {
+        return Long.bitCount(colocadas);
+    }
+
+    /**
+     * Convierte la jugada a la tripleta (palabra, posición, dirección) que usa el resto del sistema,
+     * que no distingue los comodines.
+     *
+     * @return Una nueva tripleta con la palabra, la posición de la última ficha y la dirección.
+     */
+    public Triple<String, Tuple<Integer, Integer>, Direction> toTriple() {
+        return new Triple<>(palabra, new Tuple<>(getFila(), getColumna()), direccion);
+    }
+
+    /**
+     * Compara esta jugada con otra: son iguales si coinciden la palabra, la posición, la dirección
+     * y las casillas en las que se colocan fichas y comodines.
+     *
+     * @param o el objeto a comparar
+     * @return true si ambas jugadas son iguales, false en caso contrario
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Jugada)) return false;
+        Jugada jugada = (Jugada) o;
+        return posicion == jugada.posicion && direccion == jugada.direccion && colocadas == jugada.colocadas
+                && comodines == jugada.comodines && palabra.equals(jugada.palabra);
+    }
+
+    /**
+     * Devuelve el valor hash de la jugada, calculado a partir de la posición, la dirección, las
+     * casillas colocadas, los comodines y la palabra.
+     *
+     * @return el código hash de la jugada
+     */
+    @Override
+    public int hashCode() {
+        int h = Long.hashCode((posicion * 31 + colocadas) * 31 + comodines);
+        return (h * 31 + direccion.ordinal()) * 31 + palabra.hashCode();
+    }
+
+    /**
+     * @return La jugada como texto: palabra, posición de la última ficha, dirección, casillas colocadas y comodines.
+     */
+    @Override
+    public String toString() {
+        return palabra + " (" + getFila() + ", " + getColumna() + ") " + direccion + " " + Long.toBinaryString(colocadas)
+                + (comodines == 0 ? "" : " #" + Long.toBinaryString(comodines));
+    }
+}
@@ -798,6 +798,25 @@ public class PresentationController {
         }
     }
 
+    /**
+     * Modifica el contenido de un diccionario añadiendo y removiendo varias palabras a la vez.
+     * Todos los cambios se aplican en una sola actualización del diccionario y de sus archivos.
+     * 
+     * @pre nombreDiccionario, altas y bajas no deben ser null, diccionario debe existir.
+     * @param nombreDiccionario Nombre del diccionario a modificar
+     * @param altas Palabras a añadir al diccionario
+     * @param bajas Palabras a remover del diccionario
+     * @post Las palabras se añaden y remueven del diccionario, o no cambia nada si hay algún error.
+     * @throws RuntimeException si hay errores durante la modificación
+     */
+    public void modificarPalabrasDiccionario(String nombreDiccionario, List<String> altas, List<String> bajas) {
+        try {
+            ctrlDomain.modificarPalabrasDiccionario(nombreDiccionario, altas, bajas);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
 
     /**
      * Obtiene el alfabeto con valores de puntuación de un diccionario específico.
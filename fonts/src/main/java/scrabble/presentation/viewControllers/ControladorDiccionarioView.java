@@ -567,21 +567,22 @@ public class ControladorDiccionarioView {
             Set<String> palabrasOriginales = new HashSet<>(diccionario.getPalabras());
             Set<String> palabrasNuevas = new HashSet<>(nuevasPalabras);
 
-            // 3. Añadir nuevas palabras
+            // 3. Añadir las palabras nuevas y eliminar las que ya no están en un solo cambio
+            List<String> altas = new ArrayList<>();
             for (String nueva : palabrasNuevas) {
                 if (!palabrasOriginales.contains(nueva)) {
-                    presentationController.modificarPalabraDiccionario(nombre, nueva, true);
+                    altas.add(nueva);
                 }
             }
-
-            // 4. Eliminar palabras que ya no están
+            List<String> bajas = new ArrayList<>();
             for (String original : palabrasOriginales) {
                 if (!palabrasNuevas.contains(original)) {
-                    presentationController.modificarPalabraDiccionario(nombre, original, false);
+                    bajas.add(original);
                 }
             }
+            presentationController.modificarPalabrasDiccionario(nombre, altas, bajas);
 
-            // 5. Actualizar vista
+            // 4. Actualizar vista
             diccionario.getAlfabeto().clear();
             diccionario.getAlfabeto().addAll(alfabeto);
             diccionario.getPalabras().clear();
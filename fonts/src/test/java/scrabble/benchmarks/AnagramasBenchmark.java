@@ -0,0 +1,110 @@
+package scrabble.benchmarks;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.LongSupplier;
+
+import scrabble.domain.models.BuscadorAnagramas;
+import scrabble.domain.models.DawgCompacto;
+
+/**
+ * Benchmark de la búsqueda de anagramas y subanagramas de atriles de 7 fichas: recorrido del DAWG
+ * con poda por las fichas restantes frente a comprobar el atril contra cada palabra de la lista,
+ * sin comodines, con uno y con dos.
+ *
+ * Se ejecuta con
+ * {@code gradle benchmark -PbenchClass=scrabble.benchmarks.AnagramasBenchmark -PbenchArgs="1000000 200"}
+ * (número de palabras y de atriles, opcionales).
+ */
+public final class AnagramasBenchmark {
+
+    /** Fichas de las que se sacan los atriles, con la frecuencia aproximada de una bolsa. */
+    private static final String BOLSA = "AAAAAAAAAAAABBCCCCDDDDDEEEEEEEEEEEEFGGHHIIIIIIJLLLLMMNNNNNOOOOOOOOOPPQRRRRRSSSSSSTTTTUUUUUVYZ";
+
+    private AnagramasBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        int numPalabras = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        int numAtriles = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+        List<String> palabras = GeneradorPalabras.generar(numPalabras, 42L);
+        Set<String> alfabeto = new HashSet<>(GeneradorPalabras.alfabeto());
+        DawgCompacto dawg = ConstruccionDawgBenchmark.construir(palabras, alfabeto).getCompacto();
+        BuscadorAnagramas buscador = new BuscadorAnagramas(dawg, new int[dawg.getNumSimbolos()]);
+        System.out.printf("Palabras: %,d  nodos: %,d  atriles de 7 fichas: %d%n", numPalabras, dawg.getNumNodos(), numAtriles);
+
+        for (int comodines = 0; comodines <= 2; comodines++) {
+            List<int[]> atriles = atriles(dawg, numAtriles, 7 - comodines, comodines);
+            int numComodines = comodines;
+            medir("DAWG con poda, " + comodines + " comodines", numAtriles, () -> {
+                long total = 0;
+                for (int[] cuentas : atriles) {
+                    long[] encontrados = new long[1];
+                    buscador.buscar(cuentas, numComodines, 1, false, a -> encontrados[0]++);
+                    total += encontrados[0];
+                }
+                return total;
+            });
+            medir("Lista completa, " + comodines + " comodines", numAtriles, () -> {
+                long total = 0;
+                for (int[] cuentas : atriles) {
+                    total += recorrerLista(dawg, palabras, cuentas, numComodines);
+                }
+                return total;
+            });
+        }
+    }
+
+    private static void medir(String nombre, int numAtriles, LongSupplier operacion) {
+        long mejor = Long.MAX_VALUE;
+        long resultado = 0;
+        for (int i = 0; i <= 3; i++) {
+            long inicio = System.nanoTime();
+            resultado = operacion.getAsLong();
+            long nanos = System.nanoTime() - inicio;
+            if (i > 0) { // La primera vuelta es de calentamiento
+                mejor = Math.min(mejor, nanos);
+            }
+        }
+        System.out.printf("%-32s %,10.3f ms/atril  %,10d palabras en total%n", nombre, mejor / 1e6 / numAtriles, resultado);
+    }
+
+    private static List<int[]> atriles(DawgCompacto dawg, int cantidad, int fichas, long semilla) {
+        Random random = new Random(semilla);
+        List<int[]> atriles = new ArrayList<>(cantidad);
+        for (int i = 0; i < cantidad; i++) {
+            int[] cuentas = new int[dawg.getNumSimbolos()];
+            for (int j = 0; j < fichas; j++) {
+                cuentas[dawg.getIdSimbolo(String.valueOf(BOLSA.charAt(random.nextInt(BOLSA.length()))))]++;
+            }
+            atriles.add(cuentas);
+        }
+        return atriles;
+    }
+
+    /** Comprueba el atril contra cada palabra de la lista, como referencia. */
+    private static long recorrerLista(DawgCompacto dawg, List<String> palabras, int[] atril, int comodines) {
+        int[] idCaracter = new int[128];
+        for (int id = 0; id < dawg.getNumSimbolos(); id++) {
+            idCaracter[dawg.getSimbolo(id).charAt(0)] = id;
+        }
+        long encontradas = 0;
+        int[] cuentas = new int[atril.length];
+        for (String palabra : palabras) {
+            System.arraycopy(atril, 0, cuentas, 0, atril.length);
+            int faltan = 0;
+            for (int i = 0; i < palabra.length() && faltan <= comodines; i++) {
+                if (--cuentas[idCaracter[palabra.charAt(i)]] < 0) {
+                    faltan++;
+                }
+            }
+            if (faltan <= comodines) {
+                encontradas++;
+            }
+        }
+        return encontradas;
+    }
+}
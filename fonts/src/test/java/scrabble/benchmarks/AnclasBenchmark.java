@@ -0,0 +1,123 @@
+package scrabble.benchmarks;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import scrabble.domain.models.Tablero;
+import scrabble.helpers.Tuple;
+
+/**
+ * Benchmark de la obtención de los anclajes en cada turno: recorrer todo el tablero creando una
+ * {@link Tuple} por casilla y por vecina y un {@code HashSet} (como hacía {@code find_anchors}) frente
+ * a los anclajes que {@link Tablero} mantiene en cada {@code setTile}, recorriendo solo sus bits.
+ *
+ * Para cada tamaño de tablero genera, con semilla fija, una partida de palabras de 2 a 7 fichas que
+ * parten de fichas ya colocadas, y mide por turno la colocación de las fichas más la obtención de
+ * los anclajes. Comprueba que ambos métodos dan los mismos anclajes.
+ *
+ * Se ejecuta con
+ * {@code gradle benchmark -PbenchClass=scrabble.benchmarks.AnclasBenchmark -PbenchArgs="40 5"}
+ * (número de turnos y de repeticiones, opcionales).
+ */
+public final class AnclasBenchmark {
+
+    private AnclasBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        int turnos = args.length > 0 ? Integer.parseInt(args[0]) : 40;
+        int repeticiones = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+        for (int n : new int[] {15, 50, 100, 200}) {
+            List<List<Tuple<Integer, Integer>>> partida = generarPartida(n, turnos);
+            long mejorRecorrido = Long.MAX_VALUE;
+            long mejorIncremental = Long.MAX_VALUE;
+            long anclas = 0;
+            for (int r = 0; r <= repeticiones; r++) {
+                long[] recorrido = simular(n, partida, false);
+                long[] incremental = simular(n, partida, true);
+                if (recorrido[1] != incremental[1]) {
+                    throw new IllegalStateException("Anclajes distintos con N = " + n);
+                }
+                anclas = incremental[1];
+                if (r > 0) { // La primera vuelta es de calentamiento
+                    mejorRecorrido = Math.min(mejorRecorrido, recorrido[0]);
+                    mejorIncremental = Math.min(mejorIncremental, incremental[0]);
+                }
+            }
+            System.out.printf("N = %3d  anclajes por turno %,6d  recorrido %,10.1f µs/turno  incremental %,8.1f µs/turno  (%.1fx)%n",
+                    n, anclas / turnos, mejorRecorrido / 1e3 / turnos, mejorIncremental / 1e3 / turnos,
+                    (double) mejorRecorrido / mejorIncremental);
+        }
+    }
+
+    /**
+     * Juega la partida y devuelve el tiempo total de colocar las fichas y obtener los anclajes de
+     * cada turno, y la suma de los anclajes obtenidos.
+     */
+    private static long[] simular(int n, List<List<Tuple<Integer, Integer>>> partida, boolean incremental) {
+        Tablero tablero = new Tablero(n);
+        if (incremental) tablero.getAnclas();
+        long nanos = 0;
+        long anclas = 0;
+        for (List<Tuple<Integer, Integer>> turno : partida) {
+            long inicio = System.nanoTime();
+            for (Tuple<Integer, Integer> pos : turno) {
+                tablero.setTile(pos, "E");
+            }
+            if (incremental) {
+                for (long bits : tablero.getAnclas()) {
+                    anclas += Long.bitCount(bits);
+                }
+            } else {
+                anclas += recorrer(tablero).size();
+            }
+            nanos += System.nanoTime() - inicio;
+        }
+        return new long[] {nanos, anclas};
+    }
+
+    // Palabras que parten de una ficha al azar del tablero, en horizontal o en vertical
+    private static List<List<Tuple<Integer, Integer>>> generarPartida(int n, int turnos) {
+        Random random = new Random(9L);
+        List<Tuple<Integer, Integer>> colocadas = new ArrayList<>();
+        Set<Tuple<Integer, Integer>> ocupadas = new HashSet<>();
+        colocadas.add(new Tuple<>(n / 2, n / 2));
+        ocupadas.add(colocadas.get(0));
+        List<List<Tuple<Integer, Integer>>> partida = new ArrayList<>();
+        partida.add(new ArrayList<>(colocadas));
+        for (int t = 1; t < turnos; t++) {
+            Tuple<Integer, Integer> origen = colocadas.get(random.nextInt(colocadas.size()));
+            boolean horizontal = random.nextBoolean();
+            int longitud = 2 + random.nextInt(6);
+            List<Tuple<Integer, Integer>> turno = new ArrayList<>();
+            for (int k = 1; k <= longitud; k++) {
+                Tuple<Integer, Integer> pos = horizontal ? new Tuple<>(origen.x, origen.y + k) : new Tuple<>(origen.x + k, origen.y);
+                if (pos.x >= n || pos.y >= n) break;
+                if (ocupadas.add(pos)) turno.add(pos);
+            }
+            colocadas.addAll(turno);
+            partida.add(turno);
+        }
+        return partida;
+    }
+
+    // Recorrido completo del tablero, como el antiguo find_anchors
+    private static Set<Tuple<Integer, Integer>> recorrer(Tablero tablero) {
+        Set<Tuple<Integer, Integer>> anchors = new HashSet<>();
+        for (int i = 0; i < tablero.getSize(); i++) {
+            for (int j = 0; j < tablero.getSize(); j++) {
+                Tuple<Integer, Integer> pos = new Tuple<>(i, j);
+                if (tablero.isEmpty(pos)) {
+                    if (tablero.isFilled(new Tuple<>(i - 1, j)) || tablero.isFilled(new Tuple<>(i + 1, j))
+                            || tablero.isFilled(new Tuple<>(i, j - 1)) || tablero.isFilled(new Tuple<>(i, j + 1))) {
+                        anchors.add(pos);
+                    }
+                }
+            }
+        }
+        return anchors;
+    }
+}
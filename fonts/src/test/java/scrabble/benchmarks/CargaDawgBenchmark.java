@@ -0,0 +1,87 @@
+package scrabble.benchmarks;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import scrabble.domain.models.Dawg;
+import scrabble.domain.models.DawgCompacto;
+
+/**
+ * Benchmark del tiempo de carga de un diccionario: reconstruir el DAWG leyendo {@code words.txt}
+ * frente a proyectar en memoria el DAWG precompilado ({@code words.dawg}).
+ *
+ * Se ejecuta con
+ * {@code gradle benchmark -PbenchClass=scrabble.benchmarks.CargaDawgBenchmark -PbenchArgs="600000 5"}
+ * (número de palabras y repeticiones, opcionales).
+ */
+public final class CargaDawgBenchmark {
+
+    private CargaDawgBenchmark() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        int numPalabras = args.length > 0 ? Integer.parseInt(args[0]) : 600_000;
+        int repeticiones = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+        List<String> palabras = GeneradorPalabras.generar(numPalabras, 42L);
+        Set<String> alfabeto = new HashSet<>(GeneradorPalabras.alfabeto());
+
+        Path directorio = Files.createTempDirectory("dawg-bench");
+        Path texto = directorio.resolve("words.txt");
+        Path binario = directorio.resolve("words.dawg");
+        try {
+            Files.write(texto, palabras, StandardCharsets.UTF_8);
+            DawgCompacto compacto = ConstruccionDawgBenchmark.construir(palabras, alfabeto).getCompacto();
+            try (FileChannel canal = FileChannel.open(binario, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+                compacto.escribir(canal);
+            }
+            System.out.printf("Palabras: %,d  words.txt: %,d bytes  words.dawg: %,d bytes%n",
+                    palabras.size(), Files.size(texto), Files.size(binario));
+
+            long mejorTexto = Long.MAX_VALUE;
+            long mejorBinario = Long.MAX_VALUE;
+            for (int i = 0; i <= repeticiones; i++) {
+                long inicio = System.nanoTime();
+                Dawg desdeTexto = ConstruccionDawgBenchmark.construir(
+                        Files.readAllLines(texto, StandardCharsets.UTF_8), alfabeto);
+                long nanosTexto = System.nanoTime() - inicio;
+
+                inicio = System.nanoTime();
+                Dawg desdeBinario = new Dawg(proyectar(binario));
+                long nanosBinario = System.nanoTime() - inicio;
+
+                if (desdeTexto.search(palabras.get(0)) != desdeBinario.search(palabras.get(0))) {
+                    throw new IllegalStateException("Los DAWG cargados no coinciden");
+                }
+                if (i > 0) { // La primera vuelta es de calentamiento
+                    mejorTexto = Math.min(mejorTexto, nanosTexto);
+                    mejorBinario = Math.min(mejorBinario, nanosBinario);
+                }
+            }
+            System.out.printf("Carga desde words.txt : %,10.2f ms%n", mejorTexto / 1e6);
+            System.out.printf("Carga desde words.dawg: %,10.2f ms%n", mejorBinario / 1e6);
+
+            Dawg proyectado = new Dawg(proyectar(binario));
+            DawgBenchmark.medirConsultas("proyectado", proyectado::search, palabras);
+        } finally {
+            Files.deleteIfExists(texto);
+            Files.deleteIfExists(binario);
+            Files.deleteIfExists(directorio);
+        }
+    }
+
+    private static DawgCompacto proyectar(Path binario) throws IOException {
+        try (FileChannel canal = FileChannel.open(binario, StandardOpenOption.READ)) {
+            MappedByteBuffer datos = canal.map(FileChannel.MapMode.READ_ONLY, 0, canal.size());
+            return DawgCompacto.leer(datos.order(ByteOrder.LITTLE_ENDIAN));
+        }
+    }
+}
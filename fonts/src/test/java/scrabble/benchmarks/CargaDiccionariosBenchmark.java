@@ -0,0 +1,127 @@
+package scrabble.benchmarks;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import scrabble.domain.controllers.subcontrollers.CacheDiccionarios;
+import scrabble.domain.models.DawgCompacto;
+import scrabble.domain.models.Diccionario;
+
+/**
+ * Benchmark del arranque con varios diccionarios instalados: cargarlos todos al iniciar (como
+ * hacía {@code ControladorDiccionario}) frente a registrar solo su alfabeto en una
+ * {@link CacheDiccionarios} y cargar bajo demanda el que se usa. Se mide con los diccionarios
+ * construidos desde {@code words.txt} y leídos del binario precompilado, e informa del tiempo de
+ * arranque, del tiempo hasta la primera consulta y de los bytes de heap estimados que quedan
+ * retenidos.
+ *
+ * Se ejecuta con
+ * {@code gradle benchmark -PbenchClass=scrabble.benchmarks.CargaDiccionariosBenchmark -PbenchArgs="6 200000"}
+ * (número de diccionarios y de palabras de cada uno, opcionales).
+ */
+public final class CargaDiccionariosBenchmark {
+
+    private CargaDiccionariosBenchmark() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        int numDiccionarios = args.length > 0 ? Integer.parseInt(args[0]) : 6;
+        int numPalabras = args.length > 1 ? Integer.parseInt(args[1]) : 200_000;
+        List<String> alfabeto = new ArrayList<>();
+        for (String simbolo : GeneradorPalabras.alfabeto()) {
+            alfabeto.add(simbolo + " 1 1");
+        }
+        Path directorio = Files.createTempDirectory("diccionarios");
+        try {
+            List<String> nombres = new ArrayList<>();
+            for (int i = 0; i < numDiccionarios; i++) {
+                String nombre = "dic" + i;
+                Path dir = Files.createDirectory(directorio.resolve(nombre));
+                List<String> palabras = GeneradorPalabras.generar(numPalabras, 42L + i);
+                Files.write(dir.resolve("alpha.txt"), alfabeto);
+                Files.write(dir.resolve("words.txt"), palabras);
+                Diccionario diccionario = leerAlfabeto(dir);
+                diccionario.setDawg(palabras);
+                try (FileChannel canal = FileChannel.open(dir.resolve("words.dawg"), StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+                    diccionario.getDawg().getCompacto().escribir(canal);
+                }
+                nombres.add(nombre);
+            }
+            System.out.printf("Diccionarios: %d  palabras por diccionario: %,d%n", numDiccionarios, numPalabras);
+
+            CacheDiccionarios.Cargador desdePalabras = nombre -> {
+                Path dir = directorio.resolve(nombre);
+                Diccionario diccionario = leerAlfabeto(dir);
+                diccionario.setDawg(Files.readAllLines(dir.resolve("words.txt")));
+                return diccionario;
+            };
+            CacheDiccionarios.Cargador desdeBinario = nombre -> {
+                Path dir = directorio.resolve(nombre);
+                Diccionario diccionario = leerAlfabeto(dir);
+                try (FileChannel canal = FileChannel.open(dir.resolve("words.dawg"), StandardOpenOption.READ)) {
+                    diccionario.setDawgCompacto(DawgCompacto.leer(canal.map(FileChannel.MapMode.READ_ONLY, 0, canal.size())));
+                }
+                return diccionario;
+            };
+            medir("words.txt", nombres, directorio, desdePalabras);
+            medir("words.dawg", nombres, directorio, desdeBinario);
+        } finally {
+            try (Stream<Path> ficheros = Files.walk(directorio)) {
+                ficheros.sorted(Comparator.reverseOrder()).forEach(f -> f.toFile().delete());
+            }
+        }
+    }
+
+    private static void medir(String origen, List<String> nombres, Path directorio, CacheDiccionarios.Cargador cargador) throws IOException {
+        long mejorAnsioso = Long.MAX_VALUE;
+        long mejorPerezoso = Long.MAX_VALUE;
+        long mejorPrimeraConsulta = Long.MAX_VALUE;
+        long bytesAnsioso = 0;
+        long bytesPerezoso = 0;
+        for (int i = 0; i <= 3; i++) {
+            // Ansioso: todos los diccionarios cargados al iniciar
+            long inicio = System.nanoTime();
+            List<Diccionario> todos = new ArrayList<>();
+            for (String nombre : nombres) {
+                todos.add(cargador.cargar(nombre));
+            }
+            long ansioso = System.nanoTime() - inicio;
+            bytesAnsioso = todos.stream().mapToLong(Diccionario::estimarBytesHeap).sum();
+
+            // Perezoso: solo el alfabeto al iniciar y el diccionario usado en la primera consulta
+            inicio = System.nanoTime();
+            CacheDiccionarios cache = new CacheDiccionarios(cargador, 3, Long.MAX_VALUE);
+            for (String nombre : nombres) {
+                cache.registrar(nombre, leerAlfabeto(directorio.resolve(nombre)));
+            }
+            long perezoso = System.nanoTime() - inicio;
+            inicio = System.nanoTime();
+            cache.get(nombres.get(0)).contienePalabra("CASA");
+            long primeraConsulta = System.nanoTime() - inicio;
+            bytesPerezoso = cache.getCargados().stream()
+                    .mapToLong(nombre -> cache.getSiCargado(nombre).estimarBytesHeap()).sum();
+
+            if (i > 0) { // La primera vuelta es de calentamiento
+                mejorAnsioso = Math.min(mejorAnsioso, ansioso);
+                mejorPerezoso = Math.min(mejorPerezoso, perezoso);
+                mejorPrimeraConsulta = Math.min(mejorPrimeraConsulta, primeraConsulta);
+            }
+        }
+        System.out.printf("%-12s arranque ansioso %,10.1f ms  %,12d bytes de heap%n", origen, mejorAnsioso / 1e6, bytesAnsioso);
+        System.out.printf("%-12s arranque perezoso %,9.1f ms  primera consulta %,8.1f ms  %,12d bytes de heap%n",
+                origen, mejorPerezoso / 1e6, mejorPrimeraConsulta / 1e6, bytesPerezoso);
+    }
+
+    private static Diccionario leerAlfabeto(Path dir) throws IOException {
+        Diccionario diccionario = new Diccionario();
+        diccionario.setAlphabet(Files.readAllLines(dir.resolve("alpha.txt")));
+        return diccionario;
+    }
+}
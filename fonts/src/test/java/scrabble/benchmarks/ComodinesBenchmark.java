@@ -0,0 +1,190 @@
+package scrabble.benchmarks;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import scrabble.domain.controllers.subcontrollers.ControladorDiccionario;
+import scrabble.domain.controllers.subcontrollers.ControladorJuego;
+import scrabble.helpers.Dificultad;
+import scrabble.helpers.Direction;
+import scrabble.helpers.Jugada;
+import scrabble.helpers.Triple;
+import scrabble.helpers.Tuple;
+
+/**
+ * Benchmark de la generación de jugadas con atriles que tienen comodines.
+ *
+ * Simula la partida de {@link PodaJugadasBenchmark} y, en cada posición, cambia por comodines
+ * ninguna, una o dos fichas del atril y mide (mejor de varias repeticiones) la mejor jugada de la
+ * IA ({@code mejoresJugadas} con k = 1) y la enumeración de todas las jugadas ({@code searchAllMoves}
+ * con un consumidor), contando las jugadas entregadas. Comprueba que la mejor jugada tiene la
+ * puntuación máxima entre todas las jugadas generadas, con los comodines sin puntuar, y que la
+ * conversión desde su tripleta con el atril da la misma jugada que la generación.
+ *
+ * Se ejecuta con
+ * {@code gradle benchmark -PbenchClass=scrabble.benchmarks.ComodinesBenchmark -PbenchArgs="100000 2 3"}
+ * (número de palabras, de bolsas y de repeticiones, opcionales). Los controladores crean sus ficheros de
+ * persistencia en el directorio de trabajo, por lo que la tarea se ejecuta en {@code build/benchmark}.
+ */
+public final class ComodinesBenchmark {
+
+    private static final int MAX_COMODINES = 2;
+
+    private ComodinesBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int numPalabras = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        int bolsas = args.length > 1 ? Integer.parseInt(args[1]) : 2;
+        int repeticiones = args.length > 2 ? Integer.parseInt(args[2]) : 3;
+
+        Path directorio = Files.createTempDirectory("comodines-bench");
+        Path palabras = directorio.resolve("words.txt");
+        Path alpha = directorio.resolve("alpha.txt");
+        Files.write(alpha, GeneracionMovimientosBenchmark.ALFABETO_ESP, StandardCharsets.UTF_8);
+        Files.write(palabras, GeneradorPalabras.generar(numPalabras, 42L), StandardCharsets.UTF_8);
+
+        String nombre = "bench-" + System.nanoTime();
+        ControladorDiccionario diccionarios = ControladorDiccionario.getInstance();
+        diccionarios.crearDiccionario(nombre, alpha.toString(), palabras.toString());
+        try {
+            System.out.printf("Palabras: %,d%n", numPalabras);
+            simular(nombre, bolsas, repeticiones);
+        } finally {
+            Files.deleteIfExists(palabras);
+            Files.deleteIfExists(alpha);
+            Files.deleteIfExists(directorio);
+        }
+    }
+
+    private static void simular(String nombre, int bolsas, int repeticiones) throws Exception {
+        ControladorJuego juego = new ControladorJuego();
+        Map<String, Integer> jugadores = new HashMap<>();
+        jugadores.put("IA", 0);
+        juego.inicializarJuego(15, jugadores, nombre);
+
+        // Los comodines de la bolsa se dejan fuera para controlar cuántos hay en cada atril
+        List<String> bolsa = new ArrayList<>();
+        for (String linea : GeneracionMovimientosBenchmark.ALFABETO_ESP) {
+            String[] partes = linea.split(" ");
+            if (partes[0].equals("#")) continue;
+            for (int k = 0; k < bolsas * Integer.parseInt(partes[1]); k++) {
+                bolsa.add(partes[0]);
+            }
+        }
+        Collections.shuffle(bolsa, new Random(7L));
+
+        long[] nanosMejor = new long[MAX_COMODINES + 1];
+        long[] nanosTodas = new long[MAX_COMODINES + 1];
+        long[] jugadas = new long[MAX_COMODINES + 1];
+        int posiciones = 0;
+        Map<String, Integer> rack = new HashMap<>();
+        rellenar(rack, bolsa);
+        int cambios = 0;
+        while (!rack.isEmpty() && cambios < 3) {
+            for (int c = 0; c <= MAX_COMODINES; c++) {
+                Map<String, Integer> atril = conComodines(rack, c);
+                long mejorMejor = Long.MAX_VALUE;
+                long mejorTodas = Long.MAX_VALUE;
+                List<Triple<String, Tuple<Integer, Integer>, Direction>> mejor = null;
+                int entregadas = 0;
+                for (int r = 0; r <= repeticiones; r++) {
+                    long inicio = System.nanoTime();
+                    mejor = juego.mejoresJugadas(atril, juego.isJuegoIniciado(), 1);
+                    long nanos = System.nanoTime() - inicio;
+                    if (r > 0) mejorMejor = Math.min(mejorMejor, nanos); // La primera vuelta es de calentamiento
+
+                    int[] contador = {0};
+                    inicio = System.nanoTime();
+                    juego.searchAllMoves(atril, juego.isJuegoIniciado(), t -> contador[0]++);
+                    nanos = System.nanoTime() - inicio;
+                    if (r > 0) mejorTodas = Math.min(mejorTodas, nanos);
+                    entregadas = contador[0];
+                }
+                comprobar(juego, atril, mejor, posiciones);
+                nanosMejor[c] += mejorMejor;
+                nanosTodas[c] += mejorTodas;
+                jugadas[c] += entregadas;
+            }
+            posiciones++;
+
+            Triple<String, Tuple<Integer, Integer>, Direction> jugada = juego.mejoresJugadas(rack, juego.isJuegoIniciado(), 1).stream()
+                    .findFirst().orElse(null);
+            if (jugada == null) {
+                for (Map.Entry<String, Integer> ficha : rack.entrySet()) {
+                    for (int k = 0; k < ficha.getValue(); k++) {
+                        bolsa.add(0, ficha.getKey());
+                    }
+                }
+                rack.clear();
+                rellenar(rack, bolsa);
+                cambios++;
+                continue;
+            }
+            cambios = 0;
+            Tuple<Map<String, Integer>, Integer> resultado = juego.realizarTurno(jugada, "IA", rack, false, Dificultad.DIFICIL);
+            rack = new HashMap<>(resultado.x);
+            rellenar(rack, bolsa);
+        }
+
+        System.out.printf("Posiciones: %d%n", posiciones);
+        for (int c = 0; c <= MAX_COMODINES; c++) {
+            System.out.printf("%d comodines  mejor jugada %,8.3f ms/posición (%.2fx)   todas %,8.3f ms/posición (%.2fx)   %,9.1f jugadas/posición%n",
+                    c, nanosMejor[c] / 1e6 / posiciones, (double) nanosMejor[c] / nanosMejor[0],
+                    nanosTodas[c] / 1e6 / posiciones, (double) nanosTodas[c] / nanosTodas[0], (double) jugadas[c] / posiciones);
+        }
+    }
+
+    /**
+     * Comprueba que la mejor jugada tiene la puntuación máxima de todas las jugadas generadas y que
+     * su conversión con el atril es una de ellas.
+     */
+    private static void comprobar(ControladorJuego juego, Map<String, Integer> atril,
+                                  List<Triple<String, Tuple<Integer, Integer>, Direction>> mejor, int posicion) {
+        Set<Jugada> todas = juego.buscarJugadas(atril, juego.isJuegoIniciado());
+        int maximo = -1;
+        for (Jugada j : todas) {
+            maximo = Math.max(maximo, juego.calculateMovePoints(j));
+        }
+        if (mejor.isEmpty() != todas.isEmpty()) {
+            throw new IllegalStateException("Mejor jugada ausente en la posición " + posicion);
+        }
+        if (!mejor.isEmpty()) {
+            Jugada elegida = juego.jugada(mejor.get(0), atril);
+            if (!todas.contains(elegida) || juego.calculateMovePoints(elegida) != maximo) {
+                throw new IllegalStateException("Mejor jugada " + elegida + " no óptima en la posición " + posicion);
+            }
+        }
+    }
+
+    // Copia del atril con las últimas fichas, en orden alfabético, cambiadas por comodines
+    private static Map<String, Integer> conComodines(Map<String, Integer> rack, int comodines) {
+        List<String> fichas = new ArrayList<>();
+        for (Map.Entry<String, Integer> ficha : rack.entrySet()) {
+            for (int k = 0; k < ficha.getValue(); k++) {
+                fichas.add(ficha.getKey());
+            }
+        }
+        Collections.sort(fichas);
+        Map<String, Integer> atril = new HashMap<>();
+        for (int k = 0; k < fichas.size(); k++) {
+            atril.merge(k < fichas.size() - comodines ? fichas.get(k) : "#", 1, Integer::sum);
+        }
+        return atril;
+    }
+
+    private static void rellenar(Map<String, Integer> rack, List<String> bolsa) {
+        int enAtril = rack.values().stream().mapToInt(Integer::intValue).sum();
+        for (int k = enAtril; k < 7 && !bolsa.isEmpty(); k++) {
+            rack.merge(bolsa.remove(bolsa.size() - 1), 1, Integer::sum);
+        }
+    }
+}
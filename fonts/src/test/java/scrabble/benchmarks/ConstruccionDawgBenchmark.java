@@ -0,0 +1,55 @@
+package scrabble.benchmarks;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import scrabble.domain.models.Dawg;
+
+/**
+ * Benchmark del tiempo de construcción del DAWG (inserción ordenada + minimización + compactación).
+ *
+ * Se ejecuta con
+ * {@code gradle benchmark -PbenchClass=scrabble.benchmarks.ConstruccionDawgBenchmark -PbenchArgs="600000 5"}
+ * (número de palabras y repeticiones, opcionales).
+ */
+public final class ConstruccionDawgBenchmark {
+
+    private ConstruccionDawgBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        int numPalabras = args.length > 0 ? Integer.parseInt(args[0]) : 600_000;
+        int repeticiones = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+        List<String> palabras = GeneradorPalabras.generar(numPalabras, 42L);
+        Set<String> alfabeto = new HashSet<>(GeneradorPalabras.alfabeto());
+        System.out.println("Palabras: " + palabras.size());
+
+        // Calentamiento
+        construir(palabras, alfabeto);
+
+        long mejor = Long.MAX_VALUE;
+        long total = 0;
+        int nodos = 0;
+        for (int i = 0; i < repeticiones; i++) {
+            long inicio = System.nanoTime();
+            Dawg dawg = construir(palabras, alfabeto);
+            long nanos = System.nanoTime() - inicio;
+            mejor = Math.min(mejor, nanos);
+            total += nanos;
+            nodos = dawg.getCompacto().getNumNodos();
+        }
+        System.out.printf("Nodos: %,d%n", nodos);
+        System.out.printf("Construcción: mejor %,d ms, media %,d ms (%,.0f palabras/s)%n",
+                mejor / 1_000_000, total / repeticiones / 1_000_000, palabras.size() / (mejor / 1e9));
+    }
+
+    static Dawg construir(List<String> palabras, Set<String> alfabeto) {
+        Dawg dawg = new Dawg(alfabeto);
+        for (String palabra : palabras) {
+            dawg.insert(palabra);
+        }
+        dawg.finish();
+        return dawg;
+    }
+}
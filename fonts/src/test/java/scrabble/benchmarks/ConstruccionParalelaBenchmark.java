@@ -0,0 +1,82 @@
+package scrabble.benchmarks;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+import scrabble.domain.models.Dawg;
+
+/**
+ * Benchmark de escalado de la construcción paralela del DAWG ({@link Dawg#buildParallel(java.util.Collection, ForkJoinPool)})
+ * frente a la secuencial ({@code insertAll} + {@code finish}), con pools de 1, 2, 4... hilos hasta el
+ * número de procesadores (o el indicado). Comprueba además que todas las construcciones producen
+ * las mismas tablas compactas.
+ *
+ * Se ejecuta con
+ * {@code gradle benchmark -PbenchClass=scrabble.benchmarks.ConstruccionParalelaBenchmark -PbenchArgs="600000 3 8"}
+ * (número de palabras, repeticiones y número máximo de hilos, opcionales).
+ */
+public final class ConstruccionParalelaBenchmark {
+
+    private ConstruccionParalelaBenchmark() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        int numPalabras = args.length > 0 ? Integer.parseInt(args[0]) : 600_000;
+        int repeticiones = args.length > 1 ? Integer.parseInt(args[1]) : 3;
+        int maxHilos = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+        List<String> palabras = new ArrayList<>(GeneradorPalabras.generar(numPalabras, 42L));
+        // Como en los ficheros de diccionario, la lista no tiene por qué llegar en orden de símbolo
+        Collections.shuffle(palabras, new Random(1L));
+        Set<String> alfabeto = new HashSet<>(GeneradorPalabras.alfabeto());
+        System.out.printf("Palabras: %,d  procesadores: %d%n", numPalabras, Runtime.getRuntime().availableProcessors());
+
+        byte[] referencia = null;
+        long secuencial = Long.MAX_VALUE;
+        for (int i = 0; i <= repeticiones; i++) {
+            long inicio = System.nanoTime();
+            Dawg dawg = new Dawg(alfabeto);
+            dawg.insertAll(palabras);
+            dawg.finish();
+            long nanos = System.nanoTime() - inicio;
+            if (i > 0) secuencial = Math.min(secuencial, nanos);
+            referencia = serializar(dawg);
+        }
+        System.out.printf("%-24s %,8d ms%n", "insertAll + finish", secuencial / 1_000_000);
+
+        for (int hilos = 1; hilos <= maxHilos; hilos = hilos < maxHilos && hilos * 2 > maxHilos ? maxHilos : hilos * 2) {
+            ForkJoinPool pool = new ForkJoinPool(hilos);
+            try {
+                long mejor = Long.MAX_VALUE;
+                boolean iguales = true;
+                for (int i = 0; i <= repeticiones; i++) {
+                    long inicio = System.nanoTime();
+                    Dawg dawg = new Dawg(alfabeto);
+                    dawg.buildParallel(palabras, pool);
+                    long nanos = System.nanoTime() - inicio;
+                    if (i > 0) mejor = Math.min(mejor, nanos);
+                    iguales &= Arrays.equals(referencia, serializar(dawg));
+                }
+                System.out.printf("%-24s %,8d ms  aceleración %.2fx  %s%n", "buildParallel, " + hilos + " hilos",
+                        mejor / 1_000_000, (double) secuencial / mejor, iguales ? "idéntico" : "DISTINTO");
+            } finally {
+                pool.shutdown();
+            }
+            if (hilos == maxHilos) break;
+        }
+    }
+
+    private static byte[] serializar(Dawg dawg) throws IOException {
+        ByteArrayOutputStream salida = new ByteArrayOutputStream();
+        dawg.getCompacto().escribir(Channels.newChannel(salida));
+        return salida.toByteArray();
+    }
+}
@@ -0,0 +1,134 @@
+package scrabble.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import scrabble.domain.models.Dawg;
+import scrabble.domain.models.DawgCompacto;
+import scrabble.domain.models.DawgNode;
+
+/**
+ * Benchmark del DAWG: memoria retenida y rendimiento de consultas.
+ *
+ * No forma parte de los tests unitarios; se ejecuta con
+ * {@code gradle benchmark -PbenchClass=scrabble.benchmarks.DawgBenchmark -PbenchArgs="300000"} (número de palabras, opcional).
+ */
+public final class DawgBenchmark {
+
+    private static final int CONSULTAS = 2_000_000;
+
+    private DawgBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        int numPalabras = args.length > 0 ? Integer.parseInt(args[0]) : 300_000;
+        List<String> palabras = GeneradorPalabras.generar(numPalabras, 42L);
+        Set<String> alfabeto = new HashSet<>(GeneradorPalabras.alfabeto());
+        System.out.println("Palabras: " + palabras.size());
+
+        compararMemoriaYConsultas(palabras, alfabeto);
+    }
+
+    /**
+     * Compara el grafo minimizado de {@code DawgNode} con el DAWG compactado.
+     * El grafo se obtiene descompactando el DAWG, lo que equivale al estado que
+     * quedaba en memoria tras {@code finish()} antes de introducir la representación compacta.
+     */
+    private static void compararMemoriaYConsultas(List<String> palabras, Set<String> alfabeto) {
+        long base = memoriaUsada();
+        Dawg compacto = new Dawg(alfabeto);
+        for (String palabra : palabras) {
+            compacto.insert(palabra);
+        }
+        compacto.finish();
+        long memoriaCompacto = memoriaUsada() - base;
+
+        base = memoriaUsada();
+        DawgNode raiz = compacto.getCompacto().descompactar();
+        long memoriaGrafo = memoriaUsada() - base;
+
+        System.out.printf("Memoria grafo DawgNode : %,12d bytes%n", memoriaGrafo);
+        System.out.printf("Memoria DAWG compacto  : %,12d bytes%n", memoriaCompacto);
+        System.out.printf("Nodos: %,d  Arcos: %,d%n",
+                compacto.getCompacto().getNumNodos(), compacto.getCompacto().getNumArcos());
+
+        List<String> consultas = mezclaConsultas(palabras);
+        medirConsultas("grafo DawgNode", palabra -> buscarEnGrafo(raiz, palabra), consultas);
+        medirConsultas("DAWG compacto", palabra -> buscarEnCompacto(compacto.getCompacto(), palabra), consultas);
+        medirConsultas("Dawg.search", compacto::search, consultas);
+    }
+
+    /**
+     * Misma búsqueda que {@link #buscarEnGrafo} pero sobre los arrays del DAWG compacto.
+     */
+    private static boolean buscarEnCompacto(DawgCompacto dawg, String palabra) {
+        int nodo = DawgCompacto.RAIZ;
+        for (int i = 0; i < palabra.length() && nodo != DawgCompacto.SIN_NODO; i++) {
+            nodo = dawg.transicion(nodo, String.valueOf(palabra.charAt(i)));
+        }
+        return nodo != DawgCompacto.SIN_NODO && dawg.esFinal(nodo);
+    }
+
+    /**
+     * Búsqueda sobre el grafo de nodos, equivalente a la que hacía {@code Dawg.search}
+     * (el alfabeto sintético solo tiene símbolos de una letra).
+     */
+    private static boolean buscarEnGrafo(DawgNode raiz, String palabra) {
+        DawgNode actual = raiz;
+        for (int i = 0; i < palabra.length() && actual != null; i++) {
+            actual = actual.getEdge(String.valueOf(palabra.charAt(i)));
+        }
+        return actual != null && actual.isFinal();
+    }
+
+    private static List<String> mezclaConsultas(List<String> palabras) {
+        Random random = new Random(7L);
+        List<String> consultas = new ArrayList<>(palabras.size());
+        List<String> negativas = GeneradorPalabras.aleatorias(palabras.size() / 2, 11L);
+        for (int i = 0; i < palabras.size() / 2; i++) {
+            consultas.add(palabras.get(random.nextInt(palabras.size())));
+        }
+        consultas.addAll(negativas);
+        Collections.shuffle(consultas, random);
+        return consultas;
+    }
+
+    static void medirConsultas(String nombre, Predicate<String> busqueda, List<String> consultas) {
+        int aciertos = 0;
+        // Calentamiento
+        for (int i = 0; i < CONSULTAS / 4; i++) {
+            if (busqueda.test(consultas.get(i % consultas.size()))) aciertos++;
+        }
+        aciertos = 0;
+        long inicio = System.nanoTime();
+        for (int i = 0; i < CONSULTAS; i++) {
+            if (busqueda.test(consultas.get(i % consultas.size()))) aciertos++;
+        }
+        long nanos = System.nanoTime() - inicio;
+        System.out.printf("search() %-15s: %,10.0f consultas/s (aciertos=%d)%n",
+                nombre, CONSULTAS / (nanos / 1e9), aciertos);
+    }
+
+    /**
+     * Memoria de heap ocupada tras forzar varias recolecciones.
+     *
+     * @return Bytes en uso.
+     */
+    static long memoriaUsada() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 4; i++) {
+            System.gc();
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,77 @@
+package scrabble.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import scrabble.domain.models.Diccionario;
+
+/**
+ * Benchmark de la edición de palabras de un diccionario: modificarlo en el sitio con
+ * {@link Diccionario#addWord(String)} y {@link Diccionario#removeWord(String)} (como hacía
+ * {@code ControladorDiccionario}) frente a crear una instantánea nueva con
+ * {@link Diccionario#conCambios(java.util.Collection, java.util.Collection)}, que deja intacta la
+ * que usan las partidas, una edición por instantánea o todas en un mismo lote. Informa del tiempo
+ * medio por edición.
+ *
+ * Se ejecuta con
+ * {@code gradle benchmark -PbenchClass=scrabble.benchmarks.EdicionDiccionarioBenchmark -PbenchArgs="200000 20"}
+ * (número de palabras y de ediciones, opcionales).
+ */
+public final class EdicionDiccionarioBenchmark {
+
+    private EdicionDiccionarioBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        int numPalabras = args.length > 0 ? Integer.parseInt(args[0]) : 200_000;
+        int ediciones = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+        List<String> palabras = GeneradorPalabras.generar(numPalabras, 42L);
+        List<String> nuevas = new ArrayList<>(GeneradorPalabras.generar(numPalabras + ediciones, 7L));
+        nuevas.removeAll(palabras);
+        List<String> alfabeto = new ArrayList<>();
+        for (String simbolo : GeneradorPalabras.alfabeto()) {
+            alfabeto.add(simbolo + " 1 1");
+        }
+        System.out.printf("Palabras: %,d  ediciones: %d (alta y baja de la misma palabra)%n", numPalabras, ediciones);
+
+        for (int vuelta = 0; vuelta < 2; vuelta++) { // La primera vuelta es de calentamiento
+            Diccionario enSitio = crear(alfabeto, palabras);
+            long inicio = System.nanoTime();
+            for (int i = 0; i < ediciones; i++) {
+                enSitio.addWord(nuevas.get(i));
+                enSitio.removeWord(nuevas.get(i));
+            }
+            long nanosEnSitio = System.nanoTime() - inicio;
+
+            Diccionario instantanea = crear(alfabeto, palabras);
+            inicio = System.nanoTime();
+            for (int i = 0; i < ediciones; i++) {
+                instantanea = instantanea.conCambios(List.of(nuevas.get(i)), List.of());
+                instantanea = instantanea.conCambios(List.of(), List.of(nuevas.get(i)));
+            }
+            long nanosInstantanea = System.nanoTime() - inicio;
+
+            Diccionario lote = crear(alfabeto, palabras);
+            inicio = System.nanoTime();
+            lote = lote.conCambios(nuevas.subList(0, ediciones), List.of());
+            lote = lote.conCambios(List.of(), nuevas.subList(0, ediciones));
+            long nanosLote = System.nanoTime() - inicio;
+
+            if (vuelta == 1) {
+                System.out.printf("En el sitio:              %,10.2f ms/edición%n", nanosEnSitio / 1e6 / (2 * ediciones));
+                System.out.printf("Instantánea por edición:  %,10.2f ms/edición%n", nanosInstantanea / 1e6 / (2 * ediciones));
+                System.out.printf("Instantánea por lote:     %,10.2f ms/edición%n", nanosLote / 1e6 / (2 * ediciones));
+            }
+            if (instantanea.getNumPalabras() != enSitio.getNumPalabras() || lote.getNumPalabras() != enSitio.getNumPalabras()) {
+                throw new IllegalStateException("Los diccionarios editados no coinciden");
+            }
+        }
+    }
+
+    private static Diccionario crear(List<String> alfabeto, List<String> palabras) {
+        Diccionario diccionario = new Diccionario();
+        diccionario.setAlphabet(alfabeto);
+        diccionario.setDawg(palabras);
+        return diccionario;
+    }
+}
@@ -0,0 +1,78 @@
+package scrabble.benchmarks;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.LongSupplier;
+
+import scrabble.domain.models.DawgCompacto;
+
+/**
+ * Benchmark de la enumeración de todas las palabras de un DAWG: lista recursiva con concatenación
+ * de prefijos, lista de {@code getAllWords()} y flujo perezoso de {@code streamPalabras()},
+ * secuencial y en paralelo, para contar y para filtrar.
+ *
+ * Se ejecuta con
+ * {@code gradle benchmark -PbenchClass=scrabble.benchmarks.EnumeracionPalabrasBenchmark -PbenchArgs="1000000 5"}
+ * (número de palabras y repeticiones, opcionales).
+ */
+public final class EnumeracionPalabrasBenchmark {
+
+    private EnumeracionPalabrasBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        int numPalabras = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        int repeticiones = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+        List<String> palabras = GeneradorPalabras.generar(numPalabras, 42L);
+        Set<String> alfabeto = new HashSet<>(GeneradorPalabras.alfabeto());
+        DawgCompacto dawg = ConstruccionDawgBenchmark.construir(palabras, alfabeto).getCompacto();
+        palabras = null;
+        System.out.printf("Palabras: %,d  nodos: %,d  arcos: %,d  hilos: %d%n", numPalabras,
+                dawg.getNumNodos(), dawg.getNumArcos(), Runtime.getRuntime().availableProcessors());
+
+        medir("Contar: lista recursiva (prefijo + arista)", repeticiones, () -> concatenando(dawg).size());
+        medir("Contar: getAllWords().size()", repeticiones, () -> dawg.getAllWords().size());
+        medir("Contar: streamPalabras().count()", repeticiones, () -> dawg.streamPalabras().count());
+        medir("Contar: streamPalabras().parallel().count()", repeticiones, () -> dawg.streamPalabras().parallel().count());
+        medir("Filtrar: secuencial", repeticiones, () -> dawg.streamPalabras().filter(p -> p.contains("RR")).count());
+        medir("Filtrar: parallel()", repeticiones, () -> dawg.streamPalabras().parallel().filter(p -> p.contains("RR")).count());
+    }
+
+    private static void medir(String nombre, int repeticiones, LongSupplier operacion) {
+        com.sun.management.ThreadMXBean hilos = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long mejor = Long.MAX_VALUE;
+        long resultado = 0;
+        long bytes = 0;
+        for (int i = 0; i <= repeticiones; i++) {
+            long memoria = hilos.getCurrentThreadAllocatedBytes();
+            long inicio = System.nanoTime();
+            resultado = operacion.getAsLong();
+            long nanos = System.nanoTime() - inicio;
+            bytes = hilos.getCurrentThreadAllocatedBytes() - memoria;
+            if (i > 0) { // La primera vuelta es de calentamiento
+                mejor = Math.min(mejor, nanos);
+            }
+        }
+        System.out.printf("%-46s %,10.2f ms  %,10d resultados  %,8d MB asignados en el hilo llamante%n",
+                nombre, mejor / 1e6, resultado, bytes >> 20);
+    }
+
+    /** Enumeración recursiva que construye cada prefijo concatenando cadenas, como referencia. */
+    private static List<String> concatenando(DawgCompacto dawg) {
+        List<String> resultado = new ArrayList<>();
+        recolectar(dawg, DawgCompacto.RAIZ, "", resultado);
+        return resultado;
+    }
+
+    private static void recolectar(DawgCompacto dawg, int nodo, String prefijo, List<String> resultado) {
+        if (dawg.esFinal(nodo)) {
+            resultado.add(prefijo);
+        }
+        for (int a = dawg.getInicioArcos(nodo); a < dawg.getFinArcos(nodo); a++) {
+            recolectar(dawg, dawg.getDestinoArco(a), prefijo + dawg.getSimbolo(dawg.getSimboloArco(a)), resultado);
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package scrabble.benchmarks;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import scrabble.domain.controllers.subcontrollers.ControladorDiccionario;
+import scrabble.domain.controllers.subcontrollers.ControladorJuego;
+import scrabble.helpers.Dificultad;
+import scrabble.helpers.Direction;
+import scrabble.helpers.IndiceMovimientos;
+import scrabble.helpers.Triple;
+import scrabble.helpers.Tuple;
+
+/**
+ * Benchmark de la generación de jugadas ({@code searchAllMoves}) con el DAWG y con el GADDAG.
+ *
+ * Simula una partida de la IA sobre un diccionario sintético con el alfabeto de {@code ESP}: en cada
+ * turno genera las jugadas de la misma posición y el mismo atril con ambos índices, comprueba que
+ * coinciden y acumula los tiempos; después juega la mejor jugada y repone el atril. Las fichas salen
+ * de una bolsa con semilla fija y los empates se deshacen por orden, de modo que la secuencia de
+ * posiciones es la misma en todas las ejecuciones.
+ *
+ * Se ejecuta con
+ * {@code gradle benchmark -PbenchClass=scrabble.benchmarks.GeneracionMovimientosBenchmark -PbenchArgs="100000 20"}
+ * (número de palabras y de turnos, opcionales). Los controladores crean sus ficheros de persistencia
+ * en el directorio de trabajo, por lo que la tarea se ejecuta en {@code build/benchmark}.
+ */
+public final class GeneracionMovimientosBenchmark {
+
+    /** Alfabeto de {@code diccionarios/ESP/alpha.txt} (letra, cantidad y puntos). */
+    static final List<String> ALFABETO_ESP = List.of(
+        "# 2 0", "A 12 1", "E 12 1", "I 6 1", "O 9 1", "U 5 1", "L 4 1", "N 5 1", "R 5 1", "S 6 1",
+        "T 4 1", "D 5 2", "G 2 2", "B 2 3", "C 4 3", "M 2 3", "P 2 3", "F 1 4", "H 2 4", "V 1 4",
+        "Y 1 4", "CH 1 5", "Q 1 5", "J 1 8", "LL 1 8", "Ñ 1 8", "RR 1 8", "X 1 8", "Z 1 10"
+    );
+
+    private GeneracionMovimientosBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int numPalabras = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        int turnos = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+
+        Path directorio = Files.createTempDirectory("movimientos-bench");
+        Path palabras = directorio.resolve("words.txt");
+        Path alpha = directorio.resolve("alpha.txt");
+        Files.write(alpha, ALFABETO_ESP, StandardCharsets.UTF_8);
+        Files.write(palabras, GeneradorPalabras.generar(numPalabras, 42L), StandardCharsets.UTF_8);
+
+        String nombre = "bench-" + System.nanoTime();
+        ControladorDiccionario diccionarios = ControladorDiccionario.getInstance();
+        diccionarios.crearDiccionario(nombre, alpha.toString(), palabras.toString());
+        try {
+            long inicio = System.nanoTime();
+            diccionarios.getGaddag(nombre);
+            System.out.printf("Palabras: %,d  construcción GADDAG: %,d ms (%,d nodos)%n", numPalabras,
+                    (System.nanoTime() - inicio) / 1_000_000, diccionarios.getGaddag(nombre).getCompacto().getNumNodos());
+            simular(nombre, turnos);
+        } finally {
+            Files.deleteIfExists(palabras);
+            Files.deleteIfExists(alpha);
+            Files.deleteIfExists(directorio);
+        }
+    }
+
+    private static void simular(String nombre, int turnos) throws Exception {
+        ControladorJuego juego = new ControladorJuego();
+        Map<String, Integer> jugadores = new HashMap<>();
+        jugadores.put("IA", 0);
+        juego.inicializarJuego(15, jugadores, nombre);
+
+        // Bolsa propia con semilla fija para que todas las ejecuciones generen las mismas posiciones
+        List<String> bolsa = new ArrayList<>();
+        for (String linea : ALFABETO_ESP) {
+            String[] partes = linea.split(" ");
+            for (int k = 0; k < Integer.parseInt(partes[1]); k++) {
+                bolsa.add(partes[0]);
+            }
+        }
+        Collections.shuffle(bolsa, new Random(7L));
+
+        Map<String, Integer> rack = new HashMap<>();
+        rellenar(rack, bolsa);
+        long nanosDawg = 0;
+        long nanosGaddag = 0;
+        long jugadas = 0;
+        int posiciones = 0;
+        for (int turno = 0; turno < turnos && !rack.isEmpty(); turno++) {
+            juego.setIndiceMovimientos(IndiceMovimientos.DAWG);
+            long inicio = System.nanoTime();
+            Set<Triple<String, Tuple<Integer, Integer>, Direction>> conDawg = juego.searchAllMoves(rack, juego.isJuegoIniciado());
+            nanosDawg += System.nanoTime() - inicio;
+
+            juego.setIndiceMovimientos(IndiceMovimientos.GADDAG);
+            inicio = System.nanoTime();
+            Set<Triple<String, Tuple<Integer, Integer>, Direction>> conGaddag = juego.searchAllMoves(rack, juego.isJuegoIniciado());
+            nanosGaddag += System.nanoTime() - inicio;
+
+            if (!conDawg.equals(conGaddag)) {
+                throw new IllegalStateException("Jugadas distintas en el turno " + turno
+                        + ": DAWG " + conDawg.size() + ", GADDAG " + conGaddag.size());
+            }
+            jugadas += conDawg.size();
+            posiciones++;
+
+            if (conDawg.isEmpty()) {
+                // Sin jugadas: devolver el atril a la bolsa y coger otro
+                for (Map.Entry<String, Integer> ficha : rack.entrySet()) {
+                    for (int k = 0; k < ficha.getValue(); k++) {
+                        bolsa.add(ficha.getKey());
+                    }
+                }
+                rack.clear();
+                rellenar(rack, bolsa);
+                continue;
+            }
+            // Mejor jugada con desempate por palabra, posición y dirección, independiente del orden del conjunto.
+            Triple<String, Tuple<Integer, Integer>, Direction> mejor = conDawg.stream()
+                    .max(Comparator.<Triple<String, Tuple<Integer, Integer>, Direction>>comparingInt(juego::calculateMovePoints)
+                            .thenComparing(j -> j.x, Comparator.reverseOrder())
+                            .thenComparing(j -> -j.y.x)
+                            .thenComparing(j -> -j.y.y)
+                            .thenComparing(j -> j.z.name(), Comparator.reverseOrder()))
+                    .orElse(null);
+            if (mejor == null) {
+                break;
+            }
+            Tuple<Map<String, Integer>, Integer> resultado = juego.realizarTurno(mejor, "IA", rack, false, Dificultad.DIFICIL);
+            rack = new HashMap<>(resultado.x);
+            rellenar(rack, bolsa);
+        }
+
+        System.out.printf("Posiciones: %d  jugadas generadas: %,d (idénticas con ambos índices)%n", posiciones, jugadas);
+        System.out.printf("searchAllMoves DAWG  : %,10.2f ms/posición%n", nanosDawg / 1e6 / posiciones);
+        System.out.printf("searchAllMoves GADDAG: %,10.2f ms/posición%n", nanosGaddag / 1e6 / posiciones);
+        System.out.printf("Aceleración: %.1fx%n", (double) nanosDawg / nanosGaddag);
+    }
+
+    private static void rellenar(Map<String, Integer> rack, List<String> bolsa) {
+        int enAtril = rack.values().stream().mapToInt(Integer::intValue).sum();
+        for (int k = enAtril; k < 7 && !bolsa.isEmpty(); k++) {
+            rack.merge(bolsa.remove(bolsa.size() - 1), 1, Integer::sum);
+        }
+    }
+}
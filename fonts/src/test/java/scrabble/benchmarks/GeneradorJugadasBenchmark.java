@@ -0,0 +1,150 @@
+package scrabble.benchmarks;
+
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import scrabble.domain.controllers.subcontrollers.ControladorDiccionario;
+import scrabble.domain.controllers.subcontrollers.ControladorJuego;
+import scrabble.helpers.Dificultad;
+import scrabble.helpers.Direction;
+import scrabble.helpers.IndiceMovimientos;
+import scrabble.helpers.Triple;
+import scrabble.helpers.Tuple;
+
+/**
+ * Benchmark de la generación de jugadas con el DAWG ({@code searchAllMoves}) en posiciones de
+ * media partida: tiempo, jugadas por segundo y bytes reservados por posición.
+ *
+ * Simula una partida de la IA como {@link GeneracionMovimientosBenchmark} y, a partir del turno
+ * indicado, mide cada posición varias veces y se queda con la mejor. Los bytes reservados se leen
+ * de {@code com.sun.management.ThreadMXBean} para el hilo actual e incluyen las verificaciones
+ * cruzadas y el conjunto de jugadas devuelto.
+ *
+ * Se ejecuta con
+ * {@code gradle benchmark -PbenchClass=scrabble.benchmarks.GeneradorJugadasBenchmark -PbenchArgs="100000 20 5 10"}
+ * (número de palabras, de turnos, primer turno medido y repeticiones de cada medida, opcionales).
+ * Los controladores crean sus ficheros de persistencia en el directorio de trabajo, por lo que la
+ * tarea se ejecuta en {@code build/benchmark}.
+ */
+public final class GeneradorJugadasBenchmark {
+
+    private GeneradorJugadasBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int numPalabras = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        int turnos = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+        int primerTurno = args.length > 2 ? Integer.parseInt(args[2]) : 5;
+        int repeticiones = args.length > 3 ? Integer.parseInt(args[3]) : 10;
+
+        Path directorio = Files.createTempDirectory("generador-bench");
+        Path palabras = directorio.resolve("words.txt");
+        Path alpha = directorio.resolve("alpha.txt");
+        List<String> alfabeto = new ArrayList<>();
+        for (String simbolo : GeneradorPalabras.alfabeto()) {
+            alfabeto.add(simbolo + " 4 1");
+        }
+        Files.write(alpha, alfabeto, StandardCharsets.UTF_8);
+        Files.write(palabras, GeneradorPalabras.generar(numPalabras, 42L), StandardCharsets.UTF_8);
+
+        String nombre = "bench-" + System.nanoTime();
+        ControladorDiccionario diccionarios = ControladorDiccionario.getInstance();
+        diccionarios.crearDiccionario(nombre, alpha.toString(), palabras.toString());
+        try {
+            System.out.printf("Palabras: %,d%n", numPalabras);
+            simular(nombre, alfabeto, turnos, primerTurno, repeticiones);
+        } finally {
+            Files.deleteIfExists(palabras);
+            Files.deleteIfExists(alpha);
+            Files.deleteIfExists(directorio);
+        }
+    }
+
+    private static void simular(String nombre, List<String> alfabeto, int turnos, int primerTurno, int repeticiones) throws Exception {
+        com.sun.management.ThreadMXBean hilos = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long hilo = Thread.currentThread().getId();
+
+        ControladorJuego juego = new ControladorJuego();
+        juego.setIndiceMovimientos(IndiceMovimientos.DAWG);
+        Map<String, Integer> jugadores = new HashMap<>();
+        jugadores.put("IA", 0);
+        juego.inicializarJuego(15, jugadores, nombre);
+
+        List<String> bolsa = new ArrayList<>();
+        for (String linea : alfabeto) {
+            for (int k = 0; k < 4; k++) {
+                bolsa.add(linea.split(" ")[0]);
+            }
+        }
+        Collections.shuffle(bolsa, new Random(7L));
+
+        Map<String, Integer> rack = new HashMap<>();
+        rellenar(rack, bolsa);
+        long nanos = 0;
+        long bytes = 0;
+        long jugadas = 0;
+        int posiciones = 0;
+        for (int turno = 0; turno < turnos && !rack.isEmpty(); turno++) {
+            Set<Triple<String, Tuple<Integer, Integer>, Direction>> conjunto = null;
+            if (turno >= primerTurno) {
+                long mejor = Long.MAX_VALUE;
+                long mejorBytes = Long.MAX_VALUE;
+                for (int r = 0; r < repeticiones; r++) {
+                    long reservados = hilos.getThreadAllocatedBytes(hilo);
+                    long inicio = System.nanoTime();
+                    conjunto = juego.searchAllMoves(rack, juego.isJuegoIniciado());
+                    mejor = Math.min(mejor, System.nanoTime() - inicio);
+                    mejorBytes = Math.min(mejorBytes, hilos.getThreadAllocatedBytes(hilo) - reservados);
+                }
+                nanos += mejor;
+                bytes += mejorBytes;
+                jugadas += conjunto.size();
+                posiciones++;
+            } else {
+                conjunto = juego.searchAllMoves(rack, juego.isJuegoIniciado());
+            }
+
+            Triple<String, Tuple<Integer, Integer>, Direction> mejor = conjunto.stream()
+                    .max(Comparator.<Triple<String, Tuple<Integer, Integer>, Direction>>comparingInt(juego::calculateMovePoints)
+                            .thenComparing(j -> j.x, Comparator.reverseOrder())
+                            .thenComparing(j -> -j.y.x)
+                            .thenComparing(j -> -j.y.y)
+                            .thenComparing(j -> j.z.name(), Comparator.reverseOrder()))
+                    .orElse(null);
+            if (mejor == null) {
+                for (Map.Entry<String, Integer> ficha : rack.entrySet()) {
+                    for (int k = 0; k < ficha.getValue(); k++) {
+                        bolsa.add(ficha.getKey());
+                    }
+                }
+                rack.clear();
+                rellenar(rack, bolsa);
+                continue;
+            }
+            Tuple<Map<String, Integer>, Integer> resultado = juego.realizarTurno(mejor, "IA", rack, false, Dificultad.DIFICIL);
+            rack = new HashMap<>(resultado.x);
+            rellenar(rack, bolsa);
+        }
+
+        System.out.printf("Posiciones medidas: %d  jugadas: %,d%n", posiciones, jugadas);
+        System.out.printf("searchAllMoves DAWG: %,8.2f ms/posición  %,12.0f jugadas/s  %,14d bytes/posición%n",
+                nanos / 1e6 / posiciones, jugadas / (nanos / 1e9), bytes / posiciones);
+    }
+
+    private static void rellenar(Map<String, Integer> rack, List<String> bolsa) {
+        int enAtril = rack.values().stream().mapToInt(Integer::intValue).sum();
+        for (int k = enAtril; k < 7 && !bolsa.isEmpty(); k++) {
+            rack.merge(bolsa.remove(bolsa.size() - 1), 1, Integer::sum);
+        }
+    }
+}
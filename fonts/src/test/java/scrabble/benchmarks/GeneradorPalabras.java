@@ -0,0 +1,84 @@
+package scrabble.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+/**
+ * Generador determinista de listas de palabras sintéticas para los benchmarks.
+ *
+ * Las palabras se forman combinando raíces aleatorias con terminaciones habituales del
+ * castellano, de modo que el DAWG resultante comparte sufijos como lo haría un diccionario real.
+ */
+public final class GeneradorPalabras {
+
+    /** Alfabeto de una sola letra usado para las raíces. */
+    public static final String[] LETRAS = {
+        "A", "B", "C", "D", "E", "F", "G", "H", "I", "J", "L", "M", "N",
+        "O", "P", "Q", "R", "S", "T", "U", "V", "X", "Y", "Z"
+    };
+
+    private static final String[] TERMINACIONES = {
+        "", "A", "AS", "O", "OS", "E", "ES", "AR", "ER", "IR", "ADO", "IDO", "ANDO", "IENDO",
+        "AMOS", "EMOS", "IMOS", "ABA", "ABAN", "IA", "IAN", "ARON", "IERON", "CION", "MENTE"
+    };
+
+    private GeneradorPalabras() {
+    }
+
+    /**
+     * Genera una lista ordenada de palabras distintas.
+     *
+     * @param cantidad Número aproximado de palabras a generar.
+     * @param semilla Semilla del generador aleatorio.
+     * @return Lista ordenada lexicográficamente y sin duplicados.
+     */
+    public static List<String> generar(int cantidad, long semilla) {
+        Random random = new Random(semilla);
+        TreeSet<String> palabras = new TreeSet<>();
+        while (palabras.size() < cantidad) {
+            StringBuilder raiz = new StringBuilder();
+            int longitud = 2 + random.nextInt(6);
+            for (int i = 0; i < longitud; i++) {
+                raiz.append(LETRAS[random.nextInt(LETRAS.length)]);
+            }
+            int variantes = 1 + random.nextInt(8);
+            for (int i = 0; i < variantes && palabras.size() < cantidad; i++) {
+                palabras.add(raiz + TERMINACIONES[random.nextInt(TERMINACIONES.length)]);
+            }
+        }
+        return new ArrayList<>(palabras);
+    }
+
+    /**
+     * Genera palabras aleatorias que en su mayoría no pertenecen a la lista generada,
+     * útiles para medir consultas negativas.
+     *
+     * @param cantidad Número de palabras.
+     * @param semilla Semilla del generador aleatorio.
+     * @return Lista de palabras aleatorias.
+     */
+    public static List<String> aleatorias(int cantidad, long semilla) {
+        Random random = new Random(semilla);
+        List<String> palabras = new ArrayList<>(cantidad);
+        for (int i = 0; i < cantidad; i++) {
+            StringBuilder palabra = new StringBuilder();
+            int longitud = 2 + random.nextInt(9);
+            for (int j = 0; j < longitud; j++) {
+                palabra.append(LETRAS[random.nextInt(LETRAS.length)]);
+            }
+            palabras.add(palabra.toString());
+        }
+        return palabras;
+    }
+
+    /**
+     * Conjunto de símbolos que cubre todas las palabras generadas.
+     *
+     * @return Lista con las letras del alfabeto sintético.
+     */
+    public static List<String> alfabeto() {
+        return List.of(LETRAS);
+    }
+}
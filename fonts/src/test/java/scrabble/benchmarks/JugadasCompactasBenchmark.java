@@ -0,0 +1,212 @@
+package scrabble.benchmarks;
+
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import scrabble.domain.controllers.subcontrollers.ControladorDiccionario;
+import scrabble.domain.controllers.subcontrollers.ControladorJuego;
+import scrabble.helpers.Dificultad;
+import scrabble.helpers.Direction;
+import scrabble.helpers.Jugada;
+import scrabble.helpers.Triple;
+import scrabble.helpers.Tuple;
+
+/**
+ * Benchmark de los conjuntos de jugadas con la representación compacta ({@link Jugada}) frente a
+ * las tripletas (palabra, posición, dirección).
+ *
+ * Simula la partida de {@link PodaJugadasBenchmark} y, en cada posición, mide (mejor de varias
+ * repeticiones) el tiempo y los bytes reservados por el hilo al reunir todas las jugadas en un
+ * conjunto con {@code searchAllMoves} y con {@code buscarJugadas}, y el tiempo de buscar en cada
+ * conjunto una copia de cada una de sus jugadas, que mide el hash y la comparación. Comprueba que
+ * ambos conjuntos tienen las mismas jugadas y que la conversión desde la tripleta con el atril da la
+ * misma jugada, comodines incluidos, con la misma puntuación.
+ *
+ * Se ejecuta con
+ * {@code gradle benchmark -PbenchClass=scrabble.benchmarks.JugadasCompactasBenchmark -PbenchArgs="100000 2 5"}
+ * (número de palabras, de bolsas y de repeticiones, opcionales). Los controladores crean sus ficheros de
+ * persistencia en el directorio de trabajo, por lo que la tarea se ejecuta en {@code build/benchmark}.
+ */
+public final class JugadasCompactasBenchmark {
+
+    private JugadasCompactasBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int numPalabras = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        int bolsas = args.length > 1 ? Integer.parseInt(args[1]) : 2;
+        int repeticiones = args.length > 2 ? Integer.parseInt(args[2]) : 5;
+
+        Path directorio = Files.createTempDirectory("jugadas-bench");
+        Path palabras = directorio.resolve("words.txt");
+        Path alpha = directorio.resolve("alpha.txt");
+        Files.write(alpha, GeneracionMovimientosBenchmark.ALFABETO_ESP, StandardCharsets.UTF_8);
+        Files.write(palabras, GeneradorPalabras.generar(numPalabras, 42L), StandardCharsets.UTF_8);
+
+        String nombre = "bench-" + System.nanoTime();
+        ControladorDiccionario diccionarios = ControladorDiccionario.getInstance();
+        diccionarios.crearDiccionario(nombre, alpha.toString(), palabras.toString());
+        try {
+            System.out.printf("Palabras: %,d%n", numPalabras);
+            simular(nombre, bolsas, repeticiones);
+        } finally {
+            Files.deleteIfExists(palabras);
+            Files.deleteIfExists(alpha);
+            Files.deleteIfExists(directorio);
+        }
+    }
+
+    private static void simular(String nombre, int bolsas, int repeticiones) throws Exception {
+        ControladorJuego juego = new ControladorJuego();
+        Map<String, Integer> jugadores = new HashMap<>();
+        jugadores.put("IA", 0);
+        juego.inicializarJuego(15, jugadores, nombre);
+        com.sun.management.ThreadMXBean hilos = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long hilo = Thread.currentThread().getId();
+
+        List<String> bolsa = new ArrayList<>();
+        for (String linea : GeneracionMovimientosBenchmark.ALFABETO_ESP) {
+            String[] partes = linea.split(" ");
+            for (int k = 0; k < bolsas * Integer.parseInt(partes[1]); k++) {
+                bolsa.add(partes[0]);
+            }
+        }
+        Collections.shuffle(bolsa, new Random(7L));
+
+        // [0] tripletas, [1] jugadas compactas
+        long[] nanosConjunto = new long[2];
+        long[] bytesConjunto = new long[2];
+        long[] nanosBusqueda = new long[2];
+        long jugadas = 0;
+        int posiciones = 0;
+        Map<String, Integer> rack = new HashMap<>();
+        rellenar(rack, bolsa);
+        int cambios = 0;
+        while (!rack.isEmpty() && cambios < 3) {
+            long[] mejorConjunto = {Long.MAX_VALUE, Long.MAX_VALUE};
+            long[] mejorBytes = {Long.MAX_VALUE, Long.MAX_VALUE};
+            long[] mejorBusqueda = {Long.MAX_VALUE, Long.MAX_VALUE};
+            Set<Triple<String, Tuple<Integer, Integer>, Direction>> tripletas = null;
+            Set<Jugada> compactas = null;
+            for (int r = 0; r <= repeticiones; r++) {
+                long reservados = hilos.getThreadAllocatedBytes(hilo);
+                long inicio = System.nanoTime();
+                tripletas = juego.searchAllMoves(rack, juego.isJuegoIniciado());
+                long nanos = System.nanoTime() - inicio;
+                long bytes = hilos.getThreadAllocatedBytes(hilo) - reservados;
+                List<Triple<String, Tuple<Integer, Integer>, Direction>> copiasTripletas = new ArrayList<>();
+                for (Triple<String, Tuple<Integer, Integer>, Direction> t : tripletas) {
+                    copiasTripletas.add(new Triple<>(t.x, new Tuple<>(t.y.x, t.y.y), t.z));
+                }
+                long inicioBusqueda = System.nanoTime();
+                int encontradas = 0;
+                for (Triple<String, Tuple<Integer, Integer>, Direction> t : copiasTripletas) {
+                    if (tripletas.contains(t)) encontradas++;
+                }
+                long busqueda = System.nanoTime() - inicioBusqueda;
+                if (r > 0) { // La primera vuelta es de calentamiento
+                    mejorConjunto[0] = Math.min(mejorConjunto[0], nanos);
+                    mejorBytes[0] = Math.min(mejorBytes[0], bytes);
+                    mejorBusqueda[0] = Math.min(mejorBusqueda[0], busqueda);
+                }
+
+                reservados = hilos.getThreadAllocatedBytes(hilo);
+                inicio = System.nanoTime();
+                compactas = juego.buscarJugadas(rack, juego.isJuegoIniciado());
+                nanos = System.nanoTime() - inicio;
+                bytes = hilos.getThreadAllocatedBytes(hilo) - reservados;
+                List<Jugada> copiasCompactas = new ArrayList<>();
+                for (Jugada j : compactas) {
+                    copiasCompactas.add(new Jugada(j.getPalabra(), j.getFila(), j.getColumna(), j.getDireccion(), j.getColocadas(),
+                            j.getComodines()));
+                }
+                inicioBusqueda = System.nanoTime();
+                for (Jugada j : copiasCompactas) {
+                    if (compactas.contains(j)) encontradas--;
+                }
+                busqueda = System.nanoTime() - inicioBusqueda;
+                if (r > 0) {
+                    mejorConjunto[1] = Math.min(mejorConjunto[1], nanos);
+                    mejorBytes[1] = Math.min(mejorBytes[1], bytes);
+                    mejorBusqueda[1] = Math.min(mejorBusqueda[1], busqueda);
+                }
+                if (encontradas != tripletas.size() - compactas.size()) {
+                    throw new IllegalStateException("Búsqueda fallida en la posición " + posiciones);
+                }
+            }
+            comprobar(juego, rack, tripletas, compactas, posiciones);
+            for (int i = 0; i < 2; i++) {
+                nanosConjunto[i] += mejorConjunto[i];
+                bytesConjunto[i] += mejorBytes[i];
+                nanosBusqueda[i] += mejorBusqueda[i];
+            }
+            jugadas += compactas.size();
+            posiciones++;
+
+            Triple<String, Tuple<Integer, Integer>, Direction> jugada = juego.mejoresJugadas(rack, juego.isJuegoIniciado(), 1).stream()
+                    .findFirst().orElse(null);
+            if (jugada == null) {
+                for (Map.Entry<String, Integer> ficha : rack.entrySet()) {
+                    for (int k = 0; k < ficha.getValue(); k++) {
+                        bolsa.add(0, ficha.getKey());
+                    }
+                }
+                rack.clear();
+                rellenar(rack, bolsa);
+                cambios++;
+                continue;
+            }
+            cambios = 0;
+            Tuple<Map<String, Integer>, Integer> resultado = juego.realizarTurno(jugada, "IA", rack, false, Dificultad.DIFICIL);
+            rack = new HashMap<>(resultado.x);
+            rellenar(rack, bolsa);
+        }
+
+        System.out.printf("Posiciones: %d  jugadas: %,d%n", posiciones, jugadas);
+        String[] titulos = {"tripletas", "compactas"};
+        for (int i = 0; i < 2; i++) {
+            System.out.printf("%s  conjunto %,7.3f ms/posición %,10d B/posición   buscar cada jugada %,7.3f ms/posición%n", titulos[i],
+                    nanosConjunto[i] / 1e6 / posiciones, bytesConjunto[i] / posiciones, nanosBusqueda[i] / 1e6 / posiciones);
+        }
+        System.out.printf("compactas/tripletas  conjunto %.2fx  bytes %.2fx  búsqueda %.2fx%n",
+                (double) nanosConjunto[0] / nanosConjunto[1], (double) bytesConjunto[0] / bytesConjunto[1],
+                (double) nanosBusqueda[0] / nanosBusqueda[1]);
+    }
+
+    /**
+     * Comprueba que los dos conjuntos tienen las mismas jugadas y que la conversión desde la tripleta
+     * con el atril da la jugada generada, con los mismos comodines y los mismos puntos.
+     */
+    private static void comprobar(ControladorJuego juego, Map<String, Integer> rack,
+                                  Set<Triple<String, Tuple<Integer, Integer>, Direction>> tripletas,
+                                  Set<Jugada> compactas, int posicion) {
+        Set<Triple<String, Tuple<Integer, Integer>, Direction>> convertidas = new HashSet<>();
+        for (Jugada j : compactas) {
+            convertidas.add(j.toTriple());
+            Jugada convertida = juego.jugada(j.toTriple(), rack);
+            if (!convertida.equals(j) || juego.calculateMovePoints(j) != juego.calculateMovePoints(convertida)) {
+                throw new IllegalStateException("Jugada " + j + " distinta de su tripleta en la posición " + posicion);
+            }
+        }
+        if (!convertidas.equals(tripletas)) {
+            throw new IllegalStateException("Conjuntos distintos en la posición " + posicion);
+        }
+    }
+
+    private static void rellenar(Map<String, Integer> rack, List<String> bolsa) {
+        int enAtril = rack.values().stream().mapToInt(Integer::intValue).sum();
+        for (int k = enAtril; k < 7 && !bolsa.isEmpty(); k++) {
+            rack.merge(bolsa.remove(bolsa.size() - 1), 1, Integer::sum);
+        }
+    }
+}
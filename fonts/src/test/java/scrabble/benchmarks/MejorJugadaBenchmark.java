@@ -0,0 +1,210 @@
+package scrabble.benchmarks;
+
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import scrabble.domain.controllers.subcontrollers.ControladorDiccionario;
+import scrabble.domain.controllers.subcontrollers.ControladorJuego;
+import scrabble.helpers.Dificultad;
+import scrabble.helpers.Direction;
+import scrabble.helpers.IndiceMovimientos;
+import scrabble.helpers.Triple;
+import scrabble.helpers.Tuple;
+
+/**
+ * Benchmark de la búsqueda de la mejor jugada de la IA: reunir todas las jugadas en el conjunto que
+ * devuelve {@code searchAllMoves(rack, juegoIniciado)} y puntuarlas después, frente a entregarlas a
+ * un consumidor con {@code searchAllMoves(rack, juegoIniciado, consumidor)} que las puntúa y se
+ * queda con la mejor a medida que se generan.
+ *
+ * Simula la partida de {@link GeneracionMovimientosBenchmark} y, en cada posición y con ambos
+ * índices, mide el tiempo y los bytes reservados por el hilo (mejor de varias repeticiones),
+ * comprueba que las dos formas eligen la misma jugada y cuenta cuántas jugadas se entregan frente
+ * al tamaño del conjunto, lo que mide las entregas repetidas de una misma tripleta.
+ *
+ * Se ejecuta con
+ * {@code gradle benchmark -PbenchClass=scrabble.benchmarks.MejorJugadaBenchmark -PbenchArgs="100000 20 5"}
+ * (número de palabras, de turnos y de repeticiones, opcionales). Los controladores crean sus ficheros
+ * de persistencia en el directorio de trabajo, por lo que la tarea se ejecuta en {@code build/benchmark}.
+ */
+public final class MejorJugadaBenchmark {
+
+    private MejorJugadaBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int numPalabras = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        int turnos = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+        int repeticiones = args.length > 2 ? Integer.parseInt(args[2]) : 5;
+
+        Path directorio = Files.createTempDirectory("mejor-jugada-bench");
+        Path palabras = directorio.resolve("words.txt");
+        Path alpha = directorio.resolve("alpha.txt");
+        List<String> alfabeto = new ArrayList<>();
+        for (String simbolo : GeneradorPalabras.alfabeto()) {
+            alfabeto.add(simbolo + " 4 1");
+        }
+        Files.write(alpha, alfabeto, StandardCharsets.UTF_8);
+        Files.write(palabras, GeneradorPalabras.generar(numPalabras, 42L), StandardCharsets.UTF_8);
+
+        String nombre = "bench-" + System.nanoTime();
+        ControladorDiccionario diccionarios = ControladorDiccionario.getInstance();
+        diccionarios.crearDiccionario(nombre, alpha.toString(), palabras.toString());
+        try {
+            diccionarios.getGaddag(nombre);
+            System.out.printf("Palabras: %,d%n", numPalabras);
+            simular(nombre, alfabeto, turnos, repeticiones);
+        } finally {
+            Files.deleteIfExists(palabras);
+            Files.deleteIfExists(alpha);
+            Files.deleteIfExists(directorio);
+        }
+    }
+
+    private static void simular(String nombre, List<String> alfabeto, int turnos, int repeticiones) throws Exception {
+        ControladorJuego juego = new ControladorJuego();
+        Map<String, Integer> jugadores = new HashMap<>();
+        jugadores.put("IA", 0);
+        juego.inicializarJuego(15, jugadores, nombre);
+        com.sun.management.ThreadMXBean hilos = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long hilo = Thread.currentThread().getId();
+
+        List<String> bolsa = new ArrayList<>();
+        for (String linea : alfabeto) {
+            for (int k = 0; k < 4; k++) {
+                bolsa.add(linea.split(" ")[0]);
+            }
+        }
+        Collections.shuffle(bolsa, new Random(7L));
+
+        IndiceMovimientos[] indices = IndiceMovimientos.values();
+        long[] nanosConjunto = new long[indices.length];
+        long[] nanosConsumidor = new long[indices.length];
+        long[] bytesConjunto = new long[indices.length];
+        long[] bytesConsumidor = new long[indices.length];
+        long[] entregadas = new long[indices.length];
+        long jugadas = 0;
+        int posiciones = 0;
+        Map<String, Integer> rack = new HashMap<>();
+        rellenar(rack, bolsa);
+        for (int turno = 0; turno < turnos && !rack.isEmpty(); turno++) {
+            Triple<String, Tuple<Integer, Integer>, Direction> mejor = null;
+            for (int i = 0; i < indices.length; i++) {
+                juego.setIndiceMovimientos(indices[i]);
+                long mejorNanosConjunto = Long.MAX_VALUE;
+                long mejorNanosConsumidor = Long.MAX_VALUE;
+                long mejorBytesConjunto = Long.MAX_VALUE;
+                long mejorBytesConsumidor = Long.MAX_VALUE;
+                for (int r = 0; r <= repeticiones; r++) {
+                    long reservados = hilos.getThreadAllocatedBytes(hilo);
+                    long inicio = System.nanoTime();
+                    Set<Triple<String, Tuple<Integer, Integer>, Direction>> conjunto = juego.searchAllMoves(rack, juego.isJuegoIniciado());
+                    Mejor porConjunto = new Mejor(juego);
+                    conjunto.forEach(porConjunto);
+                    long nanos = System.nanoTime() - inicio;
+                    long bytes = hilos.getThreadAllocatedBytes(hilo) - reservados;
+                    if (r > 0) { // La primera vuelta es de calentamiento
+                        mejorNanosConjunto = Math.min(mejorNanosConjunto, nanos);
+                        mejorBytesConjunto = Math.min(mejorBytesConjunto, bytes);
+                    }
+
+                    reservados = hilos.getThreadAllocatedBytes(hilo);
+                    inicio = System.nanoTime();
+                    Mejor porConsumidor = new Mejor(juego);
+                    juego.searchAllMoves(rack, juego.isJuegoIniciado(), porConsumidor);
+                    nanos = System.nanoTime() - inicio;
+                    bytes = hilos.getThreadAllocatedBytes(hilo) - reservados;
+                    if (r > 0) {
+                        mejorNanosConsumidor = Math.min(mejorNanosConsumidor, nanos);
+                        mejorBytesConsumidor = Math.min(mejorBytesConsumidor, bytes);
+                    }
+
+                    if (!Objects.equals(porConjunto.jugada, porConsumidor.jugada)
+                            || (mejor != null && !mejor.equals(porConsumidor.jugada))) {
+                        throw new IllegalStateException("Mejor jugada distinta en el turno " + turno + " con " + indices[i]);
+                    }
+                    mejor = porConsumidor.jugada;
+                    if (r == 0) {
+                        entregadas[i] += porConsumidor.recibidas;
+                        if (i == 0) jugadas += conjunto.size();
+                    }
+                }
+                nanosConjunto[i] += mejorNanosConjunto;
+                nanosConsumidor[i] += mejorNanosConsumidor;
+                bytesConjunto[i] += mejorBytesConjunto;
+                bytesConsumidor[i] += mejorBytesConsumidor;
+            }
+            posiciones++;
+
+            if (mejor == null) {
+                for (Map.Entry<String, Integer> ficha : rack.entrySet()) {
+                    for (int k = 0; k < ficha.getValue(); k++) {
+                        bolsa.add(ficha.getKey());
+                    }
+                }
+                rack.clear();
+                rellenar(rack, bolsa);
+                continue;
+            }
+            Tuple<Map<String, Integer>, Integer> resultado = juego.realizarTurno(mejor, "IA", rack, false, Dificultad.DIFICIL);
+            rack = new HashMap<>(resultado.x);
+            rellenar(rack, bolsa);
+        }
+
+        System.out.printf("Posiciones: %d  jugadas distintas: %,d%n", posiciones, jugadas);
+        for (int i = 0; i < indices.length; i++) {
+            System.out.printf("%-6s conjunto + puntuar: %,8.3f ms/posición %,10d B/posición%n", indices[i],
+                    nanosConjunto[i] / 1e6 / posiciones, bytesConjunto[i] / posiciones);
+            System.out.printf("%-6s consumidor:         %,8.3f ms/posición %,10d B/posición  (%.1fx)  entregadas %,d%n", indices[i],
+                    nanosConsumidor[i] / 1e6 / posiciones, bytesConsumidor[i] / posiciones,
+                    (double) nanosConjunto[i] / nanosConsumidor[i], entregadas[i]);
+        }
+    }
+
+    /** Mejor jugada por puntos con el mismo desempate que la IA. */
+    private static final class Mejor implements Consumer<Triple<String, Tuple<Integer, Integer>, Direction>> {
+        private static final Comparator<Triple<String, Tuple<Integer, Integer>, Direction>> ORDEN =
+                Comparator.<Triple<String, Tuple<Integer, Integer>, Direction>, String>comparing(j -> j.x)
+                        .thenComparingInt(j -> j.y.x)
+                        .thenComparingInt(j -> j.y.y)
+                        .thenComparing(j -> j.z.name());
+
+        private final ControladorJuego juego;
+        private Triple<String, Tuple<Integer, Integer>, Direction> jugada;
+        private int puntos;
+        private long recibidas;
+
+        private Mejor(ControladorJuego juego) {
+            this.juego = juego;
+        }
+
+        @Override
+        public void accept(Triple<String, Tuple<Integer, Integer>, Direction> m) {
+            recibidas++;
+            int p = juego.calculateMovePoints(m);
+            if (jugada == null || p > puntos || (p == puntos && ORDEN.compare(m, jugada) < 0)) {
+                jugada = m;
+                puntos = p;
+            }
+        }
+    }
+
+    private static void rellenar(Map<String, Integer> rack, List<String> bolsa) {
+        int enAtril = rack.values().stream().mapToInt(Integer::intValue).sum();
+        for (int k = enAtril; k < 7 && !bolsa.isEmpty(); k++) {
+            rack.merge(bolsa.remove(bolsa.size() - 1), 1, Integer::sum);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package scrabble.benchmarks;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import scrabble.domain.models.DawgCompacto;
+import scrabble.domain.models.Diccionario;
+import scrabble.domain.models.EstadisticasDiccionario;
+
+/**
+ * Informe de las estadísticas de memoria y forma de un diccionario generado
+ * ({@link Diccionario#getEstadisticas()}), construido desde las palabras y leído de un fichero
+ * binario proyectado. Contrasta los bytes de heap estimados con el crecimiento del heap medido
+ * tras forzar la recolección de basura, y mide el coste de pedir las estadísticas.
+ *
+ * Se ejecuta con
+ * {@code gradle benchmark -PbenchClass=scrabble.benchmarks.MemoriaDiccionarioBenchmark -PbenchArgs="1000000"}
+ * (número de palabras, opcional).
+ */
+public final class MemoriaDiccionarioBenchmark {
+
+    private MemoriaDiccionarioBenchmark() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        int numPalabras = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        List<String> palabras = GeneradorPalabras.generar(numPalabras, 42L);
+        List<String> alfabeto = new ArrayList<>();
+        for (String simbolo : GeneradorPalabras.alfabeto()) {
+            alfabeto.add(simbolo + " 1 1");
+        }
+        System.out.printf("Palabras: %,d%n", numPalabras);
+
+        long antes = heapUsado();
+        Diccionario diccionario = new Diccionario();
+        diccionario.setAlphabet(alfabeto);
+        diccionario.setDawg(palabras);
+        EstadisticasDiccionario construido = diccionario.getEstadisticas();
+        long medidos = heapUsado() - antes;
+        System.out.println("Construido: " + construido);
+        System.out.printf("  heap estimado %,d bytes, medido %,d bytes (%.0f %%)%n",
+                construido.getBytesHeap(), medidos, 100.0 * construido.getBytesHeap() / medidos);
+
+        Path fichero = Files.createTempFile("diccionario", ".dawg");
+        try {
+            try (FileChannel canal = FileChannel.open(fichero, StandardOpenOption.WRITE)) {
+                diccionario.getDawg().getCompacto().escribir(canal);
+            }
+            try (FileChannel canal = FileChannel.open(fichero, StandardOpenOption.READ)) {
+                long inicio = System.nanoTime();
+                Diccionario cargado = new Diccionario();
+                cargado.setAlphabet(alfabeto);
+                cargado.setDawgCompacto(DawgCompacto.leer(canal.map(FileChannel.MapMode.READ_ONLY, 0, canal.size())));
+                cargado.setNanosCarga(System.nanoTime() - inicio);
+                System.out.println("Proyectado: " + cargado.getEstadisticas());
+            }
+        } finally {
+            Files.deleteIfExists(fichero);
+        }
+
+        long mejor = Long.MAX_VALUE;
+        for (int i = 0; i <= 5; i++) {
+            long inicio = System.nanoTime();
+            diccionario.getEstadisticas();
+            long nanos = System.nanoTime() - inicio;
+            if (i > 0) { // La primera vuelta es de calentamiento
+                mejor = Math.min(mejor, nanos);
+            }
+        }
+        System.out.printf("getEstadisticas(): %,.3f ms%n", mejor / 1e6);
+    }
+
+    private static long heapUsado() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
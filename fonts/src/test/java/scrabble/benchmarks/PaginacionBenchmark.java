@@ -0,0 +1,85 @@
+package scrabble.benchmarks;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+
+import scrabble.domain.models.Dawg;
+
+/**
+ * Benchmark de la paginación de las palabras de un diccionario: obtener una página, contar las
+ * palabras y buscar la posición de una palabra materializando la lista completa
+ * ({@code getAllWords()}) frente a las cuentas de palabras por nodo del DAWG.
+ *
+ * Se ejecuta con
+ * {@code gradle benchmark -PbenchClass=scrabble.benchmarks.PaginacionBenchmark -PbenchArgs="1000000 1000"}
+ * (número de palabras y de consultas, opcionales).
+ */
+public final class PaginacionBenchmark {
+
+    private static final int TAMANO_PAGINA = 50;
+
+    private PaginacionBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        int numPalabras = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        int numConsultas = args.length > 1 ? Integer.parseInt(args[1]) : 1_000;
+        List<String> palabras = GeneradorPalabras.generar(numPalabras, 42L);
+        Set<String> alfabeto = new HashSet<>(GeneradorPalabras.alfabeto());
+        Dawg dawg = ConstruccionDawgBenchmark.construir(palabras, alfabeto);
+        Random random = new Random(7L);
+        int[] posiciones = random.ints(numConsultas, 0, numPalabras).toArray();
+        System.out.printf("Palabras: %,d  consultas: %,d  página: %d%n", numPalabras, numConsultas, TAMANO_PAGINA);
+
+        long inicio = System.nanoTime();
+        dawg.countWords();
+        System.out.printf("%-44s %,10.2f ms%n", "Cálculo de las cuentas (primera consulta)", (System.nanoTime() - inicio) / 1e6);
+
+        medir("Número de palabras: getAllWords().size()", 1, () -> dawg.getAllWords().size());
+        medir("Número de palabras: countWords()", 1, dawg::countWords);
+        medir("Página: getAllWords().subList()", 1, () -> {
+            List<String> todas = dawg.getAllWords();
+            return todas.subList(posiciones[0], Math.min(todas.size(), posiciones[0] + TAMANO_PAGINA)).size();
+        });
+        medir("Página: streamWords(desde).limit()", numConsultas, () -> {
+            long total = 0;
+            for (int desde : posiciones) {
+                total += dawg.streamWords(desde).limit(TAMANO_PAGINA).collect(Collectors.toList()).size();
+            }
+            return total;
+        });
+        medir("Posición: getAllWords().indexOf()", 1, () -> dawg.getAllWords().indexOf(palabras.get(posiciones[0])));
+        medir("Posición: indexOf() por cuentas", numConsultas, () -> {
+            long total = 0;
+            for (int posicion : posiciones) {
+                total += dawg.indexOf(palabras.get(posicion));
+            }
+            return total;
+        });
+        medir("Palabra de una posición: getWord()", numConsultas, () -> {
+            long total = 0;
+            for (int posicion : posiciones) {
+                total += dawg.getWord(posicion).length();
+            }
+            return total;
+        });
+    }
+
+    private static void medir(String nombre, int operaciones, LongSupplier operacion) {
+        long mejor = Long.MAX_VALUE;
+        long resultado = 0;
+        for (int i = 0; i <= 5; i++) {
+            long inicio = System.nanoTime();
+            resultado = operacion.getAsLong();
+            long nanos = System.nanoTime() - inicio;
+            if (i > 0) { // La primera vuelta es de calentamiento
+                mejor = Math.min(mejor, nanos);
+            }
+        }
+        System.out.printf("%-44s %,10.4f ms/operación  (resultado %,d)%n", nombre, mejor / 1e6 / operaciones, resultado);
+    }
+}
@@ -0,0 +1,164 @@
+package scrabble.benchmarks;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import scrabble.domain.controllers.subcontrollers.ControladorDiccionario;
+import scrabble.domain.controllers.subcontrollers.ControladorJuego;
+import scrabble.helpers.Dificultad;
+import scrabble.helpers.Direction;
+import scrabble.helpers.Triple;
+import scrabble.helpers.Tuple;
+
+/**
+ * Benchmark de la generación de jugadas con el DAWG repartida entre los hilos de un pool fork/join
+ * ({@code setPoolJugadas}) frente a la generación en el hilo que llama.
+ *
+ * Simula la partida de {@link PodaJugadasBenchmark} y, en cada posición, mide la mejor jugada de la
+ * IA ({@code mejoresJugadas} con k = 1) y la enumeración de todas las jugadas
+ * ({@code searchAllMoves} con un consumidor) sin pool y con pools de varios tamaños (mejor de
+ * varias repeticiones). Comprueba que con cualquier pool se elige la misma jugada y se entregan
+ * las mismas jugadas en el mismo orden.
+ *
+ * Se ejecuta con
+ * {@code gradle benchmark -PbenchClass=scrabble.benchmarks.ParalelismoJugadasBenchmark -PbenchArgs="100000 2 5 1,2,4,8"}
+ * (número de palabras, de bolsas, de repeticiones y tamaños de pool separados por comas,
+ * opcionales). Los controladores crean sus ficheros de persistencia en el directorio de trabajo,
+ * por lo que la tarea se ejecuta en {@code build/benchmark}.
+ */
+public final class ParalelismoJugadasBenchmark {
+
+    private ParalelismoJugadasBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int numPalabras = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        int bolsas = args.length > 1 ? Integer.parseInt(args[1]) : 2;
+        int repeticiones = args.length > 2 ? Integer.parseInt(args[2]) : 5;
+        String[] tamanos = (args.length > 3 ? args[3] : "1,2,4,8").split(",");
+
+        Path directorio = Files.createTempDirectory("paralelismo-bench");
+        Path palabras = directorio.resolve("words.txt");
+        Path alpha = directorio.resolve("alpha.txt");
+        Files.write(alpha, GeneracionMovimientosBenchmark.ALFABETO_ESP, StandardCharsets.UTF_8);
+        Files.write(palabras, GeneradorPalabras.generar(numPalabras, 42L), StandardCharsets.UTF_8);
+
+        String nombre = "bench-" + System.nanoTime();
+        ControladorDiccionario diccionarios = ControladorDiccionario.getInstance();
+        diccionarios.crearDiccionario(nombre, alpha.toString(), palabras.toString());
+        List<ForkJoinPool> pools = new ArrayList<>();
+        pools.add(null);
+        for (String tamano : tamanos) {
+            pools.add(new ForkJoinPool(Integer.parseInt(tamano.trim())));
+        }
+        try {
+            System.out.printf("Palabras: %,d  procesadores: %d%n", numPalabras, Runtime.getRuntime().availableProcessors());
+            simular(nombre, bolsas, repeticiones, pools);
+        } finally {
+            for (ForkJoinPool pool : pools) {
+                if (pool != null) pool.shutdown();
+            }
+            Files.deleteIfExists(palabras);
+            Files.deleteIfExists(alpha);
+            Files.deleteIfExists(directorio);
+        }
+    }
+
+    private static void simular(String nombre, int bolsas, int repeticiones, List<ForkJoinPool> pools) throws Exception {
+        ControladorJuego juego = new ControladorJuego();
+        Map<String, Integer> jugadores = new HashMap<>();
+        jugadores.put("IA", 0);
+        juego.inicializarJuego(15, jugadores, nombre);
+
+        List<String> bolsa = new ArrayList<>();
+        for (String linea : GeneracionMovimientosBenchmark.ALFABETO_ESP) {
+            String[] partes = linea.split(" ");
+            for (int k = 0; k < bolsas * Integer.parseInt(partes[1]); k++) {
+                bolsa.add(partes[0]);
+            }
+        }
+        Collections.shuffle(bolsa, new Random(7L));
+
+        long[] nanosMejor = new long[pools.size()];
+        long[] nanosTodas = new long[pools.size()];
+        long jugadas = 0;
+        int posiciones = 0;
+        Map<String, Integer> rack = new HashMap<>();
+        rellenar(rack, bolsa);
+        int cambios = 0;
+        while (!rack.isEmpty() && cambios < 3) {
+            List<Triple<String, Tuple<Integer, Integer>, Direction>> mejores = null;
+            List<Triple<String, Tuple<Integer, Integer>, Direction>> todas = null;
+            for (int p = 0; p < pools.size(); p++) {
+                juego.setPoolJugadas(pools.get(p));
+                long mejorMejor = Long.MAX_VALUE;
+                long mejorTodas = Long.MAX_VALUE;
+                for (int r = 0; r <= repeticiones; r++) {
+                    long inicio = System.nanoTime();
+                    List<Triple<String, Tuple<Integer, Integer>, Direction>> mejor = juego.mejoresJugadas(rack, juego.isJuegoIniciado(), 1);
+                    long nanos = System.nanoTime() - inicio;
+                    if (r > 0) mejorMejor = Math.min(mejorMejor, nanos);
+
+                    List<Triple<String, Tuple<Integer, Integer>, Direction>> enumeradas = new ArrayList<>();
+                    inicio = System.nanoTime();
+                    juego.searchAllMoves(rack, juego.isJuegoIniciado(), enumeradas::add);
+                    nanos = System.nanoTime() - inicio;
+                    if (r > 0) mejorTodas = Math.min(mejorTodas, nanos);
+
+                    if (mejores == null) {
+                        mejores = mejor;
+                        todas = enumeradas;
+                    } else if (!mejores.equals(mejor) || !todas.equals(enumeradas)) {
+                        throw new IllegalStateException("Resultado distinto con el pool " + pools.get(p) + " en la posición " + posiciones);
+                    }
+                }
+                nanosMejor[p] += mejorMejor;
+                nanosTodas[p] += mejorTodas;
+            }
+            juego.setPoolJugadas(null);
+            jugadas += todas.size();
+            posiciones++;
+
+            Triple<String, Tuple<Integer, Integer>, Direction> jugada = juego.mejoresJugadas(rack, juego.isJuegoIniciado(), 1).stream()
+                    .findFirst().orElse(null);
+            if (jugada == null) {
+                for (Map.Entry<String, Integer> ficha : rack.entrySet()) {
+                    for (int k = 0; k < ficha.getValue(); k++) {
+                        bolsa.add(0, ficha.getKey());
+                    }
+                }
+                rack.clear();
+                rellenar(rack, bolsa);
+                cambios++;
+                continue;
+            }
+            cambios = 0;
+            Tuple<Map<String, Integer>, Integer> resultado = juego.realizarTurno(jugada, "IA", rack, false, Dificultad.DIFICIL);
+            rack = new HashMap<>(resultado.x);
+            rellenar(rack, bolsa);
+        }
+
+        System.out.printf("Posiciones: %d  jugadas: %,d (idénticas y en el mismo orden con todos los pools)%n", posiciones, jugadas);
+        for (int p = 0; p < pools.size(); p++) {
+            String titulo = pools.get(p) == null ? "sin pool " : String.format("%2d hilos ", pools.get(p).getParallelism());
+            System.out.printf("%s mejor jugada %,7.3f ms/posición (%.2fx)   todas %,7.3f ms/posición (%.2fx)%n", titulo,
+                    nanosMejor[p] / 1e6 / posiciones, (double) nanosMejor[0] / nanosMejor[p],
+                    nanosTodas[p] / 1e6 / posiciones, (double) nanosTodas[0] / nanosTodas[p]);
+        }
+    }
+
+    private static void rellenar(Map<String, Integer> rack, List<String> bolsa) {
+        int enAtril = rack.values().stream().mapToInt(Integer::intValue).sum();
+        for (int k = enAtril; k < 7 && !bolsa.isEmpty(); k++) {
+            rack.merge(bolsa.remove(bolsa.size() - 1), 1, Integer::sum);
+        }
+    }
+}
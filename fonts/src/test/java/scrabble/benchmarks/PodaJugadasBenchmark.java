@@ -0,0 +1,180 @@
+package scrabble.benchmarks;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import scrabble.domain.controllers.subcontrollers.ControladorDiccionario;
+import scrabble.domain.controllers.subcontrollers.ControladorJuego;
+import scrabble.helpers.Dificultad;
+import scrabble.helpers.Direction;
+import scrabble.helpers.Triple;
+import scrabble.helpers.Tuple;
+
+/**
+ * Benchmark de la búsqueda de las mejores jugadas con poda por cota superior
+ * ({@code mejoresJugadas}) frente a generar todas las jugadas y puntuarlas una a una con
+ * {@code calculateMovePoints}, como hacía la IA en dificultad difícil. Cada jugada se puntúa con
+ * los comodines que le asigna el atril ({@code jugada(tripleta, atril)}), como la búsqueda con poda.
+ *
+ * Simula una partida con el alfabeto y los puntos de {@code ESP}, con las fichas de varias bolsas
+ * para llenar el tablero, hasta vaciarlas y, en cada posición, mide la mejor jugada y las 10
+ * mejores con ambos métodos (mejor de varias repeticiones) y comprueba que coinciden. Los tiempos se dan para toda la partida y para su segunda mitad, con
+ * el tablero más lleno.
+ *
+ * Se ejecuta con
+ * {@code gradle benchmark -PbenchClass=scrabble.benchmarks.PodaJugadasBenchmark -PbenchArgs="100000 2 5"}
+ * (número de palabras, de bolsas y de repeticiones, opcionales). Los controladores crean sus ficheros de
+ * persistencia en el directorio de trabajo, por lo que la tarea se ejecuta en {@code build/benchmark}.
+ */
+public final class PodaJugadasBenchmark {
+
+    private static final int K = 10;
+
+    private static final Comparator<Tuple<Triple<String, Tuple<Integer, Integer>, Direction>, Integer>> ORDEN =
+            Comparator.<Tuple<Triple<String, Tuple<Integer, Integer>, Direction>, Integer>>comparingInt(j -> -j.y)
+                    .thenComparing(j -> j.x.x)
+                    .thenComparingInt(j -> j.x.y.x)
+                    .thenComparingInt(j -> j.x.y.y)
+                    .thenComparing(j -> j.x.z.name());
+
+    private PodaJugadasBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int numPalabras = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        int bolsas = args.length > 1 ? Integer.parseInt(args[1]) : 2;
+        int repeticiones = args.length > 2 ? Integer.parseInt(args[2]) : 5;
+
+        Path directorio = Files.createTempDirectory("poda-bench");
+        Path palabras = directorio.resolve("words.txt");
+        Path alpha = directorio.resolve("alpha.txt");
+        Files.write(alpha, GeneracionMovimientosBenchmark.ALFABETO_ESP, StandardCharsets.UTF_8);
+        Files.write(palabras, GeneradorPalabras.generar(numPalabras, 42L), StandardCharsets.UTF_8);
+
+        String nombre = "bench-" + System.nanoTime();
+        ControladorDiccionario diccionarios = ControladorDiccionario.getInstance();
+        diccionarios.crearDiccionario(nombre, alpha.toString(), palabras.toString());
+        try {
+            System.out.printf("Palabras: %,d%n", numPalabras);
+            simular(nombre, bolsas, repeticiones);
+        } finally {
+            Files.deleteIfExists(palabras);
+            Files.deleteIfExists(alpha);
+            Files.deleteIfExists(directorio);
+        }
+    }
+
+    private static void simular(String nombre, int bolsas, int repeticiones) throws Exception {
+        ControladorJuego juego = new ControladorJuego();
+        Map<String, Integer> jugadores = new HashMap<>();
+        jugadores.put("IA", 0);
+        juego.inicializarJuego(15, jugadores, nombre);
+
+        List<String> bolsa = new ArrayList<>();
+        for (String linea : GeneracionMovimientosBenchmark.ALFABETO_ESP) {
+            String[] partes = linea.split(" ");
+            for (int k = 0; k < bolsas * Integer.parseInt(partes[1]); k++) {
+                bolsa.add(partes[0]);
+            }
+        }
+        Collections.shuffle(bolsa, new Random(7L));
+
+        List<long[]> medidas = new ArrayList<>();
+        Map<String, Integer> rack = new HashMap<>();
+        rellenar(rack, bolsa);
+        int cambios = 0;
+        while (!rack.isEmpty() && cambios < 3) {
+            long[] mejor = {Long.MAX_VALUE, Long.MAX_VALUE, Long.MAX_VALUE, Long.MAX_VALUE};
+            List<Tuple<Triple<String, Tuple<Integer, Integer>, Direction>, Integer>> todas = null;
+            List<Triple<String, Tuple<Integer, Integer>, Direction>> primeras = null;
+            for (int r = 0; r <= repeticiones; r++) {
+                // Todas las jugadas puntuadas, como la IA antes de la poda
+                long inicio = System.nanoTime();
+                List<Tuple<Triple<String, Tuple<Integer, Integer>, Direction>, Integer>> puntuadas = new ArrayList<>();
+                Map<String, Integer> atril = rack;
+                juego.searchAllMoves(rack, juego.isJuegoIniciado(),
+                        m -> puntuadas.add(new Tuple<>(m, juego.calculateMovePoints(juego.jugada(m, atril)))));
+                Tuple<Triple<String, Tuple<Integer, Integer>, Direction>, Integer> maxima = puntuadas.stream().min(ORDEN).orElse(null);
+                long completa = System.nanoTime() - inicio;
+                puntuadas.sort(ORDEN);
+                long completaK = System.nanoTime() - inicio;
+
+                inicio = System.nanoTime();
+                List<Triple<String, Tuple<Integer, Integer>, Direction>> una = juego.mejoresJugadas(rack, juego.isJuegoIniciado(), 1);
+                long poda = System.nanoTime() - inicio;
+                inicio = System.nanoTime();
+                List<Triple<String, Tuple<Integer, Integer>, Direction>> diez = juego.mejoresJugadas(rack, juego.isJuegoIniciado(), K);
+                long podaK = System.nanoTime() - inicio;
+
+                List<Triple<String, Tuple<Integer, Integer>, Direction>> esperadas = new ArrayList<>();
+                for (int i = 0; i < Math.min(K, puntuadas.size()); i++) {
+                    esperadas.add(puntuadas.get(i).x);
+                }
+                if (!diez.equals(esperadas) || !una.equals(maxima == null ? List.of() : List.of(maxima.x))) {
+                    throw new IllegalStateException("Mejores jugadas distintas en la posición " + medidas.size());
+                }
+                if (r > 0) { // La primera vuelta es de calentamiento
+                    mejor[0] = Math.min(mejor[0], completa);
+                    mejor[1] = Math.min(mejor[1], poda);
+                    mejor[2] = Math.min(mejor[2], completaK);
+                    mejor[3] = Math.min(mejor[3], podaK);
+                }
+                todas = puntuadas;
+                primeras = diez;
+            }
+            medidas.add(mejor);
+
+            Triple<String, Tuple<Integer, Integer>, Direction> jugada = primeras.stream()
+                    .findFirst().orElse(null);
+            if (jugada == null) {
+                for (Map.Entry<String, Integer> ficha : rack.entrySet()) {
+                    for (int k = 0; k < ficha.getValue(); k++) {
+                        bolsa.add(0, ficha.getKey());
+                    }
+                }
+                rack.clear();
+                rellenar(rack, bolsa);
+                cambios++;
+                continue;
+            }
+            cambios = 0;
+            Tuple<Map<String, Integer>, Integer> resultado = juego.realizarTurno(jugada, "IA", rack, false, Dificultad.DIFICIL);
+            rack = new HashMap<>(resultado.x);
+            rellenar(rack, bolsa);
+            if (todas.isEmpty()) break;
+        }
+
+        int mitad = medidas.size() / 2;
+        System.out.printf("Posiciones: %d (%,d fichas en el tablero al final)%n", medidas.size(), juego.getEstadoTablero().size());
+        imprimir("toda la partida", medidas.subList(0, medidas.size()));
+        imprimir("segunda mitad  ", medidas.subList(mitad, medidas.size()));
+    }
+
+    private static void imprimir(String titulo, List<long[]> medidas) {
+        long[] total = new long[4];
+        for (long[] medida : medidas) {
+            for (int i = 0; i < total.length; i++) {
+                total[i] += medida[i];
+            }
+        }
+        int posiciones = medidas.size();
+        System.out.printf("%s  mejor: todas %,7.3f ms  poda %,7.3f ms (%.1fx)   %d mejores: todas %,7.3f ms  poda %,7.3f ms (%.1fx)%n",
+                titulo, total[0] / 1e6 / posiciones, total[1] / 1e6 / posiciones, (double) total[0] / total[1],
+                K, total[2] / 1e6 / posiciones, total[3] / 1e6 / posiciones, (double) total[2] / total[3]);
+    }
+
+    private static void rellenar(Map<String, Integer> rack, List<String> bolsa) {
+        int enAtril = rack.values().stream().mapToInt(Integer::intValue).sum();
+        for (int k = enAtril; k < 7 && !bolsa.isEmpty(); k++) {
+            rack.merge(bolsa.remove(bolsa.size() - 1), 1, Integer::sum);
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package scrabble.benchmarks;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import scrabble.domain.controllers.subcontrollers.ControladorDiccionario;
+import scrabble.domain.controllers.subcontrollers.ControladorJuego;
+import scrabble.domain.models.FiltroBloom;
+import scrabble.helpers.Dificultad;
+import scrabble.helpers.Direction;
+import scrabble.helpers.Triple;
+import scrabble.helpers.Tuple;
+
+/**
+ * Benchmark de las verificaciones cruzadas ({@code crossCheck}) con y sin el prefiltro de Bloom
+ * de las consultas de palabras por camino.
+ *
+ * Simula una partida de la IA como {@link GeneracionMovimientosBenchmark}: en cada turno calcula
+ * las verificaciones cruzadas de la posición sin prefiltro y con él,
+ * comprueba que coinciden y acumula los tiempos y las cuentas del filtro (consultas, descartadas
+ * sin recorrer el DAWG y falsos positivos).
+ *
+ * Se ejecuta con
+ * {@code gradle benchmark -PbenchClass=scrabble.benchmarks.PrefiltroBenchmark -PbenchArgs="200000 20 20"}
+ * (número de palabras, de turnos y de repeticiones de cada medida, opcionales). Los controladores
+ * crean sus ficheros de persistencia en el directorio de trabajo, por lo que la tarea se ejecuta en
+ * {@code build/benchmark}.
+ */
+public final class PrefiltroBenchmark {
+
+    private PrefiltroBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int numPalabras = args.length > 0 ? Integer.parseInt(args[0]) : 200_000;
+        int turnos = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+        int repeticiones = args.length > 2 ? Integer.parseInt(args[2]) : 20;
+
+        Path directorio = Files.createTempDirectory("prefiltro-bench");
+        Path palabras = directorio.resolve("words.txt");
+        Path alpha = directorio.resolve("alpha.txt");
+        List<String> alfabeto = new ArrayList<>();
+        for (String simbolo : GeneradorPalabras.alfabeto()) {
+            alfabeto.add(simbolo + " 4 1");
+        }
+        Files.write(alpha, alfabeto, StandardCharsets.UTF_8);
+        Files.write(palabras, GeneradorPalabras.generar(numPalabras, 42L), StandardCharsets.UTF_8);
+
+        String nombre = "bench-" + System.nanoTime();
+        ControladorDiccionario diccionarios = ControladorDiccionario.getInstance();
+        diccionarios.crearDiccionario(nombre, alpha.toString(), palabras.toString());
+        try {
+            diccionarios.setPrefiltroPalabras(true);
+            long inicio = System.nanoTime();
+            FiltroBloom filtro = diccionarios.getDiccionario(nombre).getPrefiltro();
+            System.out.printf("Palabras: %,d  construcción del filtro: %,.1f ms (%,d bytes)%n", numPalabras,
+                    (System.nanoTime() - inicio) / 1e6, filtro.getBytesHeap());
+            simular(diccionarios, nombre, alfabeto, turnos, repeticiones);
+        } finally {
+            Files.deleteIfExists(palabras);
+            Files.deleteIfExists(alpha);
+            Files.deleteIfExists(directorio);
+        }
+    }
+
+    private static void simular(ControladorDiccionario diccionarios, String nombre, List<String> alfabeto,
+                                int turnos, int repeticiones) throws Exception {
+        ControladorJuego juego = new ControladorJuego();
+        Map<String, Integer> jugadores = new HashMap<>();
+        jugadores.put("IA", 0);
+        juego.inicializarJuego(15, jugadores, nombre);
+
+        List<String> bolsa = new ArrayList<>();
+        for (String linea : alfabeto) {
+            for (int k = 0; k < 4; k++) {
+                bolsa.add(linea.split(" ")[0]);
+            }
+        }
+        Collections.shuffle(bolsa, new Random(7L));
+
+        Map<String, Integer> rack = new HashMap<>();
+        rellenar(rack, bolsa);
+        long nanosSin = 0;
+        long nanosCon = 0;
+        long consultas = 0;
+        long descartes = 0;
+        long falsos = 0;
+        int posiciones = 0;
+        for (int turno = 0; turno < turnos && !rack.isEmpty(); turno++) {
+            if (juego.isJuegoIniciado()) {
+                // En la dirección en la que terminó la última búsqueda de jugadas
+                diccionarios.setPrefiltroPalabras(false);
+                Map<Tuple<Integer, Integer>, Set<String>> sin = null;
+                long mejorSin = Long.MAX_VALUE;
+                for (int r = 0; r < repeticiones; r++) {
+                    long inicio = System.nanoTime();
+                    sin = juego.crossCheck();
+                    mejorSin = Math.min(mejorSin, System.nanoTime() - inicio);
+                }
+                diccionarios.setPrefiltroPalabras(true);
+                FiltroBloom filtro = diccionarios.getDiccionario(nombre).getPrefiltro();
+                Map<Tuple<Integer, Integer>, Set<String>> con = null;
+                long mejorCon = Long.MAX_VALUE;
+                for (int r = 0; r < repeticiones; r++) {
+                    long inicio = System.nanoTime();
+                    con = juego.crossCheck();
+                    mejorCon = Math.min(mejorCon, System.nanoTime() - inicio);
+                }
+                if (!sin.equals(con)) {
+                    throw new IllegalStateException("Verificaciones cruzadas distintas en el turno " + turno);
+                }
+                nanosSin += mejorSin;
+                nanosCon += mejorCon;
+                posiciones++;
+                consultas += filtro.getConsultas();
+                descartes += filtro.getDescartes();
+                falsos += filtro.getFalsosPositivos();
+            }
+
+            Set<Triple<String, Tuple<Integer, Integer>, Direction>> jugadas = juego.searchAllMoves(rack, juego.isJuegoIniciado());
+            Triple<String, Tuple<Integer, Integer>, Direction> mejor = jugadas.stream()
+                    .max(Comparator.<Triple<String, Tuple<Integer, Integer>, Direction>>comparingInt(juego::calculateMovePoints)
+                            .thenComparing(j -> j.x, Comparator.reverseOrder())
+                            .thenComparing(j -> -j.y.x)
+                            .thenComparing(j -> -j.y.y)
+                            .thenComparing(j -> j.z.name(), Comparator.reverseOrder()))
+                    .orElse(null);
+            if (mejor == null) {
+                for (Map.Entry<String, Integer> ficha : rack.entrySet()) {
+                    for (int k = 0; k < ficha.getValue(); k++) {
+                        bolsa.add(ficha.getKey());
+                    }
+                }
+                rack.clear();
+                rellenar(rack, bolsa);
+                continue;
+            }
+            Tuple<Map<String, Integer>, Integer> resultado = juego.realizarTurno(mejor, "IA", rack, false, Dificultad.DIFICIL);
+            rack = new HashMap<>(resultado.x);
+            rellenar(rack, bolsa);
+        }
+
+        long pasan = consultas - descartes;
+        long negativas = descartes + falsos;
+        System.out.printf("Posiciones: %d  consultas con filtro: %,d%n", posiciones, consultas);
+        System.out.printf("Negativas: %,d (%.1f %%)  descartadas por el filtro: %,d (%.1f %% de las negativas)%n",
+                negativas, 100.0 * negativas / consultas, descartes, 100.0 * descartes / negativas);
+        System.out.printf("Pasan el filtro: %,d  palabras: %,d  falsos positivos: %,d (%.2f %% de las negativas)%n",
+                pasan, pasan - falsos, falsos, 100.0 * falsos / negativas);
+        System.out.printf("crossCheck sin prefiltro: %,8.3f ms/posición%n", nanosSin / 1e6 / posiciones);
+        System.out.printf("crossCheck con prefiltro: %,8.3f ms/posición  (%.2fx)%n", nanosCon / 1e6 / posiciones,
+                (double) nanosSin / nanosCon);
+    }
+
+    private static void rellenar(Map<String, Integer> rack, List<String> bolsa) {
+        int enAtril = rack.values().stream().mapToInt(Integer::intValue).sum();
+        for (int k = enAtril; k < 7 && !bolsa.isEmpty(); k++) {
+            rack.merge(bolsa.remove(bolsa.size() - 1), 1, Integer::sum);
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package scrabble.benchmarks;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import scrabble.domain.controllers.subcontrollers.ControladorDiccionario;
+import scrabble.domain.controllers.subcontrollers.ControladorJuego;
+import scrabble.domain.models.DawgCompacto;
+import scrabble.domain.models.GeneradorJugadas;
+import scrabble.domain.models.VerificacionesCruzadas;
+import scrabble.helpers.Dificultad;
+import scrabble.helpers.Direction;
+import scrabble.helpers.Triple;
+import scrabble.helpers.Tuple;
+
+/**
+ * Benchmark del mantenimiento de las verificaciones cruzadas entre jugadas.
+ *
+ * Simula una partida de la IA como {@link GeneracionMovimientosBenchmark} y, en cada turno, mide
+ * el coste de tener las verificaciones de las dos direcciones al día tras la jugada: recalculando
+ * todo el tablero con {@link VerificacionesCruzadas} o colocando solo las fichas nuevas sobre las
+ * verificaciones del turno anterior. Como referencia mide también {@code crossCheck()}, que
+ * recorre el tablero y devuelve un mapa de cadenas para una sola dirección. Comprueba que las
+ * verificaciones incrementales coinciden con las completas.
+ *
+ * Se ejecuta con
+ * {@code gradle benchmark -PbenchClass=scrabble.benchmarks.VerificacionesCruzadasBenchmark -PbenchArgs="100000 20 20"}
+ * (número de palabras, de turnos y de repeticiones de cada medida, opcionales). Los controladores
+ * crean sus ficheros de persistencia en el directorio de trabajo, por lo que la tarea se ejecuta en
+ * {@code build/benchmark}.
+ */
+public final class VerificacionesCruzadasBenchmark {
+
+    private VerificacionesCruzadasBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int numPalabras = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        int turnos = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+        int repeticiones = args.length > 2 ? Integer.parseInt(args[2]) : 20;
+
+        Path directorio = Files.createTempDirectory("verificaciones-bench");
+        Path palabras = directorio.resolve("words.txt");
+        Path alpha = directorio.resolve("alpha.txt");
+        List<String> alfabeto = new ArrayList<>();
+        for (String simbolo : GeneradorPalabras.alfabeto()) {
+            alfabeto.add(simbolo + " 4 1");
+        }
+        Files.write(alpha, alfabeto, StandardCharsets.UTF_8);
+        Files.write(palabras, GeneradorPalabras.generar(numPalabras, 42L), StandardCharsets.UTF_8);
+
+        String nombre = "bench-" + System.nanoTime();
+        ControladorDiccionario diccionarios = ControladorDiccionario.getInstance();
+        diccionarios.crearDiccionario(nombre, alpha.toString(), palabras.toString());
+        try {
+            System.out.printf("Palabras: %,d%n", numPalabras);
+            simular(diccionarios.getDiccionario(nombre).getDawg().compactar(), nombre, alfabeto, turnos, repeticiones);
+        } finally {
+            Files.deleteIfExists(palabras);
+            Files.deleteIfExists(alpha);
+            Files.deleteIfExists(directorio);
+        }
+    }
+
+    private static void simular(DawgCompacto dawg, String nombre, List<String> alfabeto, int turnos, int repeticiones) throws Exception {
+        ControladorJuego juego = new ControladorJuego();
+        Map<String, Integer> jugadores = new HashMap<>();
+        jugadores.put("IA", 0);
+        juego.inicializarJuego(15, jugadores, nombre);
+        int n = juego.getSize();
+        int[] simbolos = GeneradorPalabras.alfabeto().stream().mapToInt(dawg::getIdSimbolo).toArray();
+
+        List<String> bolsa = new ArrayList<>();
+        for (String linea : alfabeto) {
+            for (int k = 0; k < 4; k++) {
+                bolsa.add(linea.split(" ")[0]);
+            }
+        }
+        Collections.shuffle(bolsa, new Random(7L));
+
+        Map<String, Integer> rack = new HashMap<>();
+        rellenar(rack, bolsa);
+        long nanosMapa = 0;
+        long nanosCompleto = 0;
+        long nanosIncremental = 0;
+        long recalculadasCompleto = 0;
+        long recalculadasIncremental = 0;
+        int jugadasMedidas = 0;
+        for (int turno = 0; turno < turnos && !rack.isEmpty(); turno++) {
+            Set<Triple<String, Tuple<Integer, Integer>, Direction>> conjunto = juego.searchAllMoves(rack, juego.isJuegoIniciado());
+            Triple<String, Tuple<Integer, Integer>, Direction> mejor = conjunto.stream()
+                    .max(Comparator.<Triple<String, Tuple<Integer, Integer>, Direction>>comparingInt(juego::calculateMovePoints)
+                            .thenComparing(j -> j.x, Comparator.reverseOrder())
+                            .thenComparing(j -> -j.y.x)
+                            .thenComparing(j -> -j.y.y)
+                            .thenComparing(j -> j.z.name(), Comparator.reverseOrder()))
+                    .orElse(null);
+            if (mejor == null) {
+                for (Map.Entry<String, Integer> ficha : rack.entrySet()) {
+                    for (int k = 0; k < ficha.getValue(); k++) {
+                        bolsa.add(ficha.getKey());
+                    }
+                }
+                rack.clear();
+                rellenar(rack, bolsa);
+                continue;
+            }
+            int[] antes = casillas(juego, dawg, n);
+            Tuple<Map<String, Integer>, Integer> resultado = juego.realizarTurno(mejor, "IA", rack, false, Dificultad.DIFICIL);
+            rack = new HashMap<>(resultado.x);
+            rellenar(rack, bolsa);
+            int[] despues = casillas(juego, dawg, n);
+            List<Integer> colocadas = new ArrayList<>();
+            for (int idx = 0; idx < n * n; idx++) {
+                if (antes[idx] != despues[idx]) colocadas.add(idx);
+            }
+
+            long mejorMapa = Long.MAX_VALUE;
+            long mejorCompleto = Long.MAX_VALUE;
+            long mejorIncremental = Long.MAX_VALUE;
+            VerificacionesCruzadas completas = null;
+            VerificacionesCruzadas incrementales = null;
+            for (int r = 0; r < repeticiones; r++) {
+                long inicio = System.nanoTime();
+                juego.crossCheck();
+                mejorMapa = Math.min(mejorMapa, System.nanoTime() - inicio);
+
+                inicio = System.nanoTime();
+                completas = new VerificacionesCruzadas(dawg, n, despues, simbolos);
+                completas.getBits(Direction.HORIZONTAL);
+                completas.getBits(Direction.VERTICAL);
+                mejorCompleto = Math.min(mejorCompleto, System.nanoTime() - inicio);
+
+                incrementales = new VerificacionesCruzadas(dawg, n, antes, simbolos);
+                incrementales.getBits(Direction.HORIZONTAL);
+                incrementales.getBits(Direction.VERTICAL);
+                long previas = incrementales.getRecalculadas();
+                inicio = System.nanoTime();
+                for (int idx : colocadas) {
+                    incrementales.colocar(idx / n, idx % n, despues[idx]);
+                }
+                incrementales.getBits(Direction.HORIZONTAL);
+                incrementales.getBits(Direction.VERTICAL);
+                mejorIncremental = Math.min(mejorIncremental, System.nanoTime() - inicio);
+                if (r == 0) recalculadasIncremental += incrementales.getRecalculadas() - previas;
+            }
+            for (Direction dir : Direction.values()) {
+                if (!Arrays.equals(completas.getBits(dir), incrementales.getBits(dir))) {
+                    throw new IllegalStateException("Verificaciones distintas en el turno " + turno + " " + dir);
+                }
+            }
+            recalculadasCompleto += completas.getRecalculadas();
+            nanosMapa += mejorMapa;
+            nanosCompleto += mejorCompleto;
+            nanosIncremental += mejorIncremental;
+            jugadasMedidas++;
+        }
+
+        System.out.printf("Jugadas medidas: %d%n", jugadasMedidas);
+        System.out.printf("crossCheck() (mapa, una dirección): %,8.3f ms/jugada%n", nanosMapa / 1e6 / jugadasMedidas);
+        System.out.printf("Recalcular todo (dos direcciones):  %,8.3f ms/jugada  %,6d casillas/jugada%n",
+                nanosCompleto / 1e6 / jugadasMedidas, recalculadasCompleto / jugadasMedidas);
+        System.out.printf("Incremental (dos direcciones):      %,8.3f ms/jugada  %,6d casillas/jugada  (%.1fx)%n",
+                nanosIncremental / 1e6 / jugadasMedidas, recalculadasIncremental / jugadasMedidas,
+                (double) nanosCompleto / nanosIncremental);
+    }
+
+    private static int[] casillas(ControladorJuego juego, DawgCompacto dawg, int n) {
+        int[] casillas = new int[n * n];
+        Arrays.fill(casillas, GeneradorJugadas.VACIA);
+        for (Map.Entry<Tuple<Integer, Integer>, String> ficha : juego.getEstadoTablero().entrySet()) {
+            int id = dawg.getIdSimbolo(ficha.getValue());
+            casillas[ficha.getKey().x * n + ficha.getKey().y] = id >= 0 ? id : GeneradorJugadas.BLOQUEADA;
+        }
+        return casillas;
+    }
+
+    private static void rellenar(Map<String, Integer> rack, List<String> bolsa) {
+        int enAtril = rack.values().stream().mapToInt(Integer::intValue).sum();
+        for (int k = enAtril; k < 7 && !bolsa.isEmpty(); k++) {
+            rack.merge(bolsa.remove(bolsa.size() - 1), 1, Integer::sum);
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package scrabble.tests;
+
+import org.junit.Before;
+import org.junit.Test;
+import scrabble.domain.models.BuscadorAnagramas;
+import scrabble.domain.models.Diccionario;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test unitario para la clase BuscadorAnagramas
+ */
+public class BuscadorAnagramasTest {
+
+    private Diccionario diccionario;
+    private List<String> palabras;
+
+    @Before
+    public void setUp() {
+        diccionario = new Diccionario();
+        diccionario.setAlphabet(Arrays.asList("A 9 1", "C 4 3", "E 9 1", "L 4 1", "N 5 1", "O 9 1", "R 5 1", "S 6 1", "T 4 1", "Z 1 10", "# 2 0"));
+        palabras = Arrays.asList("A", "AS", "ASA", "CASA", "CASAS", "CASO", "COSA", "COSTA", "CAZO", "ESO", "LOS", "NO", "OSO",
+                "ROSA", "SACO", "SOL", "SON", "TACO", "TOSCA", "ZONA");
+        diccionario.setDawg(palabras);
+    }
+
+    /**
+     * Pre: Se ha creado un diccionario con varias palabras.
+     * Post: Se verifica que los subanagramas de un atril sin comodines son exactamente las palabras
+     * cuyas letras caben en el atril, en orden alfabético y sin repetir.
+     *
+     * Comprueba la búsqueda contra un filtrado por fuerza bruta.
+     */
+    @Test
+    public void testSubanagramasSinComodines() {
+        Map<String, Integer> atril = atril("CAOSTA");
+        assertEquals(fuerzaBruta(atril, false), palabrasDe(diccionario.buscarAnagramas(atril, false)));
+        assertTrue(palabrasDe(diccionario.buscarAnagramas(atril, false)).contains("TOSCA"));
+        assertFalse(palabrasDe(diccionario.buscarAnagramas(atril, false)).contains("CASAS"));
+    }
+
+    /**
+     * Pre: Se ha creado un diccionario con varias palabras.
+     * Post: Se verifica que con soloCompletos solo se devuelven las palabras que usan todas las fichas.
+     *
+     * Comprueba los anagramas completos.
+     */
+    @Test
+    public void testAnagramasCompletos() {
+        assertEquals(Arrays.asList("CASO", "COSA", "SACO"), palabrasDe(diccionario.buscarAnagramas(atril("OCAS"), true)));
+        assertTrue(diccionario.buscarAnagramas(atril("OCASZ"), true).isEmpty());
+    }
+
+    /**
+     * Pre: Se ha creado un diccionario con varias palabras.
+     * Post: Se verifica que los comodines cubren cualquier letra, que cada palabra aparece una sola
+     * vez y que las posiciones cubiertas con comodín se marcan en la máscara.
+     *
+     * Comprueba la búsqueda con comodines contra un filtrado por fuerza bruta.
+     */
+    @Test
+    public void testComodines() {
+        Map<String, Integer> atril = atril("OSA##");
+        List<BuscadorAnagramas.Anagrama> anagramas = diccionario.buscarAnagramas(atril, false);
+        assertEquals(fuerzaBruta(atril, false), palabrasDe(anagramas));
+        assertEquals(fuerzaBruta(atril, true), palabrasDe(diccionario.buscarAnagramas(atril, true)));
+
+        BuscadorAnagramas.Anagrama zona = anagramas.stream().filter(a -> a.getPalabra().equals("ZONA")).findFirst().orElseThrow();
+        assertEquals(2, zona.getNumComodines());
+        assertEquals(0b0101L, zona.getMascaraComodines());
+        assertEquals(2, zona.getPuntuacion());
+
+        BuscadorAnagramas.Anagrama oso = anagramas.stream().filter(a -> a.getPalabra().equals("OSO")).findFirst().orElseThrow();
+        assertEquals(1, oso.getNumComodines());
+        assertEquals(0b100L, oso.getMascaraComodines());
+    }
+
+    /**
+     * Pre: Se ha creado un diccionario con varias palabras.
+     * Post: Se verifica que la agrupación por longitud y la ordenación por puntuación contienen las
+     * mismas palabras que la búsqueda simple, y que los comodines no puntúan.
+     *
+     * Comprueba las vistas agrupada y ordenada.
+     */
+    @Test
+    public void testAgrupadoYOrdenadoPorPuntuacion() {
+        Map<String, Integer> atril = atril("CAZO#");
+        Map<Integer, List<String>> grupos = diccionario.buscarAnagramasPorLongitud(atril);
+        Map<Integer, List<String>> esperado = fuerzaBruta(atril, false).stream()
+                .collect(Collectors.groupingBy(String::length, TreeMap::new, Collectors.toList()));
+        assertEquals(esperado, grupos);
+        assertEquals(Arrays.asList(1, 2, 4), new ArrayList<>(grupos.keySet()));
+
+        List<BuscadorAnagramas.Anagrama> ordenados = diccionario.buscarAnagramasPorPuntuacion(atril, false);
+        assertEquals("CAZO", ordenados.get(0).getPalabra());
+        assertEquals(15, ordenados.get(0).getPuntuacion());
+        for (int i = 1; i < ordenados.size(); i++) {
+            assertTrue(ordenados.get(i - 1).getPuntuacion() >= ordenados.get(i).getPuntuacion());
+        }
+        assertEquals(new TreeSet<>(fuerzaBruta(atril, false)), new TreeSet<>(palabrasDe(ordenados)));
+    }
+
+    /**
+     * Pre: Se ha creado un diccionario con las letras "C", "H" y "CH".
+     * Post: Se verifica que una ficha multicarácter cuenta como un solo símbolo del atril.
+     *
+     * Comprueba los atriles con letras multicarácter.
+     */
+    @Test
+    public void testLetrasMulticaracter() {
+        Diccionario espanol = new Diccionario();
+        espanol.setAlphabet(Arrays.asList("A 1 1", "C 1 3", "CH 1 5", "E 1 1", "H 1 4", "O 1 1"));
+        espanol.setDawg(Arrays.asList("CHE", "ECHO", "HOCE", "COCHE"));
+        Map<String, Integer> atril = new HashMap<>();
+        atril.put("CH", 1);
+        atril.put("E", 1);
+        atril.put("O", 1);
+        assertEquals(Arrays.asList("CHE", "ECHO"), palabrasDe(espanol.buscarAnagramas(atril, false)));
+        assertEquals(Arrays.asList("ECHO"), palabrasDe(espanol.buscarAnagramas(atril, true)));
+    }
+
+    /**
+     * Pre: Se ha creado un diccionario con varias palabras.
+     * Post: Se verifica que un atril vacío no produce resultados y que un atril mayor que el
+     * máximo admitido se rechaza.
+     *
+     * Comprueba los casos límite.
+     */
+    @Test
+    public void testCasosLimite() {
+        assertTrue(diccionario.buscarAnagramas(new HashMap<>(), false).isEmpty());
+        Map<String, Integer> enorme = new HashMap<>();
+        enorme.put("A", BuscadorAnagramas.MAX_FICHAS + 1);
+        try {
+            diccionario.buscarAnagramas(enorme, false);
+            fail("Se esperaba IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            // esperado
+        }
+    }
+
+    private static Map<String, Integer> atril(String fichas) {
+        Map<String, Integer> atril = new HashMap<>();
+        for (char c : fichas.toCharArray()) {
+            atril.merge(String.valueOf(c), 1, Integer::sum);
+        }
+        return atril;
+    }
+
+    private static List<String> palabrasDe(List<BuscadorAnagramas.Anagrama> anagramas) {
+        return anagramas.stream().map(BuscadorAnagramas.Anagrama::getPalabra).collect(Collectors.toList());
+    }
+
+    private List<String> fuerzaBruta(Map<String, Integer> atril, boolean soloCompletos) {
+        int comodines = atril.getOrDefault("#", 0);
+        int total = atril.values().stream().mapToInt(Integer::intValue).sum();
+        List<String> resultado = new ArrayList<>();
+        for (String palabra : new TreeSet<>(palabras)) {
+            Map<String, Integer> cuentas = atril(palabra);
+            int faltan = 0;
+            for (Map.Entry<String, Integer> e : cuentas.entrySet()) {
+                faltan += Math.max(0, e.getValue() - atril.getOrDefault(e.getKey(), 0));
+            }
+            if (faltan <= comodines && (!soloCompletos || palabra.length() == total)) {
+                resultado.add(palabra);
+            }
+        }
+        return resultado;
+    }
+}
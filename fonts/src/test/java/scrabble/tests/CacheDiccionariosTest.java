@@ -0,0 +1,157 @@
+package scrabble.tests;
+
+import org.junit.Before;
+import org.junit.Test;
+import scrabble.domain.controllers.subcontrollers.CacheDiccionarios;
+import scrabble.domain.models.Diccionario;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test unitario para la clase CacheDiccionarios
+ */
+public class CacheDiccionariosTest {
+
+    private List<String> cargas;
+    private CacheDiccionarios cache;
+
+    @Before
+    public void setUp() {
+        cargas = new ArrayList<>();
+        cache = new CacheDiccionarios(nombre -> {
+            if (nombre.equals("ROTO")) {
+                throw new IOException("fichero corrupto");
+            }
+            cargas.add(nombre);
+            return diccionario(nombre);
+        }, 2, Long.MAX_VALUE);
+        for (String nombre : Arrays.asList("CA", "EN", "ES", "ROTO")) {
+            cache.registrar(nombre, diccionario("ES").copiarMetadatos());
+        }
+    }
+
+    /**
+     * Pre: Se han registrado varios diccionarios por sus metadatos.
+     * Post: Se verifica que ninguno se carga hasta que se pide, que los metadatos responden a las
+     * consultas del alfabeto sin cargarlo y que la primera petición carga el diccionario una sola vez.
+     *
+     * Comprueba la carga bajo demanda.
+     */
+    @Test
+    public void testCargaBajoDemanda() {
+        assertTrue(cargas.isEmpty());
+        assertTrue(cache.getCargados().isEmpty());
+        assertTrue(cache.containsKey("ES"));
+        assertFalse(cache.containsKey("FR"));
+        assertEquals(Integer.valueOf(1), cache.getMetadatos("ES").getAlphabet().get("A"));
+        assertFalse(cache.getMetadatos("ES").contienePalabra("ESA"));
+        assertNull(cache.getSiCargado("ES"));
+
+        Diccionario es = cache.get("ES");
+        assertTrue(es.contienePalabra("ESA"));
+        assertSame(es, cache.get("ES"));
+        assertEquals(Arrays.asList("ES"), cargas);
+        assertEquals(1, cache.getNumCargas());
+        assertTrue(es.getEstadisticas().getNanosCarga() > 0);
+
+        assertNull(cache.get("FR"));
+        assertNull("Un diccionario que no se puede leer no se carga", cache.get("ROTO"));
+        assertTrue(cache.containsKey("ROTO"));
+    }
+
+    /**
+     * Pre: La caché admite dos diccionarios cargados.
+     * Post: Se verifica que al cargar un tercero se desaloja el usado hace más tiempo, que se
+     * vuelve a cargar si se pide de nuevo y que un diccionario fijado no se desaloja.
+     *
+     * Comprueba el desalojo LRU por número de diccionarios.
+     */
+    @Test
+    public void testDesalojoPorNumero() {
+        cache.get("CA");
+        cache.get("EN");
+        cache.get("CA"); // EN pasa a ser el usado hace más tiempo
+        cache.get("ES");
+        assertEquals(new TreeSet<>(Arrays.asList("CA", "ES")), cache.getCargados());
+        assertEquals(1, cache.getNumDesalojos());
+
+        cache.get("EN");
+        assertEquals(Arrays.asList("CA", "EN", "ES", "EN"), cargas);
+        assertEquals(new TreeSet<>(Arrays.asList("EN", "ES")), cache.getCargados());
+
+        cache.put("LOCAL", diccionario("LOCAL"), true);
+        cache.get("CA");
+        cache.get("ES");
+        Set<String> cargados = cache.getCargados();
+        assertTrue("Un diccionario fijado no se desaloja", cargados.contains("LOCAL"));
+        assertTrue(cargados.contains("ES"));
+        assertTrue(cache.containsKey("LOCAL"));
+    }
+
+    /**
+     * Pre: Se han cargado varios diccionarios.
+     * Post: Se verifica que al reducir el límite de bytes se desalojan todos salvo el último usado
+     * y que eliminar un diccionario lo quita también de los registrados.
+     *
+     * Comprueba el desalojo por memoria estimada y la eliminación.
+     */
+    @Test
+    public void testDesalojoPorMemoriaYEliminacion() {
+        cache.get("CA");
+        cache.get("EN");
+        cache.setLimites(2, 1);
+        assertEquals(new TreeSet<>(Arrays.asList("EN")), cache.getCargados());
+
+        cache.remove("EN");
+        assertFalse(cache.containsKey("EN"));
+        assertNull(cache.get("EN"));
+        assertTrue(cache.getCargados().isEmpty());
+
+        try {
+            cache.setLimites(0, 1);
+            fail("Se esperaba IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            // esperado
+        }
+    }
+
+    /**
+     * Pre: Hay un diccionario cargado del repositorio y otro fijado.
+     * Post: Se verifica que reemplazar publica la instantánea nueva sin recargar, que quien tenía
+     * la anterior la conserva y que un diccionario fijado sigue fijado tras reemplazarlo.
+     *
+     * Comprueba la publicación de instantáneas de diccionarios editados.
+     */
+    @Test
+    public void testReemplazar() {
+        Diccionario anterior = cache.get("ES");
+        Diccionario nuevo = anterior.conCambios(Arrays.asList("CASAS"), Arrays.asList("ESA"));
+        cache.reemplazar("ES", nuevo);
+        assertSame(nuevo, cache.get("ES"));
+        assertEquals(1, cache.getNumCargas());
+        assertTrue(anterior.contienePalabra("ESA"));
+        assertFalse(cache.get("ES").contienePalabra("ESA"));
+        assertTrue(cache.get("ES").contienePalabra("CASAS"));
+
+        cache.put("LOCAL", diccionario("LOCAL"), true);
+        cache.reemplazar("LOCAL", cache.get("LOCAL").conCambios(Arrays.asList("OCA"), Arrays.asList()));
+        cache.get("CA");
+        cache.get("EN");
+        assertTrue("Un diccionario fijado sigue fijado tras reemplazarlo", cache.getCargados().contains("LOCAL"));
+        assertTrue(cache.get("LOCAL").contienePalabra("OCA"));
+    }
+
+    private static Diccionario diccionario(String nombre) {
+        Diccionario diccionario = new Diccionario();
+        diccionario.setAlphabet(Arrays.asList("A 9 1", "C 4 3", "E 9 1", "L 4 1", "N 5 1", "O 9 1", "S 6 1"));
+        diccionario.setDawg(Arrays.asList("ESA", "CASA", nombre + "S"));
+        return diccionario;
+    }
+}
@@ -0,0 +1,146 @@
+package scrabble.tests;
+
+import org.junit.Before;
+import org.junit.Test;
+import scrabble.domain.models.ConsultaPatron;
+import scrabble.domain.models.Dawg;
+import scrabble.domain.models.Diccionario;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test unitario para la clase ConsultaPatron
+ */
+public class ConsultaPatronTest {
+
+    private Diccionario diccionario;
+    private List<String> palabras;
+
+    @Before
+    public void setUp() {
+        diccionario = new Diccionario();
+        diccionario.setAlphabet(Arrays.asList("A 1 1", "C 1 1", "CH 1 5", "E 1 1", "H 1 4", "N 1 1", "I 1 1", "O 1 1", "S 1 1"));
+        palabras = Arrays.asList("CASA", "CASAS", "CASO", "COSA", "COSAS", "CHE", "ECHO", "ACCION", "CANCION", "SON", "NO", "ASA");
+        diccionario.setDawg(palabras);
+    }
+
+    /**
+     * Pre: Se ha creado un diccionario con varias palabras.
+     * Post: Se verifica que los patrones de prefijo, sufijo y longitud fija devuelven exactamente
+     * las palabras esperadas.
+     *
+     * Comprueba los comodines {@code ?} y {@code *}.
+     */
+    @Test
+    public void testPrefijoSufijoYLongitud() {
+        assertEquals(Arrays.asList("CASA", "CASAS", "CASO"), buscar("CAS*"));
+        assertEquals(Arrays.asList("ACCION", "CANCION"), buscar("*CION"));
+        assertEquals(Arrays.asList("CASA", "CASO", "COSA"), buscar("C?S?"));
+        // "CHE" tiene dos símbolos: CH, E
+        assertEquals(Arrays.asList("CHE", "NO"), buscar("??"));
+        assertEquals(Arrays.asList("CASA"), buscar("casa"));
+        assertTrue(buscar("CAS").isEmpty());
+    }
+
+    /**
+     * Pre: Se ha creado un diccionario con varias palabras.
+     * Post: Se verifica que un patrón con varios {@code *} no repite palabras que encajan de
+     * varias formas y que {@code *} también equivale a la secuencia vacía.
+     *
+     * Comprueba la ausencia de duplicados.
+     */
+    @Test
+    public void testVariosAsteriscosSinDuplicados() {
+        List<String> resultado = buscar("*A*");
+        assertEquals(new HashSet<>(resultado).size(), resultado.size());
+        assertTrue(resultado.contains("CASAS"));
+        assertTrue(resultado.contains("ASA"));
+        assertFalse(resultado.contains("ECHO"));
+        assertEquals(palabras.size(), buscar("**").size());
+    }
+
+    /**
+     * Pre: Se ha creado un diccionario cuyo alfabeto incluye "C", "H" y "CH".
+     * Post: Se verifica que {@code ?} equivale a un símbolo completo (también "CH") y que un
+     * símbolo fuera del alfabeto no produce resultados.
+     *
+     * Comprueba los patrones con letras multicarácter.
+     */
+    @Test
+    public void testLetrasMulticaracter() {
+        assertEquals(Collections.singletonList("CHE"), buscar("?E"));
+        assertEquals(Arrays.asList("CHE", "ECHO"), buscar("*CH*"));
+        assertTrue(buscar("Z*").isEmpty());
+    }
+
+    /**
+     * Pre: Se ha creado un diccionario con varias palabras.
+     * Post: Se verifica que limitar el flujo devuelve las primeras palabras en orden.
+     *
+     * Comprueba el recorrido perezoso con límite.
+     */
+    @Test
+    public void testLimite() {
+        assertEquals(Arrays.asList("CANCION", "CASA"), diccionario.buscarPatron("C*").limit(2).collect(Collectors.toList()));
+    }
+
+    /**
+     * Pre: Se ha creado un DAWG con alfabeto abierto y varias palabras.
+     * Post: Se verifica que, para varios patrones, el resultado coincide (sin tener en cuenta el
+     * orden, que depende de los identificadores de símbolo) con filtrar todas las palabras con una
+     * expresión regular equivalente.
+     *
+     * Comprueba la consulta frente a una búsqueda exhaustiva.
+     */
+    @Test
+    public void testCoincideConBusquedaExhaustiva() {
+        Dawg dawg = new Dawg();
+        List<String> lista = Arrays.asList("arco", "arcos", "barco", "barcos", "cosa", "marco", "mar", "ramo", "roca", "rosa", "sacro");
+        for (String palabra : lista) {
+            dawg.insert(palabra);
+        }
+        dawg.finish();
+        for (String patron : Arrays.asList("*co", "?a*", "*r*o*", "????", "r*a", "*", "b?rc?s", "*os")) {
+            Pattern regex = Pattern.compile(patron.replace("?", ".").replace("*", ".*"));
+            List<String> esperado = lista.stream().filter(p -> regex.matcher(p).matches()).sorted().collect(Collectors.toList());
+            assertEquals(patron, esperado, dawg.matchPattern(patron).sorted().collect(Collectors.toList()));
+        }
+    }
+
+    /**
+     * Pre: Se ha creado un diccionario.
+     * Post: Se verifica que un patrón vacío o demasiado largo lanza IllegalArgumentException.
+     *
+     * Comprueba la validación del patrón.
+     */
+    @Test
+    public void testPatronInvalido() {
+        try {
+            diccionario.buscarPatron("");
+            fail("Debería lanzar IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            // esperado
+        }
+        StringBuilder largo = new StringBuilder();
+        for (int i = 0; i <= ConsultaPatron.MAX_ELEMENTOS; i++) {
+            largo.append('?');
+        }
+        try {
+            diccionario.buscarPatron(largo.toString());
+            fail("Debería lanzar IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            // esperado
+        }
+    }
+
+    private List<String> buscar(String patron) {
+        return diccionario.buscarPatron(patron).collect(Collectors.toList());
+    }
+}
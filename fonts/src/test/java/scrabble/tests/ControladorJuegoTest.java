@@ -0,0 +1,306 @@
+package scrabble.tests;
+
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import scrabble.domain.controllers.subcontrollers.ControladorDiccionario;
+import scrabble.domain.controllers.subcontrollers.ControladorJuego;
+import scrabble.helpers.Direction;
+import scrabble.helpers.Jugada;
+import scrabble.helpers.Triple;
+import scrabble.helpers.Tuple;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test unitario para el tratamiento de los comodines en la clase ControladorJuego
+ */
+public class ControladorJuegoTest {
+
+    private static Path directorio;
+    private static String nombre;
+    private static String nombreDigrafos;
+
+    private ControladorJuego juego;
+
+    @BeforeClass
+    public static void crearDiccionario() throws Exception {
+        directorio = Files.createTempDirectory("controlador-juego-test");
+        Path alpha = directorio.resolve("alpha.txt");
+        Path words = directorio.resolve("words.txt");
+        Files.write(alpha, Arrays.asList("A 12 1", "C 4 3", "O 9 1", "S 6 2", "# 2 0"), StandardCharsets.UTF_8);
+        Files.write(words, Arrays.asList("AS", "ASA", "CASA", "COSA", "OCAS", "SACO"), StandardCharsets.UTF_8);
+        nombre = "test-juego-" + System.nanoTime();
+        ControladorDiccionario.getInstance().crearDiccionario(nombre, alpha.toString(), words.toString());
+
+        // Con el dígrafo RR, ORRR se divide en O·RR·R de izquierda a derecha y en O·R·RR desde el final
+        Files.write(alpha, Arrays.asList("O 9 1", "R 6 2", "RR 1 8", "# 2 0"), StandardCharsets.UTF_8);
+        Files.write(words, Arrays.asList("ORRR"), StandardCharsets.UTF_8);
+        nombreDigrafos = "test-juego-digrafos-" + System.nanoTime();
+        ControladorDiccionario.getInstance().crearDiccionario(nombreDigrafos, alpha.toString(), words.toString());
+    }
+
+    @AfterClass
+    public static void borrarFicheros() throws Exception {
+        Files.deleteIfExists(directorio.resolve("alpha.txt"));
+        Files.deleteIfExists(directorio.resolve("words.txt"));
+        Files.deleteIfExists(directorio);
+    }
+
+    @Before
+    public void setUp() throws Exception {
+        juego = new ControladorJuego();
+        Map<String, Integer> jugadores = new HashMap<>();
+        jugadores.put("IA", 0);
+        juego.inicializarJuego(15, jugadores, nombre);
+    }
+
+    /**
+     * Pre: Se ha iniciado una partida con el tablero estándar vacío.
+     * Post: Se verifica que al convertir una tripleta con un atril con comodines cada símbolo usa
+     * primero las fichas del atril y que los comodines van a la casilla de menor multiplicador de
+     * letra o, a igualdad, a la más cercana al final de la palabra.
+     *
+     * Comprueba la asignación canónica de los comodines.
+     */
+    @Test
+    public void testAsignacionCanonicaComodines() {
+        // ASA en (7,3)-(7,5): la primera A está en una casilla de letra doble
+        Triple<String, Tuple<Integer, Integer>, Direction> asa = triple("ASA", 7, 5, Direction.HORIZONTAL);
+        assertEquals(0b111L, juego.jugada(asa).getColocadas());
+        assertEquals("Sin comodines en el atril no hay comodines", 0L, juego.jugada(asa, atril("A", 2, "S", 1)).getComodines());
+        assertEquals("Con fichas suficientes no se usan comodines", 0L,
+                juego.jugada(asa, atril("A", 2, "S", 1, "#", 1)).getComodines());
+        assertEquals("El comodín va a la A sin multiplicador", 0b001L,
+                juego.jugada(asa, atril("A", 1, "S", 1, "#", 1)).getComodines());
+        assertEquals("El comodín sustituye a la ficha que falta", 0b010L,
+                juego.jugada(asa, atril("A", 2, "#", 1)).getComodines());
+        assertEquals(0b111L, juego.jugada(asa, atril("#", 3)).getComodines());
+
+        // ASA en (7,1)-(7,3): la A con multiplicador es ahora la última
+        assertEquals(0b100L, juego.jugada(triple("ASA", 7, 3, Direction.HORIZONTAL), atril("A", 1, "S", 1, "#", 1)).getComodines());
+        // ASA en (7,4)-(7,6): a igualdad de multiplicador, el comodín va a la casilla más cercana al final
+        assertEquals(0b001L, juego.jugada(triple("ASA", 7, 6, Direction.HORIZONTAL), atril("A", 1, "S", 1, "#", 1)).getComodines());
+    }
+
+    /**
+     * Pre: Se ha iniciado una partida con el tablero estándar vacío.
+     * Post: Se verifica que los comodines colocados no suman puntos aunque estén en una casilla de
+     * letra doble, y que la tripleta, que no indica los comodines, puntúa todas las fichas.
+     *
+     * Comprueba la puntuación de los comodines colocados.
+     */
+    @Test
+    public void testComodinesNoPuntuan() {
+        Triple<String, Tuple<Integer, Integer>, Direction> asa = triple("ASA", 7, 5, Direction.HORIZONTAL);
+        // A (1 × 2) + S (2) + A (1)
+        assertEquals(5, juego.calculateMovePoints(asa));
+        assertEquals(5, juego.calculateMovePoints(juego.jugada(asa)));
+        assertEquals(4, juego.calculateMovePoints(new Jugada("ASA", 7, 5, Direction.HORIZONTAL, 0b111L, 0b001L)));
+        assertEquals(3, juego.calculateMovePoints(new Jugada("ASA", 7, 5, Direction.HORIZONTAL, 0b111L, 0b100L)));
+        assertEquals(0, juego.calculateMovePoints(new Jugada("ASA", 7, 5, Direction.HORIZONTAL, 0b111L, 0b111L)));
+        assertEquals("La asignación canónica es la de más puntos", 4,
+                juego.calculateMovePoints(juego.jugada(asa, atril("A", 1, "S", 1, "#", 1))));
+    }
+
+    /**
+     * Pre: Se ha iniciado una partida con el tablero estándar vacío.
+     * Post: Se verifica que al realizar una jugada con un comodín se gasta el comodín del atril y
+     * no la ficha, y que las palabras que después pasan por esa casilla no suman su valor.
+     *
+     * Comprueba que el tablero recuerda los comodines colocados.
+     */
+    @Test
+    public void testComodinEnElTablero() {
+        Jugada asa = juego.jugada(triple("ASA", 7, 5, Direction.HORIZONTAL), atril("A", 1, "S", 1, "#", 1));
+        Map<String, Integer> resto = juego.makeMove(asa, atril("A", 1, "S", 1, "#", 1));
+        assertEquals(atril(), resto);
+
+        // AS en (7,5)-(8,5): la A del tablero es un comodín y solo puntúa la S
+        Triple<String, Tuple<Integer, Integer>, Direction> as = triple("AS", 8, 5, Direction.VERTICAL);
+        assertEquals(0b01L, juego.jugada(as).getColocadas());
+        assertEquals(2, juego.calculateMovePoints(as));
+        // AS en (7,3)-(8,3): la A del tablero es una ficha normal
+        assertEquals(3, juego.calculateMovePoints(triple("AS", 8, 3, Direction.VERTICAL)));
+    }
+
+    /**
+     * Pre: Se ha iniciado una partida con el tablero estándar vacío.
+     * Post: Se verifica que cada jugada generada, convertida a tripleta y de vuelta con el mismo
+     * atril, es la misma jugada, comodines incluidos.
+     *
+     * Comprueba la conversión entre jugadas y tripletas.
+     */
+    @Test
+    public void testConversionTripleta() {
+        Map<String, Integer> rack = atril("A", 1, "C", 1, "S", 1, "#", 1);
+        Set<Jugada> jugadas = juego.buscarJugadas(rack, false);
+        assertFalse(jugadas.isEmpty());
+        for (Jugada j : jugadas) {
+            assertEquals(j, juego.jugada(j.toTriple(), rack));
+        }
+    }
+
+    /**
+     * Pre: Se ha iniciado una partida y se ha colocado CASA en (7,4)-(7,7).
+     * Post: Se verifica que una jugada es válida con cualquier asignación de comodines que permita
+     * el atril, aunque la búsqueda solo genere la canónica, y que deja de serlo si cambia la
+     * palabra o la posición.
+     *
+     * Comprueba que isValidMove no compara los comodines.
+     */
+    @Test
+    public void testValidezSinComodines() {
+        juego.makeMove(triple("CASA", 7, 7, Direction.HORIZONTAL), atril("A", 2, "C", 1, "S", 1));
+        Map<String, Integer> rack = atril("A", 1, "S", 1, "#", 1);
+        // ASA en (7,5)-(9,5) usando la A del tablero
+        assertTrue(juego.isValidMove(new Jugada("ASA", 9, 5, Direction.VERTICAL, 0b011L), rack));
+        assertTrue(juego.isValidMove(new Jugada("ASA", 9, 5, Direction.VERTICAL, 0b011L, 0b001L), rack));
+        assertTrue(juego.isValidMove(new Jugada("ASA", 9, 5, Direction.VERTICAL, 0b011L, 0b010L), rack));
+        assertTrue(juego.isValidMove(triple("ASA", 9, 5, Direction.VERTICAL), rack));
+        assertFalse(juego.isValidMove(new Jugada("ASA", 10, 5, Direction.VERTICAL, 0b111L, 0b001L), rack));
+        assertFalse(juego.isValidMove(new Jugada("OCAS", 9, 5, Direction.VERTICAL, 0b0011L, 0b0001L), rack));
+    }
+
+    /**
+     * Pre: Se ha iniciado una partida con el tablero estándar vacío.
+     * Post: Se verifica que el turno con una jugada la coloca con sus comodines, sin convertirla
+     * desde una tripleta, y devuelve el atril restante y sus puntos.
+     *
+     * Comprueba realizarTurno con una jugada.
+     */
+    @Test
+    public void testRealizarTurnoConJugada() {
+        Jugada asa = new Jugada("ASA", 7, 5, Direction.HORIZONTAL, 0b111L, 0b100L);
+        Tuple<Map<String, Integer>, Integer> resultado = juego.realizarTurno(asa, atril("A", 1, "S", 1, "#", 1));
+        assertEquals(atril(), resultado.x);
+        assertEquals(Integer.valueOf(3), resultado.y);
+        assertTrue(juego.isJuegoIniciado());
+        // La A de (7,3) es el comodín: AS en (7,3)-(8,3) solo puntúa la S
+        assertEquals(2, juego.calculateMovePoints(triple("AS", 8, 3, Direction.VERTICAL)));
+    }
+
+    /**
+     * Pre: Se ha iniciado una partida con el tablero estándar vacío.
+     * Post: Se verifica que convertir una palabra de más de Jugada.MAX_CASILLAS casillas lanza
+     * IllegalArgumentException.
+     *
+     * Comprueba el límite de casillas de una jugada.
+     */
+    @Test
+    public void testPalabraDemasiadoLarga() {
+        StringBuilder palabra = new StringBuilder();
+        for (int k = 0; k <= Jugada.MAX_CASILLAS; k++) {
+            palabra.append('A');
+        }
+        try {
+            juego.jugada(triple(palabra.toString(), 7, 7, Direction.HORIZONTAL));
+            fail("Se esperaba IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            // esperado
+        }
+    }
+
+    /**
+     * Pre: Se ha iniciado una partida y se han colocado CASA y COSA.
+     * Post: Se verifica que con un pool de varios hilos la búsqueda entrega las mismas jugadas en
+     * el mismo orden que en el hilo que llama, y que las mejores jugadas son las mismas, con y sin
+     * comodines en el atril.
+     *
+     * Comprueba que la generación de jugadas en paralelo da el mismo resultado que la secuencial.
+     */
+    @Test
+    public void testParaleloIgualQueSecuencial() {
+        juego.makeMove(triple("CASA", 7, 7, Direction.HORIZONTAL), atril("A", 2, "C", 1, "S", 1));
+        juego.makeMove(triple("COSA", 10, 4, Direction.VERTICAL), atril("O", 1, "S", 1, "A", 1));
+        List<Map<String, Integer>> atriles = Arrays.asList(atril("A", 2, "C", 1, "O", 1, "S", 2),
+                atril("A", 1, "C", 1, "O", 1, "S", 1, "#", 1), atril("A", 1, "S", 1, "#", 2));
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (Map<String, Integer> rack : atriles) {
+                List<Jugada> secuencial = new ArrayList<>();
+                juego.buscarJugadas(rack, true, secuencial::add);
+                List<Triple<String, Tuple<Integer, Integer>, Direction>> mejoresSecuencial = juego.mejoresJugadas(rack, true, 5);
+
+                juego.setPoolJugadas(pool);
+                List<Jugada> paralelo = new ArrayList<>();
+                juego.buscarJugadas(rack, true, paralelo::add);
+                List<Triple<String, Tuple<Integer, Integer>, Direction>> mejoresParalelo = juego.mejoresJugadas(rack, true, 5);
+                juego.setPoolJugadas(null);
+
+                assertFalse(secuencial.isEmpty());
+                assertEquals(secuencial, paralelo);
+                assertEquals(mejoresSecuencial, mejoresParalelo);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Pre: Se ha iniciado una partida con un diccionario con el dígrafo RR y la palabra ORRR.
+     * Post: Se verifica que las jugadas generadas con ORRR se colocan con el mismo atril con el
+     * que se generan, también con un comodín, que su conversión desde la tripleta es la misma
+     * jugada y que cada casilla puntúa con el símbolo de la división del DAWG (O·RR·R).
+     *
+     * Comprueba que generación, colocación y puntuación dividen igual las palabras con dígrafos.
+     */
+    @Test
+    public void testDigrafosDivisionComun() throws Exception {
+        ControladorJuego digrafos = new ControladorJuego();
+        Map<String, Integer> jugadores = new HashMap<>();
+        jugadores.put("IA", 0);
+        digrafos.inicializarJuego(15, jugadores, nombreDigrafos);
+
+        for (Map<String, Integer> rack : Arrays.asList(atril("O", 1, "RR", 1, "R", 1),
+                atril("O", 1, "RR", 1, "#", 1), atril("O", 1, "R", 1, "#", 1))) {
+            Set<Jugada> jugadas = digrafos.buscarJugadas(rack, false);
+            assertFalse(jugadas.isEmpty());
+            for (Jugada j : jugadas) {
+                assertEquals("ORRR", j.getPalabra());
+                assertEquals(0b111L, j.getColocadas());
+                assertEquals(j, digrafos.jugada(j.toTriple(), rack));
+                assertEquals(atril(), digrafos.makeMove(j, rack));
+                digrafos.inicializarJuego(15, jugadores, nombreDigrafos);
+            }
+        }
+        assertEquals("El comodín va al RR, que falta en el atril", 0b010L,
+                digrafos.jugada(triple("ORRR", 7, 9, Direction.HORIZONTAL), atril("O", 1, "R", 1, "#", 1)).getComodines());
+
+        // ORRR en (7,2)-(7,4): el RR está en la casilla de letra doble de (7,3)
+        assertEquals(1 + 8 * 2 + 2, digrafos.calculateMovePoints(new Jugada("ORRR", 7, 4, Direction.HORIZONTAL, 0b111L)));
+        assertEquals(1 + 2, digrafos.calculateMovePoints(new Jugada("ORRR", 7, 4, Direction.HORIZONTAL, 0b111L, 0b010L)));
+
+        // La poda de mejoresJugadas usa los mismos valores por casilla que la puntuación
+        Map<String, Integer> rack = atril("O", 1, "RR", 1, "R", 1);
+        int maximo = 0;
+        for (Jugada j : digrafos.buscarJugadas(rack, false)) {
+            maximo = Math.max(maximo, digrafos.calculateMovePoints(j));
+        }
+        assertEquals(maximo, digrafos.calculateMovePoints(digrafos.jugada(digrafos.mejoresJugadas(rack, false, 1).get(0), rack)));
+    }
+
+    private static Triple<String, Tuple<Integer, Integer>, Direction> triple(String palabra, int fila, int columna, Direction dir) {
+        return new Triple<>(palabra, new Tuple<>(fila, columna), dir);
+    }
+
+    private static Map<String, Integer> atril(Object... fichas) {
+        Map<String, Integer> atril = new HashMap<>();
+        for (int i = 0; i < fichas.length; i += 2) {
+            atril.put((String) fichas[i], (Integer) fichas[i + 1]);
+        }
+        return atril;
+    }
+}
@@ -0,0 +1,135 @@
+package scrabble.tests;
+
+import org.junit.Before;
+import org.junit.Test;
+import scrabble.domain.models.CursorDawg;
+import scrabble.domain.models.Diccionario;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test unitario para la clase CursorDawg
+ */
+public class CursorDawgTest {
+
+    private Diccionario diccionario;
+
+    @Before
+    public void setUp() {
+        diccionario = new Diccionario();
+        diccionario.setAlphabet(Arrays.asList("A 1 1", "C 1 1", "CH 1 5", "E 1 1", "H 1 4", "O 1 1", "S 1 1"));
+        diccionario.setDawg(Arrays.asList("CASA", "CASO", "COSA", "CHE", "ECHO"));
+    }
+
+    /**
+     * Pre: Se ha creado un diccionario con varias palabras.
+     * Post: Se verifica que avanzar símbolo a símbolo llega a los mismos nodos que pedir el
+     * cursor del prefijo completo.
+     *
+     * Comprueba el avance del cursor y su equivalencia con la consulta por prefijo.
+     */
+    @Test
+    public void testAvanzarEquivaleAPrefijo() {
+        CursorDawg cursor = diccionario.getCursor();
+        assertFalse(cursor.esFinal());
+        cursor = cursor.avanzar("C").avanzar("A").avanzar("S");
+        assertEquals(diccionario.getCursor("CAS"), cursor);
+        assertFalse(cursor.esFinal());
+        assertTrue(cursor.avanzar("A").esFinal());
+        assertNull(cursor.avanzar("E"));
+        assertNull("Símbolo fuera del alfabeto", cursor.avanzar("Z"));
+        assertNull(diccionario.getCursor("CASE"));
+        assertEquals(diccionario.getCursor(), diccionario.getCursor(""));
+    }
+
+    /**
+     * Pre: Se ha creado un diccionario con "CH" como letra.
+     * Post: Se verifica que las aristas salientes coinciden con getAvailableEdges y que
+     * seguirlas por índice equivale a avanzar por su símbolo.
+     *
+     * Comprueba la iteración de aristas salientes, incluidas las letras multicarácter.
+     */
+    @Test
+    public void testAristasSalientes() {
+        CursorDawg cursor = diccionario.getCursor("E");
+        assertEquals(diccionario.getAvailableEdges("E"), cursor.getSimbolosSalientes());
+
+        List<String> simbolos = new ArrayList<>();
+        for (int k = 0; k < cursor.getNumSalientes(); k++) {
+            String simbolo = cursor.getSimboloSaliente(k);
+            simbolos.add(simbolo);
+            assertEquals(cursor.avanzar(simbolo), cursor.seguirSaliente(k));
+        }
+        assertEquals(Arrays.asList("CH"), simbolos);
+        assertTrue(cursor.avanzar("CH").avanzar("O").esFinal());
+
+        Set<String> raiz = new HashSet<>();
+        CursorDawg inicio = diccionario.getCursor();
+        for (int k = 0; k < inicio.getNumSalientes(); k++) {
+            raiz.add(inicio.getSimboloSaliente(k));
+        }
+        assertEquals(new HashSet<>(Arrays.asList("C", "CH", "E")), raiz);
+    }
+
+    /**
+     * Pre: Se ha obtenido un cursor y después se añade una palabra al diccionario.
+     * Post: Se verifica que el cursor anterior no cambia y que uno nuevo ve la palabra añadida.
+     *
+     * Comprueba que los cursores se refieren a la versión del DAWG en la que se obtuvieron.
+     */
+    @Test
+    public void testCursorTrasModificacion() {
+        CursorDawg anterior = diccionario.getCursor("COS");
+        diccionario.addWord("COSO");
+        assertNull(anterior.avanzar("O"));
+
+        CursorDawg nuevo = diccionario.getCursor("COS");
+        assertTrue(nuevo.avanzar("O").esFinal());
+        assertTrue(nuevo.avanzar("A").esFinal());
+        assertEquals("Sin cambios se reutiliza la misma vista", nuevo, diccionario.getCursor("COS"));
+    }
+
+    /**
+     * Pre: Se ha creado un diccionario.
+     * Post: Se verifica que un prefijo nulo lanza NullPointerException.
+     *
+     * Comprueba la validación de parámetros.
+     */
+    @Test(expected = NullPointerException.class)
+    public void testPrefijoNulo() {
+        diccionario.getCursor(null);
+    }
+
+    /**
+     * Pre: Se ha creado un diccionario con "CH" como letra.
+     * Post: Se verifica que la intersección de la máscara saliente con la de un atril da las letras
+     * jugables y que seguir un símbolo por la máscara equivale a avanzar por él.
+     *
+     * Comprueba el recorrido con máscaras de bits.
+     */
+    @Test
+    public void testMascaras() {
+        CursorDawg raiz = diccionario.getCursor();
+        assertEquals(diccionario.getMascara(Arrays.asList("C", "CH", "E")), raiz.getMascaraSalientes());
+
+        Map<String, Integer> atril = new HashMap<>();
+        atril.put("CH", 1);
+        atril.put("O", 2);
+        long permitidas = raiz.getMascaraSalientes() & diccionario.getMascaraAtril(atril);
+        assertEquals(Collections.singleton("CH"), diccionario.getSimbolosMascara(permitidas));
+
+        for (long resto = raiz.getMascaraSalientes(); resto != 0; resto &= resto - 1) {
+            int id = Long.numberOfTrailingZeros(resto);
+            assertEquals(raiz.avanzar(raiz.getSimbolo(id)), raiz.seguirSimbolo(id));
+        }
+    }
+}
@@ -0,0 +1,498 @@
+package scrabble.tests;
+
+import org.junit.Before;
+import org.junit.Test;
+import scrabble.domain.models.Dawg;
+import scrabble.domain.models.DawgCompacto;
+import scrabble.domain.models.DawgNode;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test unitario para la clase DawgCompacto
+ */
+public class DawgCompactoTest {
+
+    private Dawg dawg;
+
+    @Before
+    public void setUp() {
+        Set<String> alfabeto = new HashSet<>(Arrays.asList("A", "C", "CH", "E", "M", "O", "S"));
+        dawg = new Dawg(alfabeto);
+        dawg.insert("CAMA");
+        dawg.insert("CASA");
+        dawg.insert("CASO");
+        dawg.insert("COSA");
+        dawg.insert("CHE");
+    }
+
+    /**
+     * Pre: Se ha construido un DAWG con varias palabras sin llamar a finish().
+     * Post: Se verifica que finish() genera la representación compacta y que
+     * las búsquedas devuelven los mismos resultados que antes de compactar.
+     *
+     * Comprueba que la compactación no altera el contenido del diccionario.
+     */
+    @Test
+    public void testFinishCompactaSinPerderPalabras() {
+        assertFalse("El DAWG no debería estar compactado antes de finish()", dawg.isCompactado());
+        List<String> antes = dawg.getAllWords();
+
+        dawg.finish();
+
+        assertTrue("El DAWG debería estar compactado tras finish()", dawg.isCompactado());
+        assertNotNull("Debería existir la representación compacta", dawg.getCompacto());
+        assertEquals("Las palabras deberían ser las mismas tras compactar",
+                new HashSet<>(antes), new HashSet<>(dawg.getAllWords()));
+        assertTrue(dawg.search("CASA"));
+        assertTrue(dawg.search("CHE"));
+        assertFalse("Un prefijo no debería ser palabra", dawg.search("CAS"));
+        assertFalse(dawg.search("COSO"));
+    }
+
+    /**
+     * Pre: Se ha compactado el DAWG.
+     * Post: Se verifica que las transiciones por símbolo llegan a los nodos esperados
+     * y que los símbolos inexistentes devuelven SIN_NODO.
+     *
+     * Comprueba la navegación directa sobre los arrays del DAWG compacto.
+     */
+    @Test
+    public void testTransiciones() {
+        dawg.finish();
+        DawgCompacto compacto = dawg.getCompacto();
+
+        int nodo = compacto.recorrer(Arrays.asList("C", "A", "S"));
+        assertNotEquals(DawgCompacto.SIN_NODO, nodo);
+        assertFalse(compacto.esFinal(nodo));
+        assertEquals(new HashSet<>(Arrays.asList("A", "O")), compacto.getSimbolosSalientes(nodo));
+        assertTrue(compacto.esFinal(compacto.transicion(nodo, "A")));
+
+        assertEquals(DawgCompacto.SIN_NODO, compacto.transicion(nodo, "M"));
+        assertEquals(DawgCompacto.SIN_NODO, compacto.transicion(nodo, "Z"));
+        assertEquals(DawgCompacto.SIN_NODO, compacto.recorrer(Arrays.asList("C", "H")));
+    }
+
+    /**
+     * Pre: Se ha compactado el DAWG.
+     * Post: Se verifica que los sufijos comunes se comparten: "CASA" y "COSA" acaban en el
+     * mismo nodo tras leer "CAS" y "COS".
+     *
+     * Comprueba que la compactación conserva la minimización del grafo.
+     */
+    @Test
+    public void testConservaMinimizacion() {
+        dawg.finish();
+        DawgCompacto compacto = dawg.getCompacto();
+
+        int cas = compacto.recorrer(Arrays.asList("C", "A", "S"));
+        int cos = compacto.recorrer(Arrays.asList("C", "O", "S"));
+        assertNotEquals(cas, cos);
+        assertEquals("Los sufijos 'A' de CASA y COSA deberían compartir nodo",
+                compacto.transicion(cas, "A"), compacto.transicion(cos, "A"));
+    }
+
+    /**
+     * Pre: Se ha compactado el DAWG.
+     * Post: Se verifica que las vistas de nodo son de solo lectura y que getNode()
+     * sigue funcionando sobre la representación compacta.
+     *
+     * Comprueba la compatibilidad de la API basada en DawgNode.
+     */
+    @Test
+    public void testVistaNodoSoloLectura() {
+        dawg.finish();
+
+        DawgNode nodo = dawg.getNode("CAS");
+        assertNotNull(nodo);
+        assertTrue(nodo.getEdge("O").isFinal());
+        assertEquals(nodo, dawg.getNode("CAS"));
+
+        try {
+            nodo.setFinal(true);
+            fail("Las vistas de un DAWG compacto no deberían poder modificarse");
+        } catch (UnsupportedOperationException e) {
+            // Esperado
+        }
+    }
+
+    /**
+     * Pre: Se ha compactado el DAWG.
+     * Post: Se verifica que insertar una palabra con una inicial nueva descompacta el DAWG y que
+     * un nuevo finish() la incluye junto con las anteriores.
+     *
+     * Comprueba que el DAWG sigue admitiendo modificaciones tras la compactación.
+     */
+    @Test
+    public void testInsertarTrasCompactar() {
+        dawg.finish();
+        dawg.insert("MESA");
+
+        assertFalse("Insertar debería volver a la representación de nodos", dawg.isCompactado());
+        dawg.finish();
+        assertTrue(dawg.search("MESA"));
+        assertTrue(dawg.search("CASA"));
+        assertEquals(6, dawg.getAllWords().size());
+    }
+
+    /**
+     * Pre: Se ha compactado el DAWG.
+     * Post: Se verifica que descompactar() produce un grafo con las mismas palabras.
+     *
+     * Comprueba la conversión inversa de la representación compacta.
+     */
+    @Test
+    public void testDescompactar() {
+        dawg.finish();
+        DawgNode raiz = dawg.getCompacto().descompactar();
+
+        DawgNode nodo = raiz;
+        for (String simbolo : Arrays.asList("CH", "E")) {
+            nodo = nodo.getEdge(simbolo);
+            assertNotNull(nodo);
+        }
+        assertTrue(nodo.isFinal());
+        assertEquals(dawg.getCompacto().getNumNodos(), contarNodos(raiz, new IdentityHashMap<>()));
+    }
+
+    /**
+     * Pre: Se ha compactado el DAWG y se ha escrito en un fichero temporal.
+     * Post: Se verifica que el DAWG leído del fichero proyectado en memoria tiene las mismas
+     * palabras, nodos y arcos, y que un Dawg construido sobre él responde a las búsquedas.
+     *
+     * Comprueba la serialización binaria del DAWG compacto.
+     */
+    @Test
+    public void testEscribirYLeerFicheroProyectado() throws IOException {
+        dawg.finish();
+        DawgCompacto original = dawg.getCompacto();
+        Path fichero = Files.createTempFile("dawg", ".dawg");
+        try {
+            try (FileChannel canal = FileChannel.open(fichero, StandardOpenOption.WRITE)) {
+                original.escribir(canal);
+            }
+            assertEquals(original.getTamanoSerializado(), Files.size(fichero));
+
+            DawgCompacto leido;
+            try (FileChannel canal = FileChannel.open(fichero, StandardOpenOption.READ)) {
+                MappedByteBuffer datos = canal.map(FileChannel.MapMode.READ_ONLY, 0, canal.size());
+                leido = DawgCompacto.leer(datos);
+                assertFalse("Se debería haber consumido todo el fichero", datos.hasRemaining());
+            }
+            assertEquals(original.getNumNodos(), leido.getNumNodos());
+            assertEquals(original.getNumArcos(), leido.getNumArcos());
+            assertEquals(new HashSet<>(original.getAllWords()), new HashSet<>(leido.getAllWords()));
+
+            Dawg cargado = new Dawg(leido);
+            assertTrue(cargado.search("CHE"));
+            assertTrue(cargado.search("COSA"));
+            assertFalse(cargado.search("COS"));
+            assertTrue("Debería admitir ediciones tras cargarse", cargado.add("MESA"));
+            assertTrue(cargado.search("MESA"));
+        } finally {
+            Files.deleteIfExists(fichero);
+        }
+    }
+
+    /**
+     * Pre: Se dispone de datos binarios truncados.
+     * Post: Se verifica que la lectura lanza IllegalArgumentException.
+     *
+     * Comprueba la validación de datos corruptos.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testLeerDatosTruncados() {
+        ByteBuffer datos = ByteBuffer.allocate(6);
+        datos.putInt(3).flip();
+        DawgCompacto.leer(datos);
+    }
+
+    /**
+     * Pre: Se dispone de datos binarios con un número de símbolos, una longitud de símbolo o un
+     * número de nodos que no caben en lo que queda de los datos.
+     * Post: Se verifica que la lectura lanza IllegalArgumentException sin intentar reservar la memoria.
+     *
+     * Comprueba la validación de las cuentas antes de reservar memoria.
+     */
+    @Test
+    public void testLeerCuentasCorruptas() {
+        ByteBuffer[] corruptos = {
+                ByteBuffer.allocate(16).order(ByteOrder.LITTLE_ENDIAN).putInt(Integer.MAX_VALUE),
+                ByteBuffer.allocate(16).order(ByteOrder.LITTLE_ENDIAN).putInt(-1),
+                ByteBuffer.allocate(16).order(ByteOrder.LITTLE_ENDIAN).putInt(1).putInt(-5),
+                ByteBuffer.allocate(16).order(ByteOrder.LITTLE_ENDIAN).putInt(1).putInt(Integer.MAX_VALUE),
+                ByteBuffer.allocate(16).order(ByteOrder.LITTLE_ENDIAN).putInt(0).putInt(Integer.MAX_VALUE).putInt(0),
+                ByteBuffer.allocate(16).order(ByteOrder.LITTLE_ENDIAN).putInt(0).putInt(1).putInt(Integer.MAX_VALUE),
+        };
+        for (ByteBuffer datos : corruptos) {
+            datos.clear();
+            try {
+                DawgCompacto.leer(datos);
+                fail("Se esperaba IllegalArgumentException");
+            } catch (IllegalArgumentException e) {
+                // esperado
+            }
+        }
+    }
+
+    private int contarNodos(DawgNode nodo, IdentityHashMap<DawgNode, Boolean> visitados) {
+        if (visitados.put(nodo, Boolean.TRUE) != null) {
+            return 0;
+        }
+        int total = 1;
+        for (DawgNode hijo : nodo.getEdges().values()) {
+            total += contarNodos(hijo, visitados);
+        }
+        return total;
+    }
+
+    /**
+     * Pre: Se ha compactado un DAWG con varias palabras.
+     * Post: Se verifica que la máscara de símbolos salientes de cada nodo coincide con sus arcos
+     * y que, con más de 64 símbolos, las máscaras no se admiten.
+     *
+     * Comprueba las máscaras de bits de aristas salientes.
+     */
+    @Test
+    public void testMascarasSalientes() {
+        dawg.finish();
+        DawgCompacto compacto = dawg.getCompacto();
+        assertTrue(compacto.admiteMascaras());
+        for (int nodo = 0; nodo < compacto.getNumNodos(); nodo++) {
+            long esperada = 0L;
+            for (int a = compacto.getInicioArcos(nodo); a < compacto.getFinArcos(nodo); a++) {
+                esperada |= 1L << compacto.getSimboloArco(a);
+            }
+            assertEquals(esperada, compacto.getMascaraSalientes(nodo));
+        }
+        int nodoCas = compacto.recorrer(Arrays.asList("C", "A", "S"));
+        assertEquals(dawg.getTokenizador().getMascara(Arrays.asList("A", "O")), compacto.getMascaraSalientes(nodoCas));
+
+        Set<String> grande = new HashSet<>();
+        for (int i = 0; i <= 64; i++) {
+            grande.add("S" + i);
+        }
+        Dawg amplio = new Dawg(grande);
+        amplio.insert("S0S1");
+        amplio.finish();
+        assertFalse(amplio.getCompacto().admiteMascaras());
+        try {
+            amplio.getCompacto().getMascaraSalientes(DawgCompacto.RAIZ);
+            fail("Debería lanzar IllegalStateException");
+        } catch (IllegalStateException e) {
+            // esperado
+        }
+    }
+
+    /**
+     * Pre: Se ha compactado un DAWG con palabras que son prefijo de otras.
+     * Post: Se verifica que el flujo de palabras, secuencial o paralelo, produce las mismas
+     * palabras en el mismo orden que getAllWords.
+     *
+     * Comprueba la enumeración perezosa de palabras.
+     */
+    @Test
+    public void testStreamPalabras() {
+        dawg.insert("CASAS");
+        dawg.finish();
+        DawgCompacto compacto = dawg.getCompacto();
+        List<String> esperadas = Arrays.asList("CAMA", "CASA", "CASAS", "CASO", "COSA", "CHE");
+        assertEquals(esperadas, compacto.streamPalabras().collect(Collectors.toList()));
+        assertEquals(esperadas, compacto.getAllWords());
+        assertEquals(esperadas, compacto.streamPalabras().parallel().collect(Collectors.toList()));
+        assertEquals(2, compacto.streamPalabras().parallel().filter(p -> p.endsWith("SA")).count());
+    }
+
+    /**
+     * Pre: Se ha compactado un DAWG cuyas palabras empiezan todas por el mismo símbolo.
+     * Post: Se verifica que el spliterator se divide bajando al siguiente nivel y que las partes
+     * son disjuntas, cubren todas las palabras y respetan el orden de encuentro.
+     *
+     * Comprueba la división del spliterator de palabras.
+     */
+    @Test
+    public void testSpliteratorPalabras() {
+        dawg.finish();
+        // Todas las palabras empiezan por "C": la primera división baja al segundo símbolo
+        Spliterator<String> resto = dawg.getCompacto().spliteratorPalabras();
+        Spliterator<String> prefijo = resto.trySplit();
+        assertNotNull(prefijo);
+
+        List<String> palabras = new ArrayList<>();
+        prefijo.forEachRemaining(palabras::add);
+        int divididas = palabras.size();
+        resto.forEachRemaining(palabras::add);
+        assertTrue(divididas > 0 && divididas < palabras.size());
+        assertEquals(dawg.getAllWords(), palabras);
+        assertTrue(resto.hasCharacteristics(Spliterator.ORDERED | Spliterator.DISTINCT));
+
+        Dawg unaPalabra = new Dawg(new HashSet<>(Arrays.asList("A", "C", "S")));
+        unaPalabra.insert("CASA");
+        unaPalabra.finish();
+        Spliterator<String> unica = unaPalabra.getCompacto().spliteratorPalabras();
+        assertNull("Un único camino no se puede dividir", unica.trySplit());
+        assertTrue(unica.tryAdvance(p -> assertEquals("CASA", p)));
+        assertFalse(unica.tryAdvance(p -> fail()));
+    }
+
+    /**
+     * Pre: Se ha creado un DAWG sin finalizar y después se edita uno finalizado.
+     * Post: Se verifica que streamWords enumera las palabras actuales en ambos estados.
+     *
+     * Comprueba la enumeración de palabras durante la construcción y la edición.
+     */
+    @Test
+    public void testStreamWordsSinCompactar() {
+        assertEquals(Arrays.asList("CAMA", "CASA", "CASO", "COSA", "CHE"), dawg.streamWords().collect(Collectors.toList()));
+        dawg.finish();
+        dawg.add("MAS");
+        dawg.remove("CASO");
+        assertEquals(Arrays.asList("CAMA", "CASA", "COSA", "CHE", "MAS"), dawg.streamWords().parallel().collect(Collectors.toList()));
+    }
+
+    /**
+     * Pre: Se ha creado un DAWG finalizado con varias palabras.
+     * Post: Se verifica que la palabra de cada posición y la posición de cada palabra coinciden
+     * con la lista ordenada, y que las palabras ausentes devuelven su punto de inserción.
+     *
+     * Comprueba getPalabra y getIndice a partir de las cuentas de palabras por nodo.
+     */
+    @Test
+    public void testPosicionDePalabras() {
+        dawg.finish();
+        DawgCompacto compacto = dawg.getCompacto();
+        List<String> palabras = dawg.getAllWords();
+        assertEquals(palabras.size(), compacto.getNumPalabras());
+        for (int i = 0; i < palabras.size(); i++) {
+            assertEquals(palabras.get(i), compacto.getPalabra(i));
+            assertEquals(i, dawg.indexOf(palabras.get(i)));
+        }
+        // Orden: CAMA, CASA, CASO, COSA, CHE ("CH" va detrás de "C")
+        assertEquals(-1, dawg.indexOf("A"));
+        assertEquals(-2, dawg.indexOf("CAS"));
+        assertEquals(-5, dawg.indexOf("COSAS"));
+        assertEquals(-5, dawg.indexOf("CH"));
+        assertEquals(-6, dawg.indexOf("MAS"));
+        try {
+            compacto.getPalabra(palabras.size());
+            fail("Se esperaba IndexOutOfBoundsException");
+        } catch (IndexOutOfBoundsException e) {
+            // esperado
+        }
+    }
+
+    /**
+     * Pre: Se ha creado un DAWG finalizado con varias palabras.
+     * Post: Se verifica que el número de palabras con un prefijo se obtiene sin enumerarlas y
+     * que "C" no cuenta las palabras que empiezan por el símbolo "CH".
+     *
+     * Comprueba el conteo de palabras por prefijo.
+     */
+    @Test
+    public void testContarPrefijo() {
+        dawg.finish();
+        assertEquals(5, dawg.countWords());
+        assertEquals(5, dawg.countWordsWithPrefix(""));
+        assertEquals(4, dawg.countWordsWithPrefix("C"));
+        assertEquals(3, dawg.countWordsWithPrefix("CA"));
+        assertEquals(1, dawg.countWordsWithPrefix("CASA"));
+        assertEquals(1, dawg.countWordsWithPrefix("CH"));
+        assertEquals(0, dawg.countWordsWithPrefix("CASAS"));
+    }
+
+    /**
+     * Pre: Se ha creado un DAWG con varios cientos de palabras que comparten prefijos y sufijos.
+     * Post: Se verifica que el flujo desde cada posición devuelve exactamente la cola de la lista
+     * ordenada y que las cuentas se actualizan tras editar el DAWG.
+     *
+     * Comprueba la paginación de palabras sin recorrer las anteriores.
+     */
+    @Test
+    public void testStreamPalabrasDesdePosicion() {
+        Dawg grande = new Dawg(new HashSet<>(Arrays.asList("A", "C", "CH", "E", "M", "O", "S")));
+        List<String> palabras = new ArrayList<>();
+        String[] raices = {"CA", "CHA", "CO", "MA", "ME", "SE", "SO"};
+        String[] finales = {"", "A", "AS", "CHO", "MO", "S", "SE", "SOS"};
+        for (String raiz : raices) {
+            for (String fin : finales) {
+                palabras.add(raiz + fin);
+            }
+        }
+        grande.insertAll(palabras);
+        grande.finish();
+        List<String> ordenadas = grande.getAllWords();
+        assertEquals(ordenadas.size(), grande.countWords());
+        for (int i = 0; i <= ordenadas.size(); i++) {
+            assertEquals(ordenadas.subList(i, ordenadas.size()), grande.streamWords(i).collect(Collectors.toList()));
+            if (i < ordenadas.size()) {
+                assertEquals(i, grande.indexOf(ordenadas.get(i)));
+            }
+        }
+        assertEquals(ordenadas.subList(3, 8), grande.streamWords(3).limit(5).collect(Collectors.toList()));
+        assertEquals(0, grande.streamWords(ordenadas.size() + 10).count());
+
+        grande.add("MAMAS");
+        grande.remove("CA");
+        assertEquals(ordenadas.size(), grande.countWords());
+        assertEquals(grande.getAllWords().indexOf("MAMAS"), grande.indexOf("MAMAS"));
+        assertTrue(grande.indexOf("CA") < 0);
+    }
+
+    /**
+     * Pre: Se ha compactado el DAWG y se ha escrito en un fichero.
+     * Post: Se verifica que el DAWG en memoria cuenta sus tablas como heap, que el leído de un
+     * fichero proyectado las cuenta como proyectadas, y que ambos tienen los mismos nodos finales.
+     *
+     * Comprueba la estimación de memoria del DAWG compacto.
+     */
+    @Test
+    public void testEstimacionDeMemoria() throws IOException {
+        long bytesEdicion = dawg.estimateRetainedBytes();
+        assertTrue(bytesEdicion > 0);
+        dawg.finish();
+        DawgCompacto original = dawg.getCompacto();
+        // Ninguna palabra es prefijo de otra: todas acaban en la misma hoja final
+        assertEquals(1, original.getNumFinales());
+        assertEquals(0, original.getBytesProyectados());
+        long tablas = 8L * ((original.getNumNodos() + 63) / 64) + 4L * (original.getNumNodos() + 1) + 8L * original.getNumArcos();
+        assertTrue(original.getBytesHeap() >= tablas);
+        assertEquals(original.getBytesHeap(), dawg.estimateRetainedBytes());
+        assertTrue("El grafo de nodos debería ocupar más que las tablas compactas", bytesEdicion > original.getBytesHeap());
+
+        long sinCuentas = original.getBytesHeap();
+        original.getNumPalabras();
+        assertTrue("Las cuentas calculadas deberían sumarse al heap", original.getBytesHeap() > sinCuentas);
+
+        Path fichero = Files.createTempFile("dawg", ".dawg");
+        try {
+            try (FileChannel canal = FileChannel.open(fichero, StandardOpenOption.WRITE)) {
+                original.escribir(canal);
+            }
+            try (FileChannel canal = FileChannel.open(fichero, StandardOpenOption.READ)) {
+                DawgCompacto leido = DawgCompacto.leer(canal.map(FileChannel.MapMode.READ_ONLY, 0, canal.size()));
+                assertEquals(original.getNumFinales(), leido.getNumFinales());
+                assertTrue(leido.getBytesProyectados() >= tablas);
+                assertTrue(leido.getBytesHeap() < sinCuentas);
+            }
+        } finally {
+            Files.deleteIfExists(fichero);
+        }
+    }
+}
@@ -5,6 +5,8 @@ import org.junit.Test;
 import scrabble.domain.models.Dawg;
 import scrabble.domain.models.DawgNode;
 
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.Set;
 import java.util.List;
 import static org.junit.Assert.*;
@@ -536,4 +538,215 @@ public class DawgTest {
         assertEquals("Después de insertar un duplicado debería seguir habiendo 4 palabras", 
                     4, trasDuplicado.size());
     }
-}
\ No newline at end of file
+
+    /**
+     * Pre: Se ha creado una instancia de Dawg y se insertan en orden palabras con sufijos comunes.
+     * Post: Se verifica que tras finish() el grafo tiene el número mínimo de nodos: los sufijos
+     * "ar", "er" e "ir" se comparten entre todas las raíces.
+     *
+     * Comprueba que la minimización por firmas fusiona todos los nodos equivalentes.
+     */
+    @Test
+    public void testMinimizacionComparteSufijos() {
+        dawg.insert("bar");
+        dawg.insert("ber");
+        dawg.insert("bir");
+        dawg.insert("car");
+        dawg.insert("cer");
+        dawg.insert("cir");
+        dawg.finish();
+
+        // raíz, {b,c}, {a,e,i}, r final
+        assertEquals("El DAWG mínimo debería tener 4 nodos", 4, dawg.getCompacto().getNumNodos());
+        assertEquals(6, dawg.getAllWords().size());
+        assertTrue(dawg.search("cir"));
+        assertFalse(dawg.search("ci"));
+    }
+
+    /**
+     * Pre: Se ha construido y finalizado un DAWG con varias palabras.
+     * Post: Se verifica que add() y remove() modifican el DAWG sin orden de inserción, que
+     * search() y getAllWords() reflejan los cambios y que el grafo resultante tiene los mismos
+     * nodos que un DAWG construido desde cero con las mismas palabras.
+     *
+     * Comprueba las altas y bajas incrementales manteniendo la minimalidad.
+     */
+    @Test
+    public void testAddRemoveIncremental() {
+        dawg.insert("bar");
+        dawg.insert("car");
+        dawg.insert("cer");
+        dawg.finish();
+
+        assertTrue("'ber' debería añadirse", dawg.add("ber"));
+        assertFalse("'ber' ya existía", dawg.add("ber"));
+        assertTrue("'ba' debería añadirse aunque sea prefijo de otra palabra", dawg.add("ba"));
+        assertTrue("'car' debería eliminarse", dawg.remove("car"));
+        assertFalse("'car' ya no existía", dawg.remove("car"));
+        assertFalse("'ce' no es una palabra del DAWG", dawg.remove("ce"));
+
+        assertTrue(dawg.search("ber"));
+        assertTrue(dawg.search("ba"));
+        assertTrue(dawg.search("bar"));
+        assertTrue(dawg.search("cer"));
+        assertFalse(dawg.search("car"));
+        assertEquals(4, dawg.getAllWords().size());
+
+        Dawg referencia = new Dawg();
+        referencia.insert("ba");
+        referencia.insert("bar");
+        referencia.insert("ber");
+        referencia.insert("cer");
+        referencia.finish();
+        dawg.finish();
+        assertEquals("El DAWG editado debería seguir siendo mínimo",
+                referencia.getCompacto().getNumNodos(), dawg.getCompacto().getNumNodos());
+    }
+
+    /**
+     * Pre: Se ha creado una instancia de Dawg.
+     * Post: Se verifica que insertar palabras fuera de orden lexicográfico no pierde palabras
+     * ya insertadas.
+     *
+     * Comprueba que insert() recurre a la inserción incremental cuando se rompe el orden.
+     */
+    @Test
+    public void testInsertFueraDeOrden() {
+        dawg.insert("sol");
+        dawg.insert("mar");
+        dawg.insert("sal");
+
+        assertTrue(dawg.search("sol"));
+        assertTrue(dawg.search("mar"));
+        assertTrue(dawg.search("sal"));
+        assertEquals(3, dawg.getAllWords().size());
+    }
+
+    /**
+     * Pre: Se ha creado un DAWG con un alfabeto que incluye "C", "H" y "CH".
+     * Post: Se verifica que insertPath() guarda la secuencia de símbolos exacta aunque su
+     * concatenación se volvería a dividir de otra forma.
+     *
+     * Comprueba la inserción por camino de identificadores.
+     */
+    @Test
+    public void testInsertPathSimbolosAmbiguos() {
+        Dawg conDigrafo = new Dawg(new HashSet<>(Arrays.asList("C", "CH", "H", "O")));
+        int c = conDigrafo.getSymbolId("C");
+        int h = conDigrafo.getSymbolId("H");
+        conDigrafo.insertPath(new int[] {h, c, h});
+        conDigrafo.insertPath(conDigrafo.encode("CHO"));
+        conDigrafo.finish();
+
+        assertTrue(conDigrafo.search(new int[] {h, c, h}, 3));
+        assertFalse("HCH se divide como H, CH", conDigrafo.search("HCH"));
+        assertTrue(conDigrafo.search("CHO"));
+    }
+
+    /**
+     * Pre: Se ha generado una lista de palabras mayor que el umbral de construcción paralela, con
+     * letras multicarácter, palabras repetidas y palabras que son prefijo de otras.
+     * Post: Se verifica que la construcción paralela produce exactamente las mismas tablas compactas
+     * que la construcción secuencial, con el pool común y con un pool de cuatro hilos.
+     *
+     * Comprueba que repartir la construcción entre hilos no altera el autómata mínimo.
+     */
+    @Test
+    public void testBuildParallelIgualQueSecuencial() throws Exception {
+        Set<String> alfabeto = new HashSet<>(Arrays.asList("A", "C", "CH", "E", "L", "LL", "M", "N", "O", "R", "S", "T"));
+        String[] letras = alfabeto.toArray(new String[0]);
+        String[] terminaciones = {"", "A", "AS", "O", "OS", "ES", "AR", "ANTE", "ASTE"};
+        java.util.Random random = new java.util.Random(3L);
+        List<String> palabras = new java.util.ArrayList<>();
+        while (palabras.size() < Dawg.UMBRAL_PARALELO * 2) {
+            StringBuilder raiz = new StringBuilder();
+            for (int i = 0, n = 1 + random.nextInt(5); i < n; i++) {
+                raiz.append(letras[random.nextInt(letras.length)]);
+            }
+            for (String terminacion : terminaciones) {
+                palabras.add(raiz + terminacion);
+            }
+        }
+        java.util.Collections.shuffle(palabras, random);
+
+        Dawg secuencial = new Dawg(alfabeto);
+        secuencial.insertAll(palabras);
+        secuencial.finish();
+        Dawg paralelo = new Dawg(alfabeto);
+        paralelo.buildParallel(palabras);
+        java.util.concurrent.ForkJoinPool pool = new java.util.concurrent.ForkJoinPool(4);
+        Dawg conPool = new Dawg(alfabeto);
+        try {
+            conPool.buildParallel(palabras, pool);
+        } finally {
+            pool.shutdown();
+        }
+
+        assertTrue(paralelo.isCompactado());
+        assertArrayEquals(serializar(secuencial), serializar(paralelo));
+        assertArrayEquals(serializar(secuencial), serializar(conPool));
+        assertEquals(secuencial.getAllWords(), conPool.getAllWords());
+    }
+
+    /**
+     * Pre: Se ha creado un DAWG con palabras y otro con una lista pequeña.
+     * Post: Se verifica que buildParallel construye secuencialmente cuando no compensa o el DAWG
+     * ya tiene palabras, y que en ambos casos queda finalizado con todas las palabras.
+     *
+     * Comprueba los casos en que la construcción paralela recurre a la secuencial.
+     */
+    @Test
+    public void testBuildParallelListaPequenaOConPalabras() {
+        dawg.buildParallel(Arrays.asList("SOL", "CASA", "CASA", "CAS"));
+        assertTrue(dawg.isCompactado());
+        // Con alfabeto abierto los símbolos se ordenan por orden de aparición: S, O, L, C, A
+        assertEquals(Arrays.asList("SOL", "CAS", "CASA"), dawg.getAllWords());
+
+        Dawg conPalabras = new Dawg();
+        conPalabras.insert("MAR");
+        conPalabras.buildParallel(Arrays.asList("SOL", "LUNA"));
+        assertTrue(conPalabras.isCompactado());
+        assertEquals(Arrays.asList("MAR", "SOL", "LUNA"), conPalabras.getAllWords());
+    }
+
+    private static byte[] serializar(Dawg dawg) throws java.io.IOException {
+        java.io.ByteArrayOutputStream salida = new java.io.ByteArrayOutputStream();
+        dawg.getCompacto().escribir(java.nio.channels.Channels.newChannel(salida));
+        return salida.toByteArray();
+    }
+
+    /**
+     * Pre: Se ha creado una instancia de Dawg y se insertan "casa" y "caso" sin finalizar.
+     * Post: Se verifica que obtener un cursor durante la construcción ordenada lanza
+     * IllegalStateException sin finalizarla, y que tras finish() y durante la edición incremental
+     * los cursores recorren las palabras actuales.
+     *
+     * Comprueba la precondición de los cursores.
+     */
+    @Test
+    public void testCursorRequiereFinalizar() {
+        dawg.insert("casa");
+        dawg.insert("caso");
+        try {
+            dawg.getCursor();
+            fail("Se esperaba IllegalStateException");
+        } catch (IllegalStateException e) {
+            // esperado
+        }
+        try {
+            dawg.getCursor("ca");
+            fail("Se esperaba IllegalStateException");
+        } catch (IllegalStateException e) {
+            // esperado
+        }
+        assertFalse("El cursor no debe finalizar la construcción", dawg.isCompactado());
+
+        dawg.insert("cosa");
+        dawg.finish();
+        assertNotNull(dawg.getCursor());
+        assertNotNull(dawg.getCursor("cos"));
+
+        dawg.add("cota");
+        assertNotNull("En edición el cursor recorre el estado actual", dawg.getCursor("cot"));
+    }
+}
@@ -3,13 +3,17 @@ package scrabble.tests;
 import org.junit.Before;
 import org.junit.Test;
 import scrabble.domain.models.Dawg;
+import scrabble.domain.models.DawgCompacto;
 import scrabble.domain.models.Diccionario;
+import scrabble.domain.models.EstadisticasDiccionario;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.HashSet;
+import java.util.stream.Collectors;
 
 import static org.junit.Assert.*;
 
@@ -704,4 +708,144 @@ public class DiccionarioTest {
     public void testRemoveWordOnlySpaces() {
         diccionario.removeWord("   ");
     }
-}
\ No newline at end of file
+
+    /**
+     * Pre: Se ha configurado un alfabeto con comodín y letras multicarácter y se han cargado las palabras.
+     * Post: Se verifica que la máscara de un atril contiene sus letras y que, con un comodín,
+     * contiene todas las letras del alfabeto salvo el propio comodín.
+     *
+     * Comprueba la representación del atril como máscara de bits.
+     */
+    @Test
+    public void testMascaraAtril() {
+        diccionario.setAlphabet(lineasAlphabetValido);
+        diccionario.setDawg(List.of("ESO", "SAXO"));
+        assertTrue(diccionario.admiteMascaras());
+
+        Map<String, Integer> atril = new HashMap<>();
+        atril.put("CH", 1);
+        atril.put("A", 2);
+        assertEquals(new HashSet<>(List.of("A", "CH")), diccionario.getSimbolosMascara(diccionario.getMascaraAtril(atril)));
+
+        atril.put("#", 1);
+        Set<String> conComodin = diccionario.getSimbolosMascara(diccionario.getMascaraAtril(atril));
+        Set<String> letras = new HashSet<>(diccionario.getAlphabetKeys());
+        letras.remove("#");
+        assertEquals(letras, conComodin);
+    }
+
+    /**
+     * Pre: Se ha configurado un alfabeto y se han cargado las palabras.
+     * Post: Se verifica que las páginas de palabras, el número de palabras, el conteo por prefijo
+     * y la posición de una palabra coinciden con la lista completa del diccionario.
+     *
+     * Comprueba la consulta paginada de palabras sin materializar la lista completa.
+     */
+    @Test
+    public void testPaginaPalabras() {
+        diccionario.setAlphabet(lineasAlphabetValido);
+        diccionario.setDawg(List.of("AXE", "ESO", "OSA", "OSO", "SAXO", "SOSA"));
+        List<String> todas = diccionario.streamPalabras().collect(Collectors.toList());
+        assertEquals(todas.size(), diccionario.getNumPalabras());
+        assertEquals(todas.subList(0, 4), diccionario.getPagina(0, 4));
+        assertEquals(todas.subList(4, 6), diccionario.getPagina(4, 4));
+        assertTrue(diccionario.getPagina(6, 4).isEmpty());
+        assertEquals(2, diccionario.contarPrefijo("os"));
+        assertEquals(0, diccionario.contarPrefijo("Z"));
+        assertEquals(todas.indexOf("SAXO"), diccionario.getIndicePalabra("saxo"));
+        assertEquals("SAXO", diccionario.getPalabra(diccionario.getIndicePalabra("SAXO")));
+        assertTrue(diccionario.getIndicePalabra("SAX") < 0);
+    }
+
+    /**
+     * Pre: Se ha configurado el alfabeto y las palabras del diccionario.
+     * Post: Se verifica que las estadísticas reflejan el tamaño del DAWG, que se mide el tiempo
+     * de construcción y el de carga indicado, y que el GADDAG construido se suma a la memoria.
+     *
+     * Comprueba las estadísticas de memoria y forma del diccionario.
+     */
+    @Test
+    public void testEstadisticas() {
+        diccionario.setAlphabet(lineasAlphabetValido);
+        diccionario.setDawg(List.of("AXE", "ESO", "OSA", "OSO", "SAXO", "SOSA"));
+        diccionario.setNanosCarga(5_000_000L);
+        EstadisticasDiccionario estadisticas = diccionario.getEstadisticas();
+        DawgCompacto compacto = diccionario.getDawg().getCompacto();
+        assertEquals(6, estadisticas.getNumPalabras());
+        assertEquals(compacto.getNumNodos(), estadisticas.getNumNodos());
+        assertEquals(compacto.getNumArcos(), estadisticas.getNumArcos());
+        assertEquals(compacto.getNumFinales(), estadisticas.getNumFinales());
+        assertTrue(estadisticas.getBytesHeap() > compacto.getBytesHeap());
+        assertEquals(0, estadisticas.getBytesProyectados());
+        assertEquals((double) estadisticas.getBytesHeap() / 6, estadisticas.getBytesPorPalabra(), 1e-9);
+        assertTrue(estadisticas.getNanosConstruccion() > 0);
+        assertEquals(5_000_000L, estadisticas.getNanosCarga());
+        assertEquals(5.0, estadisticas.toMap().get("msCarga").doubleValue(), 1e-9);
+        assertEquals(6, estadisticas.toMap().get("palabras").intValue());
+
+        diccionario.getGaddag();
+        assertTrue(diccionario.getEstadisticas().getBytesHeap() > estadisticas.getBytesHeap());
+
+        diccionario.setDawgCompacto(compacto);
+        assertEquals(0, diccionario.getEstadisticas().getNanosConstruccion());
+    }
+
+    /**
+     * Pre: Un diccionario con palabras y su GADDAG construido.
+     * Post: Se verifica que conCambios devuelve un diccionario nuevo y compactado con las altas y
+     * bajas aplicadas, que el original no cambia y que un hilo que consulta el original mientras
+     * se crean instantáneas siempre obtiene las mismas respuestas.
+     *
+     * Comprueba las instantáneas copy-on-write del diccionario.
+     */
+    @Test
+    public void testConCambios() throws InterruptedException {
+        diccionario.setAlphabet(lineasAlphabetValido);
+        diccionario.setDawg(List.of("AXE", "ESO", "OSA", "OSO", "SAXO", "SOSA"));
+        diccionario.getGaddag();
+
+        Diccionario nuevo = diccionario.conCambios(List.of("CHASE", "OSO"), List.of("OSA", "SEXO"));
+        assertNotSame(diccionario, nuevo);
+        assertTrue(nuevo.getDawg().isCompactado());
+        assertTrue(nuevo.contienePalabra("CHASE"));
+        assertFalse(nuevo.contienePalabra("OSA"));
+        assertTrue(nuevo.contienePalabra("OSO"));
+        assertEquals(6, nuevo.getNumPalabras());
+        assertEquals(diccionario.getAlphabet(), nuevo.getAlphabet());
+        assertTrue(nuevo.getGaddag().contiene("CHASE"));
+
+        assertFalse(diccionario.contienePalabra("CHASE"));
+        assertTrue(diccionario.contienePalabra("OSA"));
+        assertTrue(diccionario.getDawg().isCompactado());
+        assertFalse(diccionario.getGaddag().contiene("CHASE"));
+
+        // Un lector del original no ve las instantáneas que se crean mientras consulta
+        Diccionario original = diccionario;
+        int[] osa = original.codificar("OSA");
+        int[] chase = original.codificar("CHASE");
+        boolean[] inconsistente = {false};
+        Thread lector = new Thread(() -> {
+            for (int i = 0; i < 20_000; i++) {
+                if (!original.contienePalabra(osa, osa.length) || original.contienePalabra(chase, chase.length)) {
+                    inconsistente[0] = true;
+                }
+            }
+        });
+        lector.start();
+        Diccionario actual = original;
+        for (int i = 0; i < 50; i++) {
+            actual = actual.conCambios(List.of("CHASE"), List.of("OSA"))
+                    .conCambios(List.of("OSA"), List.of("CHASE"));
+        }
+        lector.join();
+        assertFalse(inconsistente[0]);
+        assertEquals(6, actual.getNumPalabras());
+
+        try {
+            diccionario.conCambios(List.of("ZETA"), List.of());
+            fail("Se esperaba IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            // esperado
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package scrabble.tests;
+
+import org.junit.Before;
+import org.junit.Test;
+import scrabble.domain.models.Diccionario;
+import scrabble.domain.models.FiltroBloom;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test unitario para la clase FiltroBloom
+ */
+public class FiltroBloomTest {
+
+    private static final String[] LETRAS = {"A", "C", "CH", "E", "L", "M", "O", "S"};
+
+    private Diccionario diccionario;
+    private Set<String> palabras;
+
+    @Before
+    public void setUp() {
+        List<String> alfabeto = new ArrayList<>();
+        for (String letra : LETRAS) {
+            alfabeto.add(letra + " 4 1");
+        }
+        Random random = new Random(42L);
+        palabras = new HashSet<>();
+        while (palabras.size() < 2000) {
+            palabras.add(palabraAleatoria(random));
+        }
+        diccionario = new Diccionario();
+        diccionario.setAlphabet(alfabeto);
+        diccionario.setDawg(new ArrayList<>(palabras));
+    }
+
+    /**
+     * Pre: Se ha construido un filtro con todas las palabras de un DAWG.
+     * Post: Se verifica que no hay falsos negativos, que la tasa de falsos positivos es la esperada
+     * para 10 bits por palabra y que las cuentas de consultas y descartes cuadran.
+     *
+     * Comprueba la construcción desde el DAWG y la selectividad del filtro.
+     */
+    @Test
+    public void testSinFalsosNegativos() {
+        FiltroBloom filtro = FiltroBloom.desde(diccionario.getDawg().getCompacto(), FiltroBloom.BITS_POR_PALABRA);
+        assertEquals(palabras.size(), filtro.getNumPalabras());
+        for (String palabra : palabras) {
+            int[] ruta = diccionario.codificar(palabra);
+            assertTrue(palabra, filtro.puedeContener(ruta, ruta.length));
+        }
+        assertEquals(palabras.size(), filtro.getConsultas());
+        assertEquals(0, filtro.getDescartes());
+
+        filtro.reiniciarContadores();
+        Random random = new Random(7L);
+        int negativas = 0;
+        int aceptadas = 0;
+        while (negativas < 10_000) {
+            String palabra = palabraAleatoria(random);
+            if (palabras.contains(palabra)) continue;
+            negativas++;
+            int[] ruta = diccionario.codificar(palabra);
+            if (filtro.puedeContener(ruta, ruta.length)) aceptadas++;
+        }
+        assertTrue("Tasa de falsos positivos: " + aceptadas / 100.0 + " %", aceptadas < 300);
+        assertEquals(negativas - aceptadas, filtro.getDescartes());
+        assertTrue(filtro.getBytesHeap() >= palabras.size() * FiltroBloom.BITS_POR_PALABRA / 8);
+
+        try {
+            FiltroBloom.desde(diccionario.getDawg().getCompacto(), 0);
+            fail("Se esperaba IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            // esperado
+        }
+    }
+
+    /**
+     * Pre: Un diccionario con el prefiltro activado.
+     * Post: Se verifica que las respuestas de contienePalabra por camino coinciden con las del
+     * DAWG, que las palabras añadidas después de construir el filtro se encuentran y que al
+     * desactivarlo se libera.
+     *
+     * Comprueba el prefiltro integrado en Diccionario.
+     */
+    @Test
+    public void testPrefiltroDiccionario() {
+        diccionario.setPrefiltro(true);
+        assertTrue(diccionario.usaPrefiltro());
+        Random random = new Random(11L);
+        for (int i = 0; i < 2000; i++) {
+            String palabra = palabraAleatoria(random);
+            int[] ruta = diccionario.codificar(palabra);
+            assertEquals(palabra, palabras.contains(palabra), diccionario.contienePalabra(ruta, ruta.length));
+        }
+        FiltroBloom filtro = diccionario.getPrefiltro();
+        assertEquals(2000, filtro.getConsultas());
+        assertTrue(filtro.getDescartes() > 0);
+
+        assertTrue(diccionario.addWord("CHOCLOSA"));
+        int[] nueva = diccionario.codificar("CHOCLOSA");
+        assertTrue(diccionario.contienePalabra(nueva, nueva.length));
+        assertSame(filtro, diccionario.getPrefiltro());
+
+        assertTrue(diccionario.removeWord("CHOCLOSA"));
+        assertFalse(diccionario.contienePalabra(nueva, nueva.length));
+
+        diccionario.setPrefiltro(false);
+        assertNull(diccionario.getPrefiltro());
+        int[] ruta = diccionario.codificar(palabras.iterator().next());
+        assertTrue(diccionario.contienePalabra(ruta, ruta.length));
+    }
+
+    private static String palabraAleatoria(Random random) {
+        StringBuilder palabra = new StringBuilder();
+        int longitud = 2 + random.nextInt(5);
+        for (int i = 0; i < longitud; i++) {
+            palabra.append(LETRAS[random.nextInt(LETRAS.length)]);
+        }
+        return palabra.toString();
+    }
+}
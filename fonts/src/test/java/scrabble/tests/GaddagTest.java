@@ -0,0 +1,135 @@
+package scrabble.tests;
+
+import org.junit.Before;
+import org.junit.Test;
+import scrabble.domain.models.DawgCompacto;
+import scrabble.domain.models.Diccionario;
+import scrabble.domain.models.Gaddag;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test unitario para la clase Gaddag
+ */
+public class GaddagTest {
+
+    private Set<String> alfabeto;
+    private List<String> palabras;
+    private Gaddag gaddag;
+
+    @Before
+    public void setUp() {
+        alfabeto = new HashSet<>(Arrays.asList("A", "C", "CH", "E", "H", "O", "S"));
+        palabras = Arrays.asList("CASA", "COSA", "CHE", "ECHO", "SACO", "HOSCA");
+        gaddag = new Gaddag(alfabeto, palabras);
+    }
+
+    /**
+     * Pre: Se ha construido un GADDAG con varias palabras.
+     * Post: Se verifica que contiene exactamente las palabras indicadas.
+     *
+     * Comprueba la pertenencia de palabras al GADDAG.
+     */
+    @Test
+    public void testContienePalabras() {
+        assertEquals(palabras.size(), gaddag.getNumPalabras());
+        for (String palabra : palabras) {
+            assertTrue("Debería contener " + palabra, gaddag.contiene(palabra));
+        }
+        assertFalse("Un prefijo no debería ser palabra", gaddag.contiene("CAS"));
+        assertFalse("Un sufijo no debería ser palabra", gaddag.contiene("OSA"));
+        assertFalse(gaddag.contiene("ZETA"));
+        assertFalse(gaddag.contiene(""));
+    }
+
+    /**
+     * Pre: Se ha construido un GADDAG con "CASA".
+     * Post: Se verifica que desde cada letra se puede leer la parte izquierda invertida y,
+     * tras el separador, el resto de la palabra hasta un nodo final.
+     *
+     * Comprueba la estructura de caminos rev(prefijo) + separador + sufijo.
+     */
+    @Test
+    public void testCaminosDesdeCadaPosicion() {
+        // "CASA" desde la S: rev("CAS") = S, A, C; separador; A
+        int nodo = recorrer("S", "A", "C");
+        assertNotEquals(DawgCompacto.SIN_NODO, nodo);
+        assertFalse("Sin separador no se completa la palabra", gaddag.esFinal(nodo));
+        nodo = gaddag.transicion(nodo, gaddag.getIdSeparador());
+        assertNotEquals(DawgCompacto.SIN_NODO, nodo);
+        assertFalse(gaddag.esFinal(nodo));
+        nodo = gaddag.transicion(nodo, gaddag.getIdSimbolo("A"));
+        assertTrue(gaddag.esFinal(nodo));
+
+        // Sin continuar hacia la izquierda hasta el inicio no hay palabra
+        nodo = gaddag.transicion(recorrer("S", "A"), gaddag.getIdSeparador());
+        assertEquals(DawgCompacto.SIN_NODO, nodo);
+    }
+
+    /**
+     * Pre: Se ha construido un GADDAG con un alfabeto que incluye "C", "H" y "CH".
+     * Post: Se verifica que "CH" se trata como un único símbolo y no como "C" seguido de "H".
+     *
+     * Comprueba el soporte de letras multicarácter.
+     */
+    @Test
+    public void testLetrasMulticaracter() {
+        // "ECHO" = E, CH, O: desde la O se lee O, CH, E
+        int nodo = recorrer("O", "CH", "E");
+        assertTrue(gaddag.esFinal(gaddag.transicion(nodo, gaddag.getIdSeparador())));
+        assertEquals(DawgCompacto.SIN_NODO, recorrer("O", "H", "C"));
+    }
+
+    /**
+     * Pre: Se ha creado un diccionario con alfabeto y palabras.
+     * Post: Se verifica que el GADDAG se construye bajo demanda, se reutiliza y se descarta
+     * al modificar las palabras del diccionario.
+     *
+     * Comprueba la integración del GADDAG con Diccionario.
+     */
+    @Test
+    public void testGaddagDelDiccionario() {
+        Diccionario diccionario = new Diccionario();
+        diccionario.setAlphabet(Arrays.asList("A 1 1", "C 1 1", "O 1 1", "S 1 1"));
+        diccionario.setDawg(Arrays.asList("CASA", "COSA"));
+
+        Gaddag indice = diccionario.getGaddag();
+        assertTrue(indice.contiene("COSA"));
+        assertSame(indice, diccionario.getGaddag());
+
+        diccionario.addWord("CASO");
+        assertNotSame(indice, diccionario.getGaddag());
+        assertTrue(diccionario.getGaddag().contiene("CASO"));
+    }
+
+    /**
+     * Pre: Se ha creado un GADDAG con un alfabeto vacío.
+     * Post: Se verifica que el alfabeto abierto registra los símbolos de las palabras.
+     *
+     * Comprueba la construcción con alfabeto abierto.
+     */
+    @Test
+    public void testAlfabetoAbierto() {
+        Gaddag abierto = new Gaddag(Collections.emptySet(), Arrays.asList("sol", "luz"));
+        assertTrue(abierto.contiene("sol"));
+        assertTrue(abierto.contiene("luz"));
+        assertFalse(abierto.contiene("sal"));
+    }
+
+    private int recorrer(String... simbolos) {
+        int nodo = DawgCompacto.RAIZ;
+        for (String simbolo : simbolos) {
+            int id = gaddag.getIdSimbolo(simbolo);
+            if (id < 0) return DawgCompacto.SIN_NODO;
+            nodo = gaddag.transicion(nodo, id);
+            if (nodo == DawgCompacto.SIN_NODO) return DawgCompacto.SIN_NODO;
+        }
+        return nodo;
+    }
+}
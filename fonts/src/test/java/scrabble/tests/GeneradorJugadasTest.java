@@ -0,0 +1,467 @@
+package scrabble.tests;
+
+import org.junit.Test;
+import scrabble.domain.models.DawgCompacto;
+import scrabble.domain.models.Diccionario;
+import scrabble.domain.models.GeneradorJugadas;
+import scrabble.domain.models.Tablero;
+import scrabble.helpers.Direction;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test unitario para la clase GeneradorJugadas
+ */
+public class GeneradorJugadasTest {
+
+    private static final int N = 7;
+
+    /**
+     * Pre: Se ha construido un diccionario aleatorio con letras multicarácter y un tablero con fichas sueltas.
+     * Post: Se verifica que las jugadas generadas coinciden con una búsqueda por fuerza bruta en ambas
+     * direcciones, con y sin comodines, también repartiendo las filas de anclajes entre varias búsquedas.
+     *
+     * Comprueba el camino de máscaras de bits (alfabeto de hasta 64 símbolos).
+     */
+    @Test
+    public void testCoincideConFuerzaBruta() {
+        comprobar(new String[] {"A", "C", "CH", "E", "L", "O", "S"}, 11L);
+    }
+
+    /**
+     * Pre: Se ha construido un diccionario con un alfabeto de más de 64 símbolos.
+     * Post: Se verifica que las jugadas generadas coinciden con una búsqueda por fuerza bruta.
+     *
+     * Comprueba el camino que recorre los arcos con verificaciones cruzadas de varios longs por casilla.
+     */
+    @Test
+    public void testAlfabetoGrande() {
+        List<String> letras = new ArrayList<>();
+        for (char c = 'A'; c <= 'Z'; c++) {
+            letras.add(String.valueOf(c));
+            letras.add(c + "0");
+            letras.add(c + "1");
+        }
+        comprobar(letras.toArray(new String[0]), 23L);
+    }
+
+    /**
+     * Pre: Se ha construido un diccionario aleatorio, un tablero con fichas sueltas y multiplicadores
+     * de letra y de palabra al azar.
+     * Post: Se verifica que la búsqueda con poda, subiendo el umbral a la mejor puntuación encontrada,
+     * entrega todas las jugadas de puntuación máxima que da la búsqueda completa y descarta ramas.
+     *
+     * Comprueba que la cota superior de la poda es admisible, con y sin comodines.
+     */
+    @Test
+    public void testPodaConservaMejores() {
+        String[] letras = {"A", "C", "CH", "E", "L", "O", "S"};
+        Random random = new Random(31L);
+        List<String> alfabeto = new ArrayList<>();
+        for (String letra : letras) {
+            alfabeto.add(letra + " 4 1");
+        }
+        Set<String> palabras = new HashSet<>();
+        while (palabras.size() < 400) {
+            StringBuilder palabra = new StringBuilder();
+            int longitud = 2 + random.nextInt(4);
+            for (int i = 0; i < longitud; i++) {
+                palabra.append(letras[random.nextInt(letras.length)]);
+            }
+            palabras.add(palabra.toString());
+        }
+        Diccionario diccionario = new Diccionario();
+        diccionario.setAlphabet(alfabeto);
+        diccionario.setDawg(new ArrayList<>(palabras));
+        DawgCompacto dawg = diccionario.getDawg().compactar();
+        int[] valores = new int[dawg.getNumSimbolos()];
+        for (int s = 0; s < valores.length; s++) {
+            valores[s] = 1 + random.nextInt(10);
+        }
+        int[] letra = new int[N * N];
+        int[] palabra = new int[N * N];
+        for (int idx = 0; idx < N * N; idx++) {
+            letra[idx] = 1 + (random.nextInt(4) == 0 ? 1 + random.nextInt(2) : 0);
+            palabra[idx] = 1 + (random.nextInt(6) == 0 ? 1 + random.nextInt(2) : 0);
+        }
+
+        GeneradorJugadas generador = new GeneradorJugadas(dawg, N);
+        for (int prueba = 0; prueba < 6; prueba++) {
+            int[] casillas = new int[N * N];
+            Arrays.fill(casillas, GeneradorJugadas.VACIA);
+            for (int k = 0; k < 8; k++) {
+                casillas[random.nextInt(N * N)] = random.nextInt(dawg.getNumSimbolos());
+            }
+            long[] bitsAnclas = new long[N * Tablero.getPalabrasFila(N)];
+            for (int idx = 0; idx < N * N; idx++) {
+                if (casillas[idx] == GeneradorJugadas.VACIA && tieneVecina(casillas, idx / N, idx % N)) {
+                    bitsAnclas[idx / N] |= 1L << (idx % N);
+                }
+            }
+            int[] cuentas = new int[dawg.getNumSimbolos()];
+            for (int k = 0; k < 7; k++) {
+                cuentas[random.nextInt(cuentas.length)]++;
+            }
+            int comodines = prueba % 2;
+
+            for (Direction dir : Direction.values()) {
+                long[] cruces = cruces(diccionario, casillas, dir, dawg.getNumSimbolos());
+                Set<String> mejores = new HashSet<>();
+                int[] maximo = {-1};
+                generador.preparar(casillas, cruces, dir, cuentas, comodines, (simbolos, longitud, fila, columna) -> {
+                    int p = puntuar(simbolos, longitud, fila, columna, dir, casillas, valores, letra, palabra);
+                    if (p > maximo[0]) {
+                        maximo[0] = p;
+                        mejores.clear();
+                    }
+                    if (p == maximo[0]) mejores.add(clave(simbolos, longitud, fila, columna));
+                });
+                generador.buscar(bitsAnclas);
+
+                Set<String> conPoda = new HashSet<>();
+                int[] umbral = {0};
+                generador.preparar(casillas, cruces, dir, cuentas, comodines, (simbolos, longitud, fila, columna) -> {
+                    int p = puntuar(simbolos, longitud, fila, columna, dir, casillas, valores, letra, palabra);
+                    if (p > umbral[0]) {
+                        umbral[0] = p;
+                        conPoda.clear();
+                        generador.setUmbral(p);
+                    }
+                    if (p == umbral[0]) conPoda.add(clave(simbolos, longitud, fila, columna));
+                });
+                generador.activarPoda(valores, letra, palabra, 0);
+                generador.buscar(bitsAnclas);
+                if (maximo[0] >= 0) {
+                    assertEquals("Prueba " + prueba + " " + dir, maximo[0], umbral[0]);
+                }
+                assertEquals("Prueba " + prueba + " " + dir, mejores, conPoda);
+            }
+        }
+        assertTrue(generador.getPodados() > 0);
+    }
+
+    /**
+     * Pre: Se ha construido un diccionario aleatorio, un tablero con fichas sueltas, multiplicadores al
+     * azar y atriles con dos comodines.
+     * Post: Se verifica que cada jugada se genera una sola vez aunque los comodines puedan sustituir a
+     * fichas del atril, que coincide con la búsqueda por fuerza bruta y que la poda con el valor de los
+     * comodines conserva todas las jugadas de puntuación máxima cuando los comodines no puntúan.
+     *
+     * Comprueba que se prueban las fichas reales antes que los comodines y que la cota que da a cada
+     * comodín el valor de su símbolo solo si quedan fichas de ese símbolo sigue siendo admisible.
+     */
+    @Test
+    public void testComodinesSinDuplicados() {
+        String[] letras = {"A", "C", "CH", "E", "L", "O", "S"};
+        Random random = new Random(47L);
+        List<String> alfabeto = new ArrayList<>();
+        for (String letra : letras) {
+            alfabeto.add(letra + " 4 1");
+        }
+        Set<String> palabras = new HashSet<>();
+        while (palabras.size() < 400) {
+            StringBuilder palabra = new StringBuilder();
+            int longitud = 2 + random.nextInt(4);
+            for (int i = 0; i < longitud; i++) {
+                palabra.append(letras[random.nextInt(letras.length)]);
+            }
+            palabras.add(palabra.toString());
+        }
+        Diccionario diccionario = new Diccionario();
+        diccionario.setAlphabet(alfabeto);
+        diccionario.setDawg(new ArrayList<>(palabras));
+        DawgCompacto dawg = diccionario.getDawg().compactar();
+        List<int[]> rutas = new ArrayList<>();
+        for (String palabra : palabras) {
+            rutas.add(diccionario.codificar(palabra));
+        }
+        int[] valores = new int[dawg.getNumSimbolos()];
+        for (int s = 0; s < valores.length; s++) {
+            valores[s] = 1 + random.nextInt(10);
+        }
+        int[] letra = new int[N * N];
+        int[] palabra = new int[N * N];
+        for (int idx = 0; idx < N * N; idx++) {
+            letra[idx] = 1 + (random.nextInt(4) == 0 ? 1 + random.nextInt(2) : 0);
+            palabra[idx] = 1 + (random.nextInt(6) == 0 ? 1 + random.nextInt(2) : 0);
+        }
+
+        GeneradorJugadas generador = new GeneradorJugadas(dawg, N);
+        for (int prueba = 0; prueba < 24; prueba++) {
+            int[] casillas = new int[N * N];
+            Arrays.fill(casillas, GeneradorJugadas.VACIA);
+            for (int k = 0; k < 8; k++) {
+                casillas[random.nextInt(N * N)] = random.nextInt(dawg.getNumSimbolos());
+            }
+            boolean[] anclas = new boolean[N * N];
+            long[] bitsAnclas = new long[N * Tablero.getPalabrasFila(N)];
+            for (int idx = 0; idx < N * N; idx++) {
+                anclas[idx] = casillas[idx] == GeneradorJugadas.VACIA && tieneVecina(casillas, idx / N, idx % N);
+                if (anclas[idx]) bitsAnclas[idx / N] |= 1L << (idx % N);
+            }
+            int[] cuentas = new int[dawg.getNumSimbolos()];
+            for (int k = 0; k < 5; k++) {
+                cuentas[random.nextInt(cuentas.length)]++;
+            }
+            int comodines = 2;
+            int[] valoresComodin = new int[valores.length];
+            for (int s = 0; s < valores.length; s++) {
+                valoresComodin[s] = cuentas[s] > 0 ? valores[s] : 0;
+            }
+
+            for (Direction dir : Direction.values()) {
+                long[] cruces = cruces(diccionario, casillas, dir, dawg.getNumSimbolos());
+                Set<String> generadas = new HashSet<>();
+                Set<String> mejores = new HashSet<>();
+                int[] maximo = {-1};
+                generador.preparar(casillas, cruces, dir, cuentas, comodines, (simbolos, longitud, fila, columna) -> {
+                    assertTrue(generadas.add(clave(simbolos, longitud, fila, columna)));
+                    int p = puntuarConComodines(simbolos, longitud, fila, columna, dir, casillas, cuentas, valores, letra, palabra);
+                    if (p > maximo[0]) {
+                        maximo[0] = p;
+                        mejores.clear();
+                    }
+                    if (p == maximo[0]) mejores.add(clave(simbolos, longitud, fila, columna));
+                });
+                generador.buscar(bitsAnclas);
+                assertEquals("Prueba " + prueba + " " + dir, fuerzaBruta(rutas, casillas, cruces, anclas, cuentas, comodines,
+                        dir, GeneradorJugadas.getPalabrasCruce(dawg.getNumSimbolos())), generadas);
+
+                Set<String> conPoda = new HashSet<>();
+                int[] umbral = {0};
+                generador.preparar(casillas, cruces, dir, cuentas, comodines, (simbolos, longitud, fila, columna) -> {
+                    int p = puntuarConComodines(simbolos, longitud, fila, columna, dir, casillas, cuentas, valores, letra, palabra);
+                    if (p > umbral[0]) {
+                        umbral[0] = p;
+                        conPoda.clear();
+                        generador.setUmbral(p);
+                    }
+                    if (p == umbral[0]) conPoda.add(clave(simbolos, longitud, fila, columna));
+                });
+                generador.activarPoda(valores, valoresComodin, letra, palabra, 0);
+                generador.buscar(bitsAnclas);
+                if (maximo[0] > 0) {
+                    assertEquals("Prueba " + prueba + " " + dir, maximo[0], umbral[0]);
+                    assertEquals("Prueba " + prueba + " " + dir, mejores, conPoda);
+                }
+            }
+        }
+        assertTrue(generador.getPodados() > 0);
+    }
+
+    // Puntuación de una jugada: fichas nuevas con multiplicador de letra, multiplicadas por los de palabra
+    private static int puntuar(int[] simbolos, int longitud, int fila, int columna, Direction dir, int[] casillas,
+                               int[] valores, int[] letra, int[] palabra) {
+        int paso = dir == Direction.HORIZONTAL ? 1 : N;
+        int suma = 0;
+        int factor = 1;
+        for (int j = 0, idx = fila * N + columna - (longitud - 1) * paso; j < longitud; j++, idx += paso) {
+            if (casillas[idx] == GeneradorJugadas.VACIA) {
+                suma += valores[simbolos[j]] * letra[idx];
+                factor *= palabra[idx];
+            } else {
+                suma += valores[simbolos[j]];
+            }
+        }
+        return suma * factor;
+    }
+
+    // Puntuación con comodines: cada símbolo usa las fichas del atril que queden y los comodines, que no
+    // puntúan, van a las casillas de menor multiplicador de letra
+    private static int puntuarConComodines(int[] simbolos, int longitud, int fila, int columna, Direction dir,
+                                           int[] casillas, int[] cuentas, int[] valores, int[] letra, int[] palabra) {
+        int paso = dir == Direction.HORIZONTAL ? 1 : N;
+        int inicio = fila * N + columna - (longitud - 1) * paso;
+        int suma = 0;
+        int factor = 1;
+        List<Integer> nuevas = new ArrayList<>();
+        for (int j = 0, idx = inicio; j < longitud; j++, idx += paso) {
+            if (casillas[idx] == GeneradorJugadas.VACIA) {
+                nuevas.add(idx);
+                factor *= palabra[idx];
+            } else {
+                suma += valores[simbolos[j]];
+            }
+        }
+        for (int s = 0; s < valores.length; s++) {
+            List<Integer> deSimbolo = new ArrayList<>();
+            for (int idx : nuevas) {
+                if (simbolos[(idx - inicio) / paso] == s) deSimbolo.add(letra[idx]);
+            }
+            deSimbolo.sort(null);
+            for (int k = 0; k < deSimbolo.size(); k++) {
+                if (deSimbolo.size() - k <= cuentas[s]) suma += valores[s] * deSimbolo.get(k);
+            }
+        }
+        return suma * factor;
+    }
+
+    private void comprobar(String[] letras, long semilla) {
+        Random random = new Random(semilla);
+        // Pocas letras distintas en las palabras para que haya jugadas que se crucen
+        int usadas = Math.min(letras.length, 7);
+        List<String> alfabeto = new ArrayList<>();
+        for (String letra : letras) {
+            alfabeto.add(letra + " 4 1");
+        }
+        Set<String> palabras = new HashSet<>();
+        while (palabras.size() < 400) {
+            StringBuilder palabra = new StringBuilder();
+            int longitud = 2 + random.nextInt(4);
+            for (int i = 0; i < longitud; i++) {
+                palabra.append(letras[random.nextInt(usadas)]);
+            }
+            palabras.add(palabra.toString());
+        }
+        Diccionario diccionario = new Diccionario();
+        diccionario.setAlphabet(alfabeto);
+        diccionario.setDawg(new ArrayList<>(palabras));
+        DawgCompacto dawg = diccionario.getDawg().compactar();
+        assertEquals(letras.length <= 64, dawg.admiteMascaras());
+        List<int[]> rutas = new ArrayList<>();
+        for (String palabra : palabras) {
+            rutas.add(diccionario.codificar(palabra));
+        }
+
+        GeneradorJugadas generador = new GeneradorJugadas(dawg, N);
+        int total = 0;
+        for (int prueba = 0; prueba < 6; prueba++) {
+            int[] casillas = new int[N * N];
+            Arrays.fill(casillas, GeneradorJugadas.VACIA);
+            for (int k = 0; k < 8; k++) {
+                casillas[random.nextInt(N * N)] = random.nextInt(usadas);
+            }
+            if (prueba == 5) {
+                casillas[random.nextInt(N * N)] = GeneradorJugadas.BLOQUEADA;
+            }
+            boolean[] anclas = new boolean[N * N];
+            long[] bitsAnclas = new long[N * Tablero.getPalabrasFila(N)];
+            for (int idx = 0; idx < N * N; idx++) {
+                anclas[idx] = casillas[idx] == GeneradorJugadas.VACIA && tieneVecina(casillas, idx / N, idx % N);
+                if (anclas[idx]) bitsAnclas[idx / N] |= 1L << (idx % N);
+            }
+            int[] cuentas = new int[dawg.getNumSimbolos()];
+            for (int k = 0; k < 7; k++) {
+                cuentas[random.nextInt(usadas)]++;
+            }
+            int comodines = prueba % 3 == 0 ? 1 : 0;
+
+            for (Direction dir : Direction.values()) {
+                long[] cruces = cruces(diccionario, casillas, dir, dawg.getNumSimbolos());
+                Set<String> generadas = new HashSet<>();
+                generador.preparar(casillas, cruces, dir, cuentas, comodines, (simbolos, longitud, fila, columna) ->
+                        generadas.add(clave(simbolos, longitud, fila, columna)));
+                generador.buscar(bitsAnclas);
+
+                Set<String> esperadas = fuerzaBruta(rutas, casillas, cruces, anclas, cuentas, comodines, dir,
+                        GeneradorJugadas.getPalabrasCruce(dawg.getNumSimbolos()));
+                assertEquals("Prueba " + prueba + " " + dir, esperadas, generadas);
+                total += esperadas.size();
+
+                // Repartiendo las filas de anclajes entre varias búsquedas salen las mismas jugadas
+                Set<String> porFilas = new HashSet<>();
+                generador.preparar(casillas, cruces, dir, cuentas, comodines, (simbolos, longitud, fila, columna) ->
+                        assertTrue(porFilas.add(clave(simbolos, longitud, fila, columna))));
+                for (int fila = 0; fila < N; fila += 3) {
+                    generador.buscar(bitsAnclas, fila, Math.min(N, fila + 3));
+                }
+                assertEquals("Prueba " + prueba + " " + dir + " por filas", esperadas, porFilas);
+            }
+        }
+        assertTrue("Jugadas: " + total, total > 50);
+        assertTrue(generador.getNodosVisitados() > 0);
+    }
+
+    private static boolean tieneVecina(int[] casillas, int fila, int columna) {
+        return (fila > 0 && casillas[(fila - 1) * N + columna] != GeneradorJugadas.VACIA)
+                || (fila < N - 1 && casillas[(fila + 1) * N + columna] != GeneradorJugadas.VACIA)
+                || (columna > 0 && casillas[fila * N + columna - 1] != GeneradorJugadas.VACIA)
+                || (columna < N - 1 && casillas[fila * N + columna + 1] != GeneradorJugadas.VACIA);
+    }
+
+    // Índice de la casilla k de una línea en una dirección
+    private static int indice(Direction dir, int linea, int k) {
+        return dir == Direction.HORIZONTAL ? linea * N + k : k * N + linea;
+    }
+
+    private static long[] cruces(Diccionario diccionario, int[] casillas, Direction dir, int numSimbolos) {
+        int palabras = GeneradorJugadas.getPalabrasCruce(numSimbolos);
+        Direction perpendicular = dir == Direction.HORIZONTAL ? Direction.VERTICAL : Direction.HORIZONTAL;
+        long[] bits = new long[N * N * palabras];
+        for (int idx = 0; idx < N * N; idx++) {
+            if (casillas[idx] != GeneradorJugadas.VACIA) continue;
+            int linea = perpendicular == Direction.HORIZONTAL ? idx / N : idx % N;
+            int k = perpendicular == Direction.HORIZONTAL ? idx % N : idx / N;
+            int inicio = k;
+            while (inicio > 0 && casillas[indice(perpendicular, linea, inicio - 1)] != GeneradorJugadas.VACIA) inicio--;
+            int fin = k;
+            while (fin < N - 1 && casillas[indice(perpendicular, linea, fin + 1)] != GeneradorJugadas.VACIA) fin++;
+            for (int s = 0; s < numSimbolos; s++) {
+                boolean valida = inicio == fin;
+                if (!valida) {
+                    int[] ruta = new int[fin - inicio + 1];
+                    boolean conocida = true;
+                    for (int j = inicio; j <= fin; j++) {
+                        ruta[j - inicio] = j == k ? s : casillas[indice(perpendicular, linea, j)];
+                        conocida &= ruta[j - inicio] >= 0;
+                    }
+                    valida = conocida && diccionario.contienePalabra(ruta, ruta.length);
+                }
+                if (valida) bits[idx * palabras + (s >>> 6)] |= 1L << s;
+            }
+        }
+        return bits;
+    }
+
+    private static Set<String> fuerzaBruta(List<int[]> rutas, int[] casillas, long[] cruces, boolean[] anclas,
+                                           int[] cuentas, int comodines, Direction dir, int palabrasCruce) {
+        Set<String> jugadas = new HashSet<>();
+        for (int[] ruta : rutas) {
+            for (int linea = 0; linea < N; linea++) {
+                for (int inicio = 0; inicio + ruta.length <= N; inicio++) {
+                    int fin = inicio + ruta.length - 1;
+                    if (inicio > 0 && casillas[indice(dir, linea, inicio - 1)] != GeneradorJugadas.VACIA) continue;
+                    if (fin < N - 1 && casillas[indice(dir, linea, fin + 1)] != GeneradorJugadas.VACIA) continue;
+                    int[] necesarias = new int[cuentas.length];
+                    boolean valida = true;
+                    boolean cubreAncla = false;
+                    for (int j = 0; j < ruta.length && valida; j++) {
+                        int idx = indice(dir, linea, inicio + j);
+                        int s = ruta[j];
+                        if (casillas[idx] != GeneradorJugadas.VACIA) {
+                            valida = casillas[idx] == s;
+                        } else {
+                            valida = (cruces[idx * palabrasCruce + (s >>> 6)] & (1L << s)) != 0;
+                            necesarias[s]++;
+                            cubreAncla |= anclas[idx];
+                        }
+                    }
+                    int faltan = 0;
+                    for (int s = 0; s < cuentas.length; s++) {
+                        faltan += Math.max(0, necesarias[s] - cuentas[s]);
+                    }
+                    if (valida && cubreAncla && faltan <= comodines) {
+                        int ultima = indice(dir, linea, fin);
+                        jugadas.add(clave(ruta, ruta.length, ultima / N, ultima % N));
+                    }
+                }
+            }
+        }
+        return jugadas;
+    }
+
+    private static String clave(int[] simbolos, int longitud, int fila, int columna) {
+        StringBuilder clave = new StringBuilder();
+        for (int i = 0; i < longitud; i++) {
+            clave.append(simbolos[i]).append('.');
+        }
+        return clave.append('@').append(fila).append(',').append(columna).toString();
+    }
+}
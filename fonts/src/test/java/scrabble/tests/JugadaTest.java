@@ -0,0 +1,150 @@
+package scrabble.tests;
+
+import org.junit.Test;
+import scrabble.helpers.Direction;
+import scrabble.helpers.Jugada;
+import scrabble.helpers.Triple;
+import scrabble.helpers.Tuple;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test unitario para la clase Jugada
+ */
+public class JugadaTest {
+
+    /**
+     * Pre: Se crea una jugada con una posición, una dirección y sus máscaras.
+     * Post: Se verifica que los getters devuelven los valores del constructor, también con
+     * filas y columnas negativas o grandes que comparten el long de la posición.
+     *
+     * Comprueba el empaquetado de la posición.
+     */
+    @Test
+    public void testGetters() {
+        Jugada jugada = new Jugada("CASA", 7, 10, Direction.HORIZONTAL, 0b1011L, 0b0010L);
+        assertEquals("CASA", jugada.getPalabra());
+        assertEquals(7, jugada.getFila());
+        assertEquals(10, jugada.getColumna());
+        assertEquals(Direction.HORIZONTAL, jugada.getDireccion());
+        assertEquals(0b1011L, jugada.getColocadas());
+        assertEquals(0b0010L, jugada.getComodines());
+        assertEquals(3, jugada.getNumColocadas());
+
+        Jugada extremos = new Jugada("AS", -1, Integer.MAX_VALUE, Direction.VERTICAL, 0b11L);
+        assertEquals(-1, extremos.getFila());
+        assertEquals(Integer.MAX_VALUE, extremos.getColumna());
+        assertEquals(0L, extremos.getComodines());
+    }
+
+    /**
+     * Pre: Se crea una jugada con fichas colocadas en algunas casillas y un comodín.
+     * Post: Se verifica que colocaEn y comodinEn leen el bit de cada casilla, contando desde la
+     * última, y que las casillas más allá de la máscara no se colocan.
+     *
+     * Comprueba las máscaras de casillas colocadas y de comodines.
+     */
+    @Test
+    public void testMascaras() {
+        Jugada jugada = new Jugada("COSA", 7, 7, Direction.VERTICAL, 0b1101L, 0b0100L);
+        assertTrue(jugada.colocaEn(0));
+        assertFalse(jugada.colocaEn(1));
+        assertTrue(jugada.colocaEn(2));
+        assertTrue(jugada.colocaEn(3));
+        assertFalse(jugada.comodinEn(0));
+        assertTrue(jugada.comodinEn(2));
+        assertFalse(jugada.colocaEn(Jugada.MAX_CASILLAS));
+        assertFalse(jugada.comodinEn(Jugada.MAX_CASILLAS));
+
+        Jugada ultima = new Jugada("A", 0, 0, Direction.HORIZONTAL, Long.MIN_VALUE, Long.MIN_VALUE);
+        assertTrue(ultima.colocaEn(Jugada.MAX_CASILLAS - 1));
+        assertTrue(ultima.comodinEn(Jugada.MAX_CASILLAS - 1));
+        assertEquals(1, ultima.getNumColocadas());
+    }
+
+    /**
+     * Pre: Se crean jugadas iguales y jugadas que difieren en un solo campo.
+     * Post: Se verifica que las iguales son equals con el mismo hashCode y que cualquier campo,
+     * también la máscara de comodines, las distingue.
+     *
+     * Comprueba equals y hashCode.
+     */
+    @Test
+    public void testEqualsHashCode() {
+        Jugada jugada = new Jugada("CASA", 7, 10, Direction.HORIZONTAL, 0b1011L, 0b0010L);
+        Jugada igual = new Jugada(new String("CASA"), 7, 10, Direction.HORIZONTAL, 0b1011L, 0b0010L);
+        assertEquals(jugada, igual);
+        assertEquals(jugada.hashCode(), igual.hashCode());
+        assertEquals(jugada, jugada);
+        assertNotEquals(jugada, null);
+        assertNotEquals(jugada, jugada.toTriple());
+
+        assertNotEquals(jugada, new Jugada("COSA", 7, 10, Direction.HORIZONTAL, 0b1011L, 0b0010L));
+        assertNotEquals(jugada, new Jugada("CASA", 8, 10, Direction.HORIZONTAL, 0b1011L, 0b0010L));
+        assertNotEquals(jugada, new Jugada("CASA", 7, 11, Direction.HORIZONTAL, 0b1011L, 0b0010L));
+        assertNotEquals(jugada, new Jugada("CASA", 10, 7, Direction.HORIZONTAL, 0b1011L, 0b0010L));
+        assertNotEquals(jugada, new Jugada("CASA", 7, 10, Direction.VERTICAL, 0b1011L, 0b0010L));
+        assertNotEquals(jugada, new Jugada("CASA", 7, 10, Direction.HORIZONTAL, 0b1111L, 0b0010L));
+        assertNotEquals(jugada, new Jugada("CASA", 7, 10, Direction.HORIZONTAL, 0b1011L, 0b0001L));
+        assertNotEquals(jugada, new Jugada("CASA", 7, 10, Direction.HORIZONTAL, 0b1011L));
+
+        Set<Jugada> conjunto = new HashSet<>();
+        conjunto.add(jugada);
+        conjunto.add(igual);
+        conjunto.add(new Jugada("CASA", 7, 10, Direction.HORIZONTAL, 0b1011L));
+        assertEquals(2, conjunto.size());
+    }
+
+    /**
+     * Pre: Se crea una jugada con comodines.
+     * Post: Se verifica que la tripleta tiene la palabra, la posición de la última ficha y la
+     * dirección, y que una jugada creada a partir de ella con las mismas máscaras es igual.
+     *
+     * Comprueba la conversión a tripleta y de vuelta.
+     */
+    @Test
+    public void testToTriple() {
+        Jugada jugada = new Jugada("SACO", 3, 12, Direction.VERTICAL, 0b0111L, 0b0001L);
+        Triple<String, Tuple<Integer, Integer>, Direction> tripleta = jugada.toTriple();
+        assertEquals("SACO", tripleta.x);
+        assertEquals(Integer.valueOf(3), tripleta.y.x);
+        assertEquals(Integer.valueOf(12), tripleta.y.y);
+        assertEquals(Direction.VERTICAL, tripleta.z);
+
+        Jugada vuelta = new Jugada(tripleta.x, tripleta.y.x, tripleta.y.y, tripleta.z, jugada.getColocadas(), jugada.getComodines());
+        assertEquals(jugada, vuelta);
+        assertEquals(jugada.hashCode(), vuelta.hashCode());
+    }
+
+    /**
+     * Pre: Ninguna.
+     * Post: Se verifica que el constructor rechaza una palabra o dirección null y comodines en
+     * casillas que no se colocan.
+     *
+     * Comprueba la validación del constructor.
+     */
+    @Test
+    public void testValidacion() {
+        try {
+            new Jugada(null, 0, 0, Direction.HORIZONTAL, 1L);
+            fail("Se esperaba NullPointerException");
+        } catch (NullPointerException e) {
+            // esperado
+        }
+        try {
+            new Jugada("A", 0, 0, null, 1L);
+            fail("Se esperaba NullPointerException");
+        } catch (NullPointerException e) {
+            // esperado
+        }
+        try {
+            new Jugada("AS", 0, 0, Direction.HORIZONTAL, 0b01L, 0b10L);
+            fail("Se esperaba IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            // esperado
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package scrabble.tests;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import scrabble.domain.models.Diccionario;
+import scrabble.domain.persistences.implementaciones.RepositorioDiccionarioImpl;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test unitario para la clase RepositorioDiccionarioImpl
+ */
+public class RepositorioDiccionarioImplTest {
+
+    private RepositorioDiccionarioImpl repositorio;
+    private String nombre;
+    private Path directorio;
+
+    @Before
+    public void setUp() throws IOException {
+        repositorio = new RepositorioDiccionarioImpl();
+        nombre = "test-repositorio-" + System.nanoTime();
+        directorio = Files.createTempDirectory("repositorio-diccionario");
+        Files.write(directorio.resolve("alpha.txt"), Arrays.asList("A 9 1", "C 4 3", "O 8 1", "S 6 1", "# 2 0"), StandardCharsets.UTF_8);
+        Files.write(directorio.resolve("words.txt"), Arrays.asList("CASA", "CASO", "COSA", "OCA"), StandardCharsets.UTF_8);
+        Map<String, String> indice = repositorio.cargarIndice();
+        indice.put(nombre, directorio.toString());
+        assertTrue(repositorio.guardarIndice(indice));
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        directorio.toFile().setWritable(true);
+        Map<String, String> indice = repositorio.cargarIndice();
+        indice.remove(nombre);
+        repositorio.guardarIndice(indice);
+        List<Path> rutas;
+        try (Stream<Path> recorrido = Files.walk(directorio)) {
+            rutas = recorrido.sorted(Comparator.reverseOrder()).toList();
+        }
+        for (Path ruta : rutas) {
+            Files.delete(ruta);
+        }
+    }
+
+    /**
+     * Pre: Se ha registrado un diccionario sin DAWG binario en un directorio de solo lectura.
+     * Post: Se verifica que la carga reconstruye el diccionario desde words.txt y lo devuelve
+     * aunque no pueda escribir el binario, y que no deja ficheros en el directorio.
+     *
+     * Comprueba la carga de un diccionario cuyo binario no se puede regenerar.
+     */
+    @Test
+    public void testCargarEnDirectorioSoloLectura() throws IOException {
+        // Como root los permisos no impiden escribir: se ocupa además el nombre del fichero temporal
+        Files.createDirectory(directorio.resolve("words.1.dawg.tmp"));
+        assertTrue(directorio.toFile().setWritable(false));
+
+        Diccionario diccionario = repositorio.cargar(nombre);
+        assertNotNull("El diccionario debería cargarse aunque no se pueda escribir el binario", diccionario);
+        assertTrue(diccionario.contienePalabra("CASA"));
+        assertTrue(diccionario.contienePalabra("OCA"));
+        assertFalse(diccionario.contienePalabra("SACO"));
+        assertEquals(0, binarios().size());
+
+        // Con el directorio escribible, la siguiente carga regenera el binario
+        assertTrue(directorio.toFile().setWritable(true));
+        Files.deleteIfExists(directorio.resolve("words.1.dawg.tmp"));
+        assertTrue(repositorio.cargar(nombre).contienePalabra("COSA"));
+        assertEquals(1, binarios().size());
+    }
+
+    /**
+     * Pre: Se ha cargado un diccionario, que escribe su DAWG binario, y se corrompe el final del binario.
+     * Post: Se verifica que la carga detecta la corrupción por el CRC del DAWG, reconstruye el
+     * diccionario desde words.txt y escribe una generación nueva del binario.
+     *
+     * Comprueba el CRC del contenido del DAWG binario.
+     */
+    @Test
+    public void testBinarioCorrupto() throws IOException {
+        assertNotNull(repositorio.cargar(nombre));
+        Path binario = directorio.resolve("words.1.dawg");
+        assertEquals(Arrays.asList(binario), binarios());
+
+        try (FileChannel canal = FileChannel.open(binario, StandardOpenOption.WRITE)) {
+            canal.write(ByteBuffer.wrap(new byte[] {0x7f, 0x7f, 0x7f, 0x7f}), canal.size() - 4);
+        }
+        Diccionario diccionario = repositorio.cargar(nombre);
+        assertTrue(diccionario.contienePalabra("CASO"));
+        assertEquals(4, diccionario.getDawg().getAllWords().size());
+        assertEquals(Arrays.asList(directorio.resolve("words.2.dawg")), binarios());
+    }
+
+    /**
+     * Pre: Se ha cargado un diccionario, que escribe su DAWG binario.
+     * Post: Se verifica que, si words.txt solo cambia de fecha, se sigue usando el binario, y que
+     * si cambia de contenido conservando el tamaño se reconstruye el diccionario.
+     *
+     * Comprueba la huella de words.txt por tamaño, fecha y CRC.
+     */
+    @Test
+    public void testHuellaPorFecha() throws IOException {
+        assertNotNull(repositorio.cargar(nombre));
+        Path palabras = directorio.resolve("words.txt");
+        FileTime fecha = Files.getLastModifiedTime(palabras);
+
+        Files.setLastModifiedTime(palabras, FileTime.fromMillis(fecha.toMillis() + 60_000));
+        assertTrue(repositorio.cargar(nombre).contienePalabra("CASA"));
+        assertEquals(Arrays.asList(directorio.resolve("words.1.dawg")), binarios());
+
+        // Mismo tamaño: CASO pasa a SACO
+        Files.write(palabras, Arrays.asList("CASA", "COSA", "OCA", "SACO"), StandardCharsets.UTF_8);
+        Files.setLastModifiedTime(palabras, FileTime.fromMillis(fecha.toMillis() + 120_000));
+        Diccionario diccionario = repositorio.cargar(nombre);
+        assertTrue(diccionario.contienePalabra("SACO"));
+        assertFalse(diccionario.contienePalabra("CASO"));
+        assertEquals(Arrays.asList(directorio.resolve("words.2.dawg")), binarios());
+    }
+
+    private List<Path> binarios() throws IOException {
+        List<Path> binarios = new ArrayList<>();
+        try (DirectoryStream<Path> ficheros = Files.newDirectoryStream(directorio, "*.dawg")) {
+            for (Path fichero : ficheros) {
+                binarios.add(fichero);
+            }
+        }
+        return binarios;
+    }
+}
@@ -3,11 +3,13 @@ package scrabble.tests;
 import org.junit.Before;
 import org.junit.Test;
 // No se necesita Mockito
-import scrabble.domain.controllers.subcontrollers.ControladorJuego.Direction;
 import scrabble.domain.models.Tablero;
-import scrabble.domain.models.Tablero.Bonus;
+import scrabble.helpers.Bonus;
+import scrabble.helpers.Direction;
 import scrabble.helpers.Tuple;
 
+import java.util.Random;
+
 import static org.junit.Assert.*;
 
 /**
@@ -343,6 +345,79 @@ public class TableroTest {
                    puntos3 > puntos1); // Compara MAS con CASA, diferente longitud/letras, pero verifica que TL > N
     }
 
+    /**
+     * Pre: Se ha creado una instancia de Tablero y se colocan y quitan letras.
+     * Post: Se verifica que los anclajes mantenidos en cada setTile coinciden con los de un tablero
+     * copiado, que los calcula desde cero, y con la definición (casilla vacía con una vecina ocupada).
+     *
+     * Comprueba el mantenimiento incremental de los anclajes, también con más de 64 columnas.
+     */
+    @Test
+    public void testAnclasIncrementales() {
+        assertEquals(0, tablero.getAnclas()[7]);
+        tablero.setTile(new Tuple<>(7, 7), "C");
+        assertTrue(tablero.isAnchor(7, 6));
+        assertTrue(tablero.isAnchor(6, 7));
+        assertFalse(tablero.isAnchor(7, 7));
+        assertFalse(tablero.isAnchor(6, 6));
+
+        Tablero grande = new Tablero(70);
+        grande.getAnclas();
+        Random random = new Random(3L);
+        for (int k = 0; k < 300; k++) {
+            Tuple<Integer, Integer> pos = new Tuple<>(random.nextInt(70), random.nextInt(70));
+            grande.setTile(pos, k % 10 == 0 ? " " : "A");
+        }
+        assertArrayEquals(new Tablero(grande).getAnclas(), grande.getAnclas());
+        for (int i = 0; i < 70; i++) {
+            for (int j = 0; j < 70; j++) {
+                Tuple<Integer, Integer> pos = new Tuple<>(i, j);
+                boolean esperado = grande.isEmpty(pos)
+                        && (grande.isFilled(new Tuple<>(i - 1, j)) || grande.isFilled(new Tuple<>(i + 1, j))
+                            || grande.isFilled(new Tuple<>(i, j - 1)) || grande.isFilled(new Tuple<>(i, j + 1)));
+                assertEquals("(" + i + "," + j + ")", esperado, grande.isAnchor(i, j));
+            }
+        }
+    }
+
+    /**
+     * Pre: Se ha creado una instancia de Tablero y se han colocado letras.
+     * Post: Se verifica que solo las casillas marcadas con setComodin son comodines, que la marca
+     * se copia con el tablero sin compartirse y que se rechazan las posiciones null o fuera del tablero.
+     *
+     * Comprueba las casillas de comodín.
+     */
+    @Test
+    public void testComodines() {
+        tablero.setTile(new Tuple<>(7, 7), "C");
+        tablero.setTile(new Tuple<>(7, 8), "A");
+        assertFalse(tablero.isComodin(7, 8));
+
+        tablero.setComodin(new Tuple<>(7, 8));
+        assertTrue(tablero.isComodin(7, 8));
+        assertFalse(tablero.isComodin(7, 7));
+        assertEquals("La letra del comodín se mantiene", "A", tablero.getTile(7, 8));
+
+        Tablero copia = new Tablero(tablero);
+        assertTrue(copia.isComodin(7, 8));
+        copia.setComodin(new Tuple<>(7, 7));
+        assertTrue(copia.isComodin(7, 7));
+        assertFalse("La copia no comparte las marcas", tablero.isComodin(7, 7));
+
+        try {
+            tablero.setComodin(null);
+            fail("Se esperaba NullPointerException");
+        } catch (NullPointerException e) {
+            // esperado
+        }
+        try {
+            tablero.setComodin(new Tuple<>(15, 0));
+            fail("Se esperaba IndexOutOfBoundsException");
+        } catch (IndexOutOfBoundsException e) {
+            // esperado
+        }
+    }
+
     /**
      * Pre: Se ha creado una instancia de Tablero y se han colocado letras.
      * Post: Se verifica que toString() devuelve una cadena que contiene las letras
@@ -0,0 +1,173 @@
+package scrabble.tests;
+
+import org.junit.Before;
+import org.junit.Test;
+import scrabble.domain.models.Dawg;
+import scrabble.domain.models.Tokenizador;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test unitario para la clase Tokenizador
+ */
+public class TokenizadorTest {
+
+    private Tokenizador tokenizador;
+
+    @Before
+    public void setUp() {
+        Set<String> alfabeto = new HashSet<>(Arrays.asList("A", "C", "CH", "E", "L", "LL", "O", "R", "RR"));
+        tokenizador = new Tokenizador(alfabeto);
+    }
+
+    /**
+     * Pre: Se ha creado un tokenizador con un alfabeto que incluye letras multicarácter.
+     * Post: Se verifica que cada símbolo tiene un identificador único, asignado en orden lexicográfico.
+     *
+     * Comprueba el internado de símbolos.
+     */
+    @Test
+    public void testIdentificadores() {
+        assertEquals(9, tokenizador.getNumSimbolos());
+        assertEquals(0, tokenizador.getId("A"));
+        assertEquals("CH", tokenizador.getSimbolo(tokenizador.getId("CH")));
+        assertTrue(tokenizador.getId("C") < tokenizador.getId("CH"));
+        assertEquals(Tokenizador.SIN_SIMBOLO, tokenizador.getId("Z"));
+    }
+
+    /**
+     * Pre: Se ha creado un tokenizador con "C", "CH", "L", "LL", "R" y "RR".
+     * Post: Se verifica que la división aplica la coincidencia más larga ("CH" antes que "C").
+     *
+     * Comprueba la tokenización de letras multicarácter.
+     */
+    @Test
+    public void testCoincidenciaMasLarga() {
+        int[] ids = tokenizador.tokenizar("CHORRO");
+        assertEquals(4, ids.length);
+        assertEquals("CH", tokenizador.getSimbolo(ids[0]));
+        assertEquals("O", tokenizador.getSimbolo(ids[1]));
+        assertEquals("RR", tokenizador.getSimbolo(ids[2]));
+        assertEquals("O", tokenizador.getSimbolo(ids[3]));
+
+        int[] calle = tokenizador.tokenizar("CALLE");
+        assertEquals(4, calle.length);
+        assertEquals("LL", tokenizador.getSimbolo(calle[2]));
+    }
+
+    /**
+     * Pre: Se ha creado un tokenizador con un alfabeto cerrado.
+     * Post: Se verifica que los símbolos desconocidos lanzan excepción con tokenizar()
+     * y devuelven null con tokenizarSiExiste().
+     *
+     * Comprueba el tratamiento de símbolos fuera del alfabeto.
+     */
+    @Test
+    public void testSimboloDesconocido() {
+        try {
+            tokenizador.tokenizar("CASA");
+            fail("Debería lanzarse IllegalArgumentException para la letra 'S'");
+        } catch (IllegalArgumentException e) {
+            // Esperado
+        }
+        assertNull(tokenizador.tokenizarSiExiste("CASA"));
+    }
+
+    /**
+     * Pre: Se ha creado un tokenizador con un alfabeto vacío.
+     * Post: Se verifica que el alfabeto es abierto y que los caracteres se registran al tokenizar
+     * con registro de símbolos nuevos.
+     *
+     * Comprueba el modo de alfabeto abierto.
+     */
+    @Test
+    public void testAlfabetoAbierto() {
+        Tokenizador abierto = new Tokenizador(Collections.emptySet());
+        assertTrue(abierto.isAbierto());
+        assertNull(abierto.tokenizarSiExiste("sol"));
+
+        int[] ids = abierto.tokenizar("sol", true);
+        assertEquals(3, ids.length);
+        assertEquals(3, abierto.getNumSimbolos());
+        assertArrayEquals(ids, abierto.tokenizar("sol"));
+    }
+
+    /**
+     * Pre: Se ha construido un DAWG con letras multicarácter.
+     * Post: Se verifica que las consultas por camino de identificadores coinciden con las consultas por cadena.
+     *
+     * Comprueba la API int[] del DAWG.
+     */
+    @Test
+    public void testConsultasPorCaminoEnDawg() {
+        Dawg dawg = new Dawg(new HashSet<>(Arrays.asList("A", "C", "CH", "E", "L", "LL", "O", "R", "RR")));
+        dawg.insert("CALLE");
+        dawg.insert("CHORRO");
+        dawg.finish();
+
+        int[] camino = dawg.encode("CHORRO");
+        assertTrue(dawg.search(camino, camino.length));
+        assertFalse("Un prefijo no debería ser palabra", dawg.search(camino, 2));
+        assertTrue(dawg.nodeExists(camino, 2));
+        assertEquals(Collections.singleton("RR"), dawg.getAvailableEdges(camino, 2));
+
+        camino[0] = dawg.getSymbolId("C");
+        assertFalse(dawg.nodeExists(camino, 2));
+    }
+
+    /**
+     * Pre: Se ha creado un tokenizador con letras multicarácter.
+     * Post: Se verifica que un conjunto de símbolos se convierte en una máscara con un bit por
+     * identificador y que la máscara se convierte de nuevo en los mismos símbolos.
+     *
+     * Comprueba la representación de conjuntos de símbolos como máscaras de bits.
+     */
+    @Test
+    public void testMascaras() {
+        Tokenizador tokenizador = new Tokenizador(Arrays.asList("A", "C", "CH", "H", "O"));
+        assertTrue(tokenizador.admiteMascaras());
+
+        long mascara = tokenizador.getMascara(Arrays.asList("CH", "A", "Z"));
+        assertEquals((1L << tokenizador.getId("A")) | (1L << tokenizador.getId("CH")), mascara);
+        assertEquals(new HashSet<>(Arrays.asList("A", "CH")), tokenizador.getSimbolosMascara(mascara));
+        assertEquals(0L, tokenizador.getMascara(Collections.emptySet()));
+
+        List<String> grande = new ArrayList<>();
+        for (int i = 0; i <= Tokenizador.MAX_SIMBOLOS_MASCARA; i++) {
+            grande.add("S" + i);
+        }
+        assertFalse(new Tokenizador(grande).admiteMascaras());
+    }
+
+    /**
+     * Pre: Se dispone de una tabla de símbolos que no está en orden lexicográfico.
+     * Post: Se verifica que el tokenizador creado con conSimbolos conserva el identificador de cada
+     * símbolo, solo contiene esos símbolos y es cerrado.
+     *
+     * Comprueba la creación de un tokenizador desde una tabla de símbolos existente.
+     */
+    @Test
+    public void testConSimbolos() {
+        Tokenizador tokenizador = Tokenizador.conSimbolos(new String[] {"RR", "A", "R", "O"});
+        assertEquals(4, tokenizador.getNumSimbolos());
+        assertArrayEquals(new String[] {"RR", "A", "R", "O"}, tokenizador.getSimbolos());
+        assertEquals(0, tokenizador.getId("RR"));
+        assertEquals(3, tokenizador.getId("O"));
+        assertEquals(Tokenizador.SIN_SIMBOLO, tokenizador.getId(""));
+        assertArrayEquals(new int[] {3, 0, 2}, tokenizador.tokenizar("ORRR"));
+        assertFalse(tokenizador.isAbierto());
+        try {
+            tokenizador.tokenizar("ROCA", true);
+            fail("Se esperaba IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            // esperado
+        }
+    }
+}
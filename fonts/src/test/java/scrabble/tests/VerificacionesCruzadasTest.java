@@ -0,0 +1,156 @@
+package scrabble.tests;
+
+import org.junit.Before;
+import org.junit.Test;
+import scrabble.domain.models.DawgCompacto;
+import scrabble.domain.models.Diccionario;
+import scrabble.domain.models.GeneradorJugadas;
+import scrabble.domain.models.VerificacionesCruzadas;
+import scrabble.helpers.Direction;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test unitario para la clase VerificacionesCruzadas
+ */
+public class VerificacionesCruzadasTest {
+
+    private static final String[] LETRAS = {"A", "C", "CH", "E", "L", "O", "S"};
+    private static final int N = 9;
+
+    private Diccionario diccionario;
+    private DawgCompacto dawg;
+    private int[] simbolos;
+
+    @Before
+    public void setUp() {
+        List<String> alfabeto = new ArrayList<>();
+        for (String letra : LETRAS) {
+            alfabeto.add(letra + " 4 1");
+        }
+        Random random = new Random(5L);
+        Set<String> palabras = new HashSet<>();
+        while (palabras.size() < 600) {
+            StringBuilder palabra = new StringBuilder();
+            int longitud = 2 + random.nextInt(4);
+            for (int i = 0; i < longitud; i++) {
+                palabra.append(LETRAS[random.nextInt(LETRAS.length)]);
+            }
+            palabras.add(palabra.toString());
+        }
+        diccionario = new Diccionario();
+        diccionario.setAlphabet(alfabeto);
+        diccionario.setDawg(new ArrayList<>(palabras));
+        dawg = diccionario.getDawg().compactar();
+        simbolos = new int[LETRAS.length];
+        for (int k = 0; k < LETRAS.length; k++) {
+            simbolos[k] = dawg.getIdSimbolo(LETRAS[k]);
+        }
+    }
+
+    /**
+     * Pre: Se colocan fichas de una en una sobre un tablero vacío.
+     * Post: Se verifica que, tras cada ficha, las verificaciones mantenidas coinciden en ambas
+     * direcciones con las calculadas desde cero y con una consulta palabra a palabra al diccionario.
+     *
+     * Comprueba la invalidación incremental de las casillas afectadas.
+     */
+    @Test
+    public void testIncrementalIgualACompleto() {
+        Random random = new Random(17L);
+        int[] casillas = new int[N * N];
+        Arrays.fill(casillas, GeneradorJugadas.VACIA);
+        VerificacionesCruzadas incrementales = new VerificacionesCruzadas(dawg, N, casillas, simbolos);
+        for (int paso = 0; paso < 40; paso++) {
+            int idx = random.nextInt(N * N);
+            if (casillas[idx] != GeneradorJugadas.VACIA) continue;
+            casillas[idx] = paso == 20 ? GeneradorJugadas.BLOQUEADA : simbolos[random.nextInt(simbolos.length)];
+            incrementales.colocar(idx / N, idx % N, casillas[idx]);
+
+            VerificacionesCruzadas completas = new VerificacionesCruzadas(dawg, N, casillas, simbolos);
+            for (Direction dir : Direction.values()) {
+                assertArrayEquals("Paso " + paso + " " + dir, completas.getBits(dir), incrementales.getBits(dir));
+                comprobarConDiccionario(casillas, dir, incrementales);
+            }
+        }
+        assertArrayEquals(casillas, incrementales.getCasillas());
+    }
+
+    /**
+     * Pre: Se han calculado las verificaciones de un tablero con fichas.
+     * Post: Se verifica que colocar una ficha solo recalcula las casillas de su fila y su columna
+     * que cierran los tramos que la contienen, y que sin cambios no se recalcula nada.
+     *
+     * Comprueba que el coste de mantenerlas es proporcional a lo que cambia la jugada.
+     */
+    @Test
+    public void testSoloRecalculaAfectadas() {
+        int[] casillas = new int[N * N];
+        Arrays.fill(casillas, GeneradorJugadas.VACIA);
+        casillas[4 * N + 3] = simbolos[0];
+        casillas[4 * N + 4] = simbolos[3];
+        VerificacionesCruzadas verificaciones = new VerificacionesCruzadas(dawg, N, casillas, simbolos);
+        verificaciones.getBits(Direction.HORIZONTAL);
+        verificaciones.getBits(Direction.VERTICAL);
+        assertEquals(2L * N * N, verificaciones.getRecalculadas());
+
+        verificaciones.getBits(Direction.HORIZONTAL);
+        assertEquals(2L * N * N, verificaciones.getRecalculadas());
+
+        // Ficha a la derecha del tramo horizontal: su casilla, los extremos del tramo (4,2) y (4,6)
+        // para las jugadas verticales, y (3,5) y (5,5) para las horizontales
+        verificaciones.colocar(4, 5, simbolos[4]);
+        verificaciones.getBits(Direction.HORIZONTAL);
+        verificaciones.getBits(Direction.VERTICAL);
+        assertEquals(2L * N * N + 6, verificaciones.getRecalculadas());
+
+        long[] vertical = verificaciones.getBits(Direction.VERTICAL);
+        assertEquals(0L, vertical[4 * N + 5]);
+        assertFalse(verificaciones.admite(Direction.VERTICAL, 4, 5, simbolos[0]));
+        assertFalse(verificaciones.admite(Direction.HORIZONTAL, 0, 0, -1));
+        assertTrue(verificaciones.admite(Direction.HORIZONTAL, 0, 0, simbolos[2]));
+    }
+
+    // Cada bit debe coincidir con si la palabra perpendicular formada está en el diccionario
+    private void comprobarConDiccionario(int[] casillas, Direction dir, VerificacionesCruzadas verificaciones) {
+        boolean vertical = dir == Direction.HORIZONTAL;
+        for (int idx = 0; idx < N * N; idx++) {
+            int fila = idx / N;
+            int columna = idx % N;
+            for (int s : simbolos) {
+                boolean esperado = false;
+                if (casillas[idx] == GeneradorJugadas.VACIA) {
+                    int k = vertical ? fila : columna;
+                    int inicio = k;
+                    while (inicio > 0 && casillas[indice(vertical, fila, columna, inicio - 1)] != GeneradorJugadas.VACIA) inicio--;
+                    int fin = k;
+                    while (fin < N - 1 && casillas[indice(vertical, fila, columna, fin + 1)] != GeneradorJugadas.VACIA) fin++;
+                    if (inicio == fin) {
+                        esperado = true;
+                    } else {
+                        int[] ruta = new int[fin - inicio + 1];
+                        boolean conocida = true;
+                        for (int j = inicio; j <= fin; j++) {
+                            ruta[j - inicio] = j == k ? s : casillas[indice(vertical, fila, columna, j)];
+                            conocida &= ruta[j - inicio] >= 0;
+                        }
+                        esperado = conocida && diccionario.contienePalabra(ruta, ruta.length);
+                    }
+                }
+                assertEquals(dir + " (" + fila + "," + columna + ") " + s, esperado,
+                        verificaciones.admite(dir, fila, columna, s));
+            }
+        }
+    }
+
+    private static int indice(boolean vertical, int fila, int columna, int k) {
+        return vertical ? k * N + columna : fila * N + k;
+    }
+}